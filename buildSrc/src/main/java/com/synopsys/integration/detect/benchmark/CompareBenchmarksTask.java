@@ -0,0 +1,165 @@
+/*
+ * buildSrc
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.TaskAction;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+// Compares JMH json results against a committed baseline and fails when any benchmark regressed by more than the threshold and beyond the confidence intervals of both runs.
+public class CompareBenchmarksTask extends DefaultTask {
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private File resultsFile;
+    private File baselineFile;
+    private double regressionThreshold = 0.10;
+
+    @TaskAction
+    public void compareBenchmarks() throws IOException {
+        Map<String, JsonObject> results = readResults(resultsFile);
+        Map<String, JsonObject> baseline = readResults(baselineFile);
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonObject> result : results.entrySet()) {
+            JsonObject baselineResult = baseline.get(result.getKey());
+            if (baselineResult == null) {
+                getLogger().lifecycle("NO BASELINE : {}", result.getKey());
+                continue;
+            }
+            String unit = getScoreUnit(result.getValue());
+            if (!unit.equals(getScoreUnit(baselineResult))) {
+                getLogger().lifecycle("SKIPPED     : {} (unit changed from {} to {})", result.getKey(), getScoreUnit(baselineResult), unit);
+                continue;
+            }
+
+            String mode = result.getValue().get("mode").getAsString();
+            double score = getScore(result.getValue());
+            double scoreError = getScoreError(result.getValue());
+            double baselineScore = getScore(baselineResult);
+            double baselineScoreError = getScoreError(baselineResult);
+            double change = calculateRegression(mode, baselineScore, score);
+            String summary = String.format("%s: %.3f +/- %.3f -> %.3f +/- %.3f %s (%+.1f%%)", result.getKey(), baselineScore, baselineScoreError, score, scoreError, unit, change * 100);
+            if (change > regressionThreshold && isOutsideBaselineConfidence(mode, baselineScore, baselineScoreError, score, scoreError)) {
+                getLogger().lifecycle("REGRESSED   : {}", summary);
+                regressions.add(summary);
+            } else if (change > regressionThreshold) {
+                getLogger().lifecycle("WITHIN ERROR: {}", summary);
+            } else {
+                getLogger().lifecycle("OK          : {}", summary);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new GradleException(String.format("%d benchmark(s) regressed by more than %.1f%%: %s", regressions.size(), regressionThreshold * 100, String.join(", ", regressions)));
+        }
+    }
+
+    // Positive values are regressions. Throughput is better when higher, every other JMH mode reports time so it is better when lower.
+    private double calculateRegression(String mode, double baselineScore, double score) {
+        if (baselineScore == 0) {
+            return 0;
+        }
+        if (THROUGHPUT_MODE.equals(mode)) {
+            return (baselineScore - score) / baselineScore;
+        }
+        return (score - baselineScore) / baselineScore;
+    }
+
+    // A change only counts when the confidence intervals do not overlap, otherwise it cannot be told apart from noise between runs.
+    private boolean isOutsideBaselineConfidence(String mode, double baselineScore, double baselineScoreError, double score, double scoreError) {
+        if (THROUGHPUT_MODE.equals(mode)) {
+            return score + scoreError < baselineScore - baselineScoreError;
+        }
+        return score - scoreError > baselineScore + baselineScoreError;
+    }
+
+    private Map<String, JsonObject> readResults(File file) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        if (!file.exists()) {
+            throw new GradleException(String.format("Benchmark results file does not exist: %s", file.getAbsolutePath()));
+        }
+        JsonArray json = JsonParser.parseString(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)).getAsJsonArray();
+        for (JsonElement element : json) {
+            JsonObject result = element.getAsJsonObject();
+            results.put(createKey(result), result);
+        }
+        return results;
+    }
+
+    private String createKey(JsonObject result) {
+        StringBuilder key = new StringBuilder(result.get("benchmark").getAsString());
+        if (result.has("params")) {
+            Map<String, String> params = new TreeMap<>();
+            result.getAsJsonObject("params").entrySet().forEach(param -> params.put(param.getKey(), param.getValue().getAsString()));
+            params.forEach((name, value) -> key.append(String.format(" %s=%s", name, value)));
+        }
+        return key.toString();
+    }
+
+    private double getScore(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+
+    // JMH reports the half width of the 99.9% confidence interval as the score error, and "NaN" when there was a single measurement.
+    private double getScoreError(JsonObject result) {
+        JsonElement scoreError = result.getAsJsonObject("primaryMetric").get("scoreError");
+        if (scoreError == null) {
+            return 0;
+        }
+        double error = scoreError.getAsDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private String getScoreUnit(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("scoreUnit").getAsString();
+    }
+
+    @InputFile
+    public File getResultsFile() {
+        return resultsFile;
+    }
+
+    public void setResultsFile(File resultsFile) {
+        this.resultsFile = resultsFile;
+    }
+
+    @InputFile
+    public File getBaselineFile() {
+        return baselineFile;
+    }
+
+    public void setBaselineFile(File baselineFile) {
+        this.baselineFile = baselineFile;
+    }
+
+    @Input
+    public double getRegressionThreshold() {
+        return regressionThreshold;
+    }
+
+    public void setRegressionThreshold(double regressionThreshold) {
+        this.regressionThreshold = regressionThreshold;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.MDC;
+
+/*
+  Runs independent tasks on an executor and collects their results in the order they were submitted, whichever finishes first.
+  Without an executor a task runs immediately on the calling thread, so the same code works whether or not threads were configured.
+  Tasks run with the logging context (MDC) of the thread that submitted them, so their logs still belong to the extraction that started them.
+ */
+public class FutureTasks {
+    public static <T> Future<T> run(@Nullable Executor executor, Callable<T> task) {
+        if (executor == null) {
+            FutureTask<T> futureTask = new FutureTask<>(task);
+            futureTask.run();
+            return futureTask;
+        }
+        FutureTask<T> futureTask = new FutureTask<>(inLoggingContext(MDC.getCopyOfContextMap(), task));
+        executor.execute(futureTask);
+        return futureTask;
+    }
+
+    public static <T, E extends Exception> List<T> awaitAll(List<Future<T>> futures, FailureTranslator<E> failureTranslator) throws E, InterruptedException {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future, futures, failureTranslator));
+        }
+        return results;
+    }
+
+    // When the task failed or the wait was interrupted the other tasks are cancelled, so the failure is reported without waiting for them to finish.
+    // Unchecked failures are rethrown as they are, checked failures are translated into the caller's exception.
+    public static <T, E extends Exception> T await(Future<T> future, List<? extends Future<?>> futures, FailureTranslator<E> failureTranslator) throws E, InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof Exception) {
+                throw failureTranslator.translate((Exception) cause);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    private static <T> Callable<T> inLoggingContext(@Nullable Map<String, String> loggingContext, Callable<T> task) {
+        if (loggingContext == null) {
+            return task;
+        }
+        return () -> {
+            MDC.setContextMap(loggingContext);
+            try {
+                return task.call();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface FailureTranslator<E extends Exception> {
+        E translate(Exception failure);
+    }
+}
@@ -89,4 +89,8 @@ public interface FileFinder {
         return findFiles(directoryToSearch, wildcardFilter, depth, findInsideMatchingDirectories);
     }
 
+    // Called when files may have been created under the directory after it was searched, finders that cache listings must forget it.
+    default void invalidate(final File directory) {
+    }
+
 }
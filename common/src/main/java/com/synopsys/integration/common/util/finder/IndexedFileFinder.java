@@ -0,0 +1,306 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+// Answers searches from a single walk of a directory tree. Anything outside the index (beyond the indexed depth, pruned, unreadable or invalidated) is delegated to the fallback finder so results always match it.
+public class IndexedFileFinder implements FileFinder {
+    private final FileFinder fallbackFileFinder;
+    private final Set<Path> invalidatedDirectories = ConcurrentHashMap.newKeySet();
+    private volatile DirectoryIndex directoryIndex = null;
+
+    public IndexedFileFinder(FileFinder fallbackFileFinder) {
+        this.fallbackFileFinder = fallbackFileFinder;
+    }
+
+    public void index(File rootDirectory, int maxDepth, @Nullable Predicate<File> directoryFilter) throws IOException {
+        Path rootPath = rootDirectory.toPath().toAbsolutePath().normalize();
+        DirectoryIndexBuilder builder = new DirectoryIndexBuilder(rootPath, maxDepth, directoryFilter);
+        Files.walkFileTree(rootPath, EnumSet.noneOf(FileVisitOption.class), maxDepth, builder);
+        invalidatedDirectories.clear();
+        directoryIndex = builder.build();
+    }
+
+    // Extractors that generate files inside an indexed directory should invalidate it so later searches see the new files.
+    @Override
+    public void invalidate(File directory) {
+        invalidatedDirectories.add(directory.toPath().toAbsolutePath().normalize());
+    }
+
+    public void clear() {
+        directoryIndex = null;
+        invalidatedDirectories.clear();
+    }
+
+    public int getIndexedDirectoryCount() {
+        DirectoryIndex currentIndex = directoryIndex;
+        return currentIndex == null ? 0 : currentIndex.children.size();
+    }
+
+    @NotNull
+    @Override
+    public List<File> findFiles(File directoryToSearch, Predicate<File> filter, int depth, boolean findInsideMatchingDirectories) {
+        List<File> foundFiles = new ArrayList<>();
+        if (depth < 0) {
+            return foundFiles;
+        }
+        DirectoryIndex currentIndex = directoryIndex;
+        Path directoryPath = toIndexablePath(directoryToSearch);
+        if (currentIndex == null || directoryPath == null || !isIndexed(currentIndex, directoryPath)) {
+            return fallbackFileFinder.findFiles(directoryToSearch, filter, depth, findInsideMatchingDirectories);
+        }
+        findIndexedFiles(currentIndex, directoryPath, filter, depth, findInsideMatchingDirectories, foundFiles);
+        return foundFiles;
+    }
+
+    @NotNull
+    @Override
+    public List<File> findFiles(File directoryToSearch, List<String> filenamePatterns, int depth, boolean findInsideMatchingDirectories) {
+        DirectoryIndex currentIndex = directoryIndex;
+        Path directoryPath = toIndexablePath(directoryToSearch);
+        if (depth >= 0 && findInsideMatchingDirectories && currentIndex != null && directoryPath != null && areExactNames(filenamePatterns) && isFullyIndexed(currentIndex, directoryPath, depth)) {
+            return findIndexedFilesByName(currentIndex, directoryPath, filenamePatterns, depth);
+        }
+        return FileFinder.super.findFiles(directoryToSearch, filenamePatterns, depth, findInsideMatchingDirectories);
+    }
+
+    private void findIndexedFiles(DirectoryIndex currentIndex, Path directoryPath, Predicate<File> filter, int depth, boolean findInsideMatchingDirectories, List<File> foundFiles) {
+        for (IndexedFile file : currentIndex.children.get(directoryPath)) {
+            boolean matches = filter.test(file);
+            if (matches) {
+                foundFiles.add(file);
+            }
+            if ((!matches || findInsideMatchingDirectories) && file.isIndexedDirectory() && depth - 1 >= 0) {
+                if (isIndexed(currentIndex, file.path)) {
+                    findIndexedFiles(currentIndex, file.path, filter, depth - 1, findInsideMatchingDirectories, foundFiles);
+                } else {
+                    foundFiles.addAll(fallbackFileFinder.findFiles(file, filter, depth - 1, findInsideMatchingDirectories));
+                }
+            }
+        }
+    }
+
+    private List<File> findIndexedFilesByName(DirectoryIndex currentIndex, Path directoryPath, List<String> filenames, int depth) {
+        List<IndexedFile> matches = new ArrayList<>();
+        int directoryNameCount = directoryPath.getNameCount();
+        for (String filename : new HashSet<>(filenames)) {
+            for (IndexedFile file : currentIndex.filesByName.getOrDefault(filename, Collections.emptyList())) {
+                if (file.path.startsWith(directoryPath) && !file.path.equals(directoryPath) && file.path.getNameCount() - directoryNameCount - 1 <= depth) {
+                    matches.add(file);
+                }
+            }
+        }
+        // Ordinals are assigned in walk order, which is the order a directory traversal would find them in.
+        matches.sort(Comparator.comparingLong(file -> file.ordinal));
+        return new ArrayList<>(matches);
+    }
+
+    private boolean areExactNames(List<String> filenamePatterns) {
+        return filenamePatterns.stream().noneMatch(pattern -> pattern.contains("*") || pattern.contains("?"));
+    }
+
+    private boolean isIndexed(DirectoryIndex currentIndex, Path directoryPath) {
+        return currentIndex.children.containsKey(directoryPath) && !isInvalidated(directoryPath);
+    }
+
+    private boolean isInvalidated(Path path) {
+        for (Path invalidatedDirectory : invalidatedDirectories) {
+            if (path.startsWith(invalidatedDirectory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // True when every directory within the given depth below the directory was listed during the walk.
+    private boolean isFullyIndexed(DirectoryIndex currentIndex, Path directoryPath, int depth) {
+        if (!isIndexed(currentIndex, directoryPath)) {
+            return false;
+        }
+        int relativeDepth = directoryPath.getNameCount() - currentIndex.rootPath.getNameCount();
+        if (relativeDepth + depth + 1 > currentIndex.maxDepth) {
+            return false;
+        }
+        for (Path invalidatedDirectory : invalidatedDirectories) {
+            if (invalidatedDirectory.startsWith(directoryPath)) {
+                return false;
+            }
+        }
+        return areChildrenIndexed(currentIndex, directoryPath, depth);
+    }
+
+    private boolean areChildrenIndexed(DirectoryIndex currentIndex, Path directoryPath, int depth) {
+        if (depth <= 0) {
+            return true;
+        }
+        for (IndexedFile file : currentIndex.children.get(directoryPath)) {
+            if (file.isIndexedDirectory() && (!currentIndex.children.containsKey(file.path) || !areChildrenIndexed(currentIndex, file.path, depth - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Only absolute normalized paths are answered from the index so returned files have exactly the paths the fallback finder would produce.
+    @Nullable
+    private Path toIndexablePath(File directory) {
+        Path path = directory.toPath();
+        if (!path.isAbsolute() || !path.normalize().equals(path)) {
+            return null;
+        }
+        return path;
+    }
+
+    private static class DirectoryIndex {
+        private final Path rootPath;
+        private final int maxDepth;
+        private final Map<Path, List<IndexedFile>> children;
+        private final Map<String, List<IndexedFile>> filesByName;
+
+        private DirectoryIndex(Path rootPath, int maxDepth, Map<Path, List<IndexedFile>> children, Map<String, List<IndexedFile>> filesByName) {
+            this.rootPath = rootPath;
+            this.maxDepth = maxDepth;
+            this.children = children;
+            this.filesByName = filesByName;
+        }
+    }
+
+    private static class DirectoryIndexBuilder implements FileVisitor<Path> {
+        private final Path rootPath;
+        private final int maxDepth;
+        private final Predicate<File> directoryFilter;
+        private final Map<Path, List<IndexedFile>> children = new HashMap<>();
+        private final Map<String, List<IndexedFile>> filesByName = new HashMap<>();
+        private final Set<Path> incompleteDirectories = new HashSet<>();
+        private long ordinal = 0;
+
+        private DirectoryIndexBuilder(Path rootPath, int maxDepth, @Nullable Predicate<File> directoryFilter) {
+            this.rootPath = rootPath;
+            this.maxDepth = maxDepth;
+            this.directoryFilter = directoryFilter;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (dir.equals(rootPath)) {
+                children.put(dir, new ArrayList<>());
+                return FileVisitResult.CONTINUE;
+            }
+            IndexedFile directory = addEntry(dir, attrs);
+            if (directoryFilter != null && !directoryFilter.test(directory)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            children.put(dir, new ArrayList<>());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (file.equals(rootPath)) {
+                return FileVisitResult.CONTINUE;
+            }
+            // Directories at the maximum depth are reported here and are never listed.
+            addEntry(file, attrs);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            // The entry is missing from its parent's listing so the parent can not be answered from the index.
+            if (file.getParent() != null) {
+                incompleteDirectories.add(file.getParent());
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+            if (exc != null) {
+                incompleteDirectories.add(dir);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        private IndexedFile addEntry(Path path, BasicFileAttributes attrs) {
+            IndexedFile indexedFile = new IndexedFile(path, attrs, ordinal++);
+            List<IndexedFile> siblings = children.get(path.getParent());
+            if (siblings != null) {
+                siblings.add(indexedFile);
+            }
+            filesByName.computeIfAbsent(path.getFileName().toString(), key -> new ArrayList<>()).add(indexedFile);
+            return indexedFile;
+        }
+
+        private DirectoryIndex build() {
+            Map<Path, List<IndexedFile>> immutableChildren = new HashMap<>();
+            children.forEach((directory, files) -> {
+                if (!incompleteDirectories.contains(directory)) {
+                    immutableChildren.put(directory, Collections.unmodifiableList(files));
+                }
+            });
+            Map<String, List<IndexedFile>> immutableFilesByName = new HashMap<>();
+            filesByName.forEach((name, files) -> immutableFilesByName.put(name, Collections.unmodifiableList(files)));
+            return new DirectoryIndex(rootPath, maxDepth, Collections.unmodifiableMap(immutableChildren), Collections.unmodifiableMap(immutableFilesByName));
+        }
+    }
+
+    // Caches the attributes read during the walk so filters calling isDirectory() or isFile() do not hit the file system again.
+    private static class IndexedFile extends File {
+        private final transient Path path;
+        private final boolean directory;
+        private final boolean regularFile;
+        private final boolean symbolicLink;
+        private final long ordinal;
+
+        private IndexedFile(Path path, BasicFileAttributes attrs, long ordinal) {
+            super(path.toString());
+            this.path = path;
+            this.directory = attrs.isDirectory();
+            this.regularFile = attrs.isRegularFile();
+            this.symbolicLink = attrs.isSymbolicLink();
+            this.ordinal = ordinal;
+        }
+
+        // A real directory that a traversal would descend into, symbolic links are never followed.
+        private boolean isIndexedDirectory() {
+            return directory && !symbolicLink;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return symbolicLink ? super.isDirectory() : directory;
+        }
+
+        @Override
+        public boolean isFile() {
+            return symbolicLink ? super.isFile() : regularFile;
+        }
+    }
+}
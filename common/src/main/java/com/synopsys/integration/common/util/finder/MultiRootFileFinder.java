@@ -0,0 +1,141 @@
+/*
+ * common
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.common.util.finder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/*
+  Finds the files matching a filter beneath several root directories with one walk per outermost root, so a root nested inside another is not walked again.
+  Like SimpleFileFinder, each root is searched depth levels below its children and symbolic links are matched but not followed.
+  Unlike it, a matching directory is not searched, everything beneath it is already covered by the match.
+ */
+public class MultiRootFileFinder {
+    // Keyed by each absolute normalized root in the order given, roots that are not directories find nothing.
+    public Map<Path, List<Path>> findFiles(Collection<Path> roots, Predicate<File> filter, int depth) throws IOException {
+        Map<Path, List<Path>> foundFiles = new LinkedHashMap<>();
+        for (Path root : roots) {
+            foundFiles.put(root.toAbsolutePath().normalize(), new ArrayList<>());
+        }
+        if (depth < 0) {
+            return foundFiles;
+        }
+
+        Set<Path> directoryRoots = new LinkedHashSet<>();
+        for (Path root : foundFiles.keySet()) {
+            if (Files.isDirectory(root) && !Files.isSymbolicLink(root)) {
+                directoryRoots.add(root);
+            }
+        }
+        for (Path walkRoot : findOutermostRoots(directoryRoots)) {
+            Files.walkFileTree(walkRoot, new MatchingFileVisitor(directoryRoots, filter, depth, foundFiles));
+        }
+        return foundFiles;
+    }
+
+    private List<Path> findOutermostRoots(Set<Path> roots) {
+        List<Path> outermostRoots = new ArrayList<>();
+        for (Path root : roots) {
+            boolean nested = roots.stream().anyMatch(other -> !other.equals(root) && root.startsWith(other));
+            if (!nested) {
+                outermostRoots.add(root);
+            }
+        }
+        return outermostRoots;
+    }
+
+    private static class MatchingFileVisitor extends SimpleFileVisitor<Path> {
+        private final Set<Path> roots;
+        private final Predicate<File> filter;
+        private final int depth;
+        private final Map<Path, List<Path>> foundFiles;
+        // The roots containing the current directory, innermost first.
+        private final Deque<Path> enclosingRoots = new ArrayDeque<>();
+
+        private MatchingFileVisitor(Set<Path> roots, Predicate<File> filter, int depth, Map<Path, List<Path>> foundFiles) {
+            this.roots = roots;
+            this.filter = filter;
+            this.depth = depth;
+            this.foundFiles = foundFiles;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+            boolean matches = collectIfMatching(directory);
+            boolean containsRoot = roots.stream().anyMatch(root -> root.startsWith(directory));
+            if (!containsRoot && (matches || !isSearchedBeneath(directory))) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            if (roots.contains(directory)) {
+                enclosingRoots.push(directory);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            collectIfMatching(file);
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exception) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path directory, IOException exception) {
+            if (directory.equals(enclosingRoots.peek())) {
+                enclosingRoots.pop();
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        // The filter is tested once no matter how many roots contain the file.
+        private boolean collectIfMatching(Path path) {
+            Boolean matches = null;
+            for (Path root : enclosingRoots) {
+                int relativeDepth = path.getNameCount() - root.getNameCount();
+                if (relativeDepth > depth + 1) {
+                    continue;
+                }
+                if (matches == null) {
+                    matches = filter.test(path.toFile());
+                }
+                if (matches) {
+                    foundFiles.get(root).add(path);
+                }
+            }
+            return matches != null && matches;
+        }
+
+        private boolean isSearchedBeneath(Path directory) {
+            for (Path root : enclosingRoots) {
+                if (directory.getNameCount() - root.getNameCount() <= depth) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
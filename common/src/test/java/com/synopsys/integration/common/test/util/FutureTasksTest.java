@@ -0,0 +1,95 @@
+package com.synopsys.integration.common.test.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.common.util.FutureTasks;
+
+public class FutureTasksTest {
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void createExecutor() {
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void shutdownExecutor() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void runsOnTheCallingThreadWithoutAnExecutor() throws Exception {
+        Thread callingThread = Thread.currentThread();
+
+        Future<Thread> future = FutureTasks.run(null, Thread::currentThread);
+
+        assertTrue(future.isDone());
+        assertSame(callingThread, future.get());
+    }
+
+    @Test
+    public void collectsResultsInSubmissionOrder() throws Exception {
+        CountDownLatch secondFinished = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(FutureTasks.run(executorService, () -> {
+            secondFinished.await();
+            return "first";
+        }));
+        futures.add(FutureTasks.run(executorService, () -> {
+            secondFinished.countDown();
+            return "second";
+        }));
+
+        List<String> results = FutureTasks.awaitAll(futures, IllegalStateException::new);
+
+        assertEquals(Arrays.asList("first", "second"), results);
+    }
+
+    @Test
+    public void checkedFailureIsTranslatedAndCancelsTheRest() {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(FutureTasks.run(executorService, () -> {
+            throw new IOException("Unreadable");
+        }));
+        futures.add(FutureTasks.run(executorService, () -> {
+            neverReleased.await();
+            return "never";
+        }));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> FutureTasks.awaitAll(futures, failure -> new IllegalStateException("Translated", failure)));
+
+        assertEquals("Translated", exception.getMessage());
+        assertTrue(exception.getCause() instanceof IOException);
+        assertTrue(futures.get(1).isCancelled());
+    }
+
+    @Test
+    public void uncheckedFailureIsRethrown() {
+        IllegalArgumentException failure = new IllegalArgumentException("Bad input");
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(FutureTasks.run(executorService, () -> {
+            throw failure;
+        }));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> FutureTasks.awaitAll(futures, IllegalStateException::new));
+
+        assertSame(failure, exception);
+    }
+}
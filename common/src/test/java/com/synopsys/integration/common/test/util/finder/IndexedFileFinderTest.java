@@ -0,0 +1,104 @@
+package com.synopsys.integration.common.test.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+
+import com.synopsys.integration.common.util.finder.IndexedFileFinder;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+
+public class IndexedFileFinderTest {
+    private Path initialDirectoryPath;
+    private File initialDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        initialDirectoryPath = Files.createTempDirectory("IndexedFileFinderTest").toAbsolutePath().normalize();
+        initialDirectory = initialDirectoryPath.toFile();
+
+        for (String project : Arrays.asList("a", "b", "node_modules")) {
+            File projectDirectory = new File(initialDirectory, project);
+            File nestedDirectory = new File(projectDirectory, "nested");
+            nestedDirectory.mkdirs();
+            new File(projectDirectory, "package.json").createNewFile();
+            new File(nestedDirectory, "package.json").createNewFile();
+            new File(nestedDirectory, "pom.xml").createNewFile();
+        }
+        new File(initialDirectory, "package.json").createNewFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(initialDirectory);
+    }
+
+    @Test
+    public void testMatchesSimpleFileFinder() throws IOException {
+        SimpleFileFinder simpleFileFinder = new SimpleFileFinder();
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(simpleFileFinder);
+        indexedFileFinder.index(initialDirectory, 10, file -> !file.getName().equals("node_modules"));
+
+        for (int depth = 0; depth < 4; depth++) {
+            assertEquals(simpleFileFinder.findFiles(initialDirectory, "package.json", depth), indexedFileFinder.findFiles(initialDirectory, "package.json", depth));
+            assertEquals(simpleFileFinder.findFiles(initialDirectory, "*.xml", depth), indexedFileFinder.findFiles(initialDirectory, "*.xml", depth));
+            assertEquals(simpleFileFinder.findFiles(initialDirectory, Arrays.asList("pom.xml", "package.json"), depth), indexedFileFinder.findFiles(initialDirectory, Arrays.asList("pom.xml", "package.json"), depth));
+
+            Predicate<File> directories = File::isDirectory;
+            assertEquals(simpleFileFinder.findFiles(initialDirectory, directories, depth, false), indexedFileFinder.findFiles(initialDirectory, directories, depth, false));
+        }
+    }
+
+    @Test
+    public void testIndexBeyondMaxDepthFallsBack() throws IOException {
+        SimpleFileFinder simpleFileFinder = new SimpleFileFinder();
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(simpleFileFinder);
+        indexedFileFinder.index(initialDirectory, 1, null);
+
+        List<File> found = indexedFileFinder.findFiles(initialDirectory, "pom.xml", 5);
+        assertEquals(simpleFileFinder.findFiles(initialDirectory, "pom.xml", 5), found);
+        assertEquals(3, found.size());
+    }
+
+    @Test
+    public void testInvalidatedDirectorySeesNewFiles() throws IOException {
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(new SimpleFileFinder());
+        indexedFileFinder.index(initialDirectory, 10, null);
+
+        File projectDirectory = new File(initialDirectory, "a");
+        File generated = new File(projectDirectory, "task-depends.dot");
+        generated.createNewFile();
+        assertEquals(0, indexedFileFinder.findFiles(projectDirectory, "task-depends.dot").size());
+
+        indexedFileFinder.invalidate(projectDirectory);
+        assertEquals(Arrays.asList(generated), indexedFileFinder.findFiles(projectDirectory, "task-depends.dot"));
+    }
+
+    @Test
+    @DisabledOnOs(WINDOWS)
+    public void testSymlinksNotFollowed() throws IOException {
+        File subDir = new File(initialDirectory, "sub");
+        subDir.mkdirs();
+        Files.createSymbolicLink(new File(subDir, "linkToInitial").toPath(), initialDirectoryPath);
+
+        IndexedFileFinder indexedFileFinder = new IndexedFileFinder(new SimpleFileFinder());
+        indexedFileFinder.index(initialDirectory, 10, null);
+
+        List<File> found = indexedFileFinder.findFiles(initialDirectory, Arrays.asList("sub", "linkToInitial"), 10);
+        assertEquals(2, found.size());
+        assertTrue(found.stream().anyMatch(File::isDirectory));
+    }
+}
@@ -0,0 +1,79 @@
+package com.synopsys.integration.common.test.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.common.util.finder.MultiRootFileFinder;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+
+public class MultiRootFileFinderTest {
+    private Path initialDirectoryPath;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        initialDirectoryPath = Files.createTempDirectory("MultiRootFileFinderTest").toAbsolutePath().normalize();
+        for (String project : Arrays.asList("a", "b", "c/d")) {
+            Path projectDirectory = initialDirectoryPath.resolve(project);
+            Files.createDirectories(projectDirectory.resolve("excluded/nested/excluded"));
+            Files.createDirectories(projectDirectory.resolve("src/main"));
+            Files.createFile(projectDirectory.resolve("excluded.txt"));
+            Files.createFile(projectDirectory.resolve("src/main/excluded"));
+        }
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(initialDirectoryPath.toFile());
+    }
+
+    @Test
+    public void testMatchesSimpleFileFinderForEachRoot() throws IOException {
+        List<Path> roots = Arrays.asList(initialDirectoryPath, initialDirectoryPath.resolve("a"), initialDirectoryPath.resolve("c/d"));
+        Predicate<File> excluded = file -> file.getName().startsWith("excluded");
+        SimpleFileFinder simpleFileFinder = new SimpleFileFinder();
+
+        for (int depth = 0; depth < 5; depth++) {
+            Map<Path, List<Path>> found = new MultiRootFileFinder().findFiles(roots, excluded, depth);
+            for (Path root : roots) {
+                Set<Path> expected = simpleFileFinder.findFiles(root.toFile(), excluded, depth, false).stream()
+                                         .map(File::toPath)
+                                         .collect(Collectors.toSet());
+                assertEquals(expected, new HashSet<>(found.get(root)), String.format("Root %s at depth %d", root, depth));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchingDirectoriesAreNotSearched() throws IOException {
+        Map<Path, List<Path>> found = new MultiRootFileFinder().findFiles(Arrays.asList(initialDirectoryPath.resolve("a")), file -> file.getName().equals("excluded"), 10);
+
+        List<Path> foundFiles = found.get(initialDirectoryPath.resolve("a"));
+        assertTrue(foundFiles.contains(initialDirectoryPath.resolve("a/excluded")));
+        assertTrue(foundFiles.contains(initialDirectoryPath.resolve("a/src/main/excluded")));
+        assertEquals(2, foundFiles.size());
+    }
+
+    @Test
+    public void testRootThatIsNotADirectoryFindsNothing() throws IOException {
+        Path file = initialDirectoryPath.resolve("a/excluded.txt");
+        Map<Path, List<Path>> found = new MultiRootFileFinder().findFiles(Arrays.asList(file), matching -> true, 10);
+        assertTrue(found.get(file).isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.BdioWriter;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.util.DependencyGraphBdioStreamer;
+
+// Time and peak heap to write a 1M component graph as BDIO, discarding the output. Run with -PjmhIncludes=BdioWriterBenchmark and read the peakHeapMegabytes counter.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 3, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class BdioWriterBenchmark {
+    @Param({ "1000000" })
+    public int componentCount;
+
+    private final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private MutableDependencyGraph graph;
+    private ExternalId projectExternalId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long peakHeapMegabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakHeapMegabytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void createGraph() {
+        SyntheticDependencyGraph syntheticGraph = new SyntheticDependencyGraph(componentCount);
+        Dependency[] dependencies = new Dependency[syntheticGraph.getNodeCount()];
+        for (int node = 0; node < dependencies.length; node++) {
+            String name = syntheticGraph.getName(node);
+            String version = syntheticGraph.getVersion(node);
+            dependencies[node] = new Dependency(name, version, externalIdFactory.createMavenExternalId(syntheticGraph.getGroup(node), name, version));
+        }
+
+        graph = new MutableMapDependencyGraph();
+        for (Integer root : syntheticGraph.getRoots()) {
+            graph.addChildToRoot(dependencies[root]);
+        }
+        for (int node = 0; node < dependencies.length; node++) {
+            for (Integer child : syntheticGraph.getChildren(node)) {
+                graph.addChildWithParent(dependencies[child], dependencies[node]);
+            }
+        }
+        projectExternalId = externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "project", "1.0.0");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            memoryPool.resetPeakUsage();
+        }
+    }
+
+    @Benchmark
+    public void writeDocument(HeapCounters heapCounters) throws IOException {
+        SimpleBdioDocument document = simpleBdioFactory.createSimpleBdioDocument("code location", "project", "1.0.0", projectExternalId, graph);
+        try (BdioWriter bdioWriter = simpleBdioFactory.createBdioWriter(new DiscardingOutputStream())) {
+            simpleBdioFactory.writeSimpleBdioDocument(bdioWriter, document);
+        }
+        heapCounters.peakHeapMegabytes = peakHeapMegabytes();
+    }
+
+    @Benchmark
+    public void streamDocument(HeapCounters heapCounters) throws IOException {
+        SimpleBdioDocument document = simpleBdioFactory.createSimpleBdioDocument("code location", "project", "1.0.0", projectExternalId);
+        try (BdioWriter bdioWriter = simpleBdioFactory.createBdioWriter(new DiscardingOutputStream())) {
+            new DependencyGraphBdioStreamer(simpleBdioFactory).writeDocument(bdioWriter, document, graph);
+        }
+        heapCounters.peakHeapMegabytes = peakHeapMegabytes();
+    }
+
+    private long peakHeapMegabytes() {
+        long peakBytes = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPool.getType() == MemoryType.HEAP) {
+                peakBytes += memoryPool.getPeakUsage().getUsed();
+            }
+        }
+        return peakBytes / (1024 * 1024);
+    }
+
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.cargo.parse.CargoLockParser;
+
+public class CargoLockParserBenchmark extends ParserBenchmark {
+    private String cargoLockText;
+
+    @Setup
+    public void setup() {
+        cargoLockText = createInputGenerator().generateCargoLock();
+    }
+
+    // The parser keeps the packages it has seen so it is created for every invocation.
+    @Benchmark
+    public DependencyGraph parseLockFile() throws DetectableException {
+        return new CargoLockParser().parseLockFile(cargoLockText);
+    }
+}
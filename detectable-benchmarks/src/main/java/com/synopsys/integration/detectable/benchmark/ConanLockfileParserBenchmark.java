@@ -0,0 +1,33 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.conan.ConanCodeLocationGenerator;
+import com.synopsys.integration.detectable.detectables.conan.ConanDetectableResult;
+import com.synopsys.integration.detectable.detectables.conan.lockfile.parser.ConanLockfileParser;
+
+public class ConanLockfileParserBenchmark extends ParserBenchmark {
+    private final ConanLockfileParser conanLockfileParser = new ConanLockfileParser(new Gson(), new ConanCodeLocationGenerator(), new ExternalIdFactory());
+    private String conanLockfileText;
+
+    @Setup
+    public void setup() {
+        conanLockfileText = createInputGenerator().generateConanLockfile();
+    }
+
+    @Benchmark
+    public ConanDetectableResult generateCodeLocation() throws DetectableException {
+        return conanLockfileParser.generateCodeLocationFromConanLockfileContents(conanLockfileText, true, false);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.util.CompactDependencyGraph;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
+
+// Heap held by roughly 2M edges split across code locations that find the same components, as the graphs of an aggregate run are. Run with -PjmhIncludes=DependencyGraphHeapBenchmark and read the retainedMegabytes counter.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 5, jvmArgsAppend = { "-Xms4g", "-Xmx8g" })
+public class DependencyGraphHeapBenchmark {
+    private static final int EDGE_COUNT = 2_000_000;
+
+    @Param({ "mutable", "compact" })
+    public String representation;
+
+    @Param({ "8" })
+    public int codeLocationCount;
+
+    private List<DependencyGraph> graphs;
+    private ExternalIdInterner externalIdInterner;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        public long retainedMegabytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedMegabytes = 0;
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void release() {
+        graphs = null;
+        externalIdInterner = null;
+    }
+
+    @Benchmark
+    public List<DependencyGraph> retainGraphs(HeapCounters heapCounters) {
+        long before = usedHeapAfterGc();
+        externalIdInterner = new ExternalIdInterner();
+        graphs = new ArrayList<>();
+        SyntheticDependencyGraph syntheticGraph = new SyntheticDependencyGraph(EDGE_COUNT / codeLocationCount);
+        for (int codeLocation = 0; codeLocation < codeLocationCount; codeLocation++) {
+            // Each code location gets its own external id instances, just as each extraction creates its own.
+            MutableDependencyGraph graph = createGraph(syntheticGraph, new ExternalIdFactory());
+            if ("compact".equals(representation)) {
+                graphs.add(CompactDependencyGraph.fromGraph(graph, externalIdInterner));
+            } else {
+                graphs.add(graph);
+            }
+        }
+        heapCounters.retainedMegabytes = (usedHeapAfterGc() - before) / (1024 * 1024);
+        return graphs;
+    }
+
+    private MutableDependencyGraph createGraph(SyntheticDependencyGraph syntheticGraph, ExternalIdFactory externalIdFactory) {
+        Dependency[] dependencies = new Dependency[syntheticGraph.getNodeCount()];
+        for (int node = 0; node < dependencies.length; node++) {
+            String name = syntheticGraph.getName(node);
+            String version = syntheticGraph.getVersion(node);
+            dependencies[node] = new Dependency(name, version, externalIdFactory.createMavenExternalId(syntheticGraph.getGroup(node), name, version));
+        }
+
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        for (Integer root : syntheticGraph.getRoots()) {
+            graph.addChildToRoot(dependencies[root]);
+        }
+        for (int node = 0; node < dependencies.length; node++) {
+            for (Integer child : syntheticGraph.getChildren(node)) {
+                graph.addChildWithParent(dependencies[child], dependencies[node]);
+            }
+        }
+        return graph;
+    }
+
+    private long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.util.DependencyGraphMerger;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
+
+// Aggregates 500 code locations that share 80% of their dependencies, each beneath its own code location dependency as a transitive aggregate does.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 3, jvmArgsAppend = { "-Xms2g", "-Xmx4g" })
+public class DependencyGraphMergerBenchmark {
+    private static final int CODE_LOCATION_COUNT = 500;
+    private static final double SHARED_FRACTION = 0.8;
+
+    @Param({ "1000" })
+    public int nodeCount;
+
+    @Param({ "1", "4" })
+    public int mergeThreads;
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private List<Dependency> codeLocationDependencies;
+    private List<DependencyGraph> graphs;
+
+    @Setup
+    public void setup() {
+        int sharedNodeCount = (int) (nodeCount * SHARED_FRACTION);
+        SyntheticDependencyGraph sharedGraph = new SyntheticDependencyGraph(sharedNodeCount);
+        SyntheticDependencyGraph ownGraph = new SyntheticDependencyGraph(nodeCount - sharedNodeCount);
+
+        codeLocationDependencies = new ArrayList<>(CODE_LOCATION_COUNT);
+        graphs = new ArrayList<>(CODE_LOCATION_COUNT);
+        for (int codeLocation = 0; codeLocation < CODE_LOCATION_COUNT; codeLocation++) {
+            MutableDependencyGraph graph = new MutableMapDependencyGraph();
+            // Each code location gets its own dependency instances, just as each extraction creates its own.
+            Dependency[] sharedDependencies = addSyntheticGraph(graph, sharedGraph, "shared");
+            Dependency[] ownDependencies = addSyntheticGraph(graph, ownGraph, "codelocation" + codeLocation);
+            for (int node = 0; node < ownDependencies.length; node++) {
+                graph.addChildWithParent(ownDependencies[node], sharedDependencies[node % sharedDependencies.length]);
+            }
+            graphs.add(graph);
+            codeLocationDependencies.add(createDependency("codelocation" + codeLocation, "codelocation", "1.0.0"));
+        }
+    }
+
+    @Benchmark
+    public DependencyGraph addGraphAsChildrenToParent() {
+        MutableDependencyGraph aggregate = new MutableMapDependencyGraph();
+        for (int index = 0; index < graphs.size(); index++) {
+            aggregate.addChildrenToRoot(codeLocationDependencies.get(index));
+            aggregate.addGraphAsChildrenToParent(codeLocationDependencies.get(index), graphs.get(index));
+        }
+        return aggregate;
+    }
+
+    @Benchmark
+    public DependencyGraph dependencyGraphMerger() throws InterruptedException {
+        return new DependencyGraphMerger(new ExternalIdInterner()).mergeAsChildrenToParents(codeLocationDependencies, graphs, mergeThreads);
+    }
+
+    private Dependency[] addSyntheticGraph(MutableDependencyGraph graph, SyntheticDependencyGraph syntheticGraph, String namePrefix) {
+        Dependency[] dependencies = new Dependency[syntheticGraph.getNodeCount()];
+        for (int node = 0; node < dependencies.length; node++) {
+            dependencies[node] = createDependency(namePrefix + syntheticGraph.getName(node), syntheticGraph.getGroup(node), syntheticGraph.getVersion(node));
+        }
+        for (Integer root : syntheticGraph.getRoots()) {
+            graph.addChildToRoot(dependencies[root]);
+        }
+        for (int node = 0; node < dependencies.length; node++) {
+            for (Integer child : syntheticGraph.getChildren(node)) {
+                graph.addChildWithParent(dependencies[child], dependencies[node]);
+            }
+        }
+        return dependencies;
+    }
+
+    private Dependency createDependency(String name, String group, String version) {
+        return new Dependency(name, version, externalIdFactory.createMavenExternalId(group, name, version));
+    }
+}
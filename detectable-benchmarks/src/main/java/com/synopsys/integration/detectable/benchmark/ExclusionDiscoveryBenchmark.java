@@ -0,0 +1,112 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.synopsys.integration.common.util.finder.MultiRootFileFinder;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+
+// Finds excluded directories beneath a source root and four scan targets inside it, in a synthetic tree of 500k files. The tree is written once per trial, which takes a while.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 3, jvmArgsAppend = { "-Xms2g", "-Xmx4g" })
+public class ExclusionDiscoveryBenchmark {
+    private static final int DIRECTORY_FAN_OUT = 10;
+    private static final int DIRECTORY_DEPTH = 4;
+    private static final int FILES_PER_DIRECTORY = 50;
+    private static final int SEARCH_DEPTH = 10;
+    private static final String EXCLUDED_DIRECTORY_NAME = "node_modules";
+
+    private final Predicate<File> excludedDirectoryFilter = file -> EXCLUDED_DIRECTORY_NAME.equals(file.getName());
+    private File sourceDirectory;
+    private List<Path> scanTargets;
+
+    @Setup
+    public void setup() throws IOException {
+        sourceDirectory = Files.createTempDirectory("ExclusionDiscoveryBenchmark").toFile();
+        createTree(sourceDirectory.toPath(), DIRECTORY_DEPTH);
+
+        scanTargets = new ArrayList<>();
+        scanTargets.add(sourceDirectory.toPath());
+        for (int target = 0; target < 4; target++) {
+            scanTargets.add(sourceDirectory.toPath().resolve("directory" + target));
+        }
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+    }
+
+    @Benchmark
+    public List<List<File>> simpleFileFinderPerTarget() {
+        SimpleFileFinder simpleFileFinder = new SimpleFileFinder();
+        List<List<File>> found = new ArrayList<>();
+        for (Path scanTarget : scanTargets) {
+            List<File> targetFiles = new ArrayList<>();
+            for (File file : simpleFileFinder.findFiles(scanTarget.toFile(), excludedDirectoryFilter, SEARCH_DEPTH)) {
+                targetFiles.add(new File(getCanonicalPath(file)));
+            }
+            found.add(targetFiles);
+        }
+        return found;
+    }
+
+    @Benchmark
+    public Map<Path, List<Path>> multiRootFileFinder() throws IOException {
+        return new MultiRootFileFinder().findFiles(scanTargets, excludedDirectoryFilter, SEARCH_DEPTH);
+    }
+
+    // The last directory at every level is excluded and holds a full subtree, as a node_modules directory would.
+    private void createTree(Path directory, int remainingDepth) throws IOException {
+        Files.createDirectories(directory);
+        for (int file = 0; file < FILES_PER_DIRECTORY; file++) {
+            Files.createFile(directory.resolve("file" + file + ".txt"));
+        }
+        if (remainingDepth == 0) {
+            return;
+        }
+        for (int child = 0; child < DIRECTORY_FAN_OUT; child++) {
+            String name = child == DIRECTORY_FAN_OUT - 1 ? EXCLUDED_DIRECTORY_NAME : "directory" + child;
+            createTree(directory.resolve(name), remainingDepth - 1);
+        }
+    }
+
+    private String getCanonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.rubygems.gemlock.parse.GemlockParser;
+
+public class GemlockParserBenchmark extends ParserBenchmark {
+    private final GemlockParser gemlockParser = new GemlockParser(new ExternalIdFactory());
+    private List<String> gemfileLockLines;
+
+    @Setup
+    public void setup() {
+        gemfileLockLines = createInputGenerator().generateGemfileLock();
+    }
+
+    @Benchmark
+    public DependencyGraph parseProjectDependencies() throws MissingExternalIdException {
+        return gemlockParser.parseProjectDependencies(gemfileLockLines);
+    }
+}
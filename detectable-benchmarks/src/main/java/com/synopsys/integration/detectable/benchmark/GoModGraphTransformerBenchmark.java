@@ -0,0 +1,41 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphCollector;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphTransformer;
+import com.synopsys.integration.detectable.detectables.go.gomod.ReplacementDataExtractor;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphEdge;
+
+public class GoModGraphTransformerBenchmark extends ParserBenchmark {
+    private final GoModGraphTransformer goModGraphTransformer = new GoModGraphTransformer(new ReplacementDataExtractor(new Gson()));
+    private List<String> modGraphOutput;
+    private List<String> listUJsonOutput;
+
+    @Setup
+    public void setup() {
+        SyntheticInputGenerator inputGenerator = createInputGenerator();
+        modGraphOutput = inputGenerator.generateGoModGraph();
+        listUJsonOutput = inputGenerator.generateGoListUJson();
+    }
+
+    // Streams the lines through the collector as GoModCliExtractor does while go mod graph runs.
+    @Benchmark
+    public List<GoModGraphEdge> transformGoModGraphOutput() throws DetectableException {
+        GoModGraphCollector goModGraphCollector = new GoModGraphCollector();
+        modGraphOutput.forEach(goModGraphCollector::consumeLine);
+        return goModGraphTransformer.transformGoModGraph(goModGraphCollector, listUJsonOutput);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
+
+public class GradleReportBenchmark extends ParserBenchmark {
+    private final GradleReportParser gradleReportParser = new GradleReportParser();
+    private final GradleReportTransformer gradleReportTransformer = new GradleReportTransformer(new ExternalIdFactory());
+    private File reportFile;
+
+    @Setup
+    public void setup() throws IOException {
+        reportFile = File.createTempFile("synthetic_dependencyGraph", ".txt");
+        Files.write(reportFile.toPath(), createInputGenerator().generateGradleReport().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(reportFile.toPath());
+    }
+
+    @Benchmark
+    public CodeLocation parseAndTransformReport() {
+        return gradleReportParser.parseReport(reportFile)
+                   .map(gradleReportTransformer::transform)
+                   .orElseThrow(() -> new IllegalStateException("The synthetic gradle report could not be parsed."));
+    }
+
+    @Benchmark
+    public CodeLocation parseAndTransformReportStreaming() {
+        return gradleReportParser.parseAndTransformReport(reportFile, gradleReportTransformer)
+                   .orElseThrow(() -> new IllegalStateException("The synthetic gradle report could not be parsed."));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectables.lerna.LernaDetectable;
+import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
+import com.synopsys.integration.detectable.detectables.lerna.LernaPackager;
+import com.synopsys.integration.detectable.detectables.lerna.model.LernaPackage;
+import com.synopsys.integration.detectable.detectables.lerna.model.LernaResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
+import com.synopsys.integration.detectable.detectables.yarn.YarnPackager;
+import com.synopsys.integration.detectable.detectables.yarn.YarnTransformer;
+import com.synopsys.integration.detectable.detectables.yarn.packagejson.PackageJsonReader;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
+
+// Packages a synthetic lerna repository whose packages have no lock file of their own, so every package resolves against the root lock file.
+public class LernaPackagerBenchmark extends ParserBenchmark {
+    private static final int PACKAGE_COUNT = 300;
+    private static final int PACKAGE_DEPENDENCY_COUNT = 10;
+
+    @Param({ "npm", "yarn" })
+    public String lockFileType;
+
+    @Param({ "1", "4" })
+    public int packageThreads;
+
+    private File repositoryDirectory;
+    private File rootPackageJson;
+    private List<LernaPackage> lernaPackages;
+    private LernaPackager lernaPackager;
+
+    @Setup
+    public void setup() throws IOException {
+        SyntheticInputGenerator inputGenerator = createInputGenerator();
+        repositoryDirectory = Files.createTempDirectory("LernaPackagerBenchmark").toFile();
+
+        rootPackageJson = new File(repositoryDirectory, LernaDetectable.PACKAGE_JSON);
+        FileUtils.writeStringToFile(rootPackageJson, inputGenerator.generatePackageJson(), StandardCharsets.UTF_8);
+        if ("yarn".equals(lockFileType)) {
+            FileUtils.writeLines(new File(repositoryDirectory, LernaDetectable.YARN_LOCK), StandardCharsets.UTF_8.name(), inputGenerator.generateYarnLock());
+        } else {
+            FileUtils.writeStringToFile(new File(repositoryDirectory, LernaDetectable.PACKAGE_LOCK_JSON), inputGenerator.generateNpmPackageLock(), StandardCharsets.UTF_8);
+        }
+
+        lernaPackages = new ArrayList<>(PACKAGE_COUNT);
+        for (int packageIndex = 0; packageIndex < PACKAGE_COUNT; packageIndex++) {
+            File packageDirectory = new File(repositoryDirectory, "packages/package" + packageIndex);
+            FileUtils.writeStringToFile(new File(packageDirectory, LernaDetectable.PACKAGE_JSON), inputGenerator.generateLernaPackageJson(packageIndex, PACKAGE_DEPENDENCY_COUNT), StandardCharsets.UTF_8);
+            lernaPackages.add(new LernaPackage("synthetic-root-package" + packageIndex, "1.0.0", false, packageDirectory.getAbsolutePath()));
+        }
+
+        Gson gson = new Gson();
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        YarnLockLineAnalyzer yarnLockLineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntrySectionParserSet = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
+        YarnLockParser yarnLockParser = new YarnLockParser(new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntrySectionParserSet));
+        lernaPackager = new LernaPackager(new SimpleFileFinder(), new PackageJsonReader(gson), yarnLockParser, new YarnLockOptions(false, Collections.emptyList(), Collections.emptyList()),
+            new NpmLockfilePackager(gson, externalIdFactory), new NpmLockfileOptions(false), new YarnPackager(new YarnTransformer(externalIdFactory)),
+            new LernaOptions(false, Collections.emptyList(), Collections.emptyList(), packageThreads));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(repositoryDirectory);
+    }
+
+    @Benchmark
+    public LernaResult generateLernaResult() {
+        return lernaPackager.generateLernaResult(repositoryDirectory, rootPackageJson, lernaPackages);
+    }
+}
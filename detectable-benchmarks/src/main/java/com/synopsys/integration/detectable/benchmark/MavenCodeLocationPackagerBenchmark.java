@@ -0,0 +1,34 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+
+public class MavenCodeLocationPackagerBenchmark extends ParserBenchmark {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private List<String> mavenOutput;
+
+    @Setup
+    public void setup() {
+        mavenOutput = createInputGenerator().generateMavenDependencyTree();
+    }
+
+    @Benchmark
+    public List<MavenParseResult> extractCodeLocations() {
+        MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(externalIdFactory);
+        return mavenCodeLocationPackager.extractCodeLocations("/synthetic", mavenOutput, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+
+public class NpmLockfilePackagerBenchmark extends ParserBenchmark {
+    private final NpmLockfilePackager npmLockfilePackager = new NpmLockfilePackager(new Gson(), new ExternalIdFactory());
+    private String packageJsonText;
+    private String packageLockText;
+
+    @Setup
+    public void setup() {
+        SyntheticInputGenerator inputGenerator = createInputGenerator();
+        packageJsonText = inputGenerator.generatePackageJson();
+        packageLockText = inputGenerator.generateNpmPackageLock();
+    }
+
+    @Benchmark
+    public NpmParseResult parse() {
+        return npmLockfilePackager.parse(packageJsonText, packageLockText, true);
+    }
+}
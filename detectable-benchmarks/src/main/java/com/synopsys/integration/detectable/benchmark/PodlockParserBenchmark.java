@@ -0,0 +1,33 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.cocoapods.parser.PodlockParser;
+
+public class PodlockParserBenchmark extends ParserBenchmark {
+    private final PodlockParser podlockParser = new PodlockParser(new ExternalIdFactory());
+    private String podfileLockText;
+
+    @Setup
+    public void setup() {
+        podfileLockText = createInputGenerator().generatePodfileLock();
+    }
+
+    @Benchmark
+    public DependencyGraph extractDependencyGraph() throws IOException, MissingExternalIdException {
+        return podlockParser.extractDependencyGraph(podfileLockText);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A deterministic dependency graph of any size. Nodes form a tree with a fixed fan out and every few nodes also share a child with their neighbour so lock file formats see a DAG.
+public class SyntheticDependencyGraph {
+    public static final int DEFAULT_FAN_OUT = 4;
+    private static final int SHARED_CHILD_INTERVAL = 5;
+
+    private final int nodeCount;
+    private final int fanOut;
+
+    public SyntheticDependencyGraph(int nodeCount) {
+        this(nodeCount, DEFAULT_FAN_OUT);
+    }
+
+    public SyntheticDependencyGraph(int nodeCount, int fanOut) {
+        this.nodeCount = nodeCount;
+        this.fanOut = fanOut;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public List<Integer> getRoots() {
+        List<Integer> roots = new ArrayList<>();
+        for (int node = 0; node < fanOut && node < nodeCount; node++) {
+            roots.add(node);
+        }
+        return roots;
+    }
+
+    // Children in the tree, every node except the roots has exactly one tree parent.
+    public List<Integer> getTreeChildren(int node) {
+        List<Integer> children = new ArrayList<>();
+        int firstChild = (node + 1) * fanOut;
+        for (int child = firstChild; child < firstChild + fanOut && child < nodeCount; child++) {
+            children.add(child);
+        }
+        return children;
+    }
+
+    // Tree children plus the first child of the next node, children always have a higher index so the graph stays acyclic.
+    public List<Integer> getChildren(int node) {
+        List<Integer> children = getTreeChildren(node);
+        int sharedChild = (node + 2) * fanOut;
+        if (node % SHARED_CHILD_INTERVAL == 0 && sharedChild < nodeCount) {
+            children.add(sharedChild);
+        }
+        return children;
+    }
+
+    public String getName(int node) {
+        return "component" + node;
+    }
+
+    public String getGroup(int node) {
+        return "com.synthetic.group" + (node % 100);
+    }
+
+    public String getVersion(int node) {
+        return String.format("%d.%d.%d", 1 + node % 7, node % 13, node % 3);
+    }
+}
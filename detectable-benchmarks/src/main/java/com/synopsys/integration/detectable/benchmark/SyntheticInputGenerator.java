@@ -0,0 +1,329 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+// Renders a synthetic graph in the formats the detectable parsers read. Tree formats (maven, gradle) only use the tree edges so they contain every node exactly once.
+public class SyntheticInputGenerator {
+    private static final String ROOT_NAME = "synthetic-root";
+    private static final String ROOT_GROUP = "com.synthetic";
+    private static final String ROOT_VERSION = "1.0.0";
+    private static final int GO_REPLACEMENT_INTERVAL = 10;
+
+    private final SyntheticDependencyGraph graph;
+    private final Gson gson = new Gson();
+
+    public SyntheticInputGenerator(SyntheticDependencyGraph graph) {
+        this.graph = graph;
+    }
+
+    public List<String> generateMavenDependencyTree() {
+        List<String> lines = new ArrayList<>();
+        lines.add("[INFO] Scanning for projects...");
+        lines.add(String.format("[INFO] --- maven-dependency-plugin:3.1.2:tree (default-cli) @ %s ---", ROOT_NAME));
+        lines.add(String.format("[INFO] %s:%s:jar:%s", ROOT_GROUP, ROOT_NAME, ROOT_VERSION));
+        addMavenTreeLines(lines, graph.getRoots(), "");
+        lines.add("[INFO] ------------------------------------------------------------------------");
+        lines.add("[INFO] BUILD SUCCESS");
+        return lines;
+    }
+
+    private void addMavenTreeLines(List<String> lines, List<Integer> nodes, String prefix) {
+        for (int i = 0; i < nodes.size(); i++) {
+            int node = nodes.get(i);
+            boolean last = i == nodes.size() - 1;
+            lines.add(String.format("[INFO] %s%s%s:%s:jar:%s:compile", prefix, last ? "\\- " : "+- ", graph.getGroup(node), graph.getName(node), graph.getVersion(node)));
+            addMavenTreeLines(lines, graph.getTreeChildren(node), prefix + (last ? "   " : "|  "));
+        }
+    }
+
+    public String generateGradleReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add("");
+        lines.add("------------------------------------------------------------");
+        lines.add(String.format("Project :%s", ROOT_NAME));
+        lines.add("------------------------------------------------------------");
+        lines.add("");
+        lines.add("compileClasspath - Compile classpath for source set 'main'.");
+        addGradleTreeLines(lines, graph.getRoots(), "");
+        lines.add("");
+        lines.add("runtimeClasspath - Runtime classpath of source set 'main'.");
+        addGradleTreeLines(lines, graph.getRoots(), "");
+        lines.add("");
+        lines.add("DETECT META DATA START");
+        lines.add("rootProjectName:" + ROOT_NAME);
+        lines.add("rootProjectVersion:" + ROOT_VERSION);
+        lines.add("projectPath:/synthetic/" + ROOT_NAME);
+        lines.add("projectGroup:" + ROOT_GROUP);
+        lines.add("projectName:" + ROOT_NAME);
+        lines.add("projectVersion:" + ROOT_VERSION);
+        lines.add("DETECT META DATA END");
+        return String.join("\n", lines);
+    }
+
+    private void addGradleTreeLines(List<String> lines, List<Integer> nodes, String prefix) {
+        for (int i = 0; i < nodes.size(); i++) {
+            int node = nodes.get(i);
+            boolean last = i == nodes.size() - 1;
+            lines.add(String.format("%s%s%s:%s:%s", prefix, last ? "\\--- " : "+--- ", graph.getGroup(node), graph.getName(node), graph.getVersion(node)));
+            addGradleTreeLines(lines, graph.getTreeChildren(node), prefix + (last ? "     " : "|    "));
+        }
+    }
+
+    public String generatePackageJson() {
+        JsonObject packageJson = new JsonObject();
+        packageJson.addProperty("name", ROOT_NAME);
+        packageJson.addProperty("version", ROOT_VERSION);
+        JsonObject dependencies = new JsonObject();
+        for (int root : graph.getRoots()) {
+            dependencies.addProperty(graph.getName(root), "^" + graph.getVersion(root));
+        }
+        packageJson.add("dependencies", dependencies);
+        return gson.toJson(packageJson);
+    }
+
+    // A lerna package that depends on a window of the graph, so packages overlap but do not all resolve the same nodes.
+    public String generateLernaPackageJson(int packageIndex, int dependencyCount) {
+        JsonObject packageJson = new JsonObject();
+        packageJson.addProperty("name", String.format("%s-package%d", ROOT_NAME, packageIndex));
+        packageJson.addProperty("version", ROOT_VERSION);
+        JsonObject dependencies = new JsonObject();
+        for (int i = 0; i < dependencyCount; i++) {
+            int node = (packageIndex * dependencyCount + i) % graph.getNodeCount();
+            dependencies.addProperty(graph.getName(node), "^" + graph.getVersion(node));
+        }
+        packageJson.add("dependencies", dependencies);
+        return gson.toJson(packageJson);
+    }
+
+    public String generateNpmPackageLock() {
+        JsonObject packageLock = new JsonObject();
+        packageLock.addProperty("name", ROOT_NAME);
+        packageLock.addProperty("version", ROOT_VERSION);
+        packageLock.addProperty("lockfileVersion", 1);
+        packageLock.addProperty("requires", true);
+        JsonObject dependencies = new JsonObject();
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            JsonObject dependency = new JsonObject();
+            dependency.addProperty("version", graph.getVersion(node));
+            dependency.addProperty("resolved", String.format("https://registry.npmjs.org/%1$s/-/%1$s-%2$s.tgz", graph.getName(node), graph.getVersion(node)));
+            List<Integer> children = graph.getChildren(node);
+            if (!children.isEmpty()) {
+                JsonObject requires = new JsonObject();
+                for (int child : children) {
+                    requires.addProperty(graph.getName(child), "^" + graph.getVersion(child));
+                }
+                dependency.add("requires", requires);
+            }
+            dependencies.add(graph.getName(node), dependency);
+        }
+        packageLock.add("dependencies", dependencies);
+        return gson.toJson(packageLock);
+    }
+
+    public List<String> generateYarnLock() {
+        List<String> lines = new ArrayList<>();
+        lines.add("# THIS IS AN AUTOGENERATED FILE. DO NOT EDIT THIS FILE DIRECTLY.");
+        lines.add("# yarn lockfile v1");
+        lines.add("");
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            lines.add("");
+            lines.add(String.format("\"%s@^%s\":", graph.getName(node), graph.getVersion(node)));
+            lines.add(String.format("  version \"%s\"", graph.getVersion(node)));
+            lines.add(String.format("  resolved \"https://registry.yarnpkg.com/%1$s/-/%1$s-%2$s.tgz\"", graph.getName(node), graph.getVersion(node)));
+            List<Integer> children = graph.getChildren(node);
+            if (!children.isEmpty()) {
+                lines.add("  dependencies:");
+                for (int child : children) {
+                    lines.add(String.format("    %s \"^%s\"", graph.getName(child), graph.getVersion(child)));
+                }
+            }
+        }
+        return lines;
+    }
+
+    public List<String> generateGoModGraph() {
+        List<String> lines = new ArrayList<>();
+        String rootModule = "example.com/" + ROOT_NAME;
+        for (int root : graph.getRoots()) {
+            lines.add(String.format("%s %s", rootModule, toGoModule(root)));
+        }
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            for (int child : graph.getChildren(node)) {
+                lines.add(String.format("%s %s", toGoModule(node), toGoModule(child)));
+            }
+        }
+        return lines;
+    }
+
+    // The output of 'go list -m -u -json all' where every few modules are replaced by a newer version.
+    public List<String> generateGoListUJson() {
+        List<String> lines = new ArrayList<>();
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            lines.add("{");
+            lines.add(String.format("\t\"Path\": \"%s\",", toGoPath(node)));
+            lines.add(String.format("\t\"Version\": \"v%s\",", graph.getVersion(node)));
+            if (node % GO_REPLACEMENT_INTERVAL == 0) {
+                lines.add("\t\"Replace\": {");
+                lines.add(String.format("\t\t\"Path\": \"%s\",", toGoPath(node)));
+                lines.add(String.format("\t\t\"Version\": \"v%s-replaced\"", graph.getVersion(node)));
+                lines.add("\t},");
+            }
+            lines.add("\t\"Indirect\": true");
+            lines.add("}");
+        }
+        return lines;
+    }
+
+    private String toGoModule(int node) {
+        return String.format("%s@v%s", toGoPath(node), graph.getVersion(node));
+    }
+
+    private String toGoPath(int node) {
+        return "example.com/" + graph.getName(node);
+    }
+
+    public List<String> generateGemfileLock() {
+        List<String> lines = new ArrayList<>();
+        lines.add("GEM");
+        lines.add("  remote: https://rubygems.org/");
+        lines.add("  specs:");
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            lines.add(String.format("    %s (%s)", graph.getName(node), graph.getVersion(node)));
+            for (int child : graph.getChildren(node)) {
+                lines.add(String.format("      %s (~> %s)", graph.getName(child), graph.getVersion(child)));
+            }
+        }
+        lines.add("");
+        lines.add("PLATFORMS");
+        lines.add("  ruby");
+        lines.add("");
+        lines.add("DEPENDENCIES");
+        for (int root : graph.getRoots()) {
+            lines.add(String.format("  %s", graph.getName(root)));
+        }
+        lines.add("");
+        lines.add("BUNDLED WITH");
+        lines.add("   2.1.4");
+        return lines;
+    }
+
+    public String generatePodfileLock() {
+        List<String> lines = new ArrayList<>();
+        lines.add("PODS:");
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            List<Integer> children = graph.getChildren(node);
+            if (children.isEmpty()) {
+                lines.add(String.format("  - %s (%s)", graph.getName(node), graph.getVersion(node)));
+            } else {
+                lines.add(String.format("  - %s (%s):", graph.getName(node), graph.getVersion(node)));
+                for (int child : children) {
+                    lines.add(String.format("    - %s (~> %s)", graph.getName(child), graph.getVersion(child)));
+                }
+            }
+        }
+        lines.add("");
+        lines.add("DEPENDENCIES:");
+        for (int root : graph.getRoots()) {
+            lines.add(String.format("  - %s (~> %s)", graph.getName(root), graph.getVersion(root)));
+        }
+        lines.add("");
+        lines.add("COCOAPODS: 1.10.1");
+        return String.join("\n", lines);
+    }
+
+    public String generateCargoLock() {
+        StringBuilder cargoLock = new StringBuilder();
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            cargoLock.append("[[package]]\n");
+            cargoLock.append(String.format("name = \"%s\"\n", graph.getName(node)));
+            cargoLock.append(String.format("version = \"%s\"\n", graph.getVersion(node)));
+            cargoLock.append("source = \"registry+https://github.com/rust-lang/crates.io-index\"\n");
+            List<Integer> children = graph.getChildren(node);
+            if (!children.isEmpty()) {
+                cargoLock.append("dependencies = [\n");
+                for (int i = 0; i < children.size(); i++) {
+                    int child = children.get(i);
+                    cargoLock.append(String.format(" \"%s %s (registry+https://github.com/rust-lang/crates.io-index)\"%s\n", graph.getName(child), graph.getVersion(child), i < children.size() - 1 ? "," : ""));
+                }
+                cargoLock.append("]\n");
+            }
+            cargoLock.append("\n");
+        }
+        return cargoLock.toString();
+    }
+
+    public String generatePoetryLock() {
+        StringBuilder poetryLock = new StringBuilder();
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            poetryLock.append("[[package]]\n");
+            poetryLock.append(String.format("name = \"%s\"\n", graph.getName(node)));
+            poetryLock.append(String.format("version = \"%s\"\n", graph.getVersion(node)));
+            poetryLock.append("description = \"\"\n");
+            poetryLock.append("category = \"main\"\n");
+            poetryLock.append("optional = false\n");
+            poetryLock.append("python-versions = \"*\"\n");
+            List<Integer> children = graph.getChildren(node);
+            if (!children.isEmpty()) {
+                poetryLock.append("\n[package.dependencies]\n");
+                for (int child : children) {
+                    poetryLock.append(String.format("%s = \">=%s\"\n", graph.getName(child), graph.getVersion(child)));
+                }
+            }
+            poetryLock.append("\n");
+        }
+        poetryLock.append("[metadata]\n");
+        poetryLock.append("lock-version = \"1.1\"\n");
+        poetryLock.append("python-versions = \"^3.8\"\n");
+        return poetryLock.toString();
+    }
+
+    // Lockfile node 0 is the conanfile, every synthetic node is shifted up by one.
+    public String generateConanLockfile() {
+        JsonObject nodes = new JsonObject();
+        JsonObject rootNode = new JsonObject();
+        rootNode.addProperty("path", "conanfile.txt");
+        rootNode.add("requires", toConanRequires(graph.getRoots()));
+        rootNode.addProperty("context", "host");
+        nodes.add("0", rootNode);
+        for (int node = 0; node < graph.getNodeCount(); node++) {
+            JsonObject lockfileNode = new JsonObject();
+            lockfileNode.addProperty("ref", String.format("%s/%s@synthetic/stable#%032x", graph.getName(node), graph.getVersion(node), node));
+            lockfileNode.addProperty("package_id", String.format("%040x", node));
+            lockfileNode.addProperty("prev", String.format("%032x", node + 1));
+            List<Integer> children = graph.getChildren(node);
+            if (!children.isEmpty()) {
+                lockfileNode.add("requires", toConanRequires(children));
+            }
+            lockfileNode.addProperty("context", "host");
+            nodes.add(String.valueOf(node + 1), lockfileNode);
+        }
+
+        JsonObject graphLock = new JsonObject();
+        graphLock.add("nodes", nodes);
+        graphLock.addProperty("revisions_enabled", true);
+        JsonObject lockfile = new JsonObject();
+        lockfile.add("graph_lock", graphLock);
+        lockfile.addProperty("version", "0.4");
+        return gson.toJson(lockfile);
+    }
+
+    private JsonArray toConanRequires(List<Integer> nodes) {
+        JsonArray requires = new JsonArray();
+        for (int node : nodes) {
+            requires.add(String.valueOf(node + 1));
+        }
+        return requires;
+    }
+}
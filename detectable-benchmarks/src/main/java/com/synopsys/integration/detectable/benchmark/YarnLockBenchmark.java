@@ -0,0 +1,70 @@
+/*
+ * detectable-benchmarks
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.builder.MissingExternalIdException;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.npm.packagejson.model.PackageJson;
+import com.synopsys.integration.detectable.detectables.yarn.YarnTransformer;
+import com.synopsys.integration.detectable.detectables.yarn.packagejson.NullSafePackageJson;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockResult;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
+import com.synopsys.integration.detectable.detectables.yarn.workspace.YarnWorkspaces;
+
+public class YarnLockBenchmark extends ParserBenchmark {
+    private final YarnTransformer yarnTransformer = new YarnTransformer(new ExternalIdFactory());
+    private YarnLockParser yarnLockParser;
+    private NullSafePackageJson rootPackageJson;
+    private List<String> yarnLockLines;
+    private String yarnLockText;
+
+    @Setup
+    public void setup() {
+        YarnLockLineAnalyzer yarnLockLineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntrySectionParserSet = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
+        yarnLockParser = new YarnLockParser(new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntrySectionParserSet));
+
+        SyntheticInputGenerator inputGenerator = createInputGenerator();
+        rootPackageJson = new NullSafePackageJson(new Gson().fromJson(inputGenerator.generatePackageJson(), PackageJson.class));
+        yarnLockLines = inputGenerator.generateYarnLock();
+        yarnLockText = String.join("\n", yarnLockLines);
+    }
+
+    @Benchmark
+    public YarnLock parseYarnLock() {
+        return yarnLockParser.parseYarnLock(yarnLockLines);
+    }
+
+    @Benchmark
+    public YarnLock parseYarnLockFromReader() throws IOException {
+        return yarnLockParser.parseYarnLock(new StringReader(yarnLockText));
+    }
+
+    @Benchmark
+    public DependencyGraph parseAndTransformYarnLock() throws MissingExternalIdException {
+        YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockLines);
+        YarnLockResult yarnLockResult = new YarnLockResult(rootPackageJson, YarnWorkspaces.EMPTY, yarnLock);
+        return yarnTransformer.generateDependencyGraph(yarnLockResult, false, false, Collections.emptyList(), null);
+    }
+}
@@ -7,11 +7,14 @@
  */
 package com.synopsys.integration.detectable;
 
+import java.util.Optional;
+
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
 import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
 
 public abstract class Detectable {
     protected DetectableEnvironment environment;
@@ -47,6 +50,14 @@ public abstract class Detectable {
 
     }
 
+    /*
+     * The files and options that completely determine the extraction, called after extractable passes. When present the extraction may be served from the extraction cache.
+     * Detectables that run executables or read anything not listed here must not override this.
+     */
+    public Optional<ExtractionInputs> getExtractionInputs() {
+        return Optional.empty();
+    }
+
     /*
      * Perform the extraction and try not to throw an exception. Instead return an extraction built with an exception.
      */
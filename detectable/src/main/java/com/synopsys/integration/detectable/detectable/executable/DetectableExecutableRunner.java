@@ -41,4 +41,33 @@ public interface DetectableExecutableRunner {
 
     @NotNull
     ExecutableOutput executeSuccessfully(Executable executable) throws ExecutableFailedException; //Returns output if and only if executable return code was zero, otherwise throws.
+
+    //Hands each line to the consumers as it is produced instead of holding the whole output. Runners that can not stream replay their buffered output.
+    @NotNull
+    default StreamingExecutableOutput executeStreaming(Executable executable, LineConsumer standardOutputConsumer, LineConsumer errorOutputConsumer, int tailLineLimit) throws ExecutableRunnerException {
+        return StreamingExecutableOutput.fromExecutableOutput(execute(executable), standardOutputConsumer, errorOutputConsumer, tailLineLimit);
+    }
+
+    @NotNull
+    default StreamingExecutableOutput executeStreamingSecretly(Executable executable, LineConsumer standardOutputConsumer, LineConsumer errorOutputConsumer, int tailLineLimit) throws ExecutableRunnerException {
+        return StreamingExecutableOutput.fromExecutableOutput(executeSecretly(executable), standardOutputConsumer, errorOutputConsumer, tailLineLimit);
+    }
+
+    @NotNull
+    default StreamingExecutableOutput executeStreaming(Executable executable, LineConsumer standardOutputConsumer, LineConsumer errorOutputConsumer) throws ExecutableRunnerException {
+        return executeStreaming(executable, standardOutputConsumer, errorOutputConsumer, StreamingExecutableOutput.DEFAULT_TAIL_LINE_LIMIT);
+    }
+
+    @NotNull
+    default StreamingExecutableOutput executeStreamingSuccessfully(Executable executable, LineConsumer standardOutputConsumer, LineConsumer errorOutputConsumer) throws ExecutableFailedException {
+        try {
+            StreamingExecutableOutput output = executeStreaming(executable, standardOutputConsumer, errorOutputConsumer);
+            if (output.getReturnCode() != 0) {
+                throw new ExecutableFailedException(executable, output.toExecutableOutput());
+            }
+            return output;
+        } catch (ExecutableRunnerException e) {
+            throw new ExecutableFailedException(executable, e);
+        }
+    }
 }
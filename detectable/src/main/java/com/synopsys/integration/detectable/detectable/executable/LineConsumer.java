@@ -0,0 +1,18 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+// Receives the output of an executable one line at a time as it is produced.
+@FunctionalInterface
+public interface LineConsumer {
+    void consumeLine(String line);
+
+    static LineConsumer discard() {
+        return line -> {};
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.executable.ExecutableOutput;
+
+// The result of a streamed execution. The full output was given to the line consumers, only the last lines of each stream are kept here.
+public class StreamingExecutableOutput {
+    public static final int DEFAULT_TAIL_LINE_LIMIT = 200;
+    // Splits lines the same way BufferedReader.readLine does when the output is streamed.
+    private static final Pattern LINE_SEPARATOR = Pattern.compile("\\r\\n|\\r|\\n");
+
+    private final int returnCode;
+    private final List<String> standardOutputTail;
+    private final List<String> errorOutputTail;
+
+    public StreamingExecutableOutput(int returnCode, List<String> standardOutputTail, List<String> errorOutputTail) {
+        this.returnCode = returnCode;
+        this.standardOutputTail = standardOutputTail;
+        this.errorOutputTail = errorOutputTail;
+    }
+
+    // For runners that can only produce buffered output, replays it through the consumers as if it had been streamed.
+    public static StreamingExecutableOutput fromExecutableOutput(ExecutableOutput executableOutput, LineConsumer standardOutputConsumer, LineConsumer errorOutputConsumer, int tailLineLimit) {
+        TailLineCapture standardOutputTail = new TailLineCapture(tailLineLimit);
+        TailLineCapture errorOutputTail = new TailLineCapture(tailLineLimit);
+        replayLines(executableOutput.getStandardOutput(), standardOutputConsumer, standardOutputTail);
+        replayLines(executableOutput.getErrorOutput(), errorOutputConsumer, errorOutputTail);
+        return new StreamingExecutableOutput(executableOutput.getReturnCode(), standardOutputTail.getLines(), errorOutputTail.getLines());
+    }
+
+    private static void replayLines(String output, LineConsumer consumer, TailLineCapture tail) {
+        if (StringUtils.isEmpty(output)) {
+            return;
+        }
+        String[] lines = LINE_SEPARATOR.split(output, -1);
+        // A trailing separator ends the last line rather than starting an empty one.
+        int lineCount = lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+        for (int i = 0; i < lineCount; i++) {
+            consumer.consumeLine(lines[i]);
+            tail.consumeLine(lines[i]);
+        }
+    }
+
+    public int getReturnCode() {
+        return returnCode;
+    }
+
+    public List<String> getStandardOutputTail() {
+        return standardOutputTail;
+    }
+
+    public List<String> getErrorOutputTail() {
+        return errorOutputTail;
+    }
+
+    public String getStandardOutputTailAsString() {
+        return String.join(System.lineSeparator(), standardOutputTail);
+    }
+
+    public String getErrorOutputTailAsString() {
+        return String.join(System.lineSeparator(), errorOutputTail);
+    }
+
+    public ExecutableOutput toExecutableOutput() {
+        return new ExecutableOutput(returnCode, getStandardOutputTailAsString(), getErrorOutputTailAsString());
+    }
+}
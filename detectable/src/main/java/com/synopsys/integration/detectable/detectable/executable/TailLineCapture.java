@@ -0,0 +1,38 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectable.executable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Keeps only the last lines of an output stream so failures can still be diagnosed without holding the whole output.
+public class TailLineCapture implements LineConsumer {
+    private final int maxLines;
+    private final Deque<String> lines = new ArrayDeque<>();
+
+    public TailLineCapture(int maxLines) {
+        this.maxLines = maxLines;
+    }
+
+    @Override
+    public synchronized void consumeLine(String line) {
+        if (maxLines <= 0) {
+            return;
+        }
+        if (lines.size() == maxLines) {
+            lines.removeFirst();
+        }
+        lines.addLast(line);
+    }
+
+    public synchronized List<String> getLines() {
+        return new ArrayList<>(lines);
+    }
+}
@@ -17,13 +17,19 @@ public class NugetInspectorOptions {
     private final List<String> includedModules;
     private final List<String> packagesRepoUrl;
     private final Path nugetConfigPath;
+    private final int inspectorThreads;
 
     public NugetInspectorOptions(boolean ignoreFailures, List<String> excludedModules, List<String> includedModules, List<String> packagesRepoUrl, Path nugetConfigPath) {
+        this(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath, 1);
+    }
+
+    public NugetInspectorOptions(boolean ignoreFailures, List<String> excludedModules, List<String> includedModules, List<String> packagesRepoUrl, Path nugetConfigPath, int inspectorThreads) {
         this.ignoreFailures = ignoreFailures;
         this.excludedModules = excludedModules;
         this.includedModules = includedModules;
         this.packagesRepoUrl = packagesRepoUrl;
         this.nugetConfigPath = nugetConfigPath;
+        this.inspectorThreads = inspectorThreads;
     }
 
     public boolean isIgnoreFailures() {
@@ -45,4 +51,8 @@ public class NugetInspectorOptions {
     public Optional<Path> getNugetConfigPath() {
         return Optional.ofNullable(nugetConfigPath);
     }
+
+    public int getInspectorThreads() {
+        return inspectorThreads;
+    }
 }
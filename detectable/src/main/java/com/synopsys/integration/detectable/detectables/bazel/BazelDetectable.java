@@ -71,6 +71,6 @@ public class BazelDetectable extends Detectable {
         // Checked in applicable.
         return bazelExtractor
                    .extract(bazelExe, environment.getDirectory(), bazelWorkspace, bazelDetectableOptions.getTargetName().get(), projectNameGenerator, bazelDetectableOptions.getBazelDependencyRules(),
-                       bazelDetectableOptions.getBazelCqueryAdditionalOptions());
+                       bazelDetectableOptions.getBazelCqueryAdditionalOptions(), bazelDetectableOptions.getQueryThreads());
     }
 }
@@ -15,12 +15,14 @@ public class BazelDetectableOptions {
     private final String targetName;
     private final Set<WorkspaceRule> bazelDependencyRules;
     private final List<String> bazelCqueryAdditionalOptions;
+    private final int queryThreads;
 
     public BazelDetectableOptions(String targetName, Set<WorkspaceRule> bazelDependencyRules,
-        List<String> bazelCqueryAdditionalOptions) {
+        List<String> bazelCqueryAdditionalOptions, int queryThreads) {
         this.targetName = targetName;
         this.bazelDependencyRules = bazelDependencyRules;
         this.bazelCqueryAdditionalOptions = bazelCqueryAdditionalOptions;
+        this.queryThreads = queryThreads;
     }
 
     public Optional<String> getTargetName() {
@@ -34,4 +36,8 @@ public class BazelDetectableOptions {
     public Set<WorkspaceRule> getBazelDependencyRules() {
         return bazelDependencyRules;
     }
+
+    public int getQueryThreads() {
+        return queryThreads;
+    }
 }
@@ -13,6 +13,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
@@ -50,12 +52,16 @@ public class BazelExtractor {
 
     public Extraction extract(ExecutableTarget bazelExe, File workspaceDir, BazelWorkspace bazelWorkspace, String bazelTarget,
         BazelProjectNameGenerator bazelProjectNameGenerator, Set<WorkspaceRule> providedDependencyRuleTypes,
-        List<String> providedCqueryAdditionalOptions) {
+        List<String> providedCqueryAdditionalOptions, int queryThreads) {
         logger.debug("Bazel extraction:");
+        ExecutorService queryExecutorService = null;
+        if (queryThreads > 1) {
+            queryExecutorService = Executors.newFixedThreadPool(queryThreads);
+        }
         try {
             BazelCommandExecutor bazelCommandExecutor = new BazelCommandExecutor(executableRunner, workspaceDir, bazelExe);
             BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor(bazelTarget, providedCqueryAdditionalOptions);
-            Pipelines pipelines = new Pipelines(bazelCommandExecutor, bazelVariableSubstitutor, externalIdFactory);
+            Pipelines pipelines = new Pipelines(bazelCommandExecutor, bazelVariableSubstitutor, externalIdFactory, queryExecutorService);
             Set<WorkspaceRule> workspaceRulesToQuery = workspaceRuleChooser.choose(bazelWorkspace.getDependencyRuleTypes(), providedDependencyRuleTypes);
             List<Dependency> aggregatedDependencies = collectDependencies(pipelines, workspaceRulesToQuery);
             return buildResults(aggregatedDependencies, bazelProjectNameGenerator.generateFromBazelTarget(bazelTarget));
@@ -63,6 +69,10 @@ public class BazelExtractor {
             String msg = String.format("Bazel processing exception: %s", e.getMessage());
             logger.debug(msg, e);
             return new Extraction.Builder().failure(msg).build();
+        } finally {
+            if (queryExecutorService != null) {
+                queryExecutorService.shutdownNow();
+            }
         }
     }
 
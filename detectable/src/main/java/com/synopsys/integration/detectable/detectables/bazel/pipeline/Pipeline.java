@@ -9,10 +9,13 @@ package com.synopsys.integration.detectable.detectables.bazel.pipeline;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.detectable.detectables.bazel.pipeline.step.FinalStep;
 import com.synopsys.integration.detectable.detectables.bazel.pipeline.step.IntermediateStep;
+import com.synopsys.integration.detectable.detectables.bazel.pipeline.step.StreamingIntermediateStep;
 import com.synopsys.integration.exception.IntegrationException;
 
 public class Pipeline {
@@ -27,8 +30,21 @@ public class Pipeline {
     public List<Dependency> run() throws IntegrationException {
         // Execute pipeline steps (like linux cmd piping with '|'); each step processes the output of the previous step
         List<String> pipelineData = new ArrayList<>();
-        for (IntermediateStep pipelineStep : intermediateSteps) {
-            pipelineData = pipelineStep.process(pipelineData);
+        int stepIndex = 0;
+        while (stepIndex < intermediateSteps.size()) {
+            IntermediateStep pipelineStep = intermediateSteps.get(stepIndex);
+            if (pipelineStep instanceof StreamingIntermediateStep) {
+                // Consecutive streaming steps are fused so each item flows through all of them without a list per step
+                Stream<String> pipelineStream = pipelineData.stream();
+                while (stepIndex < intermediateSteps.size() && intermediateSteps.get(stepIndex) instanceof StreamingIntermediateStep) {
+                    pipelineStream = pipelineStream.flatMap(((StreamingIntermediateStep) intermediateSteps.get(stepIndex))::processEach);
+                    stepIndex++;
+                }
+                pipelineData = pipelineStream.collect(Collectors.toList());
+            } else {
+                pipelineData = pipelineStep.process(pipelineData);
+                stepIndex++;
+            }
         }
         return finalStep.finish(pipelineData);
     }
@@ -9,6 +9,9 @@ package com.synopsys.integration.detectable.detectables.bazel.pipeline;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.concurrent.ExecutorService;
+
+import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.Gson;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
@@ -29,11 +32,19 @@ public class Pipelines {
     private static final String CQUERY_OPTIONS_PLACEHOLDER = "${detect.bazel.cquery.options}";
     private static final String CQUERY_COMMAND = "cquery";
     private static final String OUTPUT_FLAG = "--output";
+    private static final int QUERY_BATCH_SIZE = 100;
     private final EnumMap<WorkspaceRule, Pipeline> availablePipelines = new EnumMap<>(WorkspaceRule.class);
     private final Gson gson = new Gson();
 
     public Pipelines(BazelCommandExecutor bazelCommandExecutor, BazelVariableSubstitutor bazelVariableSubstitutor,
         ExternalIdFactory externalIdFactory) {
+        this(bazelCommandExecutor, bazelVariableSubstitutor, externalIdFactory, null);
+    }
+
+    // With an executor the per target queries run concurrently on it and are combined into union queries of up to QUERY_BATCH_SIZE targets.
+    public Pipelines(BazelCommandExecutor bazelCommandExecutor, BazelVariableSubstitutor bazelVariableSubstitutor,
+        ExternalIdFactory externalIdFactory, @Nullable ExecutorService queryExecutorService) {
+        int queryBatchSize = queryExecutorService == null ? 1 : QUERY_BATCH_SIZE;
         Pipeline mavenJarPipeline = (new PipelineBuilder())
                                         .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor,
                                             Arrays.asList(CQUERY_COMMAND, CQUERY_OPTIONS_PLACEHOLDER, "filter('@.*:jar', deps(${detect.bazel.target}))"), false))
@@ -43,7 +54,8 @@ public class Pipelines {
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^@", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("//.*", ""))
                                         .addIntermediateStep(new IntermediateStepReplaceInEach("^", "//external:"))
-                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true))
+                                        .addIntermediateStep(new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", OUTPUT_FLAG, "xml"), true,
+                                            queryExecutorService, queryBatchSize))
                                         .addIntermediateStep(new IntermediateStepParseEachXml("/query/rule[@class='maven_jar']/string[@name='artifact']", "value"))
                                         .setFinalStep(new FinalStepColonSeparatedGavs(externalIdFactory))
                                         .build();
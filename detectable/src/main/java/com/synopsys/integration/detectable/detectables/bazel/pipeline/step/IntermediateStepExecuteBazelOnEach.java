@@ -8,23 +8,43 @@
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.exception.IntegrationException;
 
 public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
+    private static final String QUERY_UNION_OPERATOR = " union ";
     private final BazelCommandExecutor bazelCommandExecutor;
     private final BazelVariableSubstitutor bazelVariableSubstitutor;
     private final List<String> bazelCommandArgs;
     private final boolean inputIsExpected;
+    @Nullable
+    private final ExecutorService executorService;
+    private final int batchSize;
 
     public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
         BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected) {
+        this(bazelCommandExecutor, bazelVariableSubstitutor, bazelCommandArgs, inputIsExpected, null, 1);
+    }
+
+    // When an executor is given the commands run on it concurrently. A batch size greater than one combines that many input items into a single
+    // query by joining the arguments that differ per item with the query union operator, so it may only be used for query expressions.
+    public IntermediateStepExecuteBazelOnEach(BazelCommandExecutor bazelCommandExecutor,
+        BazelVariableSubstitutor bazelVariableSubstitutor, List<String> bazelCommandArgs, boolean inputIsExpected, @Nullable ExecutorService executorService, int batchSize) {
         this.bazelCommandExecutor = bazelCommandExecutor;
         this.bazelVariableSubstitutor = bazelVariableSubstitutor;
         this.bazelCommandArgs = bazelCommandArgs;
         this.inputIsExpected = inputIsExpected;
+        this.executorService = executorService;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     @Override
@@ -33,19 +53,64 @@ public class IntermediateStepExecuteBazelOnEach implements IntermediateStep {
         if (inputIsExpected && input.isEmpty()) {
             return results;
         }
-        List<String> adjustedInput;
+        List<List<String>> commands = new ArrayList<>();
         if (input.isEmpty()) {
-            // Empty pipeline is normal when this is first step in pipeline, but we need one item to enter the loop below
-            adjustedInput = new ArrayList<>(1);
-            adjustedInput.add(null);
+            // Empty pipeline is normal when this is first step in pipeline, but we still need to run the command once
+            commands.add(bazelVariableSubstitutor.substitute(bazelCommandArgs, null));
         } else {
-            adjustedInput = input;
+            for (int batchStart = 0; batchStart < input.size(); batchStart += batchSize) {
+                List<String> batch = input.subList(batchStart, Math.min(batchStart + batchSize, input.size()));
+                commands.add(createCommand(batch));
+            }
         }
-        for (String inputItem : adjustedInput) {
-            List<String> finalizedArgs = bazelVariableSubstitutor.substitute(bazelCommandArgs, inputItem);
-            Optional<String> cmdOutput = bazelCommandExecutor.executeToString(finalizedArgs);
-            cmdOutput.ifPresent(results::add);
+
+        if (executorService == null || commands.size() == 1) {
+            for (List<String> finalizedArgs : commands) {
+                Optional<String> cmdOutput = bazelCommandExecutor.executeToString(finalizedArgs);
+                cmdOutput.ifPresent(results::add);
+            }
+        } else {
+            List<Future<Optional<String>>> pendingOutputs = new ArrayList<>(commands.size());
+            for (List<String> finalizedArgs : commands) {
+                pendingOutputs.add(FutureTasks.run(executorService, () -> bazelCommandExecutor.executeToString(finalizedArgs)));
+            }
+            // Outputs are collected in input order so results do not depend on which command finishes first
+            for (Optional<String> output : awaitOutputs(pendingOutputs)) {
+                output.ifPresent(results::add);
+            }
         }
         return results;
     }
+
+    private List<String> createCommand(List<String> batch) {
+        if (batch.size() == 1) {
+            return bazelVariableSubstitutor.substitute(bazelCommandArgs, batch.get(0));
+        }
+        List<List<String>> itemCommands = new ArrayList<>(batch.size());
+        for (String inputItem : batch) {
+            itemCommands.add(bazelVariableSubstitutor.substitute(bazelCommandArgs, inputItem));
+        }
+        List<String> combinedCommand = new ArrayList<>();
+        for (int argIndex = 0; argIndex < itemCommands.get(0).size(); argIndex++) {
+            Set<String> argValues = new LinkedHashSet<>();
+            for (List<String> itemCommand : itemCommands) {
+                argValues.add(itemCommand.get(argIndex));
+            }
+            combinedCommand.add(String.join(QUERY_UNION_OPERATOR, argValues));
+        }
+        return combinedCommand;
+    }
+
+    private List<Optional<String>> awaitOutputs(List<Future<Optional<String>>> pendingOutputs) throws IntegrationException {
+        try {
+            return FutureTasks.awaitAll(pendingOutputs, failure -> {
+                if (failure instanceof IntegrationException) {
+                    return (IntegrationException) failure;
+                }
+                return new IntegrationException(String.format("Error executing bazel command: %s", failure.getMessage()), failure);
+            });
+        } catch (InterruptedException e) {
+            throw new IntegrationException("Interrupted while waiting for bazel commands to finish", e);
+        }
+    }
 }
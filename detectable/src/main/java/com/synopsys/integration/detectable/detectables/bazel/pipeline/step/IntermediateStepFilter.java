@@ -7,30 +7,26 @@
  */
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class IntermediateStepFilter implements IntermediateStep {
+public class IntermediateStepFilter implements StreamingIntermediateStep {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final String regex;
+    private final Pattern pattern;
 
     public IntermediateStepFilter(final String regex) {
-        this.regex = regex;
+        this.pattern = Pattern.compile(regex);
     }
 
     @Override
-    public List<String> process(final List<String> input) {
-        final List<String> output = new ArrayList<>();
-        logger.trace(String.format("Filtering with regex %s", regex));
-        for (final String inputItem : input) {
-            if (inputItem.matches(regex)) {
-                logger.trace(String.format("Filter keeping: %s", inputItem));
-                output.add(inputItem);
-            }
+    public Stream<String> processEach(final String inputItem) {
+        if (pattern.matcher(inputItem).matches()) {
+            logger.trace("Filter keeping: {}", inputItem);
+            return Stream.of(inputItem);
         }
-        return output;
+        return Stream.empty();
     }
 }
@@ -7,31 +7,26 @@
  */
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class IntermediateStepReplaceInEach implements IntermediateStep {
+public class IntermediateStepReplaceInEach implements StreamingIntermediateStep {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    final String targetPattern;
-    final String replacementString;
+    private final Pattern targetPattern;
+    private final String replacementString;
 
     public IntermediateStepReplaceInEach(final String targetPattern, final String replacementString) {
-        this.targetPattern = targetPattern;
+        this.targetPattern = Pattern.compile(targetPattern);
         this.replacementString = replacementString;
     }
 
     @Override
-    public List<String> process(final List<String> input) {
-        final List<String> results = new ArrayList<>();
-        logger.trace(String.format("Replace target pattern: %s; replacement string: %s", targetPattern, replacementString));
-        for (final String inputItem : input) {
-            final String modifiedInputItem = inputItem.replaceAll(targetPattern, replacementString);
-            logger.trace(String.format("Edit changed %s to %s", inputItem, modifiedInputItem));
-            results.add(modifiedInputItem);
-        }
-        return results;
+    public Stream<String> processEach(final String inputItem) {
+        final String modifiedInputItem = targetPattern.matcher(inputItem).replaceAll(replacementString);
+        logger.trace("Edit changed {} to {}", inputItem, modifiedInputItem);
+        return Stream.of(modifiedInputItem);
     }
 }
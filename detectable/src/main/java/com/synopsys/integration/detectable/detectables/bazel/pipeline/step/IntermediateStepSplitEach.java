@@ -7,29 +7,19 @@
  */
 package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-public class IntermediateStepSplitEach implements IntermediateStep {
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private final String regex;
+public class IntermediateStepSplitEach implements StreamingIntermediateStep {
+    private final Pattern pattern;
 
     public IntermediateStepSplitEach(final String regex) {
-        this.regex = regex;
+        this.pattern = Pattern.compile(regex);
     }
 
     @Override
-    public List<String> process(final List<String> input) {
-        final List<String> results = new ArrayList<>();
-        for (final String inputItem : input) {
-            final String[] splitLines = inputItem.split(regex);
-            results.addAll(Arrays.asList(splitLines));
-        }
-        logger.trace(String.format("SplitEach returning %d lines", results.size()));
-        return results;
+    public Stream<String> processEach(final String inputItem) {
+        return Arrays.stream(pattern.split(inputItem));
     }
 }
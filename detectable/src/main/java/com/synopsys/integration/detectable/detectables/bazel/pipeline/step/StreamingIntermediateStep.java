@@ -0,0 +1,24 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.bazel.pipeline.step;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// A step that transforms each item independently, so consecutive streaming steps can be fused by the pipeline without building a list per step.
+public interface StreamingIntermediateStep extends IntermediateStep {
+    Stream<String> processEach(String inputItem);
+
+    @Override
+    default List<String> process(List<String> input) {
+        return input.stream()
+                   .flatMap(this::processEach)
+                   .collect(Collectors.toList());
+    }
+}
@@ -37,6 +37,7 @@ public class BitbakeSession {
     private final File buildEnvScript;
     private final List<String> sourceArguments;
     private final ExecutableTarget bashExecutable;
+    private List<BitbakeRecipe> recipeLayerCatalog = null;
 
     public BitbakeSession(FileFinder fileFinder, DetectableExecutableRunner executableRunner, BitbakeRecipesParser bitbakeRecipesParser, File workingDirectory, File buildEnvScript,
         List<String> sourceArguments,
@@ -62,6 +63,9 @@ public class BitbakeSession {
             return Optional.empty();
         }
 
+        // bitbake writes task-depends.dot into the build directory, which is usually inside the source directory.
+        fileFinder.invalidate(workingDirectory);
+        fileFinder.invalidate(sourceDirectory);
         return findTaskDependsFile(sourceDirectory, workingDirectory, searchDepth);
 
     }
@@ -76,11 +80,16 @@ public class BitbakeSession {
 
     }
 
+    // The layer catalog does not depend on the package, so bitbake-layers only runs once per session.
     public List<BitbakeRecipe> executeBitbakeForRecipeLayerCatalog() throws ExecutableRunnerException, IOException, IntegrationException {
+        if (recipeLayerCatalog != null) {
+            return recipeLayerCatalog;
+        }
         final String bitbakeCommand = "bitbake-layers show-recipes";
         ExecutableOutput executableOutput = runBitbake(bitbakeCommand);
         if (executableOutput.getReturnCode() == 0) {
-            return bitbakeRecipesParser.parseShowRecipes(executableOutput.getStandardOutputAsList());
+            recipeLayerCatalog = bitbakeRecipesParser.parseShowRecipes(executableOutput.getStandardOutputAsList());
+            return recipeLayerCatalog;
         } else {
             throw new IntegrationException("Running command '%s' returned a non-zero exit code. Failed to extract bitbake recipe mapping.");
         }
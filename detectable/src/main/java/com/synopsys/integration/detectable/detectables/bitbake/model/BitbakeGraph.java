@@ -8,26 +8,22 @@
 package com.synopsys.integration.detectable.detectables.bitbake.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
 public class BitbakeGraph {
     private final List<BitbakeNode> nodes = new ArrayList<>();
+    private final Map<String, BitbakeNode> nodesByName = new HashMap<>();
 
     private BitbakeNode getOrCreate(final String name) {
-        final Optional<BitbakeNode> existingNode = nodes.stream()
-                                                       .filter(node -> node.getName().equals(name))
-                                                       .findFirst();
-
-        if (existingNode.isPresent()) {
-            return existingNode.get();
-        }
-
-        final BitbakeNode newNode = new BitbakeNode(name);
-        nodes.add(newNode);
-        return newNode;
+        return nodesByName.computeIfAbsent(name, missingName -> {
+            final BitbakeNode newNode = new BitbakeNode(missingName);
+            nodes.add(newNode);
+            return newNode;
+        });
     }
 
     public void addNode(final String name, @Nullable final String version) {
@@ -0,0 +1,162 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.bitbake.parse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+
+// Builds the BitbakeGraph directly from task-depends.dot one statement per line, bitbake never splits a node or edge statement across lines.
+public class BitbakeTaskDependsParser {
+    private static final String TASK_SEPARATOR = ".do_";
+    private static final String EDGE_OPERATOR = "->";
+    private static final String LABEL_ATTRIBUTE = "label";
+    private static final Pattern LABEL_LINE_SEPARATOR = Pattern.compile("\\\\n:|\\\\n");
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    public BitbakeGraph parse(BufferedReader taskDependsReader) throws IOException {
+        BitbakeGraph bitbakeGraph = new BitbakeGraph();
+
+        String line;
+        while ((line = taskDependsReader.readLine()) != null) {
+            logger.trace(line);
+            parseStatement(new StatementCursor(line), bitbakeGraph);
+        }
+
+        return bitbakeGraph;
+    }
+
+    private void parseStatement(StatementCursor cursor, BitbakeGraph bitbakeGraph) {
+        String nodeId = cursor.readId();
+        if (nodeId == null) {
+            return;
+        }
+
+        if (cursor.consume(EDGE_OPERATOR)) {
+            String childId = cursor.readId();
+            if (childId != null) {
+                String parent = getNameFromNodeId(nodeId);
+                String child = getNameFromNodeId(childId);
+                if (!parent.equals(child)) {
+                    bitbakeGraph.addChild(parent, child);
+                }
+            }
+        } else if (cursor.consume("[")) {
+            String label = readLabelAttribute(cursor);
+            if (label != null) {
+                String name = getNameFromNodeId(nodeId);
+                getVersionFromLabel(label).ifPresent(version -> bitbakeGraph.addNode(name, version));
+            }
+        }
+    }
+
+    @Nullable
+    private String readLabelAttribute(StatementCursor cursor) {
+        String label = null;
+        while (!cursor.consume("]")) {
+            String key = cursor.readId();
+            if (key == null || !cursor.consume("=")) {
+                break;
+            }
+            String value = cursor.readId();
+            if (LABEL_ATTRIBUTE.equals(key) && value != null) {
+                label = value;
+            }
+            if (!cursor.consume(",")) {
+                cursor.consume(";");
+            }
+        }
+        return label;
+    }
+
+    private String getNameFromNodeId(String nodeId) {
+        int taskIndex = nodeId.indexOf(TASK_SEPARATOR);
+        String name = taskIndex >= 0 ? nodeId.substring(0, taskIndex) : nodeId;
+        return name.replace("\"", "");
+    }
+
+    private Optional<String> getVersionFromLabel(String label) {
+        String[] components = LABEL_LINE_SEPARATOR.split(label);
+        if (components.length < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(components[1]);
+    }
+
+    private static class StatementCursor {
+        private final String statement;
+        private int position = 0;
+
+        public StatementCursor(String statement) {
+            this.statement = statement;
+        }
+
+        public boolean consume(String token) {
+            skipWhitespace();
+            if (statement.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        // Reads a quoted or bare dot id. Escaped quotes are unescaped, other escapes such as the \n in labels are kept as written.
+        @Nullable
+        public String readId() {
+            skipWhitespace();
+            if (position >= statement.length()) {
+                return null;
+            }
+            if (statement.charAt(position) == '"') {
+                return readQuotedId();
+            }
+
+            int start = position;
+            while (position < statement.length() && isBareIdCharacter(statement.charAt(position))) {
+                position++;
+            }
+            return position > start ? statement.substring(start, position) : null;
+        }
+
+        private String readQuotedId() {
+            StringBuilder id = new StringBuilder();
+            position++;
+            while (position < statement.length()) {
+                char current = statement.charAt(position++);
+                if (current == '"') {
+                    return id.toString();
+                }
+                if (current == '\\' && position < statement.length() && statement.charAt(position) == '"') {
+                    id.append('"');
+                    position++;
+                } else {
+                    id.append(current);
+                }
+            }
+            return id.toString();
+        }
+
+        private boolean isBareIdCharacter(char character) {
+            return Character.isLetterOrDigit(character) || character == '_' || character == '.';
+        }
+
+        private void skipWhitespace() {
+            while (position < statement.length() && Character.isWhitespace(statement.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.synopsys.integration.detectable.detectable.result.FilesNotFoundDetect
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
 
 @DetectableInfo(language = "Rust", forge = "crates", requirementsMarkdown = "Files: Cargo.lock, Cargo.toml")
 public class CargoDetectable extends Detectable {
@@ -64,6 +65,14 @@ public class CargoDetectable extends Detectable {
         return new PassedDetectableResult();
     }
 
+    @Override
+    public Optional<ExtractionInputs> getExtractionInputs() {
+        return Optional.of(new ExtractionInputs.Builder()
+                               .file(CARGO_LOCK_FILENAME, cargoLock)
+                               .file(CARGO_TOML_FILENAME, cargoToml)
+                               .build());
+    }
+
     @Override
     public Extraction extract(ExtractionEnvironment extractionEnvironment) {
         return cargoExtractor.extract(cargoLock, cargoToml);
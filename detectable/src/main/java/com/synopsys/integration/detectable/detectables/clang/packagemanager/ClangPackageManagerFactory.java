@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,6 +19,8 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.reso
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.RpmPackageManagerResolver;
 
 public class ClangPackageManagerFactory {
+    private static final String DPKG_DATABASE_DIRECTORY = "/var/lib/dpkg";
+
     private final ClangPackageManagerInfoFactory packageManagerInfoFactory;
 
     public ClangPackageManagerFactory(ClangPackageManagerInfoFactory packageManagerInfoFactory) {
@@ -32,7 +35,7 @@ public class ClangPackageManagerFactory {
         List<ClangPackageManager> packageManagers = new ArrayList<>();
 
         packageManagers.add(new ClangPackageManager(packageManagerInfoFactory.apk(), new ApkPackageManagerResolver(new ApkArchitectureResolver())));
-        packageManagers.add(new ClangPackageManager(packageManagerInfoFactory.dpkg(), new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver())));
+        packageManagers.add(new ClangPackageManager(packageManagerInfoFactory.dpkg(), new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver(), new File(DPKG_DATABASE_DIRECTORY))));
         packageManagers.add(new ClangPackageManager(packageManagerInfoFactory.rpm(), new RpmPackageManagerResolver(new Gson())));
 
         return packageManagers;
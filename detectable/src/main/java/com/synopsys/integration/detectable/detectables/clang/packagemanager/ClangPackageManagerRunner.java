@@ -9,8 +9,12 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +28,9 @@ import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ClangPackageManagerRunner {
+    // Keeps the command line well below the argument length limits while still replacing hundreds of processes with one.
+    private static final int OWNERSHIP_QUERY_BATCH_SIZE = 200;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public boolean applies(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executor) {
@@ -46,12 +53,31 @@ public class ClangPackageManagerRunner {
     }
 
     public PackageDetailsResult getAllPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final Set<File> dependencyFiles) {
+        final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
+        final Optional<PackageDetailsResult> offlineResult = resolver.resolvePackagesOffline(dependencyFiles);
+        if (offlineResult.isPresent()) {
+            logger.debug(String.format("Resolved %d dependency files from the %s database", dependencyFiles.size(), currentPackageManager.getPackageManagerInfo().getPkgMgrName()));
+            return offlineResult.get();
+        }
+
         final Set<PackageDetails> packageDetails = new HashSet<>();
         final Set<File> unRecognizedDependencyFiles = new HashSet<>();
-        for (final File dependencyFile : dependencyFiles) {
-            final PackageDetailsResult packageDetailsResult = getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile);
-            packageDetails.addAll(packageDetailsResult.getFoundPackages());
-            unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+        final List<File> remainingFiles = new ArrayList<>(dependencyFiles);
+        for (int batchStart = 0; batchStart < remainingFiles.size(); batchStart += OWNERSHIP_QUERY_BATCH_SIZE) {
+            final List<File> batch = remainingFiles.subList(batchStart, Math.min(batchStart + OWNERSHIP_QUERY_BATCH_SIZE, remainingFiles.size()));
+            final List<PackageDetailsResult> packageDetailsResults;
+            if (batch.size() > 1 && resolver.canQueryOwnersInBatches()) {
+                packageDetailsResults = getPackagesInBatch(currentPackageManager, workingDirectory, executableRunner, batch);
+            } else {
+                packageDetailsResults = new ArrayList<>();
+                for (final File dependencyFile : batch) {
+                    packageDetailsResults.add(getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile));
+                }
+            }
+            for (final PackageDetailsResult packageDetailsResult : packageDetailsResults) {
+                packageDetails.addAll(packageDetailsResult.getFoundPackages());
+                unRecognizedDependencyFiles.addAll(packageDetailsResult.getUnRecognizedDependencyFiles());
+            }
         }
 
         return new PackageDetailsResult(packageDetails, unRecognizedDependencyFiles);
@@ -59,8 +85,6 @@ public class ClangPackageManagerRunner {
 
     public PackageDetailsResult getPackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile) {
         final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
-        final Set<PackageDetails> dependencyDetails = new HashSet<>();
-        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
         try {
             final List<String> fileSpecificGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
             fileSpecificGetOwnerArgs.add(dependencyFile.getAbsolutePath());
@@ -71,8 +95,70 @@ public class ClangPackageManagerRunner {
             } else {
                 queryPackageOutputToParse = queryPackageResult.getErrorOutput();
             }
+            return resolvePackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, queryPackageOutputToParse);
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error with dependency file %s when running %s", dependencyFile.getAbsolutePath(), packageManagerInfo.getPkgMgrCmdString()));
+            logger.error(String.format("Error executing %s: %s", packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+        }
+        return new PackageDetailsResult(new HashSet<>(), new HashSet<>());
+    }
+
+    // Asks who owns every file of the batch with one invocation, then splits the output back up by file and resolves each file as if it had been queried alone.
+    private List<PackageDetailsResult> getPackagesInBatch(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final List<File> batch) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
+        final List<PackageDetailsResult> packageDetailsResults = new ArrayList<>();
+
+        final Map<String, List<String>> outputLinesByFilePath = new LinkedHashMap<>();
+        final List<String> batchGetOwnerArgs = new ArrayList<>(packageManagerInfo.getPkgMgrGetOwnerCmdArgs());
+        for (final File dependencyFile : batch) {
+            outputLinesByFilePath.put(dependencyFile.getAbsolutePath(), new ArrayList<>());
+            batchGetOwnerArgs.add(dependencyFile.getAbsolutePath());
+        }
+        try {
+            final ExecutableOutput queryPackageResult = executableRunner.execute(workingDirectory, packageManagerInfo.getPkgMgrCmdString(), batchGetOwnerArgs);
+            for (final String output : Arrays.asList(queryPackageResult.getStandardOutput(), queryPackageResult.getErrorOutput())) {
+                for (final String line : StringUtils.defaultString(output).split("\n")) {
+                    final Optional<String> queriedFilePath = resolver.findQueriedFilePath(line);
+                    if (queriedFilePath.isPresent() && outputLinesByFilePath.containsKey(queriedFilePath.get())) {
+                        outputLinesByFilePath.get(queriedFilePath.get()).add(line);
+                    } else if (StringUtils.isNotBlank(line)) {
+                        logger.trace(String.format("Skipping ownership query output line that does not name a queried file: %s", line));
+                    }
+                }
+            }
+        } catch (final ExecutableRunnerException e) {
+            logger.debug(String.format("Error querying %d dependency files at once with %s, querying them one at a time: %s", batch.size(), packageManagerInfo.getPkgMgrCmdString(), e.getMessage()));
+            for (final File dependencyFile : batch) {
+                packageDetailsResults.add(getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile));
+            }
+            return packageDetailsResults;
+        }
+
+        final List<String> batchOutputs = new ArrayList<>();
+        outputLinesByFilePath.values().forEach(lines -> batchOutputs.add(String.join("\n", lines)));
+        resolver.prefetchPackageDetails(packageManagerInfo, executableRunner, workingDirectory, batchOutputs);
+
+        for (final File dependencyFile : batch) {
+            final List<String> outputLines = outputLinesByFilePath.get(dependencyFile.getAbsolutePath());
+            if (outputLines.isEmpty()) {
+                // Nothing in the output could be tied to this file, ask about it alone.
+                packageDetailsResults.add(getPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile));
+            } else {
+                packageDetailsResults.add(resolvePackages(currentPackageManager, workingDirectory, executableRunner, dependencyFile, String.join("\n", outputLines)));
+            }
+        }
+        return packageDetailsResults;
+    }
+
+    private PackageDetailsResult resolvePackages(final ClangPackageManager currentPackageManager, final File workingDirectory, final DetectableExecutableRunner executableRunner, final File dependencyFile,
+        final String queryPackageOutputToParse) {
+        final ClangPackageManagerInfo packageManagerInfo = currentPackageManager.getPackageManagerInfo();
+        final Set<PackageDetails> dependencyDetails = new HashSet<>();
+        final Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        try {
             final ClangPackageManagerResolver resolver = currentPackageManager.getPackageResolver();
-            final List<PackageDetails> packageDetails = resolver.resolvePackages(currentPackageManager.getPackageManagerInfo(), executableRunner, workingDirectory, queryPackageOutputToParse);
+            final List<PackageDetails> packageDetails = resolver.resolvePackages(packageManagerInfo, executableRunner, workingDirectory, queryPackageOutputToParse);
             dependencyDetails.addAll(packageDetails);
         } catch (final NotOwnedByAnyPkgException notOwnedException) {
             logger.debug(String.format("%s is not recognized by the linux package manager (%s)", dependencyFile.getAbsolutePath(), notOwnedException.getMessage()));
@@ -83,5 +169,4 @@ public class ClangPackageManagerRunner {
         }
         return new PackageDetailsResult(dependencyDetails, unRecognizedDependencyFiles);
     }
-
 }
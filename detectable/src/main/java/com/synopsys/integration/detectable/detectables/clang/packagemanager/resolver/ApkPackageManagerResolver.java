@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +23,10 @@ import com.synopsys.integration.detectable.detectables.clang.packagemanager.Pack
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public class ApkPackageManagerResolver implements ClangPackageManagerResolver {
+    private static final String IS_OWNED_BY = " is owned by ";
+    private static final String NOT_OWNED_PREFIX = "ERROR: ";
+    private static final String NOT_OWNED_SUFFIX = ": Could not find owner package";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ApkArchitectureResolver architectureResolver;
 
@@ -54,6 +59,21 @@ public class ApkPackageManagerResolver implements ClangPackageManagerResolver {
         return packageDetailsList;
     }
 
+    @Override
+    public boolean canQueryOwnersInBatches() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> findQueriedFilePath(String queryPackageOutputLine) {
+        // expecting either: /usr/include/stdlib.h is owned by musl-dev-1.1.18-r3
+        // or: ERROR: /usr/include/stdlib.h: Could not find owner package
+        if (queryPackageOutputLine.contains(IS_OWNED_BY)) {
+            return Optional.of(StringUtils.substringBefore(queryPackageOutputLine, IS_OWNED_BY).trim());
+        }
+        return Optional.ofNullable(StringUtils.substringBetween(queryPackageOutputLine, NOT_OWNED_PREFIX, NOT_OWNED_SUFFIX));
+    }
+
     private void isValid(String queryPackageOutput) throws NotOwnedByAnyPkgException {
         if (queryPackageOutput.contains("ERROR") && queryPackageOutput.contains("Could not find owner package")) {
             throw new NotOwnedByAnyPkgException(queryPackageOutput);
@@ -80,7 +100,7 @@ public class ApkPackageManagerResolver implements ClangPackageManagerResolver {
     // parse output of "apk info --who-owns pkg" --> package name+version details
     private Optional<List<String>> parseIsOwnedByOutputLine(String packageLine) {
         // expecting a line like: /usr/include/stdlib.h is owned by musl-dev-1.1.18-r3
-        if (!packageLine.contains(" is owned by ")) {
+        if (!packageLine.contains(IS_OWNED_BY)) {
             return Optional.empty();
         }
         String[] packageLineParts = packageLine.split("\\s+");
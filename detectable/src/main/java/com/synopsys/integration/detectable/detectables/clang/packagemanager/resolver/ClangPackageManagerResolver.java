@@ -8,14 +8,37 @@
 package com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver;
 
 import java.io.File;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
 public interface ClangPackageManagerResolver {
     List<PackageDetails> resolvePackages(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, String queryPackageOutput)
         throws ExecutableRunnerException, NotOwnedByAnyPkgException;
+
+    // Only package managers that name the queried file on every line of their ownership query output can be asked about many files in one invocation.
+    default boolean canQueryOwnersInBatches() {
+        return false;
+    }
+
+    // The path of the file a line of ownership query output is about.
+    default Optional<String> findQueriedFilePath(String queryPackageOutputLine) {
+        return Optional.empty();
+    }
+
+    // Given the ownership query output of a whole batch before it is resolved file by file, so that per package lookups can be batched as well.
+    default void prefetchPackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, Collection<String> queryPackageOutputs) {
+    }
+
+    // Resolves the files from the package manager's database without running it, empty when that is not possible.
+    default Optional<PackageDetailsResult> resolvePackagesOffline(Set<File> dependencyFiles) {
+        return Optional.empty();
+    }
 }
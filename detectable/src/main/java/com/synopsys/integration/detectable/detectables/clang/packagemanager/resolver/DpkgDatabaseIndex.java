@@ -0,0 +1,137 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
+
+// Answers "which package owns this file" from dpkg's own database instead of running dpkg: info/<package>[:<arch>].list lists the files of each package and status holds the details of every package.
+public class DpkgDatabaseIndex {
+    private static final String STATUS_FILENAME = "status";
+    private static final String INFO_DIRECTORY_NAME = "info";
+    private static final String LIST_FILE_EXTENSION = ".list";
+    private static final String PACKAGE_LABEL = "Package:";
+
+    private final Map<String, NameArchitecture> ownersByPath;
+    private final Map<NameArchitecture, Optional<PackageDetails>> packageDetailsByOwner;
+
+    private DpkgDatabaseIndex(Map<String, NameArchitecture> ownersByPath, Map<NameArchitecture, Optional<PackageDetails>> packageDetailsByOwner) {
+        this.ownersByPath = ownersByPath;
+        this.packageDetailsByOwner = packageDetailsByOwner;
+    }
+
+    public static boolean isReadable(File dpkgDatabaseDirectory) {
+        return new File(dpkgDatabaseDirectory, STATUS_FILENAME).canRead() && new File(dpkgDatabaseDirectory, INFO_DIRECTORY_NAME).canRead();
+    }
+
+    // Only the given paths and their owners are kept, the database itself can be far larger than what a project uses.
+    public static DpkgDatabaseIndex load(File dpkgDatabaseDirectory, Collection<String> paths, DpkgPkgDetailsResolver pkgDetailsResolver) throws IOException {
+        Map<String, NameArchitecture> ownersByPath = readOwners(new File(dpkgDatabaseDirectory, INFO_DIRECTORY_NAME).toPath(), new HashSet<>(paths));
+        Set<NameArchitecture> owners = new HashSet<>(ownersByPath.values());
+        Map<NameArchitecture, Optional<PackageDetails>> packageDetailsByOwner = readPackageDetails(new File(dpkgDatabaseDirectory, STATUS_FILENAME).toPath(), owners, pkgDetailsResolver);
+        return new DpkgDatabaseIndex(ownersByPath, packageDetailsByOwner);
+    }
+
+    public Optional<NameArchitecture> findOwner(String path) {
+        return Optional.ofNullable(ownersByPath.get(path));
+    }
+
+    public Optional<PackageDetails> findPackageDetails(NameArchitecture owner) {
+        return packageDetailsByOwner.getOrDefault(owner, Optional.empty());
+    }
+
+    private static Map<String, NameArchitecture> readOwners(Path infoDirectory, Set<String> paths) throws IOException {
+        List<Path> listFiles = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(infoDirectory, "*" + LIST_FILE_EXTENSION)) {
+            directoryStream.forEach(listFiles::add);
+        }
+        // Sorted so the same file owned by several packages always gets the same owner.
+        listFiles.sort(null);
+
+        Map<String, NameArchitecture> ownersByPath = new HashMap<>();
+        for (Path listFile : listFiles) {
+            NameArchitecture owner = parseListFilename(listFile.getFileName().toString());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(listFile), Charset.defaultCharset()))) {
+                String path;
+                while ((path = reader.readLine()) != null) {
+                    if (paths.contains(path)) {
+                        ownersByPath.putIfAbsent(path, owner);
+                    }
+                }
+            }
+        }
+        return ownersByPath;
+    }
+
+    private static NameArchitecture parseListFilename(String listFilename) {
+        String packageNameArchitecture = StringUtils.removeEnd(listFilename, LIST_FILE_EXTENSION);
+        if (packageNameArchitecture.contains(":")) {
+            return new NameArchitecture(StringUtils.substringBefore(packageNameArchitecture, ":"), StringUtils.substringAfter(packageNameArchitecture, ":"));
+        }
+        return new NameArchitecture(packageNameArchitecture, null);
+    }
+
+    // The status file has the same entries that "dpkg -s" prints, so they are parsed exactly as its output would be.
+    private static Map<NameArchitecture, Optional<PackageDetails>> readPackageDetails(Path statusFile, Set<NameArchitecture> owners, DpkgPkgDetailsResolver pkgDetailsResolver) throws IOException {
+        Map<String, List<NameArchitecture>> ownersByName = new HashMap<>();
+        owners.forEach(owner -> ownersByName.computeIfAbsent(owner.getName(), name -> new ArrayList<>()).add(owner));
+
+        Map<NameArchitecture, Optional<PackageDetails>> packageDetailsByOwner = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(statusFile), Charset.defaultCharset()))) {
+            StringBuilder packageEntry = new StringBuilder();
+            List<NameArchitecture> entryOwners = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (StringUtils.isBlank(line)) {
+                    addPackageDetails(packageEntry.toString(), entryOwners, pkgDetailsResolver, packageDetailsByOwner);
+                    packageEntry.setLength(0);
+                    entryOwners = null;
+                    continue;
+                }
+                if (line.startsWith(PACKAGE_LABEL)) {
+                    entryOwners = ownersByName.get(line.substring(PACKAGE_LABEL.length()).trim());
+                }
+                if (entryOwners != null) {
+                    packageEntry.append(line).append("\n");
+                }
+            }
+            addPackageDetails(packageEntry.toString(), entryOwners, pkgDetailsResolver, packageDetailsByOwner);
+        }
+        return packageDetailsByOwner;
+    }
+
+    private static void addPackageDetails(String packageEntry, @Nullable List<NameArchitecture> entryOwners, DpkgPkgDetailsResolver pkgDetailsResolver, Map<NameArchitecture, Optional<PackageDetails>> packageDetailsByOwner) {
+        if (entryOwners == null) {
+            return;
+        }
+        for (NameArchitecture owner : entryOwners) {
+            if (!packageDetailsByOwner.containsKey(owner) && pkgDetailsResolver.entryDescribes(packageEntry, owner)) {
+                packageDetailsByOwner.put(owner, pkgDetailsResolver.parsePackageDetailsFromInfoOutput(owner.getName(), packageEntry));
+            }
+        }
+    }
+}
@@ -8,9 +8,16 @@
 package com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -20,14 +27,89 @@ import org.slf4j.LoggerFactory;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.ClangPackageManagerInfo;
 import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
 
 public class DpkgPackageManagerResolver implements ClangPackageManagerResolver {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private static final String NOT_OWNED_TEXT = "no path found matching pattern";
+
     private final DpkgPkgDetailsResolver versionResolver;
+    @Nullable
+    private final File dpkgDatabaseDirectory;
 
     public DpkgPackageManagerResolver(DpkgPkgDetailsResolver versionResolver) {
+        this(versionResolver, null);
+    }
+
+    // When the dpkg database directory is given and readable, file ownership is read from it rather than asked of dpkg.
+    public DpkgPackageManagerResolver(DpkgPkgDetailsResolver versionResolver, @Nullable File dpkgDatabaseDirectory) {
         this.versionResolver = versionResolver;
+        this.dpkgDatabaseDirectory = dpkgDatabaseDirectory;
+    }
+
+    @Override
+    public boolean canQueryOwnersInBatches() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> findQueriedFilePath(String queryPackageOutputLine) {
+        // expecting either: libc6-dev:amd64: /usr/include/stdlib.h
+        // or: dpkg-query: no path found matching pattern /usr/include/stdlib.h
+        if (queryPackageOutputLine.contains(NOT_OWNED_TEXT)) {
+            return Optional.of(StringUtils.substringAfter(queryPackageOutputLine, NOT_OWNED_TEXT).trim());
+        }
+        if (queryPackageOutputLine.contains(": ")) {
+            return Optional.of(StringUtils.substringAfter(queryPackageOutputLine, ": ").trim());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void prefetchPackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, Collection<String> queryPackageOutputs) {
+        Set<NameArchitecture> packageNameArchitectures = new LinkedHashSet<>();
+        for (String queryPackageOutput : queryPackageOutputs) {
+            for (String packageLine : queryPackageOutput.split("\n")) {
+                if (!packageLine.contains(NOT_OWNED_TEXT) && isPackageLine(packageLine)) {
+                    packageNameArchitectures.add(parsePackageNameArchitecture(packageLine));
+                }
+            }
+        }
+        versionResolver.prefetchPackageDetails(currentPackageManager, executableRunner, workingDirectory, packageNameArchitectures);
+    }
+
+    @Override
+    public Optional<PackageDetailsResult> resolvePackagesOffline(Set<File> dependencyFiles) {
+        if (dpkgDatabaseDirectory == null || !DpkgDatabaseIndex.isReadable(dpkgDatabaseDirectory)) {
+            return Optional.empty();
+        }
+        Map<String, File> dependencyFilesByPath = new HashMap<>();
+        dependencyFiles.forEach(dependencyFile -> dependencyFilesByPath.put(dependencyFile.getAbsolutePath(), dependencyFile));
+        DpkgDatabaseIndex databaseIndex;
+        try {
+            databaseIndex = DpkgDatabaseIndex.load(dpkgDatabaseDirectory, dependencyFilesByPath.keySet(), versionResolver);
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to read the dpkg database in %s, dpkg will be queried instead: %s", dpkgDatabaseDirectory.getAbsolutePath(), e.getMessage()));
+            return Optional.empty();
+        }
+
+        Set<PackageDetails> foundPackages = new HashSet<>();
+        Set<File> unRecognizedDependencyFiles = new HashSet<>();
+        dependencyFilesByPath.forEach((path, dependencyFile) -> {
+            Optional<NameArchitecture> owner = databaseIndex.findOwner(path);
+            if (!owner.isPresent()) {
+                logger.debug(String.format("%s is not recognized by the linux package manager (not listed in the dpkg database)", path));
+                unRecognizedDependencyFiles.add(dependencyFile);
+                return;
+            }
+            Optional<PackageDetails> packageDetails = databaseIndex.findPackageDetails(owner.get());
+            if (packageDetails.isPresent()) {
+                logger.debug("Adding package: {}", packageDetails.get());
+                foundPackages.add(packageDetails.get());
+            }
+        });
+        return Optional.of(new PackageDetailsResult(foundPackages, unRecognizedDependencyFiles));
     }
 
     @Override
@@ -67,9 +149,13 @@ public class DpkgPackageManagerResolver implements ClangPackageManagerResolver {
     }
 
     private boolean valid(String packageLine) throws NotOwnedByAnyPkgException {
-        if (packageLine.contains("no path found matching pattern")) {
+        if (packageLine.contains(NOT_OWNED_TEXT)) {
             throw new NotOwnedByAnyPkgException(packageLine);
         }
+        return isPackageLine(packageLine);
+    }
+
+    private boolean isPackageLine(String packageLine) {
         // arch included
         if (packageLine.matches(".+:.+: .+")) {
             return true;
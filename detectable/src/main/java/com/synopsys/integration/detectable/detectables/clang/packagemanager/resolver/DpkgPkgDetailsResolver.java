@@ -9,8 +9,13 @@ package com.synopsys.integration.detectable.detectables.clang.packagemanager.res
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -27,19 +32,90 @@ public class DpkgPkgDetailsResolver {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private static final int PKG_INFO_LINE_LABEL_POSITION = 0;
     private static final int PKG_INFO_LINE_VALUE_POSITION = 1;
+    private static final Pattern PACKAGE_ENTRY_SEPARATOR = Pattern.compile("\\r?\\n\\s*\\r?\\n");
+
+    private final Map<String, Optional<PackageDetails>> packageDetailsCache = new HashMap<>();
 
     public Optional<PackageDetails> resolvePackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, NameArchitecture packageNameArchitecture) {
+        String packageArg = constructPackageArg(packageNameArchitecture.getName(), packageNameArchitecture.getArchitecture().orElse(null));
+        Optional<PackageDetails> cachedPackageDetails = packageDetailsCache.get(packageArg);
+        if (cachedPackageDetails != null) {
+            return cachedPackageDetails;
+        }
         try {
             List<String> args = new ArrayList<>(currentPackageManager.getPkgInfoArgs().get());
-            args.add(constructPackageArg(packageNameArchitecture.getName(), packageNameArchitecture.getArchitecture().orElse(null)));
+            args.add(packageArg);
             ExecutableOutput packageInfoOutput = executableRunner.execute(workingDirectory, currentPackageManager.getPkgMgrCmdString(), args);
-            return parsePackageDetailsFromInfoOutput(packageNameArchitecture.getName(), packageInfoOutput.getStandardOutput());
+            Optional<PackageDetails> packageDetails = parsePackageDetailsFromInfoOutput(packageNameArchitecture.getName(), packageInfoOutput.getStandardOutput());
+            packageDetailsCache.put(packageArg, packageDetails);
+            return packageDetails;
         } catch (ExecutableRunnerException e) {
             logger.warn(String.format("Error executing %s to get package info: %s", currentPackageManager.getPkgMgrName(), e.getMessage()));
         }
         return Optional.empty();
     }
 
+    // Gets the details of many packages with one invocation. Packages whose entry can not be picked out of the combined output unambiguously are left to resolvePackageDetails.
+    public void prefetchPackageDetails(ClangPackageManagerInfo currentPackageManager, DetectableExecutableRunner executableRunner, File workingDirectory, Collection<NameArchitecture> packageNameArchitectures) {
+        Map<String, NameArchitecture> uncachedPackages = new LinkedHashMap<>();
+        for (NameArchitecture packageNameArchitecture : packageNameArchitectures) {
+            String packageArg = constructPackageArg(packageNameArchitecture.getName(), packageNameArchitecture.getArchitecture().orElse(null));
+            if (!packageDetailsCache.containsKey(packageArg)) {
+                uncachedPackages.put(packageArg, packageNameArchitecture);
+            }
+        }
+        if (uncachedPackages.size() < 2) {
+            return;
+        }
+        String packageInfoOutput;
+        try {
+            List<String> args = new ArrayList<>(currentPackageManager.getPkgInfoArgs().get());
+            args.addAll(uncachedPackages.keySet());
+            packageInfoOutput = executableRunner.execute(workingDirectory, currentPackageManager.getPkgMgrCmdString(), args).getStandardOutput();
+        } catch (ExecutableRunnerException e) {
+            logger.debug(String.format("Error executing %s to get info for %d packages at once: %s", currentPackageManager.getPkgMgrName(), uncachedPackages.size(), e.getMessage()));
+            return;
+        }
+
+        List<String> packageEntries = splitPackageEntries(packageInfoOutput);
+        uncachedPackages.forEach((packageArg, packageNameArchitecture) -> {
+            List<String> matchingEntries = new ArrayList<>();
+            for (String packageEntry : packageEntries) {
+                if (entryDescribes(packageEntry, packageNameArchitecture)) {
+                    matchingEntries.add(packageEntry);
+                }
+            }
+            if (matchingEntries.size() == 1) {
+                packageDetailsCache.put(packageArg, parsePackageDetailsFromInfoOutput(packageNameArchitecture.getName(), matchingEntries.get(0)));
+            }
+        });
+    }
+
+    // Package info output (and the dpkg status file) is a list of entries separated by empty lines.
+    public List<String> splitPackageEntries(String packageInfoOutput) {
+        List<String> packageEntries = new ArrayList<>();
+        for (String packageEntry : PACKAGE_ENTRY_SEPARATOR.split(StringUtils.defaultString(packageInfoOutput))) {
+            if (StringUtils.isNotBlank(packageEntry)) {
+                packageEntries.add(packageEntry);
+            }
+        }
+        return packageEntries;
+    }
+
+    public boolean entryDescribes(String packageEntry, NameArchitecture packageNameArchitecture) {
+        String packageName = null;
+        String packageArchitecture = null;
+        for (String packageEntryLine : packageEntry.split("\\n")) {
+            packageName = parseNeededValueFromLineIfPresent(packageNameArchitecture.getName(), packageEntryLine, "Package", packageName);
+            packageArchitecture = parseNeededValueFromLineIfPresent(packageNameArchitecture.getName(), packageEntryLine, "Architecture", packageArchitecture);
+        }
+        if (!packageNameArchitecture.getName().equals(packageName)) {
+            return false;
+        }
+        Optional<String> requestedArchitecture = packageNameArchitecture.getArchitecture();
+        return !requestedArchitecture.isPresent() || requestedArchitecture.get().equals(packageArchitecture);
+    }
+
     private String constructPackageArg(String packageName, @Nullable String packageArch) {
         if (StringUtils.isBlank(packageArch)) {
             return packageName;
@@ -48,7 +124,7 @@ public class DpkgPkgDetailsResolver {
         }
     }
 
-    private Optional<PackageDetails> parsePackageDetailsFromInfoOutput(String packageName, String packageInfoOutput) {
+    public Optional<PackageDetails> parsePackageDetailsFromInfoOutput(String packageName, String packageInfoOutput) {
         String packageArchitecture = null;
         String packageVersion = null;
         String[] packageInfoOutputLines = packageInfoOutput.split("\\n");
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -28,4 +29,21 @@ public class NameArchitecture {
     public Optional<String> getArchitecture() {
         return Optional.ofNullable(architecture);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NameArchitecture that = (NameArchitecture) o;
+        return name.equals(that.name) && Objects.equals(architecture, that.architecture);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, architecture);
+    }
 }
@@ -11,6 +11,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
@@ -21,11 +22,12 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
 import com.synopsys.integration.detectable.detectables.conan.ConanDetectableResult;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoNodeCollector;
 import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoParser;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.util.ToolVersionLogger;
-import com.synopsys.integration.executable.ExecutableOutput;
 
 public class ConanCliExtractor {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -40,21 +42,28 @@ public class ConanCliExtractor {
     public Extraction extract(File projectDir, ExecutableTarget conanExe, ConanCliExtractorOptions conanCliExtractorOptions) {
         ToolVersionLogger.log(executableRunner, projectDir, conanExe);
         List<String> exeArgs = generateConanInfoCmdArgs(projectDir, conanCliExtractorOptions);
-        ExecutableOutput conanInfoOutput;
+        ConanInfoNodeCollector nodeCollector = conanInfoParser.createNodeCollector();
+        AtomicBoolean reportedErrors = new AtomicBoolean(false);
+        StreamingExecutableOutput conanInfoOutput;
         try {
-            conanInfoOutput = executableRunner.execute(ExecutableUtils.createFromTarget(projectDir, conanExe, exeArgs));
+            conanInfoOutput = executableRunner.executeStreaming(ExecutableUtils.createFromTarget(projectDir, conanExe, exeArgs), nodeCollector, line -> {
+                if (line.contains("ERROR: ")) {
+                    reportedErrors.set(true);
+                }
+            });
         } catch (Exception e) {
             logger.error(String.format("Exception thrown executing conan info command: %s", e.getMessage()));
             return new Extraction.Builder().exception(e).build();
         }
-        if (!wasSuccess(conanInfoOutput)) {
+        if (!wasSuccess(conanInfoOutput, reportedErrors.get())) {
             return new Extraction.Builder().failure("Conan info command reported errors").build();
         }
-        if (!producedOutput(conanInfoOutput)) {
+        if (!nodeCollector.producedOutput()) {
+            logger.error("Nothing returned from conan info command");
             return new Extraction.Builder().failure("Conan info command produced no output").build();
         }
         try {
-            ConanDetectableResult result = conanInfoParser.generateCodeLocationFromConanInfoOutput(conanInfoOutput.getStandardOutput(),
+            ConanDetectableResult result = conanInfoParser.generateCodeLocationFromNodeMap(nodeCollector.finish(),
                 conanCliExtractorOptions.shouldIncludeDevDependencies(), conanCliExtractorOptions.preferLongFormExternalIds());
             return new Extraction.Builder().success(result.getCodeLocation()).projectName(result.getProjectName()).projectVersion(result.getProjectVersion()).build();
         } catch (DetectableException e) {
@@ -62,9 +71,9 @@ public class ConanCliExtractor {
         }
     }
 
-    private boolean wasSuccess(ExecutableOutput conanInfoOutput) {
-        String errorOutput = conanInfoOutput.getErrorOutput();
-        if (StringUtils.isNotBlank(errorOutput) && errorOutput.contains("ERROR: ")) {
+    private boolean wasSuccess(StreamingExecutableOutput conanInfoOutput, boolean reportedErrors) {
+        String errorOutput = conanInfoOutput.getErrorOutputTailAsString();
+        if (reportedErrors) {
             logger.error("The conan info command reported errors: {}", errorOutput);
             return false;
         }
@@ -74,15 +83,6 @@ public class ConanCliExtractor {
         return true;
     }
 
-    private boolean producedOutput(ExecutableOutput conanInfoOutput) {
-        String standardOutput = conanInfoOutput.getStandardOutput();
-        if (StringUtils.isBlank(standardOutput)) {
-            logger.error("Nothing returned from conan info command");
-            return false;
-        }
-        return true;
-    }
-
     @NotNull
     private List<String> generateConanInfoCmdArgs(File projectDir, ConanCliExtractorOptions conanCliExtractorOptions) {
         List<String> exeArgs = new ArrayList<>();
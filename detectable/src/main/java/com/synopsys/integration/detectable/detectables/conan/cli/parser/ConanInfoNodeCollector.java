@@ -0,0 +1,62 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.conan.cli.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectables.conan.graph.ConanNode;
+
+// Collects nodes from conan info output as it is read. Only the lines of the node being read are held.
+public class ConanInfoNodeCollector implements LineConsumer {
+    private final ConanInfoNodeParser conanInfoNodeParser;
+    private final Map<String, ConanNode<String>> graphNodes = new HashMap<>();
+    private List<String> currentNodeLines = new ArrayList<>();
+    private boolean producedOutput = false;
+
+    public ConanInfoNodeCollector(ConanInfoNodeParser conanInfoNodeParser) {
+        this.conanInfoNodeParser = conanInfoNodeParser;
+    }
+
+    @Override
+    public void consumeLine(String line) {
+        if (StringUtils.isNotBlank(line)) {
+            producedOutput = true;
+        }
+        if (!currentNodeLines.isEmpty() && conanInfoNodeParser.isTopLevelLine(line)) {
+            // The node parser decides where a node ends by looking at the line after it.
+            currentNodeLines.add(line);
+            parseCurrentNode();
+            currentNodeLines = new ArrayList<>();
+        }
+        currentNodeLines.add(line);
+    }
+
+    public boolean producedOutput() {
+        return producedOutput;
+    }
+
+    public Map<String, ConanNode<String>> finish() {
+        if (!currentNodeLines.isEmpty()) {
+            parseCurrentNode();
+            currentNodeLines = new ArrayList<>();
+        }
+        return graphNodes;
+    }
+
+    private void parseCurrentNode() {
+        // Some lines that look like the start of nodes aren't actually the start of nodes, and don't result in a node
+        ConanInfoNodeParseResult nodeParseResult = conanInfoNodeParser.parseNode(currentNodeLines, 0);
+        nodeParseResult.getConanNode().ifPresent(node -> graphNodes.put(node.getRef(), node));
+    }
+}
@@ -56,6 +56,11 @@ public class ConanInfoNodeParser {
         return new ConanInfoNodeParseResult(conanInfoOutputLines.size() - 1, node.orElse(null));
     }
 
+    // A line that is not indented either starts a node or is a log message, either way it ends the previous node.
+    public boolean isTopLevelLine(String line) {
+        return conanInfoLineAnalyzer.measureIndentDepth(line) == 0;
+    }
+
     private Optional<ConanInfoNodeParseResult> getResultIfDone(String nodeBodyLine, int lineIndex, int nodeStartIndex, int bodyLineCount, ConanNodeBuilder<String> nodeBuilder) {
         int indentDepth = conanInfoLineAnalyzer.measureIndentDepth(nodeBodyLine);
         if (indentDepth > 0) {
@@ -7,9 +7,6 @@
  */
 package com.synopsys.integration.detectable.detectables.conan.cli.parser;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -36,10 +33,18 @@ public class ConanInfoParser {
 
     public ConanDetectableResult generateCodeLocationFromConanInfoOutput(String conanInfoOutput, boolean includeBuildDependencies, boolean preferLongFormExternalIds) throws DetectableException {
         Map<String, ConanNode<String>> nodeMap = generateNodeMap(conanInfoOutput);
+        return generateCodeLocationFromNodeMap(nodeMap, includeBuildDependencies, preferLongFormExternalIds);
+    }
+
+    public ConanDetectableResult generateCodeLocationFromNodeMap(Map<String, ConanNode<String>> nodeMap, boolean includeBuildDependencies, boolean preferLongFormExternalIds) throws DetectableException {
         return conanCodeLocationGenerator.generateCodeLocationFromNodeMap(externalIdFactory,
             includeBuildDependencies, preferLongFormExternalIds, nodeMap);
     }
 
+    public ConanInfoNodeCollector createNodeCollector() {
+        return new ConanInfoNodeCollector(conanInfoNodeParser);
+    }
+
     /*
      * Conan info command output: some (irrelevant to us) log messages, followed by a list of nodes.
      * A node looks like this:
@@ -50,20 +55,11 @@ public class ConanInfoParser {
      *     ....
      */
     private Map<String, ConanNode<String>> generateNodeMap(String conanInfoOutput) {
-        Map<String, ConanNode<String>> graphNodes = new HashMap<>();
-        List<String> conanInfoOutputLines = Arrays.asList(conanInfoOutput.split("\n"));
-        int lineIndex = 0;
-        while (lineIndex < conanInfoOutputLines.size()) {
-            String line = conanInfoOutputLines.get(lineIndex);
-            logger.trace("Parsing line: {}: {}", lineIndex + 1, line);
-            // Parse the entire node
-            ConanInfoNodeParseResult nodeParseResult = conanInfoNodeParser.parseNode(conanInfoOutputLines, lineIndex);
-            // Some lines that look like the start of nodes aren't actually the start of nodes, and don't result in a node
-            nodeParseResult.getConanNode().ifPresent(node -> graphNodes.put(node.getRef(), node));
-            lineIndex = nodeParseResult.getLastParsedLineIndex();
-            lineIndex++;
+        ConanInfoNodeCollector nodeCollector = createNodeCollector();
+        for (String line : conanInfoOutput.split("\n")) {
+            nodeCollector.consumeLine(line);
         }
         logger.trace("Reached end of Conan info output");
-        return graphNodes;
+        return nodeCollector.finish();
     }
 }
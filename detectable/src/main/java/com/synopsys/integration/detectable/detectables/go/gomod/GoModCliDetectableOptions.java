@@ -0,0 +1,26 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod;
+
+public class GoModCliDetectableOptions {
+    private final boolean checkForUpdates;
+    private final int commandThreads;
+
+    public GoModCliDetectableOptions(boolean checkForUpdates, int commandThreads) {
+        this.checkForUpdates = checkForUpdates;
+        this.commandThreads = commandThreads;
+    }
+
+    public boolean shouldCheckForUpdates() {
+        return checkForUpdates;
+    }
+
+    public int getCommandThreads() {
+        return commandThreads;
+    }
+}
@@ -8,14 +8,22 @@
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphEdge;
 import com.synopsys.integration.detectable.extraction.Extraction;
 
 public class GoModCliExtractor {
+    private static final int COMMAND_COUNT = 4;
+
     private final GoModCommandExecutor goModCommandExecutor;
     private final GoModGraphTransformer goModGraphTransformer;
     private final GoModGraphParser goModGraphParser;
@@ -29,17 +37,38 @@ public class GoModCliExtractor {
     }
 
     public Extraction extract(File directory, ExecutableTarget goExe) {
+        return extract(directory, goExe, new GoModCliDetectableOptions(true, 1));
+    }
+
+    // The go commands do not depend on each other, with more than one command thread they all run at once and the slowest one (usually go list -u) bounds the extraction.
+    public Extraction extract(File directory, ExecutableTarget goExe, GoModCliDetectableOptions goModCliDetectableOptions) {
+        ExecutorService executorService = null;
+        if (goModCliDetectableOptions.getCommandThreads() > 1) {
+            executorService = Executors.newFixedThreadPool(Math.min(goModCliDetectableOptions.getCommandThreads(), COMMAND_COUNT));
+        }
         try {
-            List<String> listOutput = goModCommandExecutor.generateGoListOutput(directory, goExe);
-            List<String> listUJsonOutput = goModCommandExecutor.generateGoListUJsonOutput(directory, goExe);
-            List<String> modGraphOutput = goModCommandExecutor.generateGoModGraphOutput(directory, goExe);
-            List<String> modWhyOutput = goModCommandExecutor.generateGoModWhyOutput(directory, goExe);
-            Set<String> moduleExclusionList = goModWhyParser.createModuleExclusionList(modWhyOutput);
-            List<String> finalModGraphOutput = goModGraphTransformer.transformGoModGraphOutput(modGraphOutput, listUJsonOutput);
-            List<CodeLocation> codeLocations = goModGraphParser.parseListAndGoModGraph(listOutput, finalModGraphOutput, moduleExclusionList);
+            GoModGraphCollector goModGraphCollector = new GoModGraphCollector();
+            // Without an executor each command runs as it is submitted, so the commands run one after another in this order.
+            Future<List<String>> listOutput = FutureTasks.run(executorService, () -> goModCommandExecutor.generateGoListOutput(directory, goExe));
+            Future<List<String>> listJsonOutput = FutureTasks.run(executorService, () -> goModCommandExecutor.generateGoListJsonOutput(directory, goExe, goModCliDetectableOptions.shouldCheckForUpdates()));
+            Future<GoModGraphCollector> modGraphOutput = FutureTasks.run(executorService, () -> {
+                goModCommandExecutor.generateGoModGraphOutput(directory, goExe, goModGraphCollector);
+                return goModGraphCollector;
+            });
+            Future<List<String>> modWhyOutput = FutureTasks.run(executorService, () -> goModCommandExecutor.generateGoModWhyOutput(directory, goExe));
+            List<Future<?>> commands = Arrays.asList(listOutput, listJsonOutput, modGraphOutput, modWhyOutput);
+            FutureTasks.FailureTranslator<Exception> commandFailure = failure -> failure;
+
+            Set<String> moduleExclusionList = goModWhyParser.createModuleExclusionList(FutureTasks.await(modWhyOutput, commands, commandFailure));
+            List<GoModGraphEdge> modGraph = goModGraphTransformer.transformGoModGraph(FutureTasks.await(modGraphOutput, commands, commandFailure), FutureTasks.await(listJsonOutput, commands, commandFailure));
+            List<CodeLocation> codeLocations = goModGraphParser.parseListAndGoModGraph(FutureTasks.await(listOutput, commands, commandFailure), modGraph, moduleExclusionList);
             return new Extraction.Builder().success(codeLocations).build();//no project info - hoping git can help with that.
         } catch (Exception e) {
             return new Extraction.Builder().exception(e).build();
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
         }
     }
 }
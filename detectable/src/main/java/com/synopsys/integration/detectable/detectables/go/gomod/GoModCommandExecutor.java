@@ -9,6 +9,7 @@ package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -21,6 +22,8 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunnerException;
 
@@ -42,23 +45,31 @@ public class GoModCommandExecutor {
         return execute(directory, goExe, FAILURE_MSG_QUERYING_GO_FOR_THE_LIST_OF_MODULES, "list", "-m");
     }
 
-    List<String> generateGoListUJsonOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
+    // Without the upgrade check (-u) go does not have to query the module proxy, the replacements are listed either way.
+    List<String> generateGoListJsonOutput(File directory, ExecutableTarget goExe, boolean checkForUpdates) throws ExecutableRunnerException, DetectableException {
         List<String> goVersionOutput = execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_VERSION, "version");
         Matcher matcher = GENERATE_GO_LIST_U_JSON_OUTPUT_PATTERN.matcher(goVersionOutput.get(0));
         if (matcher.find()) {
             String version = matcher.group();
             String[] parts = version.split("\\.");
+            List<String> arguments = new ArrayList<>(Arrays.asList("list", "-m"));
             if (Integer.parseInt(parts[0]) > 1 || Integer.parseInt(parts[1]) >= 14) {
-                return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-mod=readonly", "-m", "-u", "-json", "all");
-            } else {
-                return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "list", "-m", "-u", "-json", "all");
+                arguments.add(1, "-mod=readonly");
             }
+            if (checkForUpdates) {
+                arguments.add("-u");
+            }
+            arguments.addAll(Arrays.asList("-json", "all"));
+            return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, arguments.toArray(new String[0]));
         }
         return new ArrayList<>();
     }
 
-    List<String> generateGoModGraphOutput(File directory, ExecutableTarget goExe) throws ExecutableRunnerException, DetectableException {
-        return execute(directory, goExe, FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH, "mod", "graph");
+    void generateGoModGraphOutput(File directory, ExecutableTarget goExe, LineConsumer modGraphConsumer) throws ExecutableRunnerException, DetectableException {
+        StreamingExecutableOutput output = executableRunner.executeStreaming(ExecutableUtils.createFromTarget(directory, goExe, "mod", "graph"), modGraphConsumer, LineConsumer.discard());
+        if (output.getReturnCode() != 0) {
+            throw new DetectableException(FAILURE_MSG_QUERYING_FOR_THE_GO_MOD_GRAPH + output.getReturnCode());
+        }
     }
 
     List<String> generateGoModWhyOutput(File directory, ExecutableTarget goExe) {
@@ -0,0 +1,70 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+
+// Collects 'go mod graph' output as it streams in. Only each distinct module text and the edges between them (as module indexes) are kept, not the lines.
+// Modules are parsed later, once the replacements from 'go list' are known.
+public class GoModGraphCollector implements LineConsumer {
+    private static final int INITIAL_EDGE_CAPACITY = 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Map<String, Integer> moduleIndexes = new HashMap<>();
+    private final List<String> modules = new ArrayList<>();
+    private int[] edges = new int[INITIAL_EDGE_CAPACITY * 2];
+    private int edgeCount = 0;
+
+    @Override
+    public void consumeLine(String line) {
+        //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
+        String[] parts = line.split(" ");
+        if (parts.length != 2) {
+            logger.warn("Unknown graph line format: {}", line);
+            return;
+        }
+        if (edgeCount * 2 == edges.length) {
+            edges = Arrays.copyOf(edges, edges.length * 2);
+        }
+        edges[edgeCount * 2] = indexOf(parts[0]);
+        edges[edgeCount * 2 + 1] = indexOf(parts[1]);
+        edgeCount++;
+    }
+
+    private int indexOf(String module) {
+        return moduleIndexes.computeIfAbsent(module, unused -> {
+            modules.add(module);
+            return modules.size() - 1;
+        });
+    }
+
+    public List<String> getModules() {
+        return modules;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int getParentIndex(int edge) {
+        return edges[edge * 2];
+    }
+
+    public int getChildIndex(int edge) {
+        return edges[edge * 2 + 1];
+    }
+}
@@ -8,13 +8,12 @@
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
@@ -22,43 +21,37 @@ import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphEdge;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphModule;
 
 public class GoModGraphParser {
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExternalIdFactory externalIdFactory;
 
     public GoModGraphParser(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
-    DependencyGraph parseGoModGraph(List<String> goModGraph, String rootModule, Set<String> moduleExclusionList) {
+    DependencyGraph parseGoModGraph(List<GoModGraphEdge> goModGraph, String rootModule, Set<String> moduleExclusionList, Map<GoModGraphModule, Dependency> dependencies) {
         MutableDependencyGraph mutableDependencyGraph = new MutableMapDependencyGraph();
 
-        for (String line : goModGraph) {
-            //example: github.com/gomods/athens cloud.google.com/go@v0.26.0
-            addDependencyToGraph(mutableDependencyGraph, line, rootModule, moduleExclusionList);
+        for (GoModGraphEdge edge : goModGraph) {
+            addDependencyToGraph(mutableDependencyGraph, edge, rootModule, moduleExclusionList, dependencies);
         }
 
         return mutableDependencyGraph;
     }
 
-    private void addDependencyToGraph(MutableDependencyGraph mutableDependencyGraph, String line, String rootModule, Set<String> moduleExclusionList) {
-        String[] parts = line.split(" ");
-        if (parts.length != 2) {
-            logger.warn("Unknown graph line format: {}", line);
-            return;
-        }
-        String fromModule = parts[0];
-        String toModule = parts[1];
-        Dependency to = parseDependency(toModule);
+    private void addDependencyToGraph(MutableDependencyGraph mutableDependencyGraph, GoModGraphEdge edge, String rootModule, Set<String> moduleExclusionList, Map<GoModGraphModule, Dependency> dependencies) {
+        GoModGraphModule fromModule = edge.getParent();
+        Dependency to = dependencies.computeIfAbsent(edge.getChild(), this::parseDependency);
 
         Predicate<String> includeModule = moduleName -> !moduleExclusionList.contains(moduleName);
         boolean includeToDependency = includeModule.test(to.getName());
-        boolean addToRoot = rootModule.equals(fromModule) && includeToDependency;
+        boolean addToRoot = !fromModule.getVersion().isPresent() && rootModule.equals(fromModule.getName()) && includeToDependency;
         if (addToRoot) {
             mutableDependencyGraph.addChildToRoot(to);
         } else {
-            Dependency from = parseDependency(fromModule);
+            Dependency from = dependencies.computeIfAbsent(fromModule, this::parseDependency);
             boolean includeFromDependency = includeModule.test(from.getName());
             boolean addChildToParent = includeToDependency && includeFromDependency;
             if (addChildToParent) {
@@ -67,30 +60,25 @@ public class GoModGraphParser {
         }
     }
 
-    private Dependency parseDependency(String dependencyPart) {
-        if (dependencyPart.contains("@")) {
-            String[] parts = dependencyPart.split("@");
-            if (parts.length != 2) {
-                logger.warn("Unknown graph dependency format, using entire line as name: {}", dependencyPart);
-                return new Dependency(dependencyPart, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, dependencyPart, null));
-            } else {
-                String name = parts[0];
-                String version = parts[1];
-                if (version.contains("-")) { //The KB only supports the git hash, unfortunately we must strip out the rest. This gets just the commit has from a go.mod psuedo version.
-                    String[] versionPieces = version.split("-");
-                    version = versionPieces[versionPieces.length - 1];
-                }
-                return new Dependency(name, version, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, name, version));
+    private Dependency parseDependency(GoModGraphModule module) {
+        String name = module.getName();
+        if (module.getVersion().isPresent()) {
+            String version = module.getVersion().get();
+            if (version.contains("-")) { //The KB only supports the git hash, unfortunately we must strip out the rest. This gets just the commit has from a go.mod psuedo version.
+                String[] versionPieces = version.split("-");
+                version = versionPieces[versionPieces.length - 1];
             }
+            return new Dependency(name, version, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, name, version));
         } else {
-            return new Dependency(dependencyPart, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, dependencyPart, null));
+            return new Dependency(name, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, name, null));
         }
     }
 
-    public List<CodeLocation> parseListAndGoModGraph(List<String> listOutput, List<String> modGraphOutput, Set<String> moduleExclusionList) {
+    public List<CodeLocation> parseListAndGoModGraph(List<String> listOutput, List<GoModGraphEdge> modGraph, Set<String> moduleExclusionList) {
         List<CodeLocation> codeLocations = new ArrayList<>();
+        Map<GoModGraphModule, Dependency> dependencies = new HashMap<>();
         for (String module : listOutput) {
-            DependencyGraph graph = parseGoModGraph(modGraphOutput, module, moduleExclusionList);
+            DependencyGraph graph = parseGoModGraph(modGraph, module, moduleExclusionList, dependencies);
             codeLocations.add(new CodeLocation(graph, externalIdFactory.createNameVersionExternalId(Forge.GOLANG, module, null)));
         }
         return codeLocations;
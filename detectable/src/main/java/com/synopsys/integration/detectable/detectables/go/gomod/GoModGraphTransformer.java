@@ -7,43 +7,57 @@
  */
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphEdge;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphModule;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModReplacement;
 
+// Turns 'go mod graph' output into edges, applying replacements to each distinct module as it is parsed.
 public class GoModGraphTransformer {
-    private ReplacementDataExtractor replacementDataExtractor;
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ReplacementDataExtractor replacementDataExtractor;
 
     public GoModGraphTransformer(final ReplacementDataExtractor replacementDataExtractor) {
         this.replacementDataExtractor = replacementDataExtractor;
     }
 
-    List<String> transformGoModGraphOutput(List<String> modGraphOutput, List<String> listUJsonOutput) throws DetectableException {
-        if (!listUJsonOutput.isEmpty()) {
-            Map<String, String> replacementData = replacementDataExtractor.extractReplacementData(listUJsonOutput);
+    public List<GoModGraphEdge> transformGoModGraph(GoModGraphCollector goModGraphCollector, List<String> listJsonOutput) throws DetectableException {
+        Map<String, GoModReplacement> replacements = listJsonOutput.isEmpty() ? Collections.emptyMap() : replacementDataExtractor.extractReplacementsByPath(listJsonOutput);
+        // The same module appears on many lines, each distinct text is only parsed once.
+        List<GoModGraphModule> parsedModules = new ArrayList<>(goModGraphCollector.getModules().size());
+        for (String module : goModGraphCollector.getModules()) {
+            parsedModules.add(parseModule(module, replacements));
+        }
+        List<GoModGraphEdge> edges = new ArrayList<>(goModGraphCollector.getEdgeCount());
+        for (int edge = 0; edge < goModGraphCollector.getEdgeCount(); edge++) {
+            edges.add(new GoModGraphEdge(parsedModules.get(goModGraphCollector.getParentIndex(edge)), parsedModules.get(goModGraphCollector.getChildIndex(edge))));
+        }
+        return edges;
+    }
 
-            for (String line : modGraphOutput) {
-                int indexOfLine = modGraphOutput.indexOf(line);
-                boolean hasBeenModified = false;
-                for (Map.Entry<String, String> replacement : replacementData.entrySet()) {
-                    String newLine;
-                    boolean shouldModify;
-                    if (hasBeenModified) {
-                        newLine = modGraphOutput.get(indexOfLine).replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !modGraphOutput.get(indexOfLine).equals(newLine);
-                    } else {
-                        newLine = line.replace(replacement.getKey(), replacement.getValue());
-                        shouldModify = !line.equals(newLine);
-                    }
-                    if (shouldModify) {
-                        modGraphOutput.set(indexOfLine, newLine);
-                        hasBeenModified = true;
-                    }
-                }
+    private GoModGraphModule parseModule(String module, Map<String, GoModReplacement> replacements) {
+        String[] parts = module.split("@");
+        if (parts.length != 2) {
+            if (module.contains("@")) {
+                logger.warn("Unknown graph dependency format, using entire line as name: {}", module);
             }
+            return new GoModGraphModule(module, null);
+        }
+        String name = parts[0];
+        String version = parts[1];
+        GoModReplacement replacement = replacements.get(name);
+        // A replacement by a local directory has no version, the required version is kept.
+        if (replacement != null && version.equals(replacement.getOriginalVersion()) && replacement.getReplacementVersion() != null) {
+            version = replacement.getReplacementVersion();
         }
-        return modGraphOutput;
+        return new GoModGraphModule(name, version);
     }
-
 }
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detectable.detectables.go.gomod;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +16,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.GoListUJsonData;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModReplacement;
 import com.synopsys.integration.detectable.detectables.go.gomod.model.ReplaceData;
 
 public class ReplacementDataExtractor {
@@ -25,24 +27,27 @@ public class ReplacementDataExtractor {
         this.gson = gson;
     }
 
-    public Map<String, String> extractReplacementData(List<String> listUJsonOutput) throws DetectableException {
+    // Keyed by module path so graph edges can be checked with a single lookup.
+    public Map<String, GoModReplacement> extractReplacementsByPath(List<String> listUJsonOutput) throws DetectableException {
+        Map<String, GoModReplacement> replacements = new HashMap<>();
+        for (GoListUJsonData data : parseListUJsonOutput(listUJsonOutput)) {
+            ReplaceData replace = data.getReplace();
+            if (replace != null) {
+                replacements.put(data.getPath(), new GoModReplacement(data.getVersion(), replace.getVersion()));
+            }
+        }
+        return replacements;
+    }
+
+    private List<GoListUJsonData> parseListUJsonOutput(List<String> listUJsonOutput) throws DetectableException {
         // Similar to Extractor A in that we're going to delegate parsing to Gson, but we're only going to convert elements one at a time
-        Map<String, String> replacementData = new HashMap<>();
+        List<GoListUJsonData> entries = new ArrayList<>();
         StringBuilder rawEntry = new StringBuilder();
         for (String line : listUJsonOutput) {
             rawEntry.append(line);
             if (line.startsWith("}")) {
                 try {
-                    GoListUJsonData data = gson.fromJson(rawEntry.toString(), GoListUJsonData.class);
-
-                    ReplaceData replace = data.getReplace();
-                    if (replace != null) {
-                        String path = data.getPath();
-                        String originalVersion = data.getVersion();
-                        String replaceVersion = replace.getVersion();
-                        replacementData.put(String.format("%s@%s", path, originalVersion), String.format("%s@%s", path, replaceVersion));
-                    }
-
+                    entries.add(gson.fromJson(rawEntry.toString(), GoListUJsonData.class));
                     // Reset to accumulate a new entry
                     rawEntry = new StringBuilder();
                 } catch (JsonSyntaxException e) {
@@ -50,6 +55,6 @@ public class ReplacementDataExtractor {
                 }
             }
         }
-        return replacementData;
+        return entries;
     }
 }
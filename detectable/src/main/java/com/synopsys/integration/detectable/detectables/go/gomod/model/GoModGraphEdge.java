@@ -0,0 +1,26 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.model;
+
+public class GoModGraphEdge {
+    private final GoModGraphModule parent;
+    private final GoModGraphModule child;
+
+    public GoModGraphEdge(GoModGraphModule parent, GoModGraphModule child) {
+        this.parent = parent;
+        this.child = child;
+    }
+
+    public GoModGraphModule getParent() {
+        return parent;
+    }
+
+    public GoModGraphModule getChild() {
+        return child;
+    }
+}
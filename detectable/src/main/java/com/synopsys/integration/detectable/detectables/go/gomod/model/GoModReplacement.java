@@ -0,0 +1,33 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.go.gomod.model;
+
+import org.jetbrains.annotations.Nullable;
+
+// The version 'go list -m -u -json all' selected for a module path and the version it is replaced with.
+public class GoModReplacement {
+    @Nullable
+    private final String originalVersion;
+    @Nullable
+    private final String replacementVersion;
+
+    public GoModReplacement(@Nullable String originalVersion, @Nullable String replacementVersion) {
+        this.originalVersion = originalVersion;
+        this.replacementVersion = replacementVersion;
+    }
+
+    @Nullable
+    public String getOriginalVersion() {
+        return originalVersion;
+    }
+
+    @Nullable
+    public String getReplacementVersion() {
+        return replacementVersion;
+    }
+}
@@ -10,8 +10,16 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -30,6 +38,8 @@ import com.synopsys.integration.rest.proxy.ProxyInfo;
 import com.synopsys.integration.util.NameVersion;
 
 public class GradleInspectorExtractor {
+    private static final long REPORT_POLL_INTERVAL_MILLIS = 250;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final FileFinder fileFinder;
@@ -49,33 +59,41 @@ public class GradleInspectorExtractor {
     }
 
     public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) throws ExecutableFailedException {
+        return extract(directory, gradleExe, gradleCommand, proxyInfo, gradleInspector, outputDirectory, 1);
+    }
+
+    public Extraction extract(File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory, int reportThreads)
+        throws ExecutableFailedException {
+        ExecutorService gradleExecutor = null;
+        ExecutorService reportExecutor = null;
         try {
             ToolVersionLogger.log(gradleRunner.getExecutableRunner(), directory, gradleExe);
-            gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
 
-            File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
-            List<File> reportFiles = fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+            List<CodeLocation> codeLocations;
+            if (reportThreads > 1) {
+                gradleExecutor = Executors.newSingleThreadExecutor();
+                reportExecutor = Executors.newFixedThreadPool(reportThreads);
+                Future<Void> gradleRun = runGradleDependencies(gradleExecutor, directory, gradleExe, gradleCommand, proxyInfo, gradleInspector, outputDirectory);
+                codeLocations = parseReportsWhileGradleRuns(gradleRun, reportExecutor, outputDirectory);
+            } else {
+                gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+                codeLocations = new ArrayList<>();
+                for (File reportFile : findReportFiles(outputDirectory)) {
+                    parseReport(reportFile).ifPresent(codeLocations::add);
+                }
+            }
 
-            List<CodeLocation> codeLocations = new ArrayList<>();
             String projectName = null;
             String projectVersion = null;
-            if (reportFiles != null) {
-                reportFiles.stream()
-                    .map(gradleReportParser::parseReport)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(gradleReportTransformer::transform)
-                    .forEach(codeLocations::add);
-
-                if (rootProjectMetadataFile != null) {
-                    Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
-                    if (projectNameVersion.isPresent()) {
-                        projectName = projectNameVersion.get().getName();
-                        projectVersion = projectNameVersion.get().getVersion();
-                    }
-                } else {
-                    logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
+            File rootProjectMetadataFile = fileFinder.findFile(outputDirectory, "rootProjectMetadata.txt");
+            if (rootProjectMetadataFile != null) {
+                Optional<NameVersion> projectNameVersion = gradleRootMetadataParser.parseRootProjectNameVersion(rootProjectMetadataFile);
+                if (projectNameVersion.isPresent()) {
+                    projectName = projectNameVersion.get().getName();
+                    projectVersion = projectNameVersion.get().getVersion();
                 }
+            } else {
+                logger.warn("Gradle inspector did not create a meta data report so no project version information was found.");
             }
 
             return new Extraction.Builder()
@@ -85,7 +103,106 @@ public class GradleInspectorExtractor {
                        .build();
         } catch (IOException e) {
             return new Extraction.Builder().exception(e).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Extraction.Builder().exception(e).build();
+        } finally {
+            if (gradleExecutor != null) {
+                gradleExecutor.shutdownNow();
+            }
+            if (reportExecutor != null) {
+                reportExecutor.shutdownNow();
+            }
         }
     }
 
+    private Future<Void> runGradleDependencies(ExecutorService gradleExecutor, File directory, ExecutableTarget gradleExe, @Nullable String gradleCommand, ProxyInfo proxyInfo, File gradleInspector, File outputDirectory) {
+        return gradleExecutor.submit(() -> {
+            gradleRunner.runGradleDependencies(directory, gradleExe, gradleInspector, gradleCommand, proxyInfo, outputDirectory);
+            return null;
+        });
+    }
+
+    // The init script appends the meta data to a report once the project's dependencies task finishes, so complete reports are parsed while gradle moves on to the remaining projects.
+    private List<CodeLocation> parseReportsWhileGradleRuns(Future<Void> gradleRun, ExecutorService reportExecutor, File outputDirectory)
+        throws IOException, ExecutableFailedException, InterruptedException {
+        Map<File, SubmittedReport> submittedReports = new HashMap<>();
+        while (!awaitGradle(gradleRun, REPORT_POLL_INTERVAL_MILLIS)) {
+            for (File reportFile : findReportFiles(outputDirectory)) {
+                if (!submittedReports.containsKey(reportFile) && gradleReportParser.isReportComplete(reportFile)) {
+                    submittedReports.put(reportFile, submitReport(reportExecutor, reportFile));
+                }
+            }
+        }
+
+        List<Future<Optional<CodeLocation>>> reportParses = new ArrayList<>();
+        for (File reportFile : findReportFiles(outputDirectory)) {
+            SubmittedReport submittedReport = submittedReports.get(reportFile);
+            if (submittedReport == null || submittedReport.lastModified != reportFile.lastModified()) {
+                // Either gradle finished before this report was picked up or a project with the same name rewrote it.
+                submittedReport = submitReport(reportExecutor, reportFile);
+            }
+            reportParses.add(submittedReport.parse);
+        }
+
+        List<CodeLocation> codeLocations = new ArrayList<>();
+        for (Future<Optional<CodeLocation>> reportParse : reportParses) {
+            awaitReport(reportParse).ifPresent(codeLocations::add);
+        }
+        return codeLocations;
+    }
+
+    private SubmittedReport submitReport(ExecutorService reportExecutor, File reportFile) {
+        long lastModified = reportFile.lastModified();
+        return new SubmittedReport(lastModified, reportExecutor.submit(() -> parseReport(reportFile)));
+    }
+
+    private Optional<CodeLocation> parseReport(File reportFile) {
+        return gradleReportParser.parseAndTransformReport(reportFile, gradleReportTransformer);
+    }
+
+    private List<File> findReportFiles(File outputDirectory) {
+        return fileFinder.findFiles(outputDirectory, "*_dependencyGraph.txt");
+    }
+
+    private boolean awaitGradle(Future<Void> gradleRun, long timeoutMillis) throws IOException, ExecutableFailedException, InterruptedException {
+        try {
+            gradleRun.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof ExecutableFailedException) {
+                throw (ExecutableFailedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to run the gradle dependencies task.", cause);
+        }
+    }
+
+    private Optional<CodeLocation> awaitReport(Future<Optional<CodeLocation>> reportParse) throws InterruptedException {
+        try {
+            return reportParse.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Failed to parse a gradle dependency report.", cause);
+        }
+    }
+
+    private static class SubmittedReport {
+        private final long lastModified;
+        private final Future<Optional<CodeLocation>> parse;
+
+        private SubmittedReport(long lastModified, Future<Optional<CodeLocation>> parse) {
+            this.lastModified = lastModified;
+            this.parse = parse;
+        }
+    }
 }
@@ -16,11 +16,17 @@ public class GradleInspectorOptions {
     private final String gradleBuildCommand;
     private final GradleInspectorScriptOptions gradleInspectorScriptOptions;
     private final ProxyInfo proxyInfo;
+    private final int reportThreads;
 
     public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo) {
+        this(gradleBuildCommand, gradleInspectorScriptOptions, proxyInfo, 1);
+    }
+
+    public GradleInspectorOptions(final String gradleBuildCommand, final GradleInspectorScriptOptions gradleInspectorScriptOptions, final ProxyInfo proxyInfo, final int reportThreads) {
         this.gradleBuildCommand = gradleBuildCommand;
         this.gradleInspectorScriptOptions = gradleInspectorScriptOptions;
         this.proxyInfo = proxyInfo;
+        this.reportThreads = reportThreads;
     }
 
     public Optional<String> getGradleBuildCommand() {
@@ -34,4 +40,8 @@ public class GradleInspectorOptions {
     public ProxyInfo getproxyInfo() {
         return proxyInfo;
     }
+
+    public int getReportThreads() {
+        return reportThreads;
+    }
 }
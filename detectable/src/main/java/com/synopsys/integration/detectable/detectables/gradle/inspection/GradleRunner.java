@@ -20,6 +20,7 @@ import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
 import com.synopsys.integration.rest.proxy.ProxyInfo;
 
 public class GradleRunner {
@@ -55,7 +56,8 @@ public class GradleRunner {
             arguments.add("-Dhttps.proxyPort=" + proxyInfo.getPort());
         }
 
-        executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, gradleExe, arguments));
+        // The dependencies are written to the extraction directory by the init script, the --info output is only logged so it is streamed rather than held.
+        executableRunner.executeStreamingSuccessfully(ExecutableUtils.createFromTarget(directory, gradleExe, arguments), LineConsumer.discard(), LineConsumer.discard());
     }
 
     public DetectableExecutableRunner getExecutableRunner() {
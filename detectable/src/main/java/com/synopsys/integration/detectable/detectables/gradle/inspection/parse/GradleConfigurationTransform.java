@@ -0,0 +1,57 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
+
+import java.util.Optional;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.util.DependencyHistory;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
+
+// Adds the nodes of a single configuration to the graph one at a time, so a configuration can be transformed while its report is still being read.
+public class GradleConfigurationTransform {
+    private final ExternalIdFactory externalIdFactory;
+    private final MutableDependencyGraph graph;
+    private final DependencyHistory history = new DependencyHistory();
+    private Optional<Integer> skipUntil = Optional.empty();
+
+    public GradleConfigurationTransform(ExternalIdFactory externalIdFactory, MutableDependencyGraph graph) {
+        this.externalIdFactory = externalIdFactory;
+        this.graph = graph;
+    }
+
+    public void addNode(GradleTreeNode currentNode) {
+        if (skipUntil.isPresent() && currentNode.getLevel() <= skipUntil.get()) {
+            skipUntil = Optional.empty();
+        } else if (skipUntil.isPresent()) {
+            return;
+        }
+
+        history.clearDependenciesDeeperThan(currentNode.getLevel());
+        Optional<GradleGav> currentGav = currentNode.getGav();
+        if (currentNode.getNodeType() != GradleTreeNode.NodeType.GAV || !currentGav.isPresent()) {
+            skipUntil = Optional.of(currentNode.getLevel());
+            return;
+        }
+
+        GradleGav gav = currentGav.get();
+        ExternalId externalId = externalIdFactory.createMavenExternalId(gav.getName(), gav.getGroup(), gav.getVersion());
+        Dependency currentDependency = new Dependency(gav.getGroup(), gav.getVersion(), externalId);
+
+        if (history.isEmpty()) {
+            graph.addChildToRoot(currentDependency);
+        } else {
+            graph.addChildWithParents(currentDependency, history.getLastDependency());
+        }
+        history.add(currentDependency);
+    }
+}
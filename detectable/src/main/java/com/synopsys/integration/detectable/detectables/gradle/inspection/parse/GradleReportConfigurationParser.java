@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
 
 public class GradleReportConfigurationParser {
     private final GradleReportLineParser parser = new GradleReportLineParser();
@@ -21,13 +22,17 @@ public class GradleReportConfigurationParser {
         configuration.setName(parseConfigurationName(header));
 
         configuration.setChildren(dependencyLines.stream()
-                                      .map(parser::parseLine)
+                                      .map(this::parseDependencyLine)
                                       .collect(Collectors.toList()));
 
         return configuration;
     }
 
-    private String parseConfigurationName(final String header) {
+    public GradleTreeNode parseDependencyLine(final String dependencyLine) {
+        return parser.parseLine(dependencyLine);
+    }
+
+    public String parseConfigurationName(final String header) {
         if (header.contains(" - ")) {
             return header.substring(0, header.indexOf(" - ")).trim();
         } else {
@@ -10,20 +10,25 @@ package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
 
 public class GradleReportParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -36,16 +41,55 @@ public class GradleReportParser {
     public static final String ROOT_PROJECT_VERSION_PREFIX = "rootProjectVersion:";
     public static final String DETECT_META_DATA_HEADER = "DETECT META DATA START";
     public static final String DETECT_META_DATA_FOOTER = "DETECT META DATA END";
+    private static final int REPORT_TAIL_LENGTH = 64;
 
     private final GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
 
     public Optional<GradleReport> parseReport(final File reportFile) {
-        GradleReport gradleReport = new GradleReport();
+        final GradleReport gradleReport = new GradleReport();
+        final boolean parsed = readReport(reportFile, gradleReport, configurationName -> {
+            final GradleConfiguration configuration = new GradleConfiguration();
+            configuration.setName(configurationName);
+            gradleReport.getConfigurations().add(configuration);
+            return configuration.getChildren()::add;
+        });
+
+        return parsed ? Optional.of(gradleReport) : Optional.empty();
+    }
+
+    // Each configuration is added to the graph line by line as the report is read rather than being held as a GradleReport first.
+    public Optional<CodeLocation> parseAndTransformReport(final File reportFile, final GradleReportTransformer gradleReportTransformer) {
+        final GradleReport gradleReport = new GradleReport();
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        final boolean parsed = readReport(reportFile, gradleReport, configurationName -> {
+            logger.trace(String.format("Adding configuration to the graph: %s", configurationName));
+            return gradleReportTransformer.createConfigurationTransform(graph)::addNode;
+        });
+
+        return parsed ? Optional.of(gradleReportTransformer.createCodeLocation(graph, gradleReport)) : Optional.empty();
+    }
+
+    // The init script appends the meta data section once the dependencies task for the project has finished writing the report.
+    public boolean isReportComplete(final File reportFile) {
+        try (final RandomAccessFile randomAccessFile = new RandomAccessFile(reportFile, "r")) {
+            final long length = randomAccessFile.length();
+            final byte[] tail = new byte[(int) Math.min(length, REPORT_TAIL_LENGTH)];
+            randomAccessFile.seek(length - tail.length);
+            randomAccessFile.readFully(tail);
+            return new String(tail, StandardCharsets.UTF_8).trim().endsWith(DETECT_META_DATA_FOOTER);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private boolean readReport(final File reportFile, final GradleReport gradleReport, final Function<String, Consumer<GradleTreeNode>> configurationStarter) {
         boolean processingMetaData = false;
-        final List<String> configurationLines = new ArrayList<>();
+        String configurationHeader = null;
+        Consumer<GradleTreeNode> configurationConsumer = null;
+        boolean skippingBlock = false;
         try (final InputStream dependenciesInputStream = new FileInputStream(reportFile); final BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8))) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /*
                   The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -63,21 +107,28 @@ public class GradleReportParser {
                 }
 
                 if (StringUtils.isBlank(line)) {
-                    parseConfigurationLines(configurationLines, gradleReport);
-                    configurationLines.clear();
+                    configurationHeader = null;
+                    configurationConsumer = null;
+                    skippingBlock = false;
+                } else if (configurationConsumer != null) {
+                    configurationConsumer.accept(gradleReportConfigurationParser.parseDependencyLine(line));
+                } else if (skippingBlock) {
+                    logger.trace(String.format("Skipping line outside of a configuration: %s", line));
+                } else if (configurationHeader == null) {
+                    configurationHeader = line;
+                } else if (isConfigurationHeader(configurationHeader)) {
+                    configurationConsumer = configurationStarter.apply(gradleReportConfigurationParser.parseConfigurationName(configurationHeader));
+                    configurationConsumer.accept(gradleReportConfigurationParser.parseDependencyLine(line));
                 } else {
-                    configurationLines.add(line);
+                    skippingBlock = true;
                 }
-
             }
-
-            parseConfigurationLines(configurationLines, gradleReport);
         } catch (final Exception e) {
             logger.debug(String.format("Failed to read report file: %s", reportFile.getAbsolutePath()), e);
-            gradleReport = null;
+            return false;
         }
 
-        return Optional.ofNullable(gradleReport);
+        return true;
     }
 
     private void setGradleReportInfo(GradleReport gradleReport, String line) {
@@ -92,20 +143,11 @@ public class GradleReportParser {
         }
     }
 
-    private void parseConfigurationLines(final List<String> configurationLines, final GradleReport gradleReport) {
-        if (configurationLines.size() > 1 && isConfigurationHeader(configurationLines)) {
-            final String header = configurationLines.get(0);
-            final List<String> dependencyTree = configurationLines.stream().skip(1).collect(Collectors.toList());
-            final GradleConfiguration configuration = gradleReportConfigurationParser.parse(header, dependencyTree);
-            gradleReport.getConfigurations().add(configuration);
-        }
-    }
-
-    private boolean isConfigurationHeader(final List<String> lines) {
-        if (lines.get(0).contains(" - ")) {
+    private boolean isConfigurationHeader(final String line) {
+        if (line.contains(" - ")) {
             return true;
         } else {
-            return StringUtils.isAlphanumeric(lines.get(0));
+            return StringUtils.isAlphanumeric(line);
         }
     }
 }
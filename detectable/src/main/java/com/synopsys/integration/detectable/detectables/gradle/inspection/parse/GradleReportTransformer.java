@@ -8,7 +8,6 @@
 package com.synopsys.integration.detectable.detectables.gradle.inspection.parse;
 
 import java.io.File;
-import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -16,15 +15,11 @@ import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
-import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
-import com.synopsys.integration.detectable.detectable.util.DependencyHistory;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleConfiguration;
-import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleGav;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleReport;
-import com.synopsys.integration.detectable.detectables.gradle.inspection.model.GradleTreeNode;
 
 //An example transform that uses our "Dependency History" class and is closer to the original Gradle implementation
 public class GradleReportTransformer {
@@ -40,9 +35,18 @@ public class GradleReportTransformer {
 
         for (GradleConfiguration configuration : gradleReport.getConfigurations()) {
             logger.trace(String.format("Adding configuration to the graph: %s", configuration.getName()));
-            addConfigurationToGraph(graph, configuration);
+            GradleConfigurationTransform configurationTransform = createConfigurationTransform(graph);
+            configuration.getChildren().forEach(configurationTransform::addNode);
         }
 
+        return createCodeLocation(graph, gradleReport);
+    }
+
+    public GradleConfigurationTransform createConfigurationTransform(MutableDependencyGraph graph) {
+        return new GradleConfigurationTransform(externalIdFactory, graph);
+    }
+
+    public CodeLocation createCodeLocation(MutableDependencyGraph graph, GradleReport gradleReport) {
         ExternalId projectId = externalIdFactory.createMavenExternalId(gradleReport.getProjectGroup(), gradleReport.getProjectName(), gradleReport.getProjectVersionName());
         if (StringUtils.isNotBlank(gradleReport.getProjectSourcePath())) {
             return new CodeLocation(graph, projectId, new File(gradleReport.getProjectSourcePath()));
@@ -50,36 +54,4 @@ public class GradleReportTransformer {
             return new CodeLocation(graph, projectId);
         }
     }
-
-    private void addConfigurationToGraph(final MutableDependencyGraph graph, final GradleConfiguration configuration) {
-        final DependencyHistory history = new DependencyHistory();
-        Optional<Integer> skipUntil = Optional.empty();
-
-        for (final GradleTreeNode currentNode : configuration.getChildren()) {
-
-            if (skipUntil.isPresent() && currentNode.getLevel() <= skipUntil.get()) {
-                skipUntil = Optional.empty();
-            } else if (skipUntil.isPresent()) {
-                continue;
-            }
-
-            history.clearDependenciesDeeperThan(currentNode.getLevel());
-            if (currentNode.getNodeType() != GradleTreeNode.NodeType.GAV) {
-                skipUntil = Optional.of(currentNode.getLevel());
-                continue;
-            }
-
-            final GradleGav gav = currentNode.getGav().get(); // TODO: Why are we not doing an isPresent() check here?
-            final ExternalId externalId = externalIdFactory.createMavenExternalId(gav.getName(), gav.getGroup(), gav.getVersion());
-            final Dependency currentDependency = new Dependency(gav.getGroup(), gav.getVersion(), externalId);
-
-            if (history.isEmpty()) {
-                graph.addChildToRoot(currentDependency);
-            } else {
-                graph.addChildWithParents(currentDependency, history.getLastDependency());
-            }
-            history.add(currentDependency);
-        }
-
-    }
 }
@@ -13,11 +13,17 @@ public class LernaOptions {
     private final boolean includePrivatePackages;
     private List<String> excludedPackages;
     private List<String> includedPackages;
+    private final int packageThreads;
 
     public LernaOptions(boolean includePrivatePackages, List<String> excludedPackages, List<String> includedPackages) {
+        this(includePrivatePackages, excludedPackages, includedPackages, 1);
+    }
+
+    public LernaOptions(boolean includePrivatePackages, List<String> excludedPackages, List<String> includedPackages, int packageThreads) {
         this.includePrivatePackages = includePrivatePackages;
         this.excludedPackages = excludedPackages;
         this.includedPackages = includedPackages;
+        this.packageThreads = packageThreads;
     }
 
     public boolean shouldIncludePrivatePackages() {
@@ -31,4 +37,8 @@ public class LernaOptions {
     public List<String> getIncludedPackages() {
         return includedPackages;
     }
+
+    public int getPackageThreads() {
+        return packageThreads;
+    }
 }
@@ -10,10 +10,15 @@ package com.synopsys.integration.detectable.detectables.lerna;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
@@ -21,12 +26,14 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.lerna.lockfile.LernaLockFileResult;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaPackage;
 import com.synopsys.integration.detectable.detectables.lerna.model.LernaResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmParseResult;
 import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
 import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
@@ -73,9 +80,12 @@ public class LernaPackager {
                                                  .map(lernaPackage -> new NameVersion(lernaPackage.getName(), lernaPackage.getVersion()))
                                                  .collect(Collectors.toList());
 
+        List<LernaResult> lernaResults = extractPackages(lernaPackages, externalPackages, rootLockFile);
+
         List<CodeLocation> codeLocations = new ArrayList<>(rootLernaResult.getCodeLocations());
-        for (LernaPackage lernaPackage : lernaPackages) {
-            LernaResult lernaResult = extractPackage(lernaPackage, externalPackages, rootLockFile);
+        for (int i = 0; i < lernaPackages.size(); i++) {
+            LernaPackage lernaPackage = lernaPackages.get(i);
+            LernaResult lernaResult = lernaResults.get(i);
             if (lernaResult != null) {
                 if (lernaResult.isSuccess()) {
                     lernaResult.getCodeLocations().stream()
@@ -92,6 +102,32 @@ public class LernaPackager {
         return LernaResult.success(rootLernaResult.getProjectName(), rootLernaResult.getProjectVersionName(), codeLocations);
     }
 
+    // Results are returned in package order so code locations stay deterministic no matter how many threads resolve them.
+    private List<LernaResult> extractPackages(List<LernaPackage> lernaPackages, List<NameVersion> externalPackages, LernaLockFileResult rootLockFile) {
+        int packageThreads = Math.min(lernaOptions.getPackageThreads(), lernaPackages.size());
+        List<LernaResult> lernaResults = new ArrayList<>(lernaPackages.size());
+        if (packageThreads <= 1) {
+            for (LernaPackage lernaPackage : lernaPackages) {
+                lernaResults.add(extractPackage(lernaPackage, externalPackages, rootLockFile));
+            }
+            return lernaResults;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(packageThreads);
+        try {
+            List<Future<LernaResult>> futures = new ArrayList<>(lernaPackages.size());
+            for (LernaPackage lernaPackage : lernaPackages) {
+                futures.add(FutureTasks.run(executorService, () -> extractPackage(lernaPackage, externalPackages, rootLockFile)));
+            }
+            return FutureTasks.awaitAll(futures, IllegalStateException::new);
+        } catch (InterruptedException e) {
+            // The packages that were still running have been cancelled, so none of them is reported as extracted.
+            return Collections.nCopies(lernaPackages.size(), LernaResult.failure(e));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private @Nullable LernaResult extractPackage(LernaPackage lernaPackage, List<NameVersion> externalPackages, LernaLockFileResult rootLockFile) {
         String lernaPackageDetails = String.format("%s:%s at %s", lernaPackage.getName(), lernaPackage.getVersion(), lernaPackage.getLocation());
 
@@ -121,15 +157,15 @@ public class LernaPackager {
         try {
             File packageLockJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.PACKAGE_LOCK_JSON);
             if (packageLockJsonFile != null) {
-                return LernaLockFileResult.foundNpm(FileUtils.readFileToString(packageLockJsonFile, StandardCharsets.UTF_8));
+                return LernaLockFileResult.foundNpm(readPackageLock(packageLockJsonFile));
             }
             File shrinkwrapJsonFile = fileFinder.findFile(searchDirectory, LernaDetectable.SHRINKWRAP_JSON);
             if (shrinkwrapJsonFile != null) {
-                return LernaLockFileResult.foundNpm(FileUtils.readFileToString(shrinkwrapJsonFile, StandardCharsets.UTF_8));
+                return LernaLockFileResult.foundNpm(readPackageLock(shrinkwrapJsonFile));
             }
             File yarnLockFile = fileFinder.findFile(searchDirectory, LernaDetectable.YARN_LOCK);
             if (yarnLockFile != null) {
-                return LernaLockFileResult.foundYarn(FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8));
+                return LernaLockFileResult.foundYarn(readYarnLock(yarnLockFile));
             }
 
             return LernaLockFileResult.foundNone();
@@ -138,6 +174,18 @@ public class LernaPackager {
         }
     }
 
+    private PackageLock readPackageLock(File lockFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(lockFile.toPath(), StandardCharsets.UTF_8)) {
+            return npmLockfileParser.readPackageLock(reader);
+        }
+    }
+
+    private YarnLock readYarnLock(File lockFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(lockFile.toPath(), StandardCharsets.UTF_8)) {
+            return yarnLockParser.parseYarnLock(reader);
+        }
+    }
+
     private LernaResult parse(File directory, File packageJson, LernaLockFileResult lockFile, List<NameVersion> externalPackages) {
         String packageJsonContents;
         try {
@@ -146,13 +194,13 @@ public class LernaPackager {
             return LernaResult.failure(e);
         }
 
-        if (lockFile.getNpmLockContents().isPresent()) {
+        if (lockFile.getNpmLock().isPresent()) {
             //TODO: What if the NPM result is FAILED?
             NpmParseResult npmParseResult = npmLockfileParser
-                                                .parse(packageJsonContents, lockFile.getNpmLockContents().get(), npmLockfileOptions.shouldIncludeDeveloperDependencies(), externalPackages);
+                                                .parse(packageJsonContents, lockFile.getNpmLock().get(), npmLockfileOptions.shouldIncludeDeveloperDependencies(), externalPackages);
             return LernaResult.success(npmParseResult.getProjectName(), npmParseResult.getProjectVersion(), Collections.singletonList(npmParseResult.getCodeLocation()));
-        } else if (lockFile.getYarnLockContents().isPresent()) {
-            YarnLock yarnLock = yarnLockParser.parseYarnLock(lockFile.getYarnLockContents().get());
+        } else if (lockFile.getYarnLock().isPresent()) {
+            YarnLock yarnLock = lockFile.getYarnLock().get();
             NullSafePackageJson rootPackageJson = packageJsonReader.read(packageJsonContents);
             YarnResult yarnResult = yarnPackager
                                         .generateCodeLocation(rootPackageJson, YarnWorkspaces.EMPTY, yarnLock, externalPackages, yarnLockOptions.useProductionOnly(), false, ExcludedIncludedWildcardFilter.EMPTY);
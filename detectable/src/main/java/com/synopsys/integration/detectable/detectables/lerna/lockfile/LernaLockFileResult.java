@@ -7,42 +7,45 @@
  */
 package com.synopsys.integration.detectable.detectables.lerna.lockfile;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+
+// Holds an already parsed lock file so the root lock file is parsed once and shared by every package that has no lock file of its own.
 public class LernaLockFileResult {
-    private final String npmLockContents;
-    private final List<String> yarnLockContents;
+    private final PackageLock npmLock;
+    private final YarnLock yarnLock;
 
-    private LernaLockFileResult(@Nullable String npmLockContents, @Nullable List<String> yarnLockContents) {
-        this.npmLockContents = npmLockContents;
-        this.yarnLockContents = yarnLockContents;
+    private LernaLockFileResult(@Nullable PackageLock npmLock, @Nullable YarnLock yarnLock) {
+        this.npmLock = npmLock;
+        this.yarnLock = yarnLock;
     }
 
-    public static LernaLockFileResult foundNpm(@NotNull String npmLockFile) {
-        return new LernaLockFileResult(npmLockFile, null);
+    public static LernaLockFileResult foundNpm(@NotNull PackageLock npmLock) {
+        return new LernaLockFileResult(npmLock, null);
     }
 
-    public static LernaLockFileResult foundYarn(@NotNull List<String> yarnLockFile) {
-        return new LernaLockFileResult(null, yarnLockFile);
+    public static LernaLockFileResult foundYarn(@NotNull YarnLock yarnLock) {
+        return new LernaLockFileResult(null, yarnLock);
     }
 
     public static LernaLockFileResult foundNone() {
         return new LernaLockFileResult(null, null);
     }
 
-    public Optional<String> getNpmLockContents() {
-        return Optional.ofNullable(npmLockContents);
+    public Optional<PackageLock> getNpmLock() {
+        return Optional.ofNullable(npmLock);
     }
 
-    public Optional<List<String>> getYarnLockContents() {
-        return Optional.ofNullable(yarnLockContents);
+    public Optional<YarnLock> getYarnLock() {
+        return Optional.ofNullable(yarnLock);
     }
 
     public boolean hasLockFile() {
-        return getNpmLockContents().isPresent() || getYarnLockContents().isPresent();
+        return getNpmLock().isPresent() || getYarnLock().isPresent();
     }
 }
@@ -21,9 +21,9 @@ import com.synopsys.integration.detectable.ExecutableUtils;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.util.ToolVersionLogger;
-import com.synopsys.integration.executable.ExecutableOutput;
 
 public class MavenCliExtractor {
     private final DetectableExecutableRunner executableRunner;
@@ -46,14 +46,14 @@ public class MavenCliExtractor {
         commandArguments.add("dependency:tree");
         commandArguments.add("-T1"); // Force maven to use a single thread to ensure the tree output is in the correct order.
 
-        ExecutableOutput mvnExecutableResult = executableRunner.executeSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments));
-
-        List<String> mavenOutput = mvnExecutableResult.getStandardOutputAsList();
         List<String> excludedScopes = mavenCliExtractorOptions.getMavenExcludedScopes();
         List<String> includedScopes = mavenCliExtractorOptions.getMavenIncludedScopes();
         List<String> excludedModules = mavenCliExtractorOptions.getMavenExcludedModules();
         List<String> includedModules = mavenCliExtractorOptions.getMavenIncludedModules();
-        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mavenOutput, excludedScopes, includedScopes, excludedModules, includedModules);
+        // The tree is parsed as maven prints it, the full output of a large build is never held in memory.
+        mavenCodeLocationPackager.startParsing(directory.toString(), excludedScopes, includedScopes, excludedModules, includedModules);
+        executableRunner.executeStreamingSuccessfully(ExecutableUtils.createFromTarget(directory, mavenExe, commandArguments), mavenCodeLocationPackager::parseLine, LineConsumer.discard());
+        List<MavenParseResult> mavenResults = mavenCodeLocationPackager.finishParsing();
 
         List<CodeLocation> codeLocations = Bds.of(mavenResults)
                                                .map(MavenParseResult::getCodeLocation)
@@ -49,6 +49,9 @@ public class MavenCodeLocationPackager {
     private int level;
     private boolean inOutOfScopeTree = false;
     private MutableDependencyGraph currentGraph = null;
+    private String sourcePath;
+    private ExcludedIncludedWildcardFilter modulesFilter;
+    private ExcludedIncludedWildcardFilter scopeFilter;
 
     public MavenCodeLocationPackager(ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
@@ -56,8 +59,18 @@ public class MavenCodeLocationPackager {
 
     // mavenOutput should be the full output of mvn dependency:tree (no scope applied); scope filtering is now done by this method
     public List<MavenParseResult> extractCodeLocations(String sourcePath, List<String> mavenOutput, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
-        ExcludedIncludedWildcardFilter modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
-        ExcludedIncludedWildcardFilter scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
+        startParsing(sourcePath, excludedScopes, includedScopes, excludedModules, includedModules);
+        for (String currentLine : mavenOutput) {
+            parseLine(currentLine);
+        }
+        return finishParsing();
+    }
+
+    // The streaming form of extractCodeLocations: start, then give it each line of mvn dependency:tree output as it is read, then finish.
+    public void startParsing(String sourcePath, List<String> excludedScopes, List<String> includedScopes, List<String> excludedModules, List<String> includedModules) {
+        this.sourcePath = sourcePath;
+        modulesFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedModules, includedModules);
+        scopeFilter = ExcludedIncludedWildcardFilter.fromCollections(excludedScopes, includedScopes);
         codeLocations = new ArrayList<>();
         currentMavenProject = null;
         dependencyParentStack = new Stack<>();
@@ -65,39 +78,43 @@ public class MavenCodeLocationPackager {
         currentGraph = new MutableMapDependencyGraph();
 
         level = 0;
-        for (String currentLine : mavenOutput) {
-            String line = currentLine.trim();
+    }
 
-            if (shouldSkipLine(line)) {
-                continue;
-            }
+    public void parseLine(String currentLine) {
+        String line = currentLine.trim();
 
-            line = trimLogLevel(line);
+        if (shouldSkipLine(line)) {
+            return;
+        }
 
-            if (parsingProjectSection && currentMavenProject == null) {
-                initializeCurrentMavenProject(modulesFilter, sourcePath, line);
-                continue;
-            }
+        line = trimLogLevel(line);
 
-            boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
-            if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
-            }
+        if (parsingProjectSection && currentMavenProject == null) {
+            initializeCurrentMavenProject(modulesFilter, sourcePath, line);
+            return;
+        }
 
-            int previousLevel = level;
-            String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            ScopedDependency dependency = textToDependency(cleanedLine);
-            if (null == dependency) {
-                continue;
-            }
-            if (currentMavenProject != null) {
-                populateGraphDependencies(scopeFilter, dependency, previousLevel);
-            }
+        boolean finished = line.contains("--------") || endOfTreePattern.matcher(line).matches();
+        if (finished) {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+            level = 0;
+            return;
         }
+
+        int previousLevel = level;
+        String cleanedLine = calculateCurrentLevelAndCleanLine(line);
+        ScopedDependency dependency = textToDependency(cleanedLine);
+        if (null == dependency) {
+            return;
+        }
+        if (currentMavenProject != null) {
+            populateGraphDependencies(scopeFilter, dependency, previousLevel);
+        }
+    }
+
+    public List<MavenParseResult> finishParsing() {
         addOrphansToGraph(currentGraph, orphans);
 
         return codeLocations;
@@ -7,9 +7,12 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 
 import org.apache.commons.io.FileUtils;
 
@@ -28,14 +31,13 @@ public class NpmLockfileExtractor {
     packageJson is optional
      */
     public Extraction extract(File lockfile, File packageJson, boolean includeDevDependencies) {
-        try {
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
+        try (BufferedReader lockReader = Files.newBufferedReader(lockfile.toPath(), StandardCharsets.UTF_8)) {
             String packageText = null;
             if (packageJson != null) {
                 packageText = FileUtils.readFileToString(packageJson, StandardCharsets.UTF_8);
             }
 
-            NpmParseResult result = npmLockfileParser.parse(packageText, lockText, includeDevDependencies);
+            NpmParseResult result = npmLockfileParser.parse(packageText, lockReader, includeDevDependencies, new ArrayList<>());
 
             return new Extraction.Builder()
                        .success(result.getCodeLocation())
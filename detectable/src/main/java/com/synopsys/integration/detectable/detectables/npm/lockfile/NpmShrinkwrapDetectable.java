@@ -8,6 +8,7 @@
 package com.synopsys.integration.detectable.detectables.npm.lockfile;
 
 import java.io.File;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +22,7 @@ import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
 
 @DetectableInfo(language = "Node JS", forge = "npmjs", requirementsMarkdown = "File: npm-shrinkwrap.json. Optionally for better results: package.json also.")
 public class NpmShrinkwrapDetectable extends Detectable {
@@ -56,6 +58,15 @@ public class NpmShrinkwrapDetectable extends Detectable {
         return new PassedDetectableResult();
     }
 
+    @Override
+    public Optional<ExtractionInputs> getExtractionInputs() {
+        return Optional.of(new ExtractionInputs.Builder()
+                               .file(SHRINKWRAP_JSON, lockfile)
+                               .file(PACKAGE_JSON, packageJson)
+                               .option("includeDevDependencies", includeDevDependencies)
+                               .build());
+    }
+
     @Override
     public Extraction extract(final ExtractionEnvironment environment) {
         return npmLockfileExtractor.extract(lockfile, packageJson, includeDevDependencies);
@@ -0,0 +1,80 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.NpmProject;
+import com.synopsys.integration.util.NameVersion;
+
+// Maps every nesting scope of a lockfile to its packages by name so a lookup only walks up the depth of the tree.
+public class NpmDependencyIndex {
+    private final ExternalIdFactory externalIdFactory;
+    private final Map<NpmDependency, Map<String, NpmDependency>> nestedScopes = new IdentityHashMap<>();
+    private final Map<String, NpmDependency> projectScope;
+    private final Map<String, NameVersion> externalDependencies = new HashMap<>();
+    private final Map<String, Dependency> externalGraphDependencies = new HashMap<>();
+
+    public NpmDependencyIndex(ExternalIdFactory externalIdFactory, NpmProject project, List<NameVersion> externalDependencies) {
+        this.externalIdFactory = externalIdFactory;
+        this.projectScope = indexScope(project.getResolvedDependencies());
+        for (NameVersion externalDependency : externalDependencies) {
+            this.externalDependencies.putIfAbsent(externalDependency.getName(), externalDependency);
+        }
+    }
+
+    private Map<String, NpmDependency> indexScope(List<NpmDependency> dependencies) {
+        Map<String, NpmDependency> scope = new HashMap<>(dependencies.size() * 2);
+        for (NpmDependency dependency : dependencies) {
+            // The first package with a name wins, just as a scan of the scope would find it.
+            scope.putIfAbsent(dependency.getName(), dependency);
+            if (!dependency.getDependencies().isEmpty()) {
+                nestedScopes.put(dependency, indexScope(dependency.getDependencies()));
+            }
+        }
+        return scope;
+    }
+
+    // Returns the first dependency in the following order: directly under this dependency, under a parent, under the project, under external dependencies.
+    @Nullable
+    public Dependency lookupDependency(String name, NpmDependency npmDependency) {
+        NpmDependency scope = npmDependency;
+        while (scope != null) {
+            NpmDependency resolved = nestedScopes.getOrDefault(scope, Collections.emptyMap()).get(name);
+            if (resolved != null) {
+                return resolved.getGraphDependency();
+            }
+            scope = scope.getParent().orElse(null);
+        }
+        return lookupProjectOrExternal(name);
+    }
+
+    @Nullable
+    public Dependency lookupProjectOrExternal(String name) {
+        NpmDependency projectDependency = projectScope.get(name);
+        if (projectDependency != null) {
+            return projectDependency.getGraphDependency();
+        }
+        NameVersion externalNameVersion = externalDependencies.get(name);
+        if (externalNameVersion == null) {
+            return null;
+        }
+        return externalGraphDependencies.computeIfAbsent(name, key -> new Dependency(externalNameVersion.getName(), externalNameVersion.getVersion(),
+            externalIdFactory.createNameVersionExternalId(Forge.NPMJS, externalNameVersion.getName(), externalNameVersion.getVersion())));
+    }
+}
@@ -7,6 +7,9 @@
  */
 package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -36,6 +40,7 @@ public class NpmLockfilePackager {
     private final Logger logger = LoggerFactory.getLogger(NpmLockfilePackager.class);
     private final Gson gson;
     private final ExternalIdFactory externalIdFactory;
+    private final PackageLockReader packageLockReader = new PackageLockReader();
 
     public NpmLockfilePackager(Gson gson, ExternalIdFactory externalIdFactory) {
         this.gson = gson;
@@ -47,31 +52,47 @@ public class NpmLockfilePackager {
     }
 
     public NpmParseResult parse(@Nullable String packageJsonText, String lockFileText, boolean includeDevDependencies, List<NameVersion> externalDependencies) {
+        try {
+            return parse(packageJsonText, new StringReader(lockFileText), includeDevDependencies, externalDependencies);
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public NpmParseResult parse(@Nullable String packageJsonText, Reader lockFileReader, boolean includeDevDependencies, List<NameVersion> externalDependencies) throws IOException {
+        return parse(packageJsonText, readPackageLock(lockFileReader), includeDevDependencies, externalDependencies);
+    }
+
+    public PackageLock readPackageLock(Reader lockFileReader) throws IOException {
+        return packageLockReader.read(lockFileReader);
+    }
+
+    // The package lock is only read, so one parsed lock file can be packaged against several package.json files, even concurrently.
+    public NpmParseResult parse(@Nullable String packageJsonText, PackageLock packageLock, boolean includeDevDependencies, List<NameVersion> externalDependencies) {
         MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
 
         Optional<PackageJson> packageJson = Optional.ofNullable(packageJsonText)
                                                 .map(content -> gson.fromJson(content, PackageJson.class));
 
-        PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
-
         logger.debug("Processing project.");
         if (packageLock.dependencies != null) {
             logger.debug(String.format("Found %d dependencies in the lockfile.", packageLock.dependencies.size()));
             //Convert to our custom format
             NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
             NpmProject project = dependencyConverter.convertLockFile(packageLock, packageJson.orElse(null));
+            NpmDependencyIndex dependencyIndex = new NpmDependencyIndex(externalIdFactory, project, externalDependencies);
 
             //First we will recreate the graph from the resolved npm dependencies
             for (NpmDependency resolved : project.getResolvedDependencies()) {
-                transformTreeToGraph(resolved, project, dependencyGraph, includeDevDependencies, externalDependencies);
+                transformTreeToGraph(resolved, dependencyIndex, dependencyGraph, includeDevDependencies);
             }
 
             //Then we will add relationships between the project (root) and the graph
             boolean atLeastOneRequired = !project.getDeclaredDependencies().isEmpty() || !project.getDeclaredDevDependencies().isEmpty();
             if (atLeastOneRequired) {
-                addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDependencies(), dependencyGraph, externalDependencies);
+                addRootDependencies(dependencyIndex, project.getDeclaredDependencies(), dependencyGraph);
                 if (includeDevDependencies) {
-                    addRootDependencies(project.getResolvedDependencies(), project.getDeclaredDevDependencies(), dependencyGraph, externalDependencies);
+                    addRootDependencies(dependencyIndex, project.getDeclaredDevDependencies(), dependencyGraph);
                 }
             } else {
                 project.getResolvedDependencies()
@@ -95,9 +116,9 @@ public class NpmLockfilePackager {
         return new NpmParseResult(projectId.getName(), projectId.getVersion(), codeLocation);
     }
 
-    private void addRootDependencies(List<NpmDependency> resolvedDependencies, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph, final List<NameVersion> externalDependencies) {
+    private void addRootDependencies(NpmDependencyIndex dependencyIndex, List<NpmRequires> requires, MutableDependencyGraph dependencyGraph) {
         for (NpmRequires dependency : requires) {
-            Dependency resolved = lookupProjectOrExternal(dependency.getName(), resolvedDependencies, externalDependencies);
+            Dependency resolved = dependencyIndex.lookupProjectOrExternal(dependency.getName());
             if (resolved != null) {
                 dependencyGraph.addChildToRoot(resolved);
             } else {
@@ -106,56 +127,23 @@ public class NpmLockfilePackager {
         }
     }
 
-    private void transformTreeToGraph(NpmDependency npmDependency, NpmProject npmProject, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies, final List<NameVersion> externalDependencies) {
+    private void transformTreeToGraph(NpmDependency npmDependency, NpmDependencyIndex dependencyIndex, MutableDependencyGraph dependencyGraph, boolean includeDevDependencies) {
         if (!shouldIncludeDependency(npmDependency, includeDevDependencies)) {
             return;
         }
 
         npmDependency.getRequires().forEach(required -> {
-            logger.trace(String.format("Required package: %s of version: %s", required.getName(), required.getFuzzyVersion()));
-            Dependency resolved = lookupDependency(required.getName(), npmDependency, npmProject, externalDependencies);
+            logger.trace("Required package: {} of version: {}", required.getName(), required.getFuzzyVersion());
+            Dependency resolved = dependencyIndex.lookupDependency(required.getName(), npmDependency);
             if (resolved != null) {
-                logger.trace(String.format("Found package: %s with version: %s", resolved.getName(), resolved.getVersion()));
+                logger.trace("Found package: {} with version: {}", resolved.getName(), resolved.getVersion());
                 dependencyGraph.addChildWithParent(resolved, npmDependency.getGraphDependency());
             } else {
                 logger.error("No dependency found for package: " + required.getName());
             }
         });
 
-        npmDependency.getDependencies().forEach(child -> transformTreeToGraph(child, npmProject, dependencyGraph, includeDevDependencies, externalDependencies));
-    }
-
-    private Dependency lookupProjectOrExternal(String name, List<NpmDependency> projectResolvedDependencies, final List<NameVersion> externalDependencies) {
-        Dependency projectDependency = firstDependencyWithName(projectResolvedDependencies, name);
-        if (projectDependency != null) {
-            return projectDependency;
-        } else {
-            Optional<NameVersion> externalNameVersion = externalDependencies.stream().filter(it -> it.getName().equals(name)).findFirst();
-            return externalNameVersion.map(nameVersion -> new Dependency(nameVersion.getName(), nameVersion.getVersion(),
-                externalIdFactory.createNameVersionExternalId(Forge.NPMJS, nameVersion.getName(), nameVersion.getVersion()))).orElse(null);
-        }
-    }
-
-    //returns the first dependency in the following order: directly under this dependency, under a parent, under the project, under external dependencies
-    private Dependency lookupDependency(String name, NpmDependency npmDependency, NpmProject project, final List<NameVersion> externalDependencies) {
-        Dependency resolved = firstDependencyWithName(npmDependency.getDependencies(), name);
-
-        if (resolved != null) {
-            return resolved;
-        } else if (npmDependency.getParent().isPresent()) {
-            return lookupDependency(name, npmDependency.getParent().get(), project, externalDependencies);
-        } else {
-            return lookupProjectOrExternal(name, project.getResolvedDependencies(), externalDependencies);
-        }
-    }
-
-    private Dependency firstDependencyWithName(List<NpmDependency> dependencies, String name) {
-        for (NpmDependency current : dependencies) {
-            if (current.getName().equals(name)) {
-                return current.getGraphDependency();
-            }
-        }
-        return null;
+        npmDependency.getDependencies().forEach(child -> transformTreeToGraph(child, dependencyIndex, dependencyGraph, includeDevDependencies));
     }
 
     private boolean shouldIncludeDependency(NpmDependency packageLockDependency, boolean includeDevDependencies) {
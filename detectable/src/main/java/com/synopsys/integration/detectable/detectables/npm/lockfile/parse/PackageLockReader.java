@@ -0,0 +1,136 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.detectables.npm.lockfile.parse;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockDependency;
+
+// Streams a package-lock.json or npm-shrinkwrap.json keeping only the fields the packager uses, so neither the text nor unused fields (resolved, integrity) are held in memory.
+public class PackageLockReader {
+    public PackageLock read(Reader lockFileReader) throws IOException {
+        JsonReader jsonReader = new JsonReader(lockFileReader);
+        jsonReader.setLenient(true);
+
+        PackageLock packageLock = new PackageLock();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case "name":
+                    packageLock.name = nextStringOrNull(jsonReader);
+                    break;
+                case "version":
+                    packageLock.version = nextStringOrNull(jsonReader);
+                    break;
+                case "dependencies":
+                    packageLock.dependencies = readDependencies(jsonReader);
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+        return packageLock;
+    }
+
+    @Nullable
+    private Map<String, PackageLockDependency> readDependencies(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return null;
+        }
+        Map<String, PackageLockDependency> dependencies = new LinkedHashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            dependencies.put(name, readDependency(jsonReader));
+        }
+        jsonReader.endObject();
+        return dependencies;
+    }
+
+    @Nullable
+    private PackageLockDependency readDependency(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return null;
+        }
+        PackageLockDependency dependency = new PackageLockDependency();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            switch (jsonReader.nextName()) {
+                case "version":
+                    dependency.version = nextStringOrNull(jsonReader);
+                    break;
+                case "dev":
+                    dependency.dev = nextBooleanOrNull(jsonReader);
+                    break;
+                case "requires":
+                    dependency.requires = readStringMap(jsonReader);
+                    break;
+                case "dependencies":
+                    dependency.dependencies = readDependencies(jsonReader);
+                    break;
+                default:
+                    jsonReader.skipValue();
+                    break;
+            }
+        }
+        jsonReader.endObject();
+        return dependency;
+    }
+
+    @Nullable
+    private Map<String, String> readStringMap(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            jsonReader.skipValue();
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            String name = jsonReader.nextName();
+            values.put(name, nextStringOrNull(jsonReader));
+        }
+        jsonReader.endObject();
+        return values;
+    }
+
+    @Nullable
+    private String nextStringOrNull(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return jsonReader.nextString();
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(jsonReader.nextBoolean());
+        }
+        jsonReader.skipValue();
+        return null;
+    }
+
+    @Nullable
+    private Boolean nextBooleanOrNull(JsonReader jsonReader) throws IOException {
+        JsonToken token = jsonReader.peek();
+        if (token == JsonToken.BOOLEAN) {
+            return jsonReader.nextBoolean();
+        } else if (token == JsonToken.STRING) {
+            return Boolean.parseBoolean(jsonReader.nextString());
+        }
+        jsonReader.skipValue();
+        return null;
+    }
+}
@@ -7,23 +7,34 @@
  */
 package com.synopsys.integration.detectable.detectables.nuget;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.graph.DependencyGraphCombiner;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.common.util.finder.FileFinder;
@@ -50,41 +61,95 @@ public class NugetInspectorExtractor {
     }
 
     public Extraction extract(final List<File> targets, final File outputDirectory, final NugetInspector inspector, final NugetInspectorOptions nugetInspectorOptions) {
+        ExecutorService executorService = null;
         try {
-            final List<NugetTargetResult> results = new ArrayList<>();
-
-            for (int i = 0; i < targets.size(); i++) {
-                final File targetDirectory = new File(outputDirectory, "inspection-" + i);
-                results.add(executeTarget(inspector, targets.get(i), targetDirectory, nugetInspectorOptions));
+            final List<NugetTargetResult> results;
+            if (nugetInspectorOptions.getInspectorThreads() > 1 && targets.size() > 1) {
+                executorService = Executors.newFixedThreadPool(Math.min(nugetInspectorOptions.getInspectorThreads(), targets.size()));
+                results = executeTargetsConcurrently(executorService, targets, outputDirectory, inspector, nugetInspectorOptions);
+            } else {
+                results = new ArrayList<>();
+                for (int i = 0; i < targets.size(); i++) {
+                    results.add(executeTarget(inspector, targets.get(i), createTargetDirectory(outputDirectory, i), nugetInspectorOptions));
+                }
             }
 
-            final List<CodeLocation> codeLocations = results.stream()
-                                                         .flatMap(it -> it.codeLocations.stream())
-                                                         .collect(Collectors.toList());
-
-            final Map<File, CodeLocation> codeLocationsBySource = new HashMap<>();
-            final DependencyGraphCombiner combiner = new DependencyGraphCombiner();
-
-            codeLocations.forEach(codeLocation -> {
-                final File sourcePathFile = codeLocation.getSourcePath().orElse(null);
-                if (codeLocationsBySource.containsKey(sourcePathFile)) {
-                    logger.debug("Combined code location for: " + sourcePathFile);
-                    final CodeLocation destination = codeLocationsBySource.get(sourcePathFile);
-                    combiner.addGraphAsChildrenToRoot((MutableDependencyGraph) destination.getDependencyGraph(), codeLocation.getDependencyGraph());
-                } else {
-                    codeLocationsBySource.put(sourcePathFile, codeLocation);
-                }
-            });
+            final Map<File, List<CodeLocation>> codeLocationsBySource = new LinkedHashMap<>();
+            results.stream()
+                .flatMap(it -> it.codeLocations.stream())
+                .forEach(codeLocation -> codeLocationsBySource.computeIfAbsent(codeLocation.getSourcePath().orElse(null), source -> new ArrayList<>()).add(codeLocation));
+
+            final List<CodeLocation> uniqueCodeLocations = codeLocationsBySource.entrySet().stream()
+                                                               .map(entry -> combineCodeLocations(entry.getKey(), entry.getValue()))
+                                                               .collect(Collectors.toList());
 
             final Optional<NameVersion> nameVersion = results.stream()
                                                           .filter(it -> it.nameVersion != null)
                                                           .map(it -> it.nameVersion)
                                                           .findFirst();
 
-            final List<CodeLocation> uniqueCodeLocations = new ArrayList<>(codeLocationsBySource.values());
             return new Extraction.Builder().success(uniqueCodeLocations).nameVersionIfPresent(nameVersion).build();
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private File createTargetDirectory(final File outputDirectory, final int targetIndex) {
+        return new File(outputDirectory, "inspection-" + targetIndex);
+    }
+
+    // Every target writes to its own inspection directory so targets can be inspected at the same time, results are still collected in target order.
+    private List<NugetTargetResult> executeTargetsConcurrently(final ExecutorService executorService, final List<File> targets, final File outputDirectory, final NugetInspector inspector,
+        final NugetInspectorOptions nugetInspectorOptions) throws Exception {
+        final List<Future<NugetTargetResult>> pendingResults = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            final File targetFile = targets.get(i);
+            final File targetDirectory = createTargetDirectory(outputDirectory, i);
+            pendingResults.add(FutureTasks.run(executorService, () -> executeTarget(inspector, targetFile, targetDirectory, nugetInspectorOptions)));
+        }
+
+        try {
+            return FutureTasks.awaitAll(pendingResults, failure -> failure);
+        } catch (final InterruptedException e) {
+            throw new DetectableException("Interrupted while waiting for the nuget inspector to finish.", e);
+        }
+    }
+
+    // Code locations that share a source path are merged into one new graph, each source graph is walked once instead of being re-added to the first graph.
+    private CodeLocation combineCodeLocations(final File sourcePath, final List<CodeLocation> codeLocations) {
+        final CodeLocation first = codeLocations.get(0);
+        if (codeLocations.size() == 1) {
+            return first;
+        }
+
+        logger.debug(String.format("Combined %d code locations for: %s", codeLocations.size(), sourcePath));
+        final MutableDependencyGraph combinedGraph = new MutableMapDependencyGraph();
+        for (final CodeLocation codeLocation : codeLocations) {
+            mergeGraph(combinedGraph, codeLocation.getDependencyGraph());
+        }
+        return new CodeLocation(combinedGraph, first.getExternalId().orElse(null), sourcePath);
+    }
+
+    private void mergeGraph(final MutableDependencyGraph destination, final DependencyGraph source) {
+        final Set<Dependency> rootDependencies = source.getRootDependencies();
+        destination.addChildrenToRoot(rootDependencies);
+
+        final Set<Dependency> visited = new HashSet<>();
+        final Deque<Dependency> pending = new ArrayDeque<>(rootDependencies);
+        while (!pending.isEmpty()) {
+            final Dependency parent = pending.pop();
+            if (!visited.add(parent)) {
+                continue;
+            }
+            final Set<Dependency> children = source.getChildrenForParent(parent);
+            if (!children.isEmpty()) {
+                destination.addParentWithChildren(parent, children);
+                pending.addAll(children);
+            }
         }
     }
 
@@ -105,9 +170,9 @@ public class NugetInspectorExtractor {
         final List<NugetParseResult> parseResults = new ArrayList<>();
         if (dependencyNodeFiles != null) {
             for (final File dependencyNodeFile : dependencyNodeFiles) {
-                final String text = FileUtils.readFileToString(dependencyNodeFile, StandardCharsets.UTF_8);
-                final NugetParseResult result = nugetInspectorParser.createCodeLocation(text);
-                parseResults.add(result);
+                try (final BufferedReader dependencyNodeReader = Files.newBufferedReader(dependencyNodeFile.toPath(), StandardCharsets.UTF_8)) {
+                    parseResults.add(nugetInspectorParser.createCodeLocation(dependencyNodeReader));
+                }
             }
         }
 
@@ -1,32 +0,0 @@
-/*
- * detectable
- *
- * Copyright (c) 2021 Synopsys, Inc.
- *
- * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
- */
-package com.synopsys.integration.detectable.detectables.nuget.model;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
-
-import com.google.gson.annotations.SerializedName;
-
-public class NugetInspection {
-    @SerializedName("Name")
-    public String name;
-
-    @SerializedName("Version")
-    public String version;
-
-    @SerializedName("Containers")
-    public List<NugetContainer> containers = new ArrayList<>();
-
-    @Override
-    public String toString() {
-        return ReflectionToStringBuilder.toString(this, ToStringStyle.JSON_STYLE);
-    }
-}
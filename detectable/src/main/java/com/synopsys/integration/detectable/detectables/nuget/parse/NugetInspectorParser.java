@@ -8,6 +8,9 @@
 package com.synopsys.integration.detectable.detectables.nuget.parse;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -15,15 +18,19 @@ import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.nuget.model.NugetContainer;
 import com.synopsys.integration.detectable.detectables.nuget.model.NugetContainerType;
-import com.synopsys.integration.detectable.detectables.nuget.model.NugetInspection;
 
 public class NugetInspectorParser {
+    private static final String CONTAINERS_KEY = "Containers";
+
     private final Gson gson;
     private final ExternalIdFactory externalIdFactory;
 
@@ -33,22 +40,43 @@ public class NugetInspectorParser {
     }
 
     public NugetParseResult createCodeLocation(final String dependencyFileText) {
-        final NugetInspection nugetInspection = gson.fromJson(dependencyFileText, NugetInspection.class);
+        try {
+            return createCodeLocation(new StringReader(dependencyFileText));
+        } catch (final IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
 
+    // Reads the inspection one container at a time so only a single container's packages are held in memory while its graph is built.
+    public NugetParseResult createCodeLocation(final Reader dependencyFileReader) throws IOException {
         final List<CodeLocation> codeLocations = new ArrayList<>();
         String projectName = "";
         String projectVersion = "";
-        for (final NugetContainer it : nugetInspection.containers) {
-            final Optional<NugetParseResult> possibleParseResult = createDetectCodeLocationFromNugetContainer(it);
-            if (possibleParseResult.isPresent()) {
-                final NugetParseResult result = possibleParseResult.get();
-                if (StringUtils.isNotBlank(result.getProjectName())) {
-                    projectName = result.getProjectName();
-                    projectVersion = result.getProjectVersion();
+
+        final JsonReader jsonReader = new JsonReader(dependencyFileReader);
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (!CONTAINERS_KEY.equals(jsonReader.nextName()) || jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                jsonReader.skipValue();
+                continue;
+            }
+
+            jsonReader.beginArray();
+            while (jsonReader.hasNext()) {
+                final NugetContainer container = gson.fromJson(jsonReader, NugetContainer.class);
+                final Optional<NugetParseResult> possibleParseResult = Optional.ofNullable(container).flatMap(this::createDetectCodeLocationFromNugetContainer);
+                if (possibleParseResult.isPresent()) {
+                    final NugetParseResult result = possibleParseResult.get();
+                    if (StringUtils.isNotBlank(result.getProjectName())) {
+                        projectName = result.getProjectName();
+                        projectVersion = result.getProjectVersion();
+                    }
+                    codeLocations.addAll(result.getCodeLocations());
                 }
-                codeLocations.addAll(result.getCodeLocations());
             }
+            jsonReader.endArray();
         }
+        jsonReader.endObject();
 
         return new NugetParseResult(projectName, projectVersion, codeLocations);
     }
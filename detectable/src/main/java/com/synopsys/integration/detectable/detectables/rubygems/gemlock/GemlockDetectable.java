@@ -8,6 +8,7 @@
 package com.synopsys.integration.detectable.detectables.rubygems.gemlock;
 
 import java.io.File;
+import java.util.Optional;
 
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.DetectableEnvironment;
@@ -18,6 +19,7 @@ import com.synopsys.integration.detectable.detectable.result.DetectableResult;
 import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
 import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
 
 @DetectableInfo(language = "Ruby", forge = "RubyGems", requirementsMarkdown = "File: Gemfile.lock.")
 public class GemlockDetectable extends Detectable {
@@ -46,6 +48,13 @@ public class GemlockDetectable extends Detectable {
         return new PassedDetectableResult();
     }
 
+    @Override
+    public Optional<ExtractionInputs> getExtractionInputs() {
+        return Optional.of(new ExtractionInputs.Builder()
+                               .file(GEMFILE_LOCK_FILENAME, gemlock)
+                               .build());
+    }
+
     @Override
     public Extraction extract(final ExtractionEnvironment extractionEnvironment) {
         return gemlockExtractor.extract(gemlock);
@@ -7,18 +7,23 @@
  */
 package com.synopsys.integration.detectable.detectables.sbt.parse;
 
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtCaller;
 import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtModule;
 import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtReport;
 import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtRevision;
-import com.synopsys.integration.detectable.util.XmlUtil;
 
+// Streams an ivy report so only the report model is held in memory, the many license, artifact and configuration elements are skipped as they are read.
 public class SbtReportParser {
     private static final String IVY_REPORT_NODE_KEY = "ivy-report";
     private static final String INFO_NODE_KEY = "info";
@@ -31,46 +36,69 @@ public class SbtReportParser {
     private static final String CALLER_NODE_KEY = "caller";
     private static final String CALLER_REVISION_NODE_KEY = "callerrev";
 
-    public SbtReport parseReportFromXml(final Document xmlReport) {
-        final Node ivyReport = XmlUtil.getNode(IVY_REPORT_NODE_KEY, xmlReport);
-        final Node infoNode = XmlUtil.getNode(INFO_NODE_KEY, ivyReport);
-        final Node dependenciesNode = XmlUtil.getNode(DEPENDENCIES_NODE_KEY, ivyReport);
-        final List<Node> xmlModules = XmlUtil.getNodeList(MODULE_NODE_KEY, dependenciesNode);
+    private final XMLInputFactory xmlInputFactory;
 
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, infoNode);
-        final String module = XmlUtil.getAttribute(MODULE_NODE_KEY, infoNode);
-        final String revision = XmlUtil.getAttribute(REVISION_NODE_KEY, infoNode);
-        final String configuration = XmlUtil.getAttribute(CONFIGURATION_NODE_KEY, infoNode);
-        final List<SbtModule> dependencies = xmlModules.stream().map(this::createModule).collect(Collectors.toList());
-
-        return new SbtReport(organisation, module, revision, configuration, dependencies);
+    public SbtReportParser() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
-    private SbtModule createModule(final Node xmlModule) {
-        final List<Node> xmlRevisions = XmlUtil.getNodeList(REVISION_NODE_KEY, xmlModule);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlModule);
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlModule);
-        final List<SbtRevision> revisions = xmlRevisions.stream().map(this::createRevision).collect(Collectors.toList());
-
-        return new SbtModule(organisation, name, revisions);
+    public SbtReport parseReport(final InputStream reportInputStream) throws XMLStreamException {
+        final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(reportInputStream);
+        try {
+            return parseReport(reader);
+        } finally {
+            reader.close();
+        }
     }
 
-    private SbtRevision createRevision(final Node xmlRevision) {
-        final List<Node> xmlCallers = XmlUtil.getNodeList(CALLER_NODE_KEY, xmlRevision);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlRevision);
-        final List<SbtCaller> callers = xmlCallers.stream().map(this::createCaller).collect(Collectors.toList());
-
-        return new SbtRevision(name, callers);
+    private SbtReport parseReport(final XMLStreamReader reader) throws XMLStreamException {
+        final Deque<String> openElements = new ArrayDeque<>();
+        final List<SbtModule> dependencies = new ArrayList<>();
+        boolean foundInfo = false;
+        String organisation = null;
+        String module = null;
+        String revision = null;
+        String configuration = null;
+        List<SbtRevision> currentRevisions = null;
+        List<SbtCaller> currentCallers = null;
+
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                openElements.pop();
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                final String element = reader.getLocalName();
+                final String parent = openElements.peek();
+                openElements.push(element);
+
+                if (INFO_NODE_KEY.equals(element) && IVY_REPORT_NODE_KEY.equals(parent) && openElements.size() == 2 && !foundInfo) {
+                    foundInfo = true;
+                    organisation = getAttribute(reader, ORGANISATION_NODE_KEY);
+                    module = getAttribute(reader, MODULE_NODE_KEY);
+                    revision = getAttribute(reader, REVISION_NODE_KEY);
+                    configuration = getAttribute(reader, CONFIGURATION_NODE_KEY);
+                } else if (MODULE_NODE_KEY.equals(element) && DEPENDENCIES_NODE_KEY.equals(parent) && openElements.size() == 3) {
+                    currentRevisions = new ArrayList<>();
+                    dependencies.add(new SbtModule(getAttribute(reader, ORGANISATION_NODE_KEY), getAttribute(reader, NAME_NODE_KEY), currentRevisions));
+                } else if (REVISION_NODE_KEY.equals(element) && MODULE_NODE_KEY.equals(parent) && openElements.size() == 4 && currentRevisions != null) {
+                    currentCallers = new ArrayList<>();
+                    currentRevisions.add(new SbtRevision(getAttribute(reader, NAME_NODE_KEY), currentCallers));
+                } else if (CALLER_NODE_KEY.equals(element) && REVISION_NODE_KEY.equals(parent) && openElements.size() == 5 && currentCallers != null) {
+                    currentCallers.add(new SbtCaller(getAttribute(reader, ORGANISATION_NODE_KEY), getAttribute(reader, NAME_NODE_KEY), getAttribute(reader, CALLER_REVISION_NODE_KEY)));
+                }
+            }
+        }
+
+        if (!foundInfo) {
+            throw new XMLStreamException(String.format("The report did not contain an %s element with an %s.", IVY_REPORT_NODE_KEY, INFO_NODE_KEY));
+        }
+        return new SbtReport(organisation, module, revision, configuration, dependencies);
     }
 
-    private SbtCaller createCaller(final Node xmlCaller) {
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlCaller);
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlCaller);
-        final String revision = XmlUtil.getAttribute(CALLER_REVISION_NODE_KEY, xmlCaller);
-
-        return new SbtCaller(organisation, name, revision);
+    private String getAttribute(final XMLStreamReader reader, final String key) {
+        return reader.getAttributeValue(null, key);
     }
 
 }
@@ -7,24 +7,30 @@
  */
 package com.synopsys.integration.detectable.detectables.sbt.parse;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtDependencyModule;
@@ -52,13 +58,17 @@ public class SbtResolutionCacheExtractor {
     }
 
     public Extraction extract(File directory, SbtResolutionCacheOptions sbtResolutionCacheOptions) { //TODO: Extractor should not use DetectableOptions
+        ExecutorService executorService = null;
         try {
             // TODO: Handle null better.
             List<String> included = sbtResolutionCacheOptions.getIncludedConfigurations();
             List<String> excluded = sbtResolutionCacheOptions.getExcludedConfigurations();
             int depth = sbtResolutionCacheOptions.getReportDepth();
+            if (sbtResolutionCacheOptions.getReportParseThreads() > 1) {
+                executorService = Executors.newFixedThreadPool(sbtResolutionCacheOptions.getReportParseThreads());
+            }
 
-            SbtProject project = extractProject(directory, depth, included, excluded);
+            SbtProject project = extractProject(directory, depth, included, excluded, executorService);
 
             List<CodeLocation> codeLocations = new ArrayList<>();
 
@@ -87,11 +97,15 @@ public class SbtResolutionCacheExtractor {
 
         } catch (Exception e) {
             return new Extraction.Builder().exception(e).build();
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
         }
     }
 
-    private SbtProject extractProject(File path, int depth, List<String> included, List<String> excluded) throws IOException, SAXException, ParserConfigurationException {
-        List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded);
+    private SbtProject extractProject(File path, int depth, List<String> included, List<String> excluded, @Nullable ExecutorService executorService) throws IOException {
+        List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded, executorService);
         List<SbtDependencyModule> modules = rawModules.stream().filter(it -> it.getGraph() != null).collect(Collectors.toList());
         int skipped = rawModules.size() - modules.size();
         if (skipped > 0) {
@@ -135,7 +149,7 @@ public class SbtResolutionCacheExtractor {
         return version;
     }
 
-    private List<SbtDependencyModule> extractModules(File path, int depth, List<String> included, List<String> excluded) throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractModules(File path, int depth, List<String> included, List<String> excluded, @Nullable ExecutorService executorService) throws IOException {
         List<File> sbtFiles = fileFinder.findFiles(path, BUILD_SBT_FILENAME, depth);
         List<File> resolutionCaches = fileFinder.findFiles(path, RESOLUTION_CACHE_DIRECTORY, depth); // TODO: ensure this does what the old method did. findDirectoriesContainingDirectoriesToDepth
 
@@ -143,21 +157,21 @@ public class SbtResolutionCacheExtractor {
         logger.debug(String.format("Found %s resolution caches.", resolutionCaches.size()));
 
         List<SbtDependencyModule> modules = new ArrayList<>();
-        List<String> usedReports = new ArrayList<>();
+        Set<String> usedReports = new HashSet<>();
 
         for (File sbtFile : sbtFiles) {
             logger.debug(String.format("Found SBT build file: %s", sbtFile.getCanonicalPath()));
             File sbtDirectory = sbtFile.getParentFile();
             File reportPath = new File(sbtDirectory, REPORT_FILE_DIRECTORY);
 
-            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, sbtDirectory, included, excluded, usedReports);
+            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, sbtDirectory, included, excluded, usedReports, executorService);
             modules.addAll(foundModules);
         }
 
         for (File resCache : resolutionCaches) {
             logger.debug(String.format("Found resolution cache: %s", resCache.getCanonicalPath()));
             File reportPath = new File(resCache, REPORT_DIRECTORY);
-            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, resCache.getParentFile(), included, excluded, usedReports);
+            List<SbtDependencyModule> foundModules = extractReportModules(path, reportPath, resCache.getParentFile(), included, excluded, usedReports, executorService);
             modules.addAll(foundModules);
         }
 
@@ -189,21 +203,21 @@ public class SbtResolutionCacheExtractor {
         return file.getCanonicalPath().startsWith(projectPath.getCanonicalPath());
     }
 
-    private List<SbtDependencyModule> extractReportModules(File path, File reportPath, File source, List<String> included, List<String> excluded, List<String> usedReports)
-        throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractReportModules(File path, File reportPath, File source, List<String> included, List<String> excluded, Set<String> usedReports,
+        @Nullable ExecutorService executorService) throws IOException {
         List<SbtDependencyModule> modules = new ArrayList<>();
         String canonical = reportPath.getCanonicalPath();
         if (usedReports.contains(canonical)) {
             logger.debug(String.format("Skipping already processed report folder: %s", canonical));
         } else if (isInProject(reportPath, path)) {
-            logger.debug(String.format("Skipping reports in project folder: %s", reportPath.getCanonicalPath()));
+            logger.debug(String.format("Skipping reports in project folder: %s", canonical));
         } else {
             usedReports.add(canonical);
             List<File> reportFiles = fileFinder.findFiles(reportPath, REPORT_FILE_PATTERN);
             if (reportFiles == null || reportFiles.isEmpty()) {
                 logger.debug(String.format("No reports were found in: %s", reportPath));
             } else {
-                List<SbtDependencyModule> aggregatedModules = makeModuleAggregate(reportFiles, included, excluded);
+                List<SbtDependencyModule> aggregatedModules = makeModuleAggregate(reportFiles, included, excluded, executorService);
 
                 if (aggregatedModules == null) {
                     logger.debug(String.format("No dependencies were generated for report folder: %s", reportPath));
@@ -223,22 +237,23 @@ public class SbtResolutionCacheExtractor {
         return modules;
     }
 
-    private List<SbtDependencyModule> makeModuleAggregate(List<File> reportFiles, List<String> include, List<String> exclude) throws SAXException, IOException, ParserConfigurationException {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-
+    private List<SbtDependencyModule> makeModuleAggregate(List<File> reportFiles, List<String> include, List<String> exclude, @Nullable ExecutorService executorService) throws IOException {
         SbtReportParser parser = new SbtReportParser();
         SbtDependencyResolver resolver = new SbtDependencyResolver(externalIdFactory);
         ExcludedIncludedWildcardFilter filter = ExcludedIncludedWildcardFilter.fromCollections(exclude, include);
         SbtModuleAggregator aggregator = new SbtModuleAggregator();
 
-        List<SbtDependencyModule> modules = new ArrayList<>();
-        for (File reportFile : reportFiles) {
-            Document xml = builder.parse(reportFile);
-            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
-            SbtReport report = parser.parseReportFromXml(xml);
-            SbtDependencyModule tree = resolver.resolveReport(report);
-            modules.add(tree);
+        List<SbtDependencyModule> modules = new ArrayList<>(reportFiles.size());
+        if (executorService == null) {
+            for (File reportFile : reportFiles) {
+                modules.add(resolveReportFile(reportFile, parser, resolver));
+            }
+        } else {
+            List<Future<SbtDependencyModule>> pendingModules = new ArrayList<>(reportFiles.size());
+            for (File reportFile : reportFiles) {
+                pendingModules.add(FutureTasks.run(executorService, () -> resolveReportFile(reportFile, parser, resolver)));
+            }
+            modules.addAll(awaitModules(pendingModules));
         }
 
         List<SbtDependencyModule> includedModules = modules.stream().filter(module -> filter.shouldInclude(module.getConfiguration())).collect(Collectors.toList());
@@ -253,4 +268,27 @@ public class SbtResolutionCacheExtractor {
 
         return aggregator.aggregateModules(includedModules);
     }
+
+    private SbtDependencyModule resolveReportFile(File reportFile, SbtReportParser parser, SbtDependencyResolver resolver) throws IOException {
+        logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
+        try (InputStream reportInputStream = new BufferedInputStream(Files.newInputStream(reportFile.toPath()))) {
+            SbtReport report = parser.parseReport(reportInputStream);
+            return resolver.resolveReport(report);
+        } catch (XMLStreamException e) {
+            throw new IOException(String.format("Failed to parse SBT report file: %s", reportFile.getCanonicalPath()), e);
+        }
+    }
+
+    private List<SbtDependencyModule> awaitModules(List<Future<SbtDependencyModule>> pendingModules) throws IOException {
+        try {
+            return FutureTasks.awaitAll(pendingModules, failure -> {
+                if (failure instanceof IOException) {
+                    return (IOException) failure;
+                }
+                return new IOException("Failed to parse SBT report.", failure);
+            });
+        } catch (InterruptedException e) {
+            throw new IOException("Interrupted while waiting for SBT reports to be parsed.", e);
+        }
+    }
 }
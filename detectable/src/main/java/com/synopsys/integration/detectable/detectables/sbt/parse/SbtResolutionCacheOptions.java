@@ -13,11 +13,17 @@ public class SbtResolutionCacheOptions {
     private final List<String> includedConfigurations;
     private final List<String> excludedConfigurations;
     private final int reportDepth;
+    private final int reportParseThreads;
 
     public SbtResolutionCacheOptions(List<String> includedConfigurations, List<String> excludedConfigurations, int reportDepth) {
+        this(includedConfigurations, excludedConfigurations, reportDepth, 1);
+    }
+
+    public SbtResolutionCacheOptions(List<String> includedConfigurations, List<String> excludedConfigurations, int reportDepth, int reportParseThreads) {
         this.includedConfigurations = includedConfigurations;
         this.excludedConfigurations = excludedConfigurations;
         this.reportDepth = reportDepth;
+        this.reportParseThreads = reportParseThreads;
     }
 
     public List<String> getIncludedConfigurations() {
@@ -31,4 +37,8 @@ public class SbtResolutionCacheOptions {
     public int getReportDepth() {
         return reportDepth;
     }
+
+    public int getReportParseThreads() {
+        return reportParseThreads;
+    }
 }
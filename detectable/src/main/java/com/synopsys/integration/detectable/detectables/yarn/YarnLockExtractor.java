@@ -7,16 +7,16 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -74,9 +74,9 @@ public class YarnLockExtractor {
     }
 
     private YarnLock readYarnLock(File yarnLockFile) throws IOException {
-        List<String> yarnLockLines = FileUtils.readLines(yarnLockFile, StandardCharsets.UTF_8);
-        YarnLock yarnLock = yarnLockParser.parseYarnLock(yarnLockLines);
-        return yarnLock;
+        try (BufferedReader yarnLockReader = Files.newBufferedReader(yarnLockFile.toPath(), StandardCharsets.UTF_8)) {
+            return yarnLockParser.parseYarnLock(yarnLockReader);
+        }
     }
 
     @Nullable
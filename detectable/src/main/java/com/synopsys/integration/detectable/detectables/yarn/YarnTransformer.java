@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -46,7 +47,9 @@ public class YarnTransformer {
 
     public DependencyGraph generateDependencyGraph(YarnLockResult yarnLockResult, boolean productionOnly, boolean getWorkspaceDependenciesFromWorkspacePackageJson,
         List<NameVersion> externalDependencies, @Nullable ExcludedIncludedWildcardFilter workspaceFilter) throws MissingExternalIdException {
+        long startTime = System.currentTimeMillis();
         LazyExternalIdDependencyGraphBuilder graphBuilder = new LazyExternalIdDependencyGraphBuilder();
+        YarnResolutionStats resolutionStats = new YarnResolutionStats();
 
         addRootNodesToGraph(graphBuilder, yarnLockResult.getRootPackageJson(), yarnLockResult.getWorkspaceData(), productionOnly,
             getWorkspaceDependenciesFromWorkspacePackageJson, workspaceFilter);
@@ -55,16 +58,25 @@ public class YarnTransformer {
             Optional<YarnWorkspace> workspace = yarnLockResult.getWorkspaceData().lookup(entry);
             if (workspace.isPresent()) {
                 StringDependencyId id = workspace.get().createDependency(graphBuilder);
-                addYarnLockDependenciesToGraph(yarnLockResult, productionOnly, graphBuilder, entry, id, getWorkspaceDependencyQualifiesCheck(workspace.get(), productionOnly));
+                addYarnLockDependenciesToGraph(yarnLockResult, productionOnly, graphBuilder, entry, id, getWorkspaceDependencyQualifiesCheck(workspace.get(), productionOnly), resolutionStats);
             } else {
                 for (YarnLockEntryId entryId : entry.getIds()) {
                     StringDependencyId id = generateComponentDependencyId(entryId.getName(), entryId.getVersion());
                     graphBuilder.setDependencyInfo(id, entryId.getName(), entry.getVersion(), generateComponentExternalId(entryId.getName(), entry.getVersion()));
-                    addYarnLockDependenciesToGraph(yarnLockResult, productionOnly, graphBuilder, entry, id, getEverythingQualifiesCheck());
+                    addYarnLockDependenciesToGraph(yarnLockResult, productionOnly, graphBuilder, entry, id, getEverythingQualifiesCheck(), resolutionStats);
                 }
             }
         }
-        return graphBuilder.build(getLazyBuilderHandler(externalDependencies, yarnLockResult));
+        long resolveTime = System.currentTimeMillis();
+        DependencyGraph dependencyGraph = graphBuilder.build(getLazyBuilderHandler(externalDependencies, yarnLockResult, resolutionStats));
+        long buildTime = System.currentTimeMillis();
+
+        logger.debug("Yarn lock index stats: {} entries, {} indexed ids, {} workspaces, {} external dependencies.", yarnLockResult.getYarnLock().getEntries().size(),
+            yarnLockResult.getYarnLock().getIndexedIdCount(), yarnLockResult.getWorkspaceData().size(), externalDependencies.size());
+        logger.debug("Yarn lock resolution stats: {} edges to yarn.lock entries, {} edges to workspaces, {} unresolved edges, {} external, {} missing. Resolving took {} ms, building the graph took {} ms.",
+            resolutionStats.lockEntryEdges, resolutionStats.workspaceEdges, resolutionStats.unresolvedEdges, resolutionStats.externalDependencies, resolutionStats.missingDependencies,
+            resolveTime - startTime, buildTime - resolveTime);
+        return dependencyGraph;
     }
 
     private Predicate<String> getEverythingQualifiesCheck() {
@@ -97,15 +109,20 @@ public class YarnTransformer {
 
     private void addYarnLockDependenciesToGraph(YarnLockResult yarnLockResult, boolean productionOnly,
         LazyExternalIdDependencyGraphBuilder graphBuilder, YarnLockEntry entry, StringDependencyId id,
-        Predicate<String> qualificationCheck) {
+        Predicate<String> qualificationCheck, YarnResolutionStats resolutionStats) {
         for (YarnLockDependency dependency : entry.getDependencies()) {
             if (qualificationCheck.test(dependency.getName())) {
                 Optional<YarnWorkspace> dependencyWorkspace = yarnLockResult.getWorkspaceData().lookup(dependency);
                 StringDependencyId stringDependencyId;
                 if (dependencyWorkspace.isPresent()) {
                     stringDependencyId = dependencyWorkspace.get().generateDependencyId();
+                    resolutionStats.workspaceEdges++;
                 } else {
                     stringDependencyId = generateComponentDependencyId(dependency.getName(), dependency.getVersion());
+                    // The lookup only feeds the debug stats, the graph builder resolves the edge by id.
+                    if (logger.isDebugEnabled()) {
+                        countLockEntryEdge(yarnLockResult, dependency, resolutionStats);
+                    }
                 }
                 if (!productionOnly || !dependency.isOptional()) {
                     graphBuilder.addChildWithParent(stringDependencyId, id);
@@ -116,13 +133,26 @@ public class YarnTransformer {
         }
     }
 
-    private LazyBuilderMissingExternalIdHandler getLazyBuilderHandler(List<NameVersion> externalDependencies, YarnLockResult yarnLockResult) {
+    private void countLockEntryEdge(YarnLockResult yarnLockResult, YarnLockDependency dependency, YarnResolutionStats resolutionStats) {
+        if (yarnLockResult.getYarnLock().findEntry(dependency.getName(), dependency.getVersion()).isPresent()) {
+            resolutionStats.lockEntryEdges++;
+        } else {
+            resolutionStats.unresolvedEdges++;
+        }
+    }
+
+    private LazyBuilderMissingExternalIdHandler getLazyBuilderHandler(List<NameVersion> externalDependencies, YarnLockResult yarnLockResult, YarnResolutionStats resolutionStats) {
+        Map<String, NameVersion> externalDependenciesByName = new HashMap<>();
+        for (NameVersion externalDependency : externalDependencies) {
+            externalDependenciesByName.putIfAbsent(externalDependency.getName(), externalDependency);
+        }
         return (dependencyId, lazyDependencyInfo) -> {
-            Optional<NameVersion> externalDependency = externalDependencies.stream().filter(it -> it.getName().equals(lazyDependencyInfo.getName())).findFirst();
-            Optional<ExternalId> externalId = externalDependency.map(it -> generateComponentExternalId(it.getName(), it.getVersion()));
-            if (externalId.isPresent()) {
-                return externalId.get();
+            NameVersion externalDependency = externalDependenciesByName.get(lazyDependencyInfo.getName());
+            if (externalDependency != null) {
+                resolutionStats.externalDependencies++;
+                return generateComponentExternalId(externalDependency.getName(), externalDependency.getVersion());
             } else {
+                resolutionStats.missingDependencies++;
                 ExternalId lazilyGeneratedExternalId;
                 StringDependencyId stringDependencyId = (StringDependencyId) dependencyId;
                 Optional<YarnWorkspace> workspace = yarnLockResult.getWorkspaceData().lookup(stringDependencyId);
@@ -222,4 +252,12 @@ public class YarnTransformer {
     private ExternalId generateComponentExternalId(StringDependencyId dependencyId) {
         return externalIdFactory.createNameVersionExternalId(Forge.NPMJS, dependencyId.getValue());
     }
+
+    private static class YarnResolutionStats {
+        private int lockEntryEdges = 0;
+        private int workspaceEdges = 0;
+        private int unresolvedEdges = 0;
+        private int externalDependencies = 0;
+        private int missingDependencies = 0;
+    }
 }
@@ -7,23 +7,47 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 
 public class YarnLock {
     @Nullable
     private final String fileFormatVersion;
     private final boolean yarn1Project;
     private final List<YarnLockEntry> entries;
+    private final Map<YarnLockEntryId, YarnLockEntry> entriesById;
 
     public YarnLock(@Nullable String fileFormatVersion, boolean yarn1Project, List<YarnLockEntry> entries) {
+        this(fileFormatVersion, yarn1Project, entries, indexEntries(entries));
+    }
+
+    public YarnLock(@Nullable String fileFormatVersion, boolean yarn1Project, List<YarnLockEntry> entries, Map<YarnLockEntryId, YarnLockEntry> entriesById) {
         this.fileFormatVersion = fileFormatVersion;
         this.yarn1Project = yarn1Project;
         this.entries = entries;
+        this.entriesById = entriesById;
+    }
+
+    // When several entries declare the same id the first one wins, matching the order they appear in yarn.lock.
+    public static void indexEntry(Map<YarnLockEntryId, YarnLockEntry> entriesById, YarnLockEntry entry) {
+        for (YarnLockEntryId id : entry.getIds()) {
+            entriesById.putIfAbsent(id, entry);
+        }
+    }
+
+    private static Map<YarnLockEntryId, YarnLockEntry> indexEntries(List<YarnLockEntry> entries) {
+        Map<YarnLockEntryId, YarnLockEntry> entriesById = new HashMap<>();
+        for (YarnLockEntry entry : entries) {
+            indexEntry(entriesById, entry);
+        }
+        return entriesById;
     }
 
     public Optional<String> getFileFormatVersion() {
@@ -37,4 +61,16 @@ public class YarnLock {
     public List<YarnLockEntry> getEntries() {
         return entries;
     }
+
+    public Optional<YarnLockEntry> findEntry(YarnLockEntryId id) {
+        return Optional.ofNullable(entriesById.get(id));
+    }
+
+    public Optional<YarnLockEntry> findEntry(String name, String version) {
+        return findEntry(new YarnLockEntryId(name, version));
+    }
+
+    public int getIndexedIdCount() {
+        return entriesById.size();
+    }
 }
@@ -7,50 +7,100 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
-import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParseResult;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
 
 public class YarnLockParser {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final YarnLockEntryParser yarnLockEntryParser;
-    @Nullable
-    private String yarnLockFileFormatVersion = null;
 
     public YarnLockParser(YarnLockEntryParser yarnLockEntryParser) {
         this.yarnLockEntryParser = yarnLockEntryParser;
     }
 
     public YarnLock parseYarnLock(List<String> yarnLockFileAsList) {
-        List<YarnLockEntry> entries = new ArrayList<>();
-        int lineIndex = 0;
-        while (lineIndex < yarnLockFileAsList.size()) {
-            YarnLockEntryParseResult entryParseResult = yarnLockEntryParser.parseNextEntry(yarnLockFileAsList, lineIndex);
-            if (entryParseResult.getYarnLockEntry().isPresent()) {
-                YarnLockEntry entry = entryParseResult.getYarnLockEntry().get();
-                if (entry.isMetadataEntry()) {
-                    yarnLockFileFormatVersion = entry.getVersion();
-                } else {
-                    entries.add(entry);
+        YarnLockCollector collector = new YarnLockCollector();
+        parseEntries(yarnLockFileAsList, collector);
+        return collector.toYarnLock();
+    }
+
+    public YarnLock parseYarnLock(Reader yarnLockReader) throws IOException {
+        YarnLockCollector collector = new YarnLockCollector();
+        parseEntries(yarnLockReader, collector);
+        return collector.toYarnLock();
+    }
+
+    // Only one entry's lines are held at a time: an unindented line that is not a comment always starts the next entry, so each entry can be handed to the entry parser on its own.
+    public void parseEntries(Reader yarnLockReader, Consumer<YarnLockEntry> entryConsumer) throws IOException {
+        BufferedReader bufferedReader = yarnLockReader instanceof BufferedReader ? (BufferedReader) yarnLockReader : new BufferedReader(yarnLockReader);
+        List<String> entryLines = new ArrayList<>();
+        boolean entryStarted = false;
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            if (startsEntry(line)) {
+                if (entryStarted) {
+                    parseEntries(entryLines, entryConsumer);
+                    entryLines.clear();
                 }
+                entryStarted = true;
             }
+            entryLines.add(line);
+        }
+        parseEntries(entryLines, entryConsumer);
+    }
+
+    private boolean startsEntry(String line) {
+        return !line.isEmpty() && line.charAt(0) != ' ' && line.charAt(0) != '\t' && line.charAt(0) != '#';
+    }
+
+    private void parseEntries(List<String> yarnLockLines, Consumer<YarnLockEntry> entryConsumer) {
+        int lineIndex = 0;
+        while (lineIndex < yarnLockLines.size()) {
+            YarnLockEntryParseResult entryParseResult = yarnLockEntryParser.parseNextEntry(yarnLockLines, lineIndex);
+            entryParseResult.getYarnLockEntry().ifPresent(entryConsumer);
             lineIndex = entryParseResult.getLastParsedLineIndex();
             lineIndex++;
         }
-        return new YarnLock(yarnLockFileFormatVersion, isYarn1Project(yarnLockFileFormatVersion), entries);
     }
 
     private boolean isYarn1Project(String yarnLockFileFormatVersion) {
         logger.debug("yarn.lock file format version: {}", yarnLockFileFormatVersion);
         return StringUtils.isBlank(yarnLockFileFormatVersion) || ("1".equals(yarnLockFileFormatVersion));
     }
+
+    // Collects one parse; kept per call so a single parser can be shared between threads.
+    private class YarnLockCollector implements Consumer<YarnLockEntry> {
+        private String fileFormatVersion = null;
+        private final List<YarnLockEntry> entries = new ArrayList<>();
+        private final Map<YarnLockEntryId, YarnLockEntry> entriesById = new HashMap<>();
+
+        @Override
+        public void accept(YarnLockEntry entry) {
+            if (entry.isMetadataEntry()) {
+                fileFormatVersion = entry.getVersion();
+            } else {
+                entries.add(entry);
+                YarnLock.indexEntry(entriesById, entry);
+            }
+        }
+
+        public YarnLock toYarnLock() {
+            return new YarnLock(fileFormatVersion, isYarn1Project(fileFormatVersion), entries, entriesById);
+        }
+    }
 }
@@ -7,6 +7,8 @@
  */
 package com.synopsys.integration.detectable.detectables.yarn.parse.entry;
 
+import java.util.Objects;
+
 import com.synopsys.integration.util.Stringable;
 
 public class YarnLockEntryId extends Stringable {
@@ -25,4 +27,21 @@ public class YarnLockEntryId extends Stringable {
     public String getVersion() {
         return version;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        YarnLockEntryId that = (YarnLockEntryId) o;
+        return Objects.equals(name, that.name) && Objects.equals(version, that.version);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, version);
+    }
 }
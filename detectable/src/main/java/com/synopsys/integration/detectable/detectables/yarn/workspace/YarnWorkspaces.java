@@ -9,19 +9,27 @@ package com.synopsys.integration.detectable.detectables.yarn.workspace;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import com.synopsys.integration.bdio.model.dependencyid.StringDependencyId;
+import com.synopsys.integration.detectable.detectables.yarn.YarnTransformer;
 import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockDependency;
 import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryId;
 
 public class YarnWorkspaces {
     private final Collection<YarnWorkspace> workspaces;
+    // Workspaces only match by name, so lookups go through this index instead of testing every workspace.
+    private final Map<String, YarnWorkspace> workspacesByName = new HashMap<>();
     public static final YarnWorkspaces EMPTY = new YarnWorkspaces(new ArrayList<>(0));
 
     public YarnWorkspaces(Collection<YarnWorkspace> workspaces) {
         this.workspaces = workspaces;
+        for (YarnWorkspace workspace : workspaces) {
+            workspacesByName.putIfAbsent(workspace.getName().orElse(""), workspace);
+        }
     }
 
     public Collection<YarnWorkspace> getWorkspaces() {
@@ -29,27 +37,42 @@ public class YarnWorkspaces {
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockDependency yarnLockDependency) {
-        return lookup(w -> w.matches(yarnLockDependency));
+        return lookup(yarnLockDependency.getName(), yarnLockDependency.getVersion());
     }
 
     public Optional<YarnWorkspace> lookup(YarnLockEntry yarnLockEntry) {
-        return lookup(w -> w.matches(yarnLockEntry));
+        for (YarnLockEntryId yarnLockEntryId : yarnLockEntry.getIds()) {
+            Optional<YarnWorkspace> workspace = lookup(yarnLockEntryId.getName(), yarnLockEntryId.getVersion());
+            if (workspace.isPresent()) {
+                return workspace;
+            }
+        }
+        return Optional.empty();
     }
 
     public Optional<YarnWorkspace> lookup(String name, String version) {
-        return lookup(w -> w.matches(name, version));
+        YarnWorkspace candidateWorkspace = workspacesByName.get(name);
+        if (candidateWorkspace != null && candidateWorkspace.matches(name, version)) {
+            return Optional.of(candidateWorkspace);
+        }
+        return Optional.empty();
     }
 
+    // A dependency id is name@version and scoped names contain an @ themselves, so every @ is tried as the separator.
     public Optional<YarnWorkspace> lookup(StringDependencyId dependencyId) {
-        return lookup(w -> w.matches(dependencyId));
-    }
-
-    private Optional<YarnWorkspace> lookup(Predicate<YarnWorkspace> p) {
-        for (YarnWorkspace candidateWorkspace : workspaces) {
-            if (p.test(candidateWorkspace)) {
+        String dependencyIdString = dependencyId.getValue();
+        int separatorIndex = dependencyIdString.indexOf(YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR);
+        while (separatorIndex >= 0) {
+            YarnWorkspace candidateWorkspace = workspacesByName.get(dependencyIdString.substring(0, separatorIndex));
+            if (candidateWorkspace != null && candidateWorkspace.matches(dependencyId)) {
                 return Optional.of(candidateWorkspace);
             }
+            separatorIndex = dependencyIdString.indexOf(YarnTransformer.STRING_ID_NAME_VERSION_SEPARATOR, separatorIndex + 1);
         }
         return Optional.empty();
     }
+
+    public int size() {
+        return workspacesByName.size();
+    }
 }
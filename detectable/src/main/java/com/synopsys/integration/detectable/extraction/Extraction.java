@@ -115,6 +115,19 @@ public class Extraction {
         private String projectName;
         private final Map<ExtractionMetadata, Object> metaData = new HashMap<>();
 
+        // Everything but the code locations, so an extraction can be rebuilt around converted code locations.
+        public Builder allButCodeLocations(final Extraction extraction) {
+            this.relevantFiles.addAll(extraction.relevantFiles);
+            this.unrecognizedPaths.addAll(extraction.unrecognizedPaths);
+            this.result = extraction.result;
+            this.error = extraction.error;
+            this.description = extraction.description;
+            this.projectVersion = extraction.projectVersion;
+            this.projectName = extraction.projectName;
+            this.metaData.putAll(extraction.metaData);
+            return this;
+        }
+
         public Builder projectName(final String projectName) {
             this.projectName = projectName;
             return this;
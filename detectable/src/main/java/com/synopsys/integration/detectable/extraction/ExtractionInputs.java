@@ -0,0 +1,59 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jetbrains.annotations.Nullable;
+
+public class ExtractionInputs {
+    private final List<File> files;
+    private final Map<String, String> options;
+
+    private ExtractionInputs(Builder builder) {
+        this.files = Collections.unmodifiableList(builder.files);
+        this.options = Collections.unmodifiableMap(builder.options);
+    }
+
+    public List<File> getFiles() {
+        return files;
+    }
+
+    public Map<String, String> getOptions() {
+        return options;
+    }
+
+    public static class Builder {
+        private final List<File> files = new ArrayList<>();
+        private final Map<String, String> options = new TreeMap<>();
+
+        // Optional files may be null, a missing file is part of the fingerprint as well.
+        public Builder file(String key, @Nullable File file) {
+            if (file != null) {
+                files.add(file);
+            } else {
+                options.put(key, "missing");
+            }
+            return this;
+        }
+
+        public Builder option(String key, Object value) {
+            options.put(key, String.valueOf(value));
+            return this;
+        }
+
+        public ExtractionInputs build() {
+            return new ExtractionInputs(this);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedCodeLocation;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedDependency;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedExtraction;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedExternalId;
+
+// Converts a successful extraction to a form that can be written as json and back. Only dependencies reachable from the graph roots are kept, which is all that is ever reported.
+public class CachedExtractionConverter {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    public CachedExtraction toCachedExtraction(Extraction extraction) {
+        CachedExtraction cachedExtraction = new CachedExtraction();
+        cachedExtraction.projectName = extraction.getProjectName();
+        cachedExtraction.projectVersion = extraction.getProjectVersion();
+        cachedExtraction.relevantFiles = toPaths(extraction.getRelevantFiles());
+        cachedExtraction.unrecognizedPaths = toPaths(extraction.getUnrecognizedPaths());
+        cachedExtraction.codeLocations = extraction.getCodeLocations().stream()
+                                             .map(this::toCachedCodeLocation)
+                                             .collect(Collectors.toList());
+        return cachedExtraction;
+    }
+
+    public Extraction toExtraction(CachedExtraction cachedExtraction) {
+        List<CodeLocation> codeLocations = cachedExtraction.codeLocations.stream()
+                                               .map(this::toCodeLocation)
+                                               .collect(Collectors.toList());
+        return new Extraction.Builder()
+                   .success(codeLocations)
+                   .projectName(cachedExtraction.projectName)
+                   .projectVersion(cachedExtraction.projectVersion)
+                   .relevantFiles(toFiles(cachedExtraction.relevantFiles).toArray(new File[0]))
+                   .unrecognizedPaths(toFiles(cachedExtraction.unrecognizedPaths))
+                   .build();
+    }
+
+    private CachedCodeLocation toCachedCodeLocation(CodeLocation codeLocation) {
+        CachedCodeLocation cachedCodeLocation = new CachedCodeLocation();
+        cachedCodeLocation.sourcePath = codeLocation.getSourcePath().map(File::getPath).orElse(null);
+        cachedCodeLocation.externalId = codeLocation.getExternalId().map(this::toCachedExternalId).orElse(null);
+        cachedCodeLocation.dependencies = new ArrayList<>();
+        cachedCodeLocation.rootDependencies = new ArrayList<>();
+
+        DependencyGraph dependencyGraph = codeLocation.getDependencyGraph();
+        Map<ExternalId, Integer> indexes = new HashMap<>();
+        Deque<Dependency> unprocessed = new ArrayDeque<>();
+        for (Dependency rootDependency : dependencyGraph.getRootDependencies()) {
+            cachedCodeLocation.rootDependencies.add(indexOf(rootDependency, indexes, cachedCodeLocation.dependencies, unprocessed));
+        }
+        while (!unprocessed.isEmpty()) {
+            Dependency parent = unprocessed.poll();
+            CachedDependency cachedParent = cachedCodeLocation.dependencies.get(indexes.get(parent.getExternalId()));
+            for (Dependency child : dependencyGraph.getChildrenForParent(parent)) {
+                cachedParent.children.add(indexOf(child, indexes, cachedCodeLocation.dependencies, unprocessed));
+            }
+        }
+        return cachedCodeLocation;
+    }
+
+    private int indexOf(Dependency dependency, Map<ExternalId, Integer> indexes, List<CachedDependency> dependencies, Deque<Dependency> unprocessed) {
+        Integer index = indexes.get(dependency.getExternalId());
+        if (index == null) {
+            index = dependencies.size();
+            indexes.put(dependency.getExternalId(), index);
+            CachedDependency cachedDependency = new CachedDependency();
+            cachedDependency.name = dependency.getName();
+            cachedDependency.version = dependency.getVersion();
+            cachedDependency.externalId = toCachedExternalId(dependency.getExternalId());
+            cachedDependency.children = new ArrayList<>();
+            dependencies.add(cachedDependency);
+            unprocessed.add(dependency);
+        }
+        return index;
+    }
+
+    private CodeLocation toCodeLocation(CachedCodeLocation cachedCodeLocation) {
+        List<Dependency> dependencies = cachedCodeLocation.dependencies.stream()
+                                            .map(cachedDependency -> new Dependency(cachedDependency.name, cachedDependency.version, toExternalId(cachedDependency.externalId)))
+                                            .collect(Collectors.toList());
+        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        for (Integer rootIndex : cachedCodeLocation.rootDependencies) {
+            dependencyGraph.addChildToRoot(dependencies.get(rootIndex));
+        }
+        for (int parentIndex = 0; parentIndex < dependencies.size(); parentIndex++) {
+            for (Integer childIndex : cachedCodeLocation.dependencies.get(parentIndex).children) {
+                dependencyGraph.addChildWithParent(dependencies.get(childIndex), dependencies.get(parentIndex));
+            }
+        }
+        ExternalId externalId = cachedCodeLocation.externalId == null ? null : toExternalId(cachedCodeLocation.externalId);
+        File sourcePath = cachedCodeLocation.sourcePath == null ? null : new File(cachedCodeLocation.sourcePath);
+        return new CodeLocation(dependencyGraph, externalId, sourcePath);
+    }
+
+    // Only the values an external id is created from are kept. The path and module names an ExternalId reports are derived from its name and version unless it was created from module names.
+    private CachedExternalId toCachedExternalId(ExternalId externalId) {
+        CachedExternalId cachedExternalId = new CachedExternalId();
+        cachedExternalId.forge = externalId.getForge().getName();
+        cachedExternalId.forgeSeparator = externalId.getForge().getSeparator();
+        if (isCreatedFromModuleNames(externalId)) {
+            cachedExternalId.moduleNames = Arrays.stream(externalId.getModuleNames())
+                                               .filter(Objects::nonNull)
+                                               .collect(Collectors.toList());
+        } else {
+            cachedExternalId.group = externalId.getGroup();
+            cachedExternalId.name = externalId.getName();
+            cachedExternalId.version = externalId.getVersion();
+            cachedExternalId.architecture = externalId.getArchitecture();
+        }
+        return cachedExternalId;
+    }
+
+    private boolean isCreatedFromModuleNames(ExternalId externalId) {
+        return externalId.getName() == null && externalId.getVersion() == null && externalId.getModuleNames() != null && externalId.getModuleNames().length > 2;
+    }
+
+    private ExternalId toExternalId(CachedExternalId cachedExternalId) {
+        Forge forge = Forge.getKnownForges().get(cachedExternalId.forge);
+        if (forge == null) {
+            forge = new Forge(cachedExternalId.forgeSeparator, cachedExternalId.forge);
+        }
+        if (cachedExternalId.moduleNames != null) {
+            return externalIdFactory.createModuleNamesExternalId(forge, cachedExternalId.moduleNames.toArray(new String[0]));
+        }
+        if (cachedExternalId.architecture != null) {
+            return externalIdFactory.createArchitectureExternalId(forge, cachedExternalId.name, cachedExternalId.version, cachedExternalId.architecture);
+        }
+        if (cachedExternalId.group != null && Forge.MAVEN.equals(forge)) {
+            return externalIdFactory.createMavenExternalId(cachedExternalId.group, cachedExternalId.name, cachedExternalId.version);
+        }
+        // The layer of a yocto id is held as its group.
+        if (cachedExternalId.group != null && Forge.YOCTO.equals(forge)) {
+            return externalIdFactory.createYoctoExternalId(cachedExternalId.group, cachedExternalId.name, cachedExternalId.version);
+        }
+        ExternalId externalId;
+        if (cachedExternalId.version != null) {
+            externalId = externalIdFactory.createNameVersionExternalId(forge, cachedExternalId.name, cachedExternalId.version);
+        } else {
+            externalId = externalIdFactory.createNameVersionExternalId(forge, cachedExternalId.name);
+        }
+        externalId.setGroup(cachedExternalId.group);
+        return externalId;
+    }
+
+    private List<String> toPaths(@Nullable List<File> files) {
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        return files.stream().map(File::getPath).collect(Collectors.toList());
+    }
+
+    private List<File> toFiles(@Nullable List<String> paths) {
+        if (paths == null) {
+            return new ArrayList<>();
+        }
+        return paths.stream().map(File::new).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedCodeLocation;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedDependency;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedExtraction;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedExternalId;
+
+// Caches successful extractions on disk keyed by a fingerprint of the inputs the detectable declares. Entries are evicted least recently used first once the cache grows past its maximum size.
+public class ExtractionCache {
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final int MAXIMUM_LOGGED_DIFFERENCES = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Gson gson = new Gson();
+    private final ExtractionCacheOptions extractionCacheOptions;
+    private final ExtractionFingerprinter extractionFingerprinter;
+    private final CachedExtractionConverter cachedExtractionConverter;
+
+    public ExtractionCache(ExtractionCacheOptions extractionCacheOptions) {
+        this(extractionCacheOptions, new ExtractionFingerprinter(), new CachedExtractionConverter());
+    }
+
+    public ExtractionCache(ExtractionCacheOptions extractionCacheOptions, ExtractionFingerprinter extractionFingerprinter, CachedExtractionConverter cachedExtractionConverter) {
+        this.extractionCacheOptions = extractionCacheOptions;
+        this.extractionFingerprinter = extractionFingerprinter;
+        this.cachedExtractionConverter = cachedExtractionConverter;
+    }
+
+    public Extraction extract(Detectable detectable, ExtractionEnvironment extractionEnvironment) throws ExecutableFailedException {
+        Optional<ExtractionInputs> extractionInputs = detectable.getExtractionInputs();
+        if (!extractionCacheOptions.isEnabled() || !extractionInputs.isPresent()) {
+            return detectable.extract(extractionEnvironment);
+        }
+
+        String detectableName = detectable.getClass().getSimpleName();
+        String fingerprint;
+        try {
+            fingerprint = extractionFingerprinter.fingerprint(extractionCacheOptions.getCacheVersion(), detectable.getClass().getName(), extractionInputs.get());
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to fingerprint the inputs of %s, it will not be cached.", detectableName), e);
+            return detectable.extract(extractionEnvironment);
+        }
+
+        Path cacheFile = extractionCacheOptions.getCacheDirectory().resolve(fingerprint + CACHE_FILE_EXTENSION);
+        Optional<CachedExtraction> cachedExtraction = read(cacheFile);
+        if (cachedExtraction.isPresent() && extractionCacheOptions.getMode() == ExtractionCacheMode.ENABLED) {
+            Optional<Extraction> extraction = toExtraction(cacheFile, cachedExtraction.get());
+            if (extraction.isPresent()) {
+                logger.debug("Using the cached extraction of {} from {}.", detectableName, cacheFile);
+                touch(cacheFile);
+                return extraction.get();
+            }
+        }
+
+        Extraction extraction = detectable.extract(extractionEnvironment);
+        if (extraction.isSuccess()) {
+            CachedExtraction freshExtraction = cachedExtractionConverter.toCachedExtraction(extraction);
+            if (extractionCacheOptions.getMode() == ExtractionCacheMode.VERIFY) {
+                cachedExtraction.ifPresent(previousExtraction -> verify(detectableName, previousExtraction, freshExtraction));
+            }
+            write(cacheFile, freshExtraction);
+        }
+        return extraction;
+    }
+
+    private Optional<CachedExtraction> read(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(cacheFile, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(gson.fromJson(reader, CachedExtraction.class));
+        } catch (IOException | JsonParseException e) {
+            logger.debug(String.format("Unable to read the cached extraction %s, it will be replaced.", cacheFile), e);
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Extraction> toExtraction(Path cacheFile, CachedExtraction cachedExtraction) {
+        try {
+            return Optional.of(cachedExtractionConverter.toExtraction(cachedExtraction));
+        } catch (RuntimeException e) {
+            logger.debug(String.format("The cached extraction %s is not valid, it will be replaced.", cacheFile), e);
+            return Optional.empty();
+        }
+    }
+
+    // Writes go through a temporary file so concurrent extractions never see a partially written entry.
+    private void write(Path cacheFile, CachedExtraction cachedExtraction) {
+        Path cacheDirectory = extractionCacheOptions.getCacheDirectory();
+        try {
+            Files.createDirectories(cacheDirectory);
+            Path temporaryFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                gson.toJson(cachedExtraction, writer);
+            }
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to write the cached extraction %s.", cacheFile), e);
+            return;
+        }
+        evictLeastRecentlyUsed();
+    }
+
+    private void touch(Path cacheFile) {
+        try {
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug(String.format("Unable to update the last used time of %s.", cacheFile), e);
+        }
+    }
+
+    private synchronized void evictLeastRecentlyUsed() {
+        List<Path> cacheFiles;
+        try (Stream<Path> paths = Files.list(extractionCacheOptions.getCacheDirectory())) {
+            cacheFiles = paths.filter(path -> path.getFileName().toString().endsWith(CACHE_FILE_EXTENSION))
+                             .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.debug("Unable to list the extraction cache.", e);
+            return;
+        }
+
+        List<CacheFileUsage> usages = new ArrayList<>(cacheFiles.size());
+        for (Path cacheFile : cacheFiles) {
+            try {
+                usages.add(new CacheFileUsage(cacheFile, Files.getLastModifiedTime(cacheFile).toMillis(), Files.size(cacheFile)));
+            } catch (IOException e) {
+                // Removed by another extraction while listing.
+            }
+        }
+        usages.sort(Comparator.comparingLong(CacheFileUsage::getLastUsed).reversed());
+
+        long retainedSize = 0;
+        for (CacheFileUsage usage : usages) {
+            retainedSize += usage.getSize();
+            if (retainedSize > extractionCacheOptions.getMaximumSizeInBytes()) {
+                try {
+                    logger.debug("Evicting {} from the extraction cache.", usage.getPath());
+                    Files.deleteIfExists(usage.getPath());
+                } catch (IOException e) {
+                    logger.debug(String.format("Unable to evict %s from the extraction cache.", usage.getPath()), e);
+                }
+            }
+        }
+    }
+
+    private void verify(String detectableName, CachedExtraction cachedExtraction, CachedExtraction freshExtraction) {
+        Set<String> cachedFacts = describe(cachedExtraction);
+        Set<String> freshFacts = describe(freshExtraction);
+        List<String> onlyCached = cachedFacts.stream().filter(fact -> !freshFacts.contains(fact)).collect(Collectors.toList());
+        List<String> onlyFresh = freshFacts.stream().filter(fact -> !cachedFacts.contains(fact)).collect(Collectors.toList());
+        if (onlyCached.isEmpty() && onlyFresh.isEmpty()) {
+            logger.info("The cached extraction of {} matches a fresh extraction.", detectableName);
+            return;
+        }
+        logger.warn("The cached extraction of {} does not match a fresh extraction: {} differences only in the cache, {} only in the fresh extraction.", detectableName, onlyCached.size(), onlyFresh.size());
+        onlyCached.stream().limit(MAXIMUM_LOGGED_DIFFERENCES).forEach(fact -> logger.warn("Only cached: {}", fact));
+        onlyFresh.stream().limit(MAXIMUM_LOGGED_DIFFERENCES).forEach(fact -> logger.warn("Only fresh: {}", fact));
+    }
+
+    // Flattens an extraction into comparable statements so the comparison does not depend on the order dependencies were visited in.
+    private Set<String> describe(CachedExtraction cachedExtraction) {
+        Set<String> facts = new LinkedHashSet<>();
+        facts.add("project name: " + cachedExtraction.projectName);
+        facts.add("project version: " + cachedExtraction.projectVersion);
+        for (int codeLocationIndex = 0; codeLocationIndex < cachedExtraction.codeLocations.size(); codeLocationIndex++) {
+            CachedCodeLocation codeLocation = cachedExtraction.codeLocations.get(codeLocationIndex);
+            String prefix = String.format("code location %d ", codeLocationIndex);
+            facts.add(prefix + "external id: " + describe(codeLocation.externalId));
+            facts.add(prefix + "source path: " + codeLocation.sourcePath);
+            for (Integer rootIndex : codeLocation.rootDependencies) {
+                facts.add(prefix + "root dependency: " + describe(codeLocation.dependencies.get(rootIndex)));
+            }
+            for (CachedDependency dependency : codeLocation.dependencies) {
+                for (Integer childIndex : dependency.children) {
+                    facts.add(prefix + "relationship: " + describe(dependency) + " -> " + describe(codeLocation.dependencies.get(childIndex)));
+                }
+            }
+        }
+        return facts;
+    }
+
+    private String describe(CachedDependency dependency) {
+        return String.format("%s %s (%s)", dependency.name, dependency.version, describe(dependency.externalId));
+    }
+
+    private String describe(CachedExternalId externalId) {
+        if (externalId == null) {
+            return "none";
+        }
+        return gson.toJson(externalId);
+    }
+
+    private static class CacheFileUsage {
+        private final Path path;
+        private final long lastUsed;
+        private final long size;
+
+        public CacheFileUsage(Path path, long lastUsed, long size) {
+            this.path = path;
+            this.lastUsed = lastUsed;
+            this.size = size;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getLastUsed() {
+            return lastUsed;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
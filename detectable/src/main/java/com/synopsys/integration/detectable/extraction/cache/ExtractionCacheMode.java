@@ -0,0 +1,14 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+public enum ExtractionCacheMode {
+    DISABLED,
+    ENABLED,
+    VERIFY
+}
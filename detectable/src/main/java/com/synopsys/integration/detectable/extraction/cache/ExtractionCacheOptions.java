@@ -0,0 +1,49 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import java.nio.file.Path;
+
+public class ExtractionCacheOptions {
+    private final ExtractionCacheMode mode;
+    private final Path cacheDirectory;
+    private final long maximumSizeInBytes;
+    private final String cacheVersion;
+
+    // The cache version is part of every fingerprint so results cached by a different release are never used.
+    public ExtractionCacheOptions(ExtractionCacheMode mode, Path cacheDirectory, long maximumSizeInBytes, String cacheVersion) {
+        this.mode = mode;
+        this.cacheDirectory = cacheDirectory;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        this.cacheVersion = cacheVersion;
+    }
+
+    public static ExtractionCacheOptions disabled() {
+        return new ExtractionCacheOptions(ExtractionCacheMode.DISABLED, null, 0, "");
+    }
+
+    public boolean isEnabled() {
+        return mode != ExtractionCacheMode.DISABLED;
+    }
+
+    public ExtractionCacheMode getMode() {
+        return mode;
+    }
+
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public long getMaximumSizeInBytes() {
+        return maximumSizeInBytes;
+    }
+
+    public String getCacheVersion() {
+        return cacheVersion;
+    }
+}
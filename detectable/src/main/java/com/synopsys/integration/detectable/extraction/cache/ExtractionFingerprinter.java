@@ -0,0 +1,80 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
+
+public class ExtractionFingerprinter {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Changed whenever the cached json changes shape so entries written in an older shape are never read.
+    private static final String CACHE_FORMAT = "2";
+
+    public String fingerprint(String cacheVersion, String detectableId, ExtractionInputs extractionInputs) throws IOException {
+        MessageDigest digest = createDigest();
+        update(digest, CACHE_FORMAT);
+        update(digest, cacheVersion);
+        update(digest, detectableId);
+        for (Map.Entry<String, String> option : extractionInputs.getOptions().entrySet()) {
+            update(digest, option.getKey());
+            update(digest, option.getValue());
+        }
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (File file : extractionInputs.getFiles()) {
+            update(digest, file.getAbsolutePath());
+            if (!file.isFile()) {
+                update(digest, "missing");
+                continue;
+            }
+            MessageDigest fileDigest = createDigest();
+            try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    fileDigest.update(buffer, 0, read);
+                }
+            }
+            digest.update(fileDigest.digest());
+        }
+        return toHex(digest.digest());
+    }
+
+    // Every value is length prefixed so adjacent values can not run together into the same digest input.
+    private void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            hex.append(Character.forDigit((value >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(value & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
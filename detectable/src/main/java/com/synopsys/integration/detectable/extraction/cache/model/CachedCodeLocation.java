@@ -0,0 +1,27 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache.model;
+
+import java.util.List;
+
+import com.google.gson.annotations.SerializedName;
+
+public class CachedCodeLocation {
+    @SerializedName("sourcePath")
+    public String sourcePath;
+
+    @SerializedName("externalId")
+    public CachedExternalId externalId;
+
+    // Children refer to dependencies by their index in this list.
+    @SerializedName("dependencies")
+    public List<CachedDependency> dependencies;
+
+    @SerializedName("rootDependencies")
+    public List<Integer> rootDependencies;
+}
@@ -0,0 +1,26 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache.model;
+
+import java.util.List;
+
+import com.google.gson.annotations.SerializedName;
+
+public class CachedDependency {
+    @SerializedName("name")
+    public String name;
+
+    @SerializedName("version")
+    public String version;
+
+    @SerializedName("externalId")
+    public CachedExternalId externalId;
+
+    @SerializedName("children")
+    public List<Integer> children;
+}
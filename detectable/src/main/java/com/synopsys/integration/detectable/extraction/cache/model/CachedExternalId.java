@@ -0,0 +1,35 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache.model;
+
+import java.util.List;
+
+import com.google.gson.annotations.SerializedName;
+
+public class CachedExternalId {
+    @SerializedName("forge")
+    public String forge;
+
+    @SerializedName("forgeSeparator")
+    public String forgeSeparator;
+
+    @SerializedName("group")
+    public String group;
+
+    @SerializedName("name")
+    public String name;
+
+    @SerializedName("version")
+    public String version;
+
+    @SerializedName("architecture")
+    public String architecture;
+
+    @SerializedName("moduleNames")
+    public List<String> moduleNames;
+}
@@ -0,0 +1,29 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.extraction.cache.model;
+
+import java.util.List;
+
+import com.google.gson.annotations.SerializedName;
+
+public class CachedExtraction {
+    @SerializedName("projectName")
+    public String projectName;
+
+    @SerializedName("projectVersion")
+    public String projectVersion;
+
+    @SerializedName("relevantFiles")
+    public List<String> relevantFiles;
+
+    @SerializedName("unrecognizedPaths")
+    public List<String> unrecognizedPaths;
+
+    @SerializedName("codeLocations")
+    public List<CachedCodeLocation> codeLocations;
+}
@@ -0,0 +1,241 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+/*
+  A read only dependency graph that stores each dependency once in an array and its relationships as int indexes into that array.
+  Children are kept in compressed rows: the children of node i are childIndexes[childOffsets[i]] up to childIndexes[childOffsets[i + 1]].
+  External ids are found through an open addressing table of node indexes rather than a map, so no per entry objects are held.
+  The sets returned through DependencyGraph are created on each call, which is how the BDIO writers walk a graph once.
+ */
+public class CompactDependencyGraph implements DependencyGraph {
+    private static final int EMPTY_SLOT = -1;
+
+    private final Dependency[] dependencies;
+    private final int[] rootIndexes;
+    private final int[] childOffsets;
+    private final int[] childIndexes;
+    private final int[] lookupTable;
+
+    private CompactDependencyGraph(Dependency[] dependencies, int[] rootIndexes, int[] childOffsets, int[] childIndexes) {
+        this.dependencies = dependencies;
+        this.rootIndexes = rootIndexes;
+        this.childOffsets = childOffsets;
+        this.childIndexes = childIndexes;
+        this.lookupTable = createLookupTable(dependencies);
+    }
+
+    // Only dependencies reachable from the roots are kept, which are the only ones the BDIO writers visit. Interned external ids are shared instances, so they are indexed by identity.
+    public static CompactDependencyGraph fromGraph(DependencyGraph graph, ExternalIdInterner externalIdInterner) {
+        Map<ExternalId, Integer> indexes = new IdentityHashMap<>();
+        Dependency[] dependencies = new Dependency[16];
+        int dependencyCount = 0;
+
+        Set<Dependency> rootDependencies = graph.getRootDependencies();
+        int[] rootIndexes = new int[rootDependencies.size()];
+        int rootCount = 0;
+        for (Dependency rootDependency : rootDependencies) {
+            Dependency dependency = externalIdInterner.intern(rootDependency);
+            Integer index = indexes.get(dependency.getExternalId());
+            if (index == null) {
+                index = dependencyCount;
+                indexes.put(dependency.getExternalId(), index);
+                dependencies = ensureCapacity(dependencies, dependencyCount + 1);
+                dependencies[dependencyCount++] = dependency;
+            }
+            rootIndexes[rootCount++] = index;
+        }
+
+        // Nodes are visited in index order, so each node's children are appended right after the previous node's.
+        int[] childOffsets = new int[16];
+        int[] childIndexes = new int[16];
+        int edgeCount = 0;
+        for (int parentIndex = 0; parentIndex < dependencyCount; parentIndex++) {
+            childOffsets = ensureCapacity(childOffsets, parentIndex + 2);
+            childOffsets[parentIndex] = edgeCount;
+            for (Dependency childDependency : graph.getChildrenForParent(dependencies[parentIndex].getExternalId())) {
+                Dependency dependency = externalIdInterner.intern(childDependency);
+                Integer index = indexes.get(dependency.getExternalId());
+                if (index == null) {
+                    index = dependencyCount;
+                    indexes.put(dependency.getExternalId(), index);
+                    dependencies = ensureCapacity(dependencies, dependencyCount + 1);
+                    dependencies[dependencyCount++] = dependency;
+                }
+                childIndexes = ensureCapacity(childIndexes, edgeCount + 1);
+                childIndexes[edgeCount++] = index;
+            }
+        }
+        childOffsets = Arrays.copyOf(childOffsets, dependencyCount + 1);
+        childOffsets[dependencyCount] = edgeCount;
+
+        return new CompactDependencyGraph(Arrays.copyOf(dependencies, dependencyCount), Arrays.copyOf(rootIndexes, rootCount), childOffsets, Arrays.copyOf(childIndexes, edgeCount));
+    }
+
+    public int getNodeCount() {
+        return dependencies.length;
+    }
+
+    // Counts parent to child relationships only, the roots are not edges.
+    public int getEdgeCount() {
+        return childIndexes.length;
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        return collect(rootIndexes, 0, rootIndexes.length, index -> dependencies[index].getExternalId());
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        return collect(rootIndexes, 0, rootIndexes.length, index -> dependencies[index]);
+    }
+
+    @Override
+    public boolean hasDependency(ExternalId dependency) {
+        return indexOf(dependency) != EMPTY_SLOT;
+    }
+
+    @Override
+    public boolean hasDependency(Dependency dependency) {
+        return hasDependency(dependency.getExternalId());
+    }
+
+    @Override
+    public Dependency getDependency(ExternalId dependency) {
+        int index = indexOf(dependency);
+        return index != EMPTY_SLOT ? dependencies[index] : null;
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(ExternalId parent) {
+        return collectChildren(parent, index -> dependencies[index]);
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(Dependency parent) {
+        return getChildrenForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(ExternalId parent) {
+        return collectChildren(parent, index -> dependencies[index].getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.getExternalId());
+    }
+
+    // Parents are not stored, nothing that writes BDIO asks for them so they are found by scanning the children.
+    @Override
+    public Set<Dependency> getParentsForChild(ExternalId child) {
+        return collectParents(child, index -> dependencies[index]);
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(Dependency child) {
+        return getParentsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(ExternalId child) {
+        return collectParents(child, index -> dependencies[index].getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(Dependency child) {
+        return getParentExternalIdsForChild(child.getExternalId());
+    }
+
+    private <T> Set<T> collectChildren(ExternalId parent, IntFunction<T> mapper) {
+        int parentIndex = indexOf(parent);
+        if (parentIndex == EMPTY_SLOT) {
+            return new HashSet<>();
+        }
+        return collect(childIndexes, childOffsets[parentIndex], childOffsets[parentIndex + 1], mapper);
+    }
+
+    private <T> Set<T> collectParents(ExternalId child, IntFunction<T> mapper) {
+        Set<T> parents = new HashSet<>();
+        int childIndex = indexOf(child);
+        if (childIndex == EMPTY_SLOT) {
+            return parents;
+        }
+        for (int parentIndex = 0; parentIndex < dependencies.length; parentIndex++) {
+            for (int edge = childOffsets[parentIndex]; edge < childOffsets[parentIndex + 1]; edge++) {
+                if (childIndexes[edge] == childIndex) {
+                    parents.add(mapper.apply(parentIndex));
+                    break;
+                }
+            }
+        }
+        return parents;
+    }
+
+    private <T> Set<T> collect(int[] indexes, int from, int to, IntFunction<T> mapper) {
+        Set<T> collected = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            collected.add(mapper.apply(indexes[i]));
+        }
+        return collected;
+    }
+
+    private int indexOf(ExternalId externalId) {
+        if (externalId == null) {
+            return EMPTY_SLOT;
+        }
+        int mask = lookupTable.length - 1;
+        for (int slot = spread(externalId.hashCode()) & mask; lookupTable[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+            ExternalId candidate = dependencies[lookupTable[slot]].getExternalId();
+            if (candidate == externalId || candidate.equals(externalId)) {
+                return lookupTable[slot];
+            }
+        }
+        return EMPTY_SLOT;
+    }
+
+    // Sized to a power of two at least twice the node count so probes stay short.
+    private static int[] createLookupTable(Dependency[] dependencies) {
+        int size = Integer.highestOneBit(Math.max(2, dependencies.length * 2 - 1)) << 1;
+        int[] table = new int[size];
+        Arrays.fill(table, EMPTY_SLOT);
+        int mask = size - 1;
+        for (int index = 0; index < dependencies.length; index++) {
+            int slot = spread(dependencies[index].getExternalId().hashCode()) & mask;
+            while (table[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = index;
+        }
+        return table;
+    }
+
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static Dependency[] ensureCapacity(Dependency[] array, int required) {
+        return required <= array.length ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+
+    private static int[] ensureCapacity(int[] array, int required) {
+        return required <= array.length ? array : Arrays.copyOf(array, Math.max(required, array.length * 2));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.util;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.BdioWriter;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.BdioComponent;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+/*
+  Writes a graph as BDIO by walking it and writing each component as soon as it is created, rather than creating every component of the document first.
+  Components are visited in the same depth first order SimpleBdioFactory uses, so the written nodes match createSimpleBdioDocument.
+  Only the external ids already written are held, the components themselves are released once written.
+  Detect's StreamingBdioWriter is the only production caller. This lives in detectable rather than next to it so that detectable-benchmarks, which only depends on detectable and common, can benchmark it.
+ */
+public class DependencyGraphBdioStreamer {
+    private final SimpleBdioFactory simpleBdioFactory;
+
+    public DependencyGraphBdioStreamer(SimpleBdioFactory simpleBdioFactory) {
+        this.simpleBdioFactory = simpleBdioFactory;
+    }
+
+    // The document should only have a bill of materials and a project, they are written first followed by the graph's components.
+    public void writeDocument(BdioWriter bdioWriter, SimpleBdioDocument document, DependencyGraph dependencyGraph) throws IOException {
+        Set<Dependency> rootDependencies = dependencyGraph.getRootDependencies();
+        for (Dependency rootDependency : rootDependencies) {
+            simpleBdioFactory.getBdioPropertyHelper().addRelationship(document.getProject(), createComponent(rootDependency));
+        }
+        bdioWriter.writeBdioNode(document.getBillOfMaterials());
+        bdioWriter.writeBdioNode(document.getProject());
+
+        Set<ExternalId> writtenExternalIds = new HashSet<>();
+        Deque<Iterator<Dependency>> unvisited = new ArrayDeque<>();
+        unvisited.push(rootDependencies.iterator());
+        while (!unvisited.isEmpty()) {
+            Iterator<Dependency> siblings = unvisited.peek();
+            if (!siblings.hasNext()) {
+                unvisited.pop();
+                continue;
+            }
+            Dependency dependency = siblings.next();
+            if (!writtenExternalIds.add(dependency.getExternalId())) {
+                continue;
+            }
+
+            Set<Dependency> children = dependencyGraph.getChildrenForParent(dependency);
+            BdioComponent component = createComponent(dependency);
+            for (Dependency child : children) {
+                simpleBdioFactory.getBdioPropertyHelper().addRelationship(component, createComponent(child));
+            }
+            bdioWriter.writeBdioNode(component);
+            unvisited.push(children.iterator());
+        }
+    }
+
+    private BdioComponent createComponent(Dependency dependency) {
+        return simpleBdioFactory.getBdioNodeFactory().createComponent(dependency.getName(), dependency.getVersion(), dependency.getExternalId());
+    }
+}
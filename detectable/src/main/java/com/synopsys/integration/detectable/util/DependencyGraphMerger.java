@@ -0,0 +1,120 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.common.util.FutureTasks;
+
+/*
+  Merges many graphs into one, visiting each dependency of a graph once no matter how many parents share it.
+  MutableDependencyGraph.addGraphAsChildrenToParent re-adds a shared subgraph once for every path that reaches it, which is what makes aggregating code locations with common dependencies slow.
+  With more than one thread the graphs are split into consecutive chunks that are merged into partial graphs on their own threads and then merged in chunk order,
+  so the first graph that has a dependency still provides it, just as when merging on one thread.
+ */
+public class DependencyGraphMerger {
+    private final ExternalIdInterner externalIdInterner;
+
+    public DependencyGraphMerger(ExternalIdInterner externalIdInterner) {
+        this.externalIdInterner = externalIdInterner;
+    }
+
+    public MutableDependencyGraph mergeAsChildrenToRoot(List<DependencyGraph> graphs, int threads) throws InterruptedException {
+        return merge(null, graphs, threads);
+    }
+
+    // Each graph is added beneath the parent at the same index, and the parents become the roots.
+    public MutableDependencyGraph mergeAsChildrenToParents(List<Dependency> parents, List<DependencyGraph> graphs, int threads) throws InterruptedException {
+        if (parents.size() != graphs.size()) {
+            throw new IllegalArgumentException(String.format("Each graph needs a parent, found %d parents for %d graphs.", parents.size(), graphs.size()));
+        }
+        return merge(parents, graphs, threads);
+    }
+
+    public void addGraphAsChildrenToParent(MutableDependencyGraph target, @Nullable Dependency parent, DependencyGraph source) {
+        Set<Dependency> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Dependency> unvisited = new ArrayDeque<>();
+        for (Dependency root : source.getRootDependencies()) {
+            Dependency dependency = externalIdInterner.intern(root);
+            if (parent == null) {
+                target.addChildToRoot(dependency);
+            } else {
+                target.addChildWithParent(dependency, parent);
+            }
+            if (visited.add(dependency)) {
+                unvisited.push(dependency);
+            }
+        }
+
+        while (!unvisited.isEmpty()) {
+            Dependency dependency = unvisited.pop();
+            for (Dependency child : source.getChildrenForParent(dependency)) {
+                Dependency internedChild = externalIdInterner.intern(child);
+                target.addChildWithParent(internedChild, dependency);
+                if (visited.add(internedChild)) {
+                    unvisited.push(internedChild);
+                }
+            }
+        }
+    }
+
+    private MutableDependencyGraph merge(@Nullable List<Dependency> parents, List<DependencyGraph> graphs, int threads) throws InterruptedException {
+        int chunkCount = Math.max(1, Math.min(threads, graphs.size()));
+        if (chunkCount == 1) {
+            return mergeChunk(parents, graphs, 0, graphs.size());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(chunkCount);
+        try {
+            List<Future<MutableDependencyGraph>> partialGraphs = new ArrayList<>();
+            int chunkSize = (graphs.size() + chunkCount - 1) / chunkCount;
+            for (int start = 0; start < graphs.size(); start += chunkSize) {
+                int chunkStart = start;
+                int chunkEnd = Math.min(graphs.size(), start + chunkSize);
+                partialGraphs.add(FutureTasks.run(executorService, () -> mergeChunk(parents, graphs, chunkStart, chunkEnd)));
+            }
+
+            MutableDependencyGraph mergedGraph = new MutableMapDependencyGraph();
+            for (Future<MutableDependencyGraph> partialGraph : partialGraphs) {
+                addGraphAsChildrenToParent(mergedGraph, null, FutureTasks.await(partialGraph, partialGraphs, IllegalStateException::new));
+            }
+            return mergedGraph;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private MutableDependencyGraph mergeChunk(@Nullable List<Dependency> parents, List<DependencyGraph> graphs, int start, int end) {
+        MutableDependencyGraph chunkGraph = new MutableMapDependencyGraph();
+        for (int index = start; index < end; index++) {
+            if (parents == null) {
+                addGraphAsChildrenToParent(chunkGraph, null, graphs.get(index));
+            } else {
+                Dependency parent = externalIdInterner.intern(parents.get(index));
+                chunkGraph.addChildToRoot(parent);
+                addGraphAsChildrenToParent(chunkGraph, parent, graphs.get(index));
+            }
+        }
+        return chunkGraph;
+    }
+}
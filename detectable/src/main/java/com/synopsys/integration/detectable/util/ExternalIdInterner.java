@@ -0,0 +1,75 @@
+/*
+ * detectable
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detectable.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+// Shares a single instance of each equal external id and dependency across every graph that is interned, so code locations that find the same components do not each hold a copy.
+public class ExternalIdInterner {
+    private final ConcurrentMap<ExternalId, ExternalId> externalIds = new ConcurrentHashMap<>();
+    private final ConcurrentMap<DependencyKey, Dependency> dependencies = new ConcurrentHashMap<>();
+
+    public ExternalId intern(ExternalId externalId) {
+        ExternalId existing = externalIds.putIfAbsent(externalId, externalId);
+        return existing != null ? existing : externalId;
+    }
+
+    public Dependency intern(Dependency dependency) {
+        ExternalId externalId = intern(dependency.getExternalId());
+        DependencyKey key = new DependencyKey(dependency.getName(), dependency.getVersion(), externalId);
+        return dependencies.computeIfAbsent(key, missing -> {
+            if (dependency.getExternalId() == externalId) {
+                return dependency;
+            }
+            return new Dependency(dependency.getName(), dependency.getVersion(), externalId);
+        });
+    }
+
+    public int getExternalIdCount() {
+        return externalIds.size();
+    }
+
+    public int getDependencyCount() {
+        return dependencies.size();
+    }
+
+    // Dependencies are only shared when the name and version match too, the same external id can be reported under different names by different detectors.
+    private static class DependencyKey {
+        private final String name;
+        private final String version;
+        private final ExternalId externalId;
+
+        private DependencyKey(String name, String version, ExternalId externalId) {
+            this.name = name;
+            this.version = version;
+            this.externalId = externalId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DependencyKey that = (DependencyKey) o;
+            return externalId == that.externalId && Objects.equals(name, that.name) && Objects.equals(version, that.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, version, System.identityHashCode(externalId));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.synopsys.integration.detectable.detectable.executable.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+@UnitTest
+public class StreamingExecutableOutputTest {
+    @Test
+    public void replaysLinesAsTheyWouldHaveBeenStreamed() throws IOException {
+        String[] outputs = {
+            "",
+            "one",
+            "one\n",
+            "one\ntwo",
+            "one\r\ntwo\r\n",
+            "one\rtwo",
+            "one\n\ntwo\n\n",
+            "\n",
+            "\n\n"
+        };
+        for (String output : outputs) {
+            List<String> replayedLines = new ArrayList<>();
+            StreamingExecutableOutput.fromExecutableOutput(new ExecutableOutput(0, output, ""), replayedLines::add, LineConsumer.discard(), 10);
+
+            assertEquals(readLines(output), replayedLines, "Replayed lines differ for: " + output);
+        }
+    }
+
+    @Test
+    public void keepsTheTailOfEachStream() {
+        List<String> standardOutputLines = new ArrayList<>();
+        List<String> errorOutputLines = new ArrayList<>();
+        ExecutableOutput executableOutput = new ExecutableOutput(1, "one\ntwo\nthree\nfour", "error one\nerror two");
+
+        StreamingExecutableOutput output = StreamingExecutableOutput.fromExecutableOutput(executableOutput, standardOutputLines::add, errorOutputLines::add, 2);
+
+        assertEquals(1, output.getReturnCode());
+        assertEquals(Arrays.asList("one", "two", "three", "four"), standardOutputLines);
+        assertEquals(Arrays.asList("error one", "error two"), errorOutputLines);
+        assertEquals(Arrays.asList("three", "four"), output.getStandardOutputTail());
+        assertEquals(Arrays.asList("error one", "error two"), output.getErrorOutputTail());
+    }
+
+    @Test
+    public void convertsTheTailToExecutableOutput() {
+        StreamingExecutableOutput output = new StreamingExecutableOutput(2, Arrays.asList("three", "four"), Arrays.asList("error"));
+
+        ExecutableOutput executableOutput = output.toExecutableOutput();
+
+        assertEquals(2, executableOutput.getReturnCode());
+        assertEquals("three" + System.lineSeparator() + "four", executableOutput.getStandardOutput());
+        assertEquals("error", executableOutput.getErrorOutput());
+    }
+
+    @Test
+    public void keepsNoTailWithoutALimit() {
+        List<String> standardOutputLines = new ArrayList<>();
+
+        StreamingExecutableOutput output = StreamingExecutableOutput.fromExecutableOutput(new ExecutableOutput(0, "one\ntwo", ""), standardOutputLines::add, LineConsumer.discard(), 0);
+
+        assertEquals(Arrays.asList("one", "two"), standardOutputLines);
+        assertTrue(output.getStandardOutputTail().isEmpty());
+        assertEquals("", output.toExecutableOutput().getStandardOutput());
+    }
+
+    private List<String> readLines(String output) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(output))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
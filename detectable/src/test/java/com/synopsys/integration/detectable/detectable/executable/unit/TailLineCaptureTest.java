@@ -0,0 +1,75 @@
+package com.synopsys.integration.detectable.detectable.executable.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.TailLineCapture;
+
+@UnitTest
+public class TailLineCaptureTest {
+    @Test
+    public void keepsEverythingUnderTheLimit() {
+        TailLineCapture tailLineCapture = capture(3, "one", "two");
+
+        assertEquals(Arrays.asList("one", "two"), tailLineCapture.getLines());
+    }
+
+    @Test
+    public void keepsEverythingAtTheLimit() {
+        TailLineCapture tailLineCapture = capture(3, "one", "two", "three");
+
+        assertEquals(Arrays.asList("one", "two", "three"), tailLineCapture.getLines());
+    }
+
+    @Test
+    public void dropsTheOldestLinesOverTheLimit() {
+        TailLineCapture tailLineCapture = capture(3, "one", "two", "three", "four", "five");
+
+        assertEquals(Arrays.asList("three", "four", "five"), tailLineCapture.getLines());
+    }
+
+    @Test
+    public void keepsOnlyTheLastLineWithALimitOfOne() {
+        TailLineCapture tailLineCapture = capture(1, "one", "two", "three");
+
+        assertEquals(Collections.singletonList("three"), tailLineCapture.getLines());
+    }
+
+    @Test
+    public void keepsNothingWithoutALimit() {
+        assertTrue(capture(0, "one", "two").getLines().isEmpty());
+        assertTrue(capture(-1, "one", "two").getLines().isEmpty());
+    }
+
+    @Test
+    public void keepsEmptyLines() {
+        TailLineCapture tailLineCapture = capture(2, "one", "", "");
+
+        assertEquals(Arrays.asList("", ""), tailLineCapture.getLines());
+    }
+
+    @Test
+    public void returnsACopyOfTheLines() {
+        TailLineCapture tailLineCapture = capture(2, "one");
+        List<String> lines = tailLineCapture.getLines();
+
+        tailLineCapture.consumeLine("two");
+
+        assertEquals(Collections.singletonList("one"), lines);
+    }
+
+    private TailLineCapture capture(int maxLines, String... lines) {
+        TailLineCapture tailLineCapture = new TailLineCapture(maxLines);
+        for (String line : lines) {
+            tailLineCapture.consumeLine(line);
+        }
+        return tailLineCapture;
+    }
+}
@@ -28,6 +28,9 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -64,4 +67,25 @@ public class IntermediateStepExecuteBazelOnEachTest {
         assertEquals(1, output.size());
         assertEquals("@org_apache_commons_commons_io//jar:jar\n@com_google_guava_guava//jar:jar", output.get(0));
     }
+
+    @Test
+    public void testBatchedQueriesOnExecutor() throws IntegrationException {
+        BazelCommandExecutor bazelCommandExecutor = Mockito.mock(BazelCommandExecutor.class);
+        Mockito.when(bazelCommandExecutor.executeToString(Arrays.asList("query", "kind(maven_jar, //external:a) union kind(maven_jar, //external:b)", "--output", "xml")))
+            .thenReturn(Optional.of("first"));
+        Mockito.when(bazelCommandExecutor.executeToString(Arrays.asList("query", "kind(maven_jar, //external:c)", "--output", "xml")))
+            .thenReturn(Optional.of("second"));
+        BazelVariableSubstitutor bazelVariableSubstitutor = new BazelVariableSubstitutor("//:ProjectRunner", null);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            IntermediateStep executor = new IntermediateStepExecuteBazelOnEach(bazelCommandExecutor, bazelVariableSubstitutor, Arrays.asList("query", "kind(maven_jar, ${input.item})", "--output", "xml"), true,
+                executorService, 2);
+
+            List<String> output = executor.process(Arrays.asList("//external:a", "//external:b", "//external:c"));
+
+            assertEquals(Arrays.asList("first", "second"), output);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -46,7 +46,7 @@ public class BazelDetectableTest {
         Mockito.when(fileFinder.findFile(new File("."), "WORKSPACE")).thenReturn(new File("src/test/resources/functional/bazel/WORKSPACE"));
         BazelExtractor bazelExtractor = null;
         BazelResolver bazelResolver = null;
-        BazelDetectableOptions bazelDetectableOptions = new BazelDetectableOptions("target", null, null);
+        BazelDetectableOptions bazelDetectableOptions = new BazelDetectableOptions("target", null, null, 1);
         BazelDetectable detectable = new BazelDetectable(environment, fileFinder, bazelExtractor, bazelResolver, bazelDetectableOptions);
 
         assertTrue(detectable.applicable().getPassed());
@@ -0,0 +1,68 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeTaskDependsParser;
+
+@Tag("performance")
+public class BitbakeTaskDependsParserPerformanceTest {
+    private final BitbakeTaskDependsParser parser = new BitbakeTaskDependsParser();
+
+    private File tempDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tempDirectory = Files.createTempDirectory("BitbakeTaskDependsParserPerformanceTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(tempDirectory);
+    }
+
+    @Test
+    public void scalesToLargeTaskDependsFiles() throws IOException {
+        int recipeCount = 5000;
+        int edgeCount = 500000;
+        File taskDependsFile = new File(tempDirectory, "task-depends.dot");
+        try (BufferedWriter writer = Files.newBufferedWriter(taskDependsFile.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("digraph depends {\n");
+            for (int recipe = 0; recipe < recipeCount; recipe++) {
+                writer.write(String.format("\"recipe%d.do_build\" [label = \"recipe%d do_build\\n:1.0.%d-r0\\n/poky/meta/recipe%d.bb\"]%n", recipe, recipe, recipe, recipe));
+            }
+            for (int edge = 0; edge < edgeCount; edge++) {
+                int parent = edge % recipeCount;
+                int child = (parent + 1 + edge / recipeCount) % recipeCount;
+                writer.write(String.format("\"recipe%d.do_task%d\" -> \"recipe%d.do_build\"%n", parent, edge % 7, child));
+            }
+            writer.write("}\n");
+        }
+
+        BitbakeGraph bitbakeGraph = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (BufferedReader reader = Files.newBufferedReader(taskDependsFile.toPath(), StandardCharsets.UTF_8)) {
+                return parser.parse(reader);
+            }
+        });
+
+        assertEquals(recipeCount, bitbakeGraph.getNodes().size());
+        int childCount = bitbakeGraph.getNodes().stream().mapToInt(node -> node.getChildren().size()).sum();
+        assertEquals(edgeCount, childCount);
+        assertEquals("1.0.42-r0", bitbakeGraph.getNodes().get(42).getVersion().get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.synopsys.integration.detectable.detectables.bitbake.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeGraph;
+import com.synopsys.integration.detectable.detectables.bitbake.model.BitbakeNode;
+import com.synopsys.integration.detectable.detectables.bitbake.parse.BitbakeTaskDependsParser;
+
+public class BitbakeTaskDependsParserTest {
+    private final BitbakeTaskDependsParser parser = new BitbakeTaskDependsParser();
+
+    @Test
+    public void parsesNodesAndEdges() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "digraph depends {",
+            "\"acl.do_build\" [label = \"acl do_build\\n:2.2.52-r0\\n/home/bit/poky/meta/recipes-support/attr/acl_2.2.52.bb\"]",
+            "\"acl.do_build\" -> \"acl.do_package_qa\"",
+            "\"acl.do_package\" -> \"attr.do_packagedata\"",
+            "\"attr.do_build\" [label=\"attr do_build\\n:2.4.47-r0\\n/home/bit/poky/meta/recipes-support/attr/attr_2.4.47.bb\",shape=box]",
+            "\"attr.do_build\" -> \"base-files.do_package_write_rpm\"",
+            "}"
+        );
+
+        assertEquals(2, bitbakeGraph.getNodes().size());
+        BitbakeNode acl = bitbakeGraph.getNodes().get(0);
+        assertEquals("acl", acl.getName());
+        assertEquals("2.2.52-r0", acl.getVersion().get());
+        assertEquals(1, acl.getChildren().size());
+        assertTrue(acl.getChildren().contains("attr"), "Self references must be skipped and acl must depend on attr");
+
+        BitbakeNode attr = bitbakeGraph.getNodes().get(1);
+        assertEquals("2.4.47-r0", attr.getVersion().get());
+        assertTrue(attr.getChildren().contains("base-files"));
+    }
+
+    @Test
+    public void removesQuotesFromName() throws IOException {
+        BitbakeGraph bitbakeGraph = parse("\"quotes\\\"removed.do_build\" [label = \"example\\n:example\\n/example\"]");
+
+        assertEquals(1, bitbakeGraph.getNodes().size());
+        assertEquals("quotesremoved", bitbakeGraph.getNodes().get(0).getName());
+    }
+
+    @Test
+    public void ignoresLabelsWithoutVersion() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "node [shape=box]",
+            "\"virtual.do_build\" [label = \"virtual\"]",
+            "rankdir=LR"
+        );
+
+        assertFalse(bitbakeGraph.getNodes().stream().anyMatch(node -> node.getVersion().isPresent()));
+    }
+
+    @Test
+    public void parsesVersionFromLabel() throws IOException {
+        BitbakeGraph bitbakeGraph = parse("name [label = \"name\\n:version\\n/some/path/to.bb\"]");
+
+        assertEquals(1, bitbakeGraph.getNodes().size());
+        assertEquals("version", bitbakeGraph.getNodes().get(0).getVersion().get());
+    }
+
+    @Test
+    public void parsesRelationship() throws IOException {
+        BitbakeGraph bitbakeGraph = parse(
+            "parent [label = \"name\\n:parent.version\\n/some/path/to.bb\"]",
+            "child [label = \"name\\n:child.version\\n/some/path/to.bb\"]",
+            "parent -> child"
+        );
+
+        assertEquals(2, bitbakeGraph.getNodes().size());
+        assertEquals(1, bitbakeGraph.getNodes().get(0).getChildren().size());
+        assertTrue(bitbakeGraph.getNodes().get(0).getChildren().contains("child"), "Parent node children must contain child");
+    }
+
+    private BitbakeGraph parse(String... lines) throws IOException {
+        return parser.parse(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
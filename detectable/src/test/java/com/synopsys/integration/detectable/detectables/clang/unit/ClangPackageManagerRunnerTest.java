@@ -1,10 +1,14 @@
 package com.synopsys.integration.detectable.detectables.clang.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -100,6 +104,70 @@ public class ClangPackageManagerRunnerTest {
         testNonPkgOwnedIncludeFile(packageManagerInfo, packageResolver, pkgOwnerPattern);
     }
 
+    @Test
+    public void testDpkgBatch() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().dpkg();
+        ClangPackageManagerResolver packageResolver = new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver());
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, packageResolver);
+        File workingDirectory = new File("test");
+        File stdioFile = new File("/usr/include/stdio.h");
+        File projectFile = new File("/home/user/project/include/project.h");
+        Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(dependencyFile, stdioFile, projectFile));
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        String ownerOutput = String.format("libxt-dev:amd64: %s\nlibc6-dev:amd64: %s\n", dependencyFile.getAbsolutePath(), stdioFile.getAbsolutePath());
+        String ownerErrorOutput = String.format("dpkg-query: no path found matching pattern %s\n", projectFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", Arrays.asList("-S", dependencyFile.getAbsolutePath(), stdioFile.getAbsolutePath(), projectFile.getAbsolutePath())))
+            .thenReturn(new ExecutableOutput(1, ownerOutput, ownerErrorOutput));
+        String detailsOutput = "Package: libxt-dev\n"
+                                   + "Status: install ok installed\n"
+                                   + "Architecture: amd64\n"
+                                   + "Version: 1:1.1.5-1\n"
+                                   + "\n"
+                                   + "Package: libc6-dev\n"
+                                   + "Status: install ok installed\n"
+                                   + "Architecture: amd64\n"
+                                   + "Version: 2.27-3ubuntu1\n";
+        Mockito.when(executableRunner.execute(workingDirectory, "dpkg", Arrays.asList("-s", "libxt-dev:amd64", "libc6-dev:amd64")))
+            .thenReturn(new ExecutableOutput(0, detailsOutput, ""));
+
+        PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles);
+
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(projectFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        assertEquals(2, result.getFoundPackages().size());
+        assertTrue(result.getFoundPackages().stream().anyMatch(pkg -> pkg.getPackageName().equals("libc6-dev") && pkg.getPackageVersion().equals("2.27-3ubuntu1")));
+        assertTrue(result.getFoundPackages().stream().anyMatch(pkg -> pkg.getPackageName().equals("libxt-dev") && pkg.getPackageVersion().equals("1:1.1.5-1")));
+        Mockito.verify(executableRunner, Mockito.times(2)).execute(Mockito.any(File.class), Mockito.anyString(), Mockito.anyList());
+    }
+
+    @Test
+    public void testApkBatch() throws ExecutableRunnerException {
+        ClangPackageManagerInfo packageManagerInfo = ClangPackageManagerInfoFactory.standardFactory().apk();
+        ClangPackageManagerResolver packageResolver = new ApkPackageManagerResolver(new ApkArchitectureResolver());
+        ClangPackageManager currentPackageManager = new ClangPackageManager(packageManagerInfo, packageResolver);
+        File workingDirectory = new File("test");
+        File stdlibFile = new File("/usr/include/stdlib.h");
+        Set<File> dependencyFiles = new LinkedHashSet<>(Arrays.asList(dependencyFile, stdlibFile));
+
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", Arrays.asList("info", "--print-arch"))).thenReturn(new ExecutableOutput(0, "x86_64\n", ""));
+        String ownerOutput = String.format("%s is owned by musl-dev-1.1.18-r3\n", stdlibFile.getAbsolutePath());
+        String ownerErrorOutput = String.format("ERROR: %s: Could not find owner package\n", dependencyFile.getAbsolutePath());
+        Mockito.when(executableRunner.execute(workingDirectory, "apk", Arrays.asList("info", "--who-owns", dependencyFile.getAbsolutePath(), stdlibFile.getAbsolutePath())))
+            .thenReturn(new ExecutableOutput(1, ownerOutput, ownerErrorOutput));
+
+        PackageDetailsResult result = new ClangPackageManagerRunner().getAllPackages(currentPackageManager, workingDirectory, executableRunner, dependencyFiles);
+
+        assertEquals(1, result.getUnRecognizedDependencyFiles().size());
+        assertEquals(dependencyFile, result.getUnRecognizedDependencyFiles().iterator().next());
+        assertEquals(1, result.getFoundPackages().size());
+        PackageDetails foundPkgDetails = result.getFoundPackages().iterator().next();
+        assertEquals("musl-dev", foundPkgDetails.getPackageName());
+        assertEquals("1.1.18-r3", foundPkgDetails.getPackageVersion());
+        assertEquals("x86_64", foundPkgDetails.getPackageArch());
+    }
+
     private void testNonPkgOwnedIncludeFile(ClangPackageManagerInfo packageManagerInfo, ClangPackageManagerResolver packageResolver,
         String pkgMgrOwnerQueryResultPattern) throws ExecutableRunnerException {
 
@@ -0,0 +1,93 @@
+package com.synopsys.integration.detectable.detectables.clang.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetails;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.PackageDetailsResult;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.DpkgPackageManagerResolver;
+import com.synopsys.integration.detectable.detectables.clang.packagemanager.resolver.DpkgPkgDetailsResolver;
+
+public class DpkgDatabaseIndexTest {
+    private File dpkgDatabaseDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        dpkgDatabaseDirectory = Files.createTempDirectory("DpkgDatabaseIndexTest").toFile();
+        File infoDirectory = new File(dpkgDatabaseDirectory, "info");
+        infoDirectory.mkdirs();
+        FileUtils.writeStringToFile(new File(infoDirectory, "libc6-dev:amd64.list"), "/.\n/usr\n/usr/include\n/usr/include/stdlib.h\n/usr/include/stdio.h\n", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(infoDirectory, "login.list"), "/.\n/usr/include/login.h\n", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(infoDirectory, "removed-dev.list"), "/usr/include/removed.h\n", StandardCharsets.UTF_8);
+
+        String status = "Package: libc6-dev\n"
+                            + "Status: install ok installed\n"
+                            + "Architecture: amd64\n"
+                            + "Version: 2.27-3ubuntu1\n"
+                            + "Description: GNU C Library: Development Libraries and Header Files\n"
+                            + " Contains the symlinks, headers, and object files needed to compile\n"
+                            + "\n"
+                            + "Package: libc6-dev\n"
+                            + "Status: install ok installed\n"
+                            + "Architecture: i386\n"
+                            + "Version: 2.27-3ubuntu1\n"
+                            + "\n"
+                            + "Package: login\n"
+                            + "Essential: yes\n"
+                            + "Status: install ok installed\n"
+                            + "Architecture: amd64\n"
+                            + "Version: 1:4.5-1ubuntu1\n"
+                            + "\n"
+                            + "Package: removed-dev\n"
+                            + "Status: deinstall ok config-files\n"
+                            + "Architecture: amd64\n"
+                            + "Version: 1.0\n";
+        FileUtils.writeStringToFile(new File(dpkgDatabaseDirectory, "status"), status, StandardCharsets.UTF_8);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(dpkgDatabaseDirectory);
+    }
+
+    @Test
+    public void testResolvesFromDatabase() {
+        DpkgPackageManagerResolver resolver = new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver(), dpkgDatabaseDirectory);
+        File projectFile = new File("/home/user/project/include/project.h");
+        Set<File> dependencyFiles = new HashSet<>(Arrays.asList(new File("/usr/include/stdlib.h"), new File("/usr/include/stdio.h"), new File("/usr/include/login.h"), new File("/usr/include/removed.h"), projectFile));
+
+        Optional<PackageDetailsResult> result = resolver.resolvePackagesOffline(dependencyFiles);
+
+        assertTrue(result.isPresent());
+        assertEquals(1, result.get().getUnRecognizedDependencyFiles().size());
+        assertEquals(projectFile, result.get().getUnRecognizedDependencyFiles().iterator().next());
+        assertEquals(2, result.get().getFoundPackages().size());
+        assertTrue(result.get().getFoundPackages().stream().anyMatch(pkg -> isPackage(pkg, "libc6-dev", "2.27-3ubuntu1", "amd64")));
+        assertTrue(result.get().getFoundPackages().stream().anyMatch(pkg -> isPackage(pkg, "login", "1:4.5-1ubuntu1", "amd64")));
+    }
+
+    @Test
+    public void testMissingDatabaseIsNotUsed() {
+        DpkgPackageManagerResolver resolver = new DpkgPackageManagerResolver(new DpkgPkgDetailsResolver(), new File(dpkgDatabaseDirectory, "missing"));
+        assertFalse(resolver.resolvePackagesOffline(new HashSet<>(Arrays.asList(new File("/usr/include/stdlib.h")))).isPresent());
+    }
+
+    private boolean isPackage(PackageDetails packageDetails, String name, String version, String architecture) {
+        return name.equals(packageDetails.getPackageName()) && version.equals(packageDetails.getPackageVersion()) && architecture.equals(packageDetails.getPackageArch());
+    }
+}
@@ -0,0 +1,120 @@
+package com.synopsys.integration.detectable.detectables.conan.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoNodeCollector;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoNodeParseResult;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.ConanInfoNodeParser;
+import com.synopsys.integration.detectable.detectables.conan.cli.parser.element.NodeElementParser;
+import com.synopsys.integration.detectable.detectables.conan.graph.ConanNode;
+import com.synopsys.integration.detectable.util.FunctionalTestFiles;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+@UnitTest
+public class ConanInfoNodeCollectorTest {
+    private final ConanInfoLineAnalyzer conanInfoLineAnalyzer = new ConanInfoLineAnalyzer();
+    private final ConanInfoNodeParser conanInfoNodeParser = new ConanInfoNodeParser(conanInfoLineAnalyzer, new NodeElementParser(conanInfoLineAnalyzer));
+
+    @Test
+    public void streamedNodesMatchBufferedNodes() throws IOException {
+        File conanInfoOutputFile = FunctionalTestFiles.asFile("/conan/cli/conan_info.txt");
+        String conanInfoOutput = FileUtils.readFileToString(conanInfoOutputFile, StandardCharsets.UTF_8);
+
+        assertStreamedMatchesBuffered(conanInfoOutput);
+    }
+
+    @Test
+    public void streamedNodesMatchBufferedNodesAroundLogMessages() {
+        String conanInfoOutput = String.join("\n",
+            "Configuration:",
+            "[settings]",
+            "os=Linux",
+            "",
+            "conanfile.txt",
+            "    ID: 4ff93fabccfb1de84dabc35f48abdeb2da797a95",
+            "    Requires:",
+            "        zlib/1.2.11",
+            "WARN: a log message between nodes",
+            "zlib/1.2.11",
+            "    ID: 6af9cc7cb931c5ad942174fd7838eb655717c709",
+            "    Required by:",
+            "        conanfile.txt",
+            ""
+        );
+
+        Map<String, ConanNode<String>> streamedNodes = assertStreamedMatchesBuffered(conanInfoOutput);
+
+        assertEquals(2, streamedNodes.size());
+        assertTrue(streamedNodes.containsKey("conanfile.txt"));
+        assertTrue(streamedNodes.containsKey("zlib/1.2.11"));
+    }
+
+    @Test
+    public void finishesTheLastNodeWithoutATrailingLine() {
+        ConanInfoNodeCollector nodeCollector = new ConanInfoNodeCollector(conanInfoNodeParser);
+        for (String line : Arrays.asList("zlib/1.2.11", "    ID: 6af9cc7cb931c5ad942174fd7838eb655717c709")) {
+            nodeCollector.consumeLine(line);
+        }
+
+        Map<String, ConanNode<String>> nodes = nodeCollector.finish();
+
+        assertEquals(1, nodes.size());
+        assertTrue(nodes.containsKey("zlib/1.2.11"));
+    }
+
+    @Test
+    public void reportsWhetherAnythingWasProduced() {
+        ConanInfoNodeCollector nodeCollector = new ConanInfoNodeCollector(conanInfoNodeParser);
+        nodeCollector.consumeLine("");
+        nodeCollector.consumeLine("   ");
+        assertFalse(nodeCollector.producedOutput());
+        assertTrue(nodeCollector.finish().isEmpty());
+
+        nodeCollector.consumeLine("conanfile.txt");
+        assertTrue(nodeCollector.producedOutput());
+    }
+
+    private Map<String, ConanNode<String>> assertStreamedMatchesBuffered(String conanInfoOutput) {
+        Map<String, ConanNode<String>> bufferedNodes = parseBuffered(Arrays.asList(conanInfoOutput.split("\n")));
+
+        ConanInfoNodeCollector nodeCollector = new ConanInfoNodeCollector(conanInfoNodeParser);
+        StreamingExecutableOutput.fromExecutableOutput(new ExecutableOutput(0, conanInfoOutput, ""), nodeCollector, LineConsumer.discard(), StreamingExecutableOutput.DEFAULT_TAIL_LINE_LIMIT);
+        Map<String, ConanNode<String>> streamedNodes = nodeCollector.finish();
+
+        assertEquals(bufferedNodes.keySet(), streamedNodes.keySet());
+        for (Map.Entry<String, ConanNode<String>> bufferedNode : bufferedNodes.entrySet()) {
+            assertEquals(bufferedNode.getValue().toString(), streamedNodes.get(bufferedNode.getKey()).toString());
+        }
+        return streamedNodes;
+    }
+
+    // How the whole conan info output was parsed before it could be streamed.
+    private Map<String, ConanNode<String>> parseBuffered(List<String> conanInfoOutputLines) {
+        Map<String, ConanNode<String>> graphNodes = new HashMap<>();
+        int lineIndex = 0;
+        while (lineIndex < conanInfoOutputLines.size()) {
+            ConanInfoNodeParseResult nodeParseResult = conanInfoNodeParser.parseNode(conanInfoOutputLines, lineIndex);
+            nodeParseResult.getConanNode().ifPresent(node -> graphNodes.put(node.getRef(), node));
+            lineIndex = nodeParseResult.getLastParsedLineIndex();
+            lineIndex++;
+        }
+        return graphNodes;
+    }
+}
@@ -2,7 +2,10 @@ package com.synopsys.integration.detectable.detectables.go.unit;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,10 +14,12 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
 import com.google.gson.GsonBuilder;
+import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.detectable.ExecutableTarget;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliExtractor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModCommandExecutor;
 import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphParser;
@@ -30,7 +35,7 @@ public class GoModCliExtractorTest {
 
     @Test
     public void handleMultipleReplacementsForOneComponentTest() throws ExecutableRunnerException {
-        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class, Mockito.CALLS_REAL_METHODS);
         File directory = new File("");
         ExecutableTarget goExe = ExecutableTarget.forFile(new File(""));
         Answer<ExecutableOutput> executableAnswer = new Answer<ExecutableOutput>() {
@@ -73,7 +78,7 @@ public class GoModCliExtractorTest {
 
     @Test
     public void handleGoModWhyExceptionTest() throws ExecutableRunnerException {
-        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class);
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class, Mockito.CALLS_REAL_METHODS);
         File directory = new File("");
         ExecutableTarget goExe = ExecutableTarget.forFile(new File(""));
         Answer<ExecutableOutput> executableAnswer = new Answer<ExecutableOutput>() {
@@ -118,6 +123,44 @@ public class GoModCliExtractorTest {
         Assertions.assertTrue(wasSuccessful);
     }
 
+    @Test
+    public void runsCommandsConcurrentlyWithoutUpdateCheck() throws ExecutableRunnerException {
+        DetectableExecutableRunner executableRunner = Mockito.mock(DetectableExecutableRunner.class, Mockito.CALLS_REAL_METHODS);
+        // Every command except go version waits until all four have started, so this only completes when they run at the same time.
+        CountDownLatch allStarted = new CountDownLatch(4);
+        Answer<ExecutableOutput> executableAnswer = invocation -> {
+            List<String> commandLine = invocation.getArgument(0, Executable.class).getCommandWithArguments();
+            Assertions.assertFalse(commandLine.contains("-u"), "The update check should be skipped.");
+            if (commandLine.contains("version")) {
+                return new ExecutableOutput(0, "go version go1.15.2 linux/amd64", "");
+            }
+            allStarted.countDown();
+            if (!allStarted.await(10, TimeUnit.SECONDS)) {
+                return new ExecutableOutput(1, "", "Commands did not run concurrently.");
+            }
+            if (commandLine.containsAll(Arrays.asList("list", "-mod=readonly", "-m", "-json", "all"))) {
+                return goListJsonOutput();
+            } else if (commandLine.containsAll(Arrays.asList("list", "-m"))) {
+                return goListOutput();
+            } else if (commandLine.containsAll(Arrays.asList("mod", "graph"))) {
+                return goModGraphOutput();
+            }
+            return new ExecutableOutput(0, "", "");
+        };
+        Mockito.doAnswer(executableAnswer).when(executableRunner).execute(Mockito.any(Executable.class));
+
+        GoModCliExtractor goModCliExtractor = new GoModCliExtractor(new GoModCommandExecutor(executableRunner), new GoModGraphParser(new ExternalIdFactory()),
+            new GoModGraphTransformer(new ReplacementDataExtractor(new GsonBuilder().create())), new GoModWhyParser());
+
+        Extraction extraction = goModCliExtractor.extract(new File(""), ExecutableTarget.forFile(new File("")), new GoModCliDetectableOptions(false, 4));
+
+        Assertions.assertTrue(extraction.isSuccess());
+        Assertions.assertEquals(1, extraction.getCodeLocations().size());
+        Assertions.assertEquals(Collections.emptySet(), extraction.getCodeLocations().get(0).getDependencyGraph().getRootDependencies());
+        Assertions.assertEquals(1, extraction.getCodeLocations().get(0).getDependencyGraph().getChildrenForParent(
+            new ExternalIdFactory().createNameVersionExternalId(Forge.GOLANG, "github.com/codegangsta/negroni", "v2.0.0")).size());
+    }
+
     private ExecutableOutput goListOutput() {
         String standardOutput = String.join("\n", Arrays.asList(
             "git.daimler.com/c445/t1"
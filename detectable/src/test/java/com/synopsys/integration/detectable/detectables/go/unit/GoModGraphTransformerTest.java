@@ -0,0 +1,114 @@
+package com.synopsys.integration.detectable.detectables.go.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.GsonBuilder;
+import com.synopsys.integration.detectable.detectable.exception.DetectableException;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphCollector;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModGraphTransformer;
+import com.synopsys.integration.detectable.detectables.go.gomod.ReplacementDataExtractor;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModGraphEdge;
+
+public class GoModGraphTransformerTest {
+    private final GoModGraphTransformer goModGraphTransformer = new GoModGraphTransformer(new ReplacementDataExtractor(new GsonBuilder().create()));
+
+    @Test
+    public void replacesOnlyTheSelectedVersion() throws DetectableException {
+        List<String> modGraphOutput = Arrays.asList(
+            "github.com/gomods/athens github.com/sirupsen/logrus@v1.1.1",
+            "github.com/gomods/athens github.com/sirupsen/logrus-extra@v1.1.1",
+            "github.com/sirupsen/logrus@v1.1.1 github.com/davecgh/go-spew@v1.1.1",
+            "github.com/davecgh/go-spew@v1.1.1 github.com/sirupsen/logrus@v1.1.10",
+            "github.com/davecgh/go-spew@v1.1.1 github.com/sirupsen/logrus@v1.0.0"
+        );
+        List<String> listUJsonOutput = Arrays.asList(
+            "{",
+            "\t\"Path\": \"github.com/sirupsen/logrus\",",
+            "\t\"Version\": \"v1.1.1\",",
+            "\t\"Replace\": {",
+            "\t\t\"Path\": \"github.com/sirupsen/logrus\",",
+            "\t\t\"Version\": \"v2.0.0\"",
+            "\t}",
+            "}"
+        );
+
+        List<GoModGraphEdge> edges = transform(modGraphOutput, listUJsonOutput);
+
+        assertEquals(5, edges.size());
+        assertEquals("github.com/gomods/athens", edges.get(0).getParent().toString());
+        assertFalse(edges.get(0).getParent().getVersion().isPresent());
+        assertEquals("github.com/sirupsen/logrus@v2.0.0", edges.get(0).getChild().toString());
+        assertEquals("github.com/sirupsen/logrus-extra@v1.1.1", edges.get(1).getChild().toString());
+        assertEquals("github.com/sirupsen/logrus@v2.0.0", edges.get(2).getParent().toString());
+        assertEquals("github.com/sirupsen/logrus@v1.1.10", edges.get(3).getChild().toString());
+        assertEquals("github.com/sirupsen/logrus@v1.0.0", edges.get(4).getChild().toString());
+        assertSame(edges.get(0).getChild(), edges.get(2).getParent());
+    }
+
+    @Test
+    public void skipsMalformedLines() throws DetectableException {
+        List<String> modGraphOutput = Arrays.asList(
+            "github.com/gomods/athens",
+            "github.com/gomods/athens github.com/sirupsen/logrus@v1.1.1 extra",
+            "github.com/gomods/athens github.com/sirupsen/logrus@v1.1.1"
+        );
+
+        List<GoModGraphEdge> edges = transform(modGraphOutput, Collections.emptyList());
+
+        assertEquals(1, edges.size());
+        assertEquals("github.com/sirupsen/logrus@v1.1.1", edges.get(0).getChild().toString());
+    }
+
+    @Test
+    public void scalesToLargeGraphsWithManyReplacements() {
+        int moduleCount = 20000;
+        int edgeCount = 100000;
+        int replacementCount = 1000;
+
+        List<String> modGraphOutput = new ArrayList<>(edgeCount);
+        for (int edge = 0; edge < edgeCount; edge++) {
+            int parent = edge % moduleCount;
+            int child = (parent + 1 + edge / moduleCount) % moduleCount;
+            modGraphOutput.add(String.format("example.com/module%d@v1.0.%d example.com/module%d@v1.0.%d", parent, parent, child, child));
+        }
+        List<String> listUJsonOutput = new ArrayList<>();
+        for (int replaced = 0; replaced < replacementCount; replaced++) {
+            int module = replaced * (moduleCount / replacementCount);
+            listUJsonOutput.addAll(Arrays.asList(
+                "{",
+                String.format("\t\"Path\": \"example.com/module%d\",", module),
+                String.format("\t\"Version\": \"v1.0.%d\",", module),
+                "\t\"Replace\": {",
+                String.format("\t\t\"Path\": \"example.com/module%d\",", module),
+                "\t\t\"Version\": \"v2.0.0\"",
+                "\t}",
+                "}"
+            ));
+        }
+
+        List<GoModGraphEdge> edges = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> transform(modGraphOutput, listUJsonOutput));
+
+        assertEquals(edgeCount, edges.size());
+        long replacedParents = edges.stream()
+                                   .filter(edge -> edge.getParent().getVersion().filter("v2.0.0"::equals).isPresent())
+                                   .count();
+        assertEquals((long) replacementCount * (edgeCount / moduleCount), replacedParents);
+    }
+
+    private List<GoModGraphEdge> transform(List<String> modGraphOutput, List<String> listUJsonOutput) throws DetectableException {
+        GoModGraphCollector goModGraphCollector = new GoModGraphCollector();
+        modGraphOutput.forEach(goModGraphCollector::consumeLine);
+        return goModGraphTransformer.transformGoModGraph(goModGraphCollector, listUJsonOutput);
+    }
+}
@@ -2,6 +2,7 @@ package com.synopsys.integration.detectable.detectables.go.unit;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.detectable.detectable.exception.DetectableException;
 import com.synopsys.integration.detectable.detectables.go.gomod.ReplacementDataExtractor;
+import com.synopsys.integration.detectable.detectables.go.gomod.model.GoModReplacement;
 
 public class ReplacementDataExtractorTest {
 
@@ -30,7 +32,7 @@ public class ReplacementDataExtractorTest {
         boolean threwException = false;
 
         try {
-            replacementDataExtractor.extractReplacementData(input);
+            replacementDataExtractor.extractReplacementsByPath(input);
         } catch (DetectableException e) {
             threwException = true;
         }
@@ -38,4 +40,29 @@ public class ReplacementDataExtractorTest {
         Assertions.assertTrue(threwException);
     }
 
+    @Test
+    public void extractsReplacementsByPath() throws DetectableException {
+        List<String> input = Arrays.asList(
+            "{\n",
+            "\t\"Path\": \"github.com/sirupsen/logrus\",\n",
+            "\t\"Version\": \"v1.1.1\",\n",
+            "\t\"Replace\": {\n",
+            "\t\t\"Path\": \"github.com/sirupsen/logrus\",\n",
+            "\t\t\"Version\": \"v1.4.2\"\n",
+            "\t}\n",
+            "}\n",
+            "{\n",
+            "\t\"Path\": \"golang.org/x/sys\",\n",
+            "\t\"Version\": \"v0.0.1\"\n",
+            "}\n"
+        );
+
+        Map<String, GoModReplacement> replacements = replacementDataExtractor.extractReplacementsByPath(input);
+
+        Assertions.assertEquals(1, replacements.size());
+        GoModReplacement replacement = replacements.get("github.com/sirupsen/logrus");
+        Assertions.assertEquals("v1.1.1", replacement.getOriginalVersion());
+        Assertions.assertEquals("v1.4.2", replacement.getReplacementVersion());
+    }
+
 }
@@ -102,6 +102,21 @@ public class GradleReportParserFunctionalTest {
         graphAssert.hasParentChildRelationship(parent, child);
     }
 
+    @Test
+    void streamedTransformMatchesReportTransform() throws JSONException {
+        final File file = FunctionalTestFiles.asFile("/gradle/parse-tests/complex_dependencyGraph.txt");
+        final GradleReportParser gradleReportParser = new GradleReportParser();
+        final GradleReportTransformer gradleReportTransformer = new GradleReportTransformer(new ExternalIdFactory());
+
+        final Optional<CodeLocation> streamed = gradleReportParser.parseAndTransformReport(file, gradleReportTransformer);
+        final Optional<CodeLocation> buffered = buildCodeLocation("/gradle/parse-tests/complex_dependencyGraph.txt");
+        Assertions.assertTrue(streamed.isPresent());
+        Assertions.assertTrue(buffered.isPresent());
+
+        final Gson gson = new Gson();
+        JSONAssert.assertEquals(gson.toJson(buffered.get()), gson.toJson(streamed.get()), false);
+    }
+
     private Optional<CodeLocation> buildCodeLocation(final String resource) {
         final File file = FunctionalTestFiles.asFile(resource);
         final GradleReportParser gradleReportParser = new GradleReportParser();
@@ -0,0 +1,96 @@
+package com.synopsys.integration.detectable.detectables.gradle.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+import com.synopsys.integration.detectable.ExecutableTarget;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleRunner;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportParser;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleReportTransformer;
+import com.synopsys.integration.detectable.detectables.gradle.inspection.parse.GradleRootMetadataParser;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.rest.proxy.ProxyInfo;
+
+public class GradleInspectorExtractorTest {
+    private File outputDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        outputDirectory = Files.createTempDirectory("GradleInspectorExtractorTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Test
+    public void parsesCompletedReportsWhileGradleRuns() throws Exception {
+        CountDownLatch firstReportParsed = new CountDownLatch(1);
+        GradleReportParser gradleReportParser = new GradleReportParser() {
+            @Override
+            public Optional<CodeLocation> parseAndTransformReport(File reportFile, GradleReportTransformer gradleReportTransformer) {
+                Optional<CodeLocation> codeLocation = super.parseAndTransformReport(reportFile, gradleReportTransformer);
+                firstReportParsed.countDown();
+                return codeLocation;
+            }
+        };
+
+        GradleRunner gradleRunner = Mockito.mock(GradleRunner.class);
+        Mockito.doAnswer(invocation -> {
+            writeReport("first");
+            // The second report is only written once the first has been parsed, which can only happen if parsing overlaps with gradle.
+            assertTrue(firstReportParsed.await(20, TimeUnit.SECONDS));
+            writeReport("second");
+            return null;
+        }).when(gradleRunner).runGradleDependencies(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+
+        GradleInspectorExtractor extractor = new GradleInspectorExtractor(new SimpleFileFinder(), gradleRunner, gradleReportParser, new GradleReportTransformer(new ExternalIdFactory()),
+            new GradleRootMetadataParser());
+        Extraction extraction = extractor.extract(outputDirectory, ExecutableTarget.forCommand("gradle"), null, ProxyInfo.NO_PROXY_INFO, new File("gradle-inspector"), outputDirectory, 4);
+
+        assertTrue(extraction.isSuccess());
+        List<String> projectNames = extraction.getCodeLocations().stream()
+                                        .map(codeLocation -> codeLocation.getExternalId().get().getName())
+                                        .sorted()
+                                        .collect(Collectors.toList());
+        assertEquals(2, projectNames.size());
+        assertEquals("first", projectNames.get(0));
+        assertEquals("second", projectNames.get(1));
+    }
+
+    private void writeReport(String projectName) throws IOException {
+        String report = String.join("\n",
+            "compile - Compile classpath for source set 'main'.",
+            "\\--- some.group:" + projectName + "-dependency:1.0.0",
+            "",
+            "DETECT META DATA START",
+            "projectGroup:com.example",
+            "projectName:" + projectName,
+            "projectVersion:1.0.0",
+            "DETECT META DATA END",
+            "");
+        FileUtils.writeStringToFile(new File(outputDirectory, projectName + "_dependencyGraph.txt"), report, StandardCharsets.UTF_8);
+    }
+}
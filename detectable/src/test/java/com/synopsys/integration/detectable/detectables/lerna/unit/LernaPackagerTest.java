@@ -0,0 +1,103 @@
+package com.synopsys.integration.detectable.detectables.lerna.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.lerna.LernaDetectable;
+import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
+import com.synopsys.integration.detectable.detectables.lerna.LernaPackager;
+import com.synopsys.integration.detectable.detectables.lerna.model.LernaPackage;
+import com.synopsys.integration.detectable.detectables.lerna.model.LernaResult;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.NpmLockfileOptions;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.NpmLockfilePackager;
+import com.synopsys.integration.detectable.detectables.yarn.YarnLockOptions;
+import com.synopsys.integration.detectable.detectables.yarn.YarnPackager;
+import com.synopsys.integration.detectable.detectables.yarn.YarnTransformer;
+import com.synopsys.integration.detectable.detectables.yarn.packagejson.PackageJsonReader;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+
+public class LernaPackagerTest {
+    private static final int PACKAGE_COUNT = 12;
+
+    private File sourceDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        sourceDirectory = Files.createTempDirectory("LernaPackagerTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+    }
+
+    @Test
+    public void resolvesPackagesConcurrentlyInPackageOrder() throws IOException {
+        File rootPackageJson = writeFile(LernaDetectable.PACKAGE_JSON, "{ \"name\": \"root\", \"version\": \"1.0.0\", \"dependencies\": { \"dependency0\": \"^1.0.0\" } }");
+        StringBuilder lockDependencies = new StringBuilder();
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            lockDependencies.append(String.format("%s\"dependency%d\": { \"version\": \"1.0.%d\" }", i == 0 ? "" : ",", i, i));
+        }
+        writeFile(LernaDetectable.PACKAGE_LOCK_JSON, String.format("{ \"name\": \"root\", \"version\": \"1.0.0\", \"dependencies\": { %s } }", lockDependencies));
+
+        List<LernaPackage> lernaPackages = new ArrayList<>();
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            File packageJson = writeFile("packages/package" + i + "/" + LernaDetectable.PACKAGE_JSON,
+                String.format("{ \"name\": \"package%d\", \"version\": \"2.0.0\", \"dependencies\": { \"dependency%d\": \"^1.0.0\" } }", i, i));
+            lernaPackages.add(new LernaPackage("package" + i, "2.0.0", false, packageJson.getParentFile().getAbsolutePath()));
+        }
+
+        LernaResult lernaResult = createPackager(4).generateLernaResult(sourceDirectory, rootPackageJson, lernaPackages);
+
+        assertTrue(lernaResult.isSuccess());
+        assertEquals(PACKAGE_COUNT + 1, lernaResult.getCodeLocations().size());
+        for (int i = 0; i < PACKAGE_COUNT; i++) {
+            CodeLocation codeLocation = lernaResult.getCodeLocations().get(i + 1);
+            assertEquals(lernaPackages.get(i).getLocation(), codeLocation.getSourcePath().get().getPath());
+            NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.NPMJS, codeLocation.getDependencyGraph());
+            graphAssert.hasRootSize(1);
+            graphAssert.hasRootDependency("dependency" + i, "1.0." + i);
+        }
+    }
+
+    private File writeFile(String path, String contents) throws IOException {
+        File file = new File(sourceDirectory, path);
+        FileUtils.writeStringToFile(file, contents, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private LernaPackager createPackager(int packageThreads) {
+        Gson gson = new Gson();
+        ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+        YarnLockLineAnalyzer yarnLockLineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(yarnLockLineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntrySectionParserSet = new YarnLockEntrySectionParserSet(yarnLockLineAnalyzer, yarnLockDependencySpecParser);
+        YarnLockParser yarnLockParser = new YarnLockParser(new YarnLockEntryParser(yarnLockLineAnalyzer, yarnLockEntrySectionParserSet));
+        return new LernaPackager(new SimpleFileFinder(), new PackageJsonReader(gson), yarnLockParser, new YarnLockOptions(false, Collections.emptyList(), Collections.emptyList()),
+            new NpmLockfilePackager(gson, externalIdFactory), new NpmLockfileOptions(false), new YarnPackager(new YarnTransformer(externalIdFactory)),
+            new LernaOptions(false, Collections.emptyList(), Collections.emptyList(), packageThreads));
+    }
+}
@@ -0,0 +1,90 @@
+package com.synopsys.integration.detectable.detectables.maven.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.annotations.UnitTest;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenCodeLocationPackager;
+import com.synopsys.integration.detectable.detectables.maven.cli.MavenParseResult;
+import com.synopsys.integration.detectable.util.GraphCompare;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+@UnitTest
+public class MavenCodeLocationPackagerStreamingTest {
+    private static final List<String> EXCLUDED_SCOPES = Collections.singletonList("test");
+
+    private List<String> getInput() {
+        return Arrays.asList(
+            "[INFO] Scanning for projects...",
+            "[INFO] ------------------------------------------------------------------------",
+            "[INFO] Reactor Build Order:",
+            "[INFO] --- maven-dependency-plugin:3.1.1:tree (default-cli) @ module-a ---",
+            "[INFO] com.example:module-a:jar:1.0.0",
+            "[INFO] +- junit:junit:jar:4.12:test",
+            "[INFO] |  \\- org.hamcrest:hamcrest-core:jar:1.3:compile",
+            "[INFO] +- com.google.guava:guava:jar:28.0-jre:compile",
+            "[INFO] |  +- com.google.guava:failureaccess:jar:1.0.1:compile",
+            "[INFO] |  \\- org.checkerframework:checker-qual:jar:2.8.1:compile",
+            "[INFO] \\- org.slf4j:slf4j-api:jar:1.7.30:runtime",
+            "[INFO] ------------------------------------------------------------------------",
+            "[INFO] --- maven-dependency-plugin:3.1.1:tree (default-cli) @ module-b ---",
+            "[INFO] com.example:module-b:jar:1.0.0",
+            "[INFO] +- com.example:module-a:jar:1.0.0:compile",
+            "[INFO] |  \\- com.google.guava:guava:jar:28.0-jre:compile",
+            "[INFO] \\- org.apache.commons:commons-lang3:jar:3.9:provided",
+            "[INFO] ------------------------------------------------------------------------",
+            "[INFO] BUILD SUCCESS"
+        );
+    }
+
+    @Test
+    public void streamedParsingMatchesBufferedParsing() {
+        List<MavenParseResult> bufferedResults = parseBuffered(getInput());
+        List<MavenParseResult> streamedResults = parseStreamed(String.join("\n", getInput()));
+
+        assertResultsEqual(bufferedResults, streamedResults);
+        assertEquals(2, streamedResults.size());
+        assertEquals("module-a", streamedResults.get(0).getProjectName());
+        assertEquals("module-b", streamedResults.get(1).getProjectName());
+    }
+
+    @Test
+    public void streamedParsingIgnoresLineEndings() {
+        List<MavenParseResult> bufferedResults = parseBuffered(getInput());
+        List<MavenParseResult> streamedResults = parseStreamed(String.join("\r\n", getInput()) + "\r\n");
+
+        assertResultsEqual(bufferedResults, streamedResults);
+    }
+
+    private List<MavenParseResult> parseBuffered(List<String> lines) {
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(new ExternalIdFactory());
+        return packager.extractCodeLocations("source", lines, EXCLUDED_SCOPES, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    private List<MavenParseResult> parseStreamed(String output) {
+        MavenCodeLocationPackager packager = new MavenCodeLocationPackager(new ExternalIdFactory());
+        packager.startParsing("source", EXCLUDED_SCOPES, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        StreamingExecutableOutput.fromExecutableOutput(new ExecutableOutput(0, output, ""), packager::parseLine, LineConsumer.discard(), StreamingExecutableOutput.DEFAULT_TAIL_LINE_LIMIT);
+        return packager.finishParsing();
+    }
+
+    private void assertResultsEqual(List<MavenParseResult> expectedResults, List<MavenParseResult> actualResults) {
+        assertEquals(expectedResults.size(), actualResults.size());
+        for (int i = 0; i < expectedResults.size(); i++) {
+            MavenParseResult expected = expectedResults.get(i);
+            MavenParseResult actual = actualResults.get(i);
+            assertEquals(expected.getProjectName(), actual.getProjectName());
+            assertEquals(expected.getProjectVersion(), actual.getProjectVersion());
+            assertEquals(expected.getCodeLocation().getExternalId(), actual.getCodeLocation().getExternalId());
+            GraphCompare.assertEquals(expected.getCodeLocation().getDependencyGraph(), actual.getCodeLocation().getDependencyGraph());
+        }
+    }
+}
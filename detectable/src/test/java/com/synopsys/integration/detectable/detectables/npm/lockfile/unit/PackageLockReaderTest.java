@@ -0,0 +1,68 @@
+package com.synopsys.integration.detectable.detectables.npm.lockfile.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLock;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.model.PackageLockDependency;
+import com.synopsys.integration.detectable.detectables.npm.lockfile.parse.PackageLockReader;
+
+public class PackageLockReaderTest {
+    @Test
+    public void readsNestedDependenciesAndSkipsUnusedFields() throws IOException {
+        String lockFileText = String.join("\n",
+            "{",
+            "  \"name\": \"example\",",
+            "  \"version\": \"1.0.0\",",
+            "  \"lockfileVersion\": 1,",
+            "  \"requires\": true,",
+            "  \"dependencies\": {",
+            "    \"parent\": {",
+            "      \"version\": \"2.0.0\",",
+            "      \"resolved\": \"https://registry.npmjs.org/parent/-/parent-2.0.0.tgz\",",
+            "      \"integrity\": \"sha512-abc\",",
+            "      \"dev\": true,",
+            "      \"requires\": { \"child\": \"^3.0.0\" },",
+            "      \"dependencies\": {",
+            "        \"child\": { \"version\": \"3.1.0\", \"optional\": true }",
+            "      }",
+            "    },",
+            "    \"child\": { \"version\": \"4.0.0\", \"dev\": null }",
+            "  }",
+            "}"
+        );
+
+        PackageLock packageLock = new PackageLockReader().read(new StringReader(lockFileText));
+
+        assertEquals("example", packageLock.name);
+        assertEquals("1.0.0", packageLock.version);
+        assertEquals(2, packageLock.dependencies.size());
+
+        PackageLockDependency parent = packageLock.dependencies.get("parent");
+        assertEquals("2.0.0", parent.version);
+        assertTrue(parent.dev);
+        assertEquals("^3.0.0", parent.requires.get("child"));
+        assertEquals("3.1.0", parent.dependencies.get("child").version);
+        assertNull(parent.dependencies.get("child").dev);
+
+        PackageLockDependency child = packageLock.dependencies.get("child");
+        assertEquals("4.0.0", child.version);
+        assertNull(child.dev);
+        assertNull(child.requires);
+        assertNull(child.dependencies);
+    }
+
+    @Test
+    public void readsLockFileWithoutDependencies() throws IOException {
+        PackageLock packageLock = new PackageLockReader().read(new StringReader("{\"name\": \"example\", \"version\": \"1.0.0\"}"));
+
+        assertEquals("example", packageLock.name);
+        assertNull(packageLock.dependencies);
+    }
+}
@@ -0,0 +1,153 @@
+package com.synopsys.integration.detectable.detectables.nuget.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.GsonBuilder;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspector;
+import com.synopsys.integration.detectable.detectable.inspector.nuget.NugetInspectorOptions;
+import com.synopsys.integration.detectable.detectables.nuget.NugetInspectorExtractor;
+import com.synopsys.integration.detectable.detectables.nuget.parse.NugetInspectorParser;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.graph.NameVersionGraphAssert;
+import com.synopsys.integration.executable.ExecutableOutput;
+
+public class NugetInspectorExtractorTest {
+    private final NugetInspectorExtractor extractor = new NugetInspectorExtractor(new NugetInspectorParser(new GsonBuilder().create(), new ExternalIdFactory()), new SimpleFileFinder());
+
+    private File outputDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        outputDirectory = Files.createTempDirectory("NugetInspectorExtractorTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Test
+    public void combinesTargetsWithTheSameSourcePath() {
+        List<File> targets = Arrays.asList(new File("First.csproj"), new File("Second.csproj"), new File("Third.csproj"));
+        CannedNugetInspector inspector = new CannedNugetInspector(Arrays.asList("shared", "other", "shared"), null);
+
+        Extraction extraction = extractor.extract(targets, outputDirectory, inspector, createOptions(1));
+
+        assertTrue(extraction.isSuccess());
+        assertEquals("First", extraction.getProjectName());
+        assertEquals(2, extraction.getCodeLocations().size());
+
+        CodeLocation shared = extraction.getCodeLocations().get(0);
+        assertEquals(new File("shared"), shared.getSourcePath().get());
+        NameVersionGraphAssert graphAssert = new NameVersionGraphAssert(Forge.NUGET, shared.getDependencyGraph());
+        graphAssert.hasRootSize(2);
+        ExternalId firstRoot = graphAssert.hasRootDependency("First.Dependency", "1.0.0");
+        graphAssert.hasRootDependency("Third.Dependency", "1.0.0");
+        graphAssert.hasParentChildRelationship(firstRoot, graphAssert.hasDependency("First.Transitive", "2.0.0"));
+
+        assertEquals(new File("other"), extraction.getCodeLocations().get(1).getSourcePath().get());
+    }
+
+    @Test
+    public void inspectsTargetsConcurrently() {
+        List<File> targets = Arrays.asList(new File("First.csproj"), new File("Second.csproj"), new File("Third.csproj"));
+        // Every inspection waits until all three have started, so this only completes when they run at the same time.
+        CountDownLatch allStarted = new CountDownLatch(targets.size());
+        CannedNugetInspector inspector = new CannedNugetInspector(Arrays.asList("first", "second", "third"), allStarted);
+
+        Extraction extraction = extractor.extract(targets, outputDirectory, inspector, createOptions(3));
+
+        assertTrue(extraction.isSuccess());
+        assertEquals(3, extraction.getCodeLocations().size());
+        assertEquals("First", extraction.getProjectName());
+        assertEquals(new File("first"), extraction.getCodeLocations().get(0).getSourcePath().get());
+        assertEquals(new File("third"), extraction.getCodeLocations().get(2).getSourcePath().get());
+    }
+
+    @Test
+    public void failsWhenAnyTargetFails() {
+        List<File> targets = Arrays.asList(new File("First.csproj"), new File("Failing.csproj"));
+        CannedNugetInspector inspector = new CannedNugetInspector(Arrays.asList("first", "failing"), null);
+
+        Extraction extraction = extractor.extract(targets, outputDirectory, inspector, createOptions(2));
+
+        assertFalse(extraction.isSuccess());
+    }
+
+    private NugetInspectorOptions createOptions(int inspectorThreads) {
+        return new NugetInspectorOptions(false, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), null, inspectorThreads);
+    }
+
+    private static class CannedNugetInspector implements NugetInspector {
+        private final List<String> sourcePaths;
+        private final CountDownLatch allStarted;
+
+        public CannedNugetInspector(List<String> sourcePaths, CountDownLatch allStarted) {
+            this.sourcePaths = sourcePaths;
+            this.allStarted = allStarted;
+        }
+
+        @Override
+        public ExecutableOutput execute(File workingDirectory, File targetFile, File outputDirectory, NugetInspectorOptions nugetInspectorOptions) throws IOException {
+            String projectName = targetFile.getName().replace(".csproj", "");
+            if (allStarted != null) {
+                allStarted.countDown();
+                try {
+                    if (!allStarted.await(10, TimeUnit.SECONDS)) {
+                        return new ExecutableOutput(1, "", "Targets were not inspected concurrently.");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new ExecutableOutput(1, "", "Interrupted.");
+                }
+            }
+            if (projectName.equals("Failing")) {
+                return new ExecutableOutput(1, "", "Failed to inspect.");
+            }
+
+            String sourcePath = sourcePaths.get(Arrays.asList("First", "Second", "Third").indexOf(projectName));
+            String inspection = String.join("\n",
+                "{",
+                "  \"Name\": \"Inspection\",",
+                "  \"Version\": \"1.0.0\",",
+                "  \"Containers\": [",
+                "    {",
+                "      \"Name\": \"" + projectName + "\",",
+                "      \"Version\": \"1.0.0\",",
+                "      \"Type\": \"Project\",",
+                "      \"SourcePath\": \"" + sourcePath + "\",",
+                "      \"Packages\": [",
+                "        { \"PackageId\": { \"Name\": \"" + projectName + ".Dependency\", \"Version\": \"1.0.0\" }, \"Dependencies\": [ { \"Name\": \"" + projectName + ".Transitive\", \"Version\": \"2.0.0\" } ] }",
+                "      ],",
+                "      \"Dependencies\": [ { \"Name\": \"" + projectName + ".Dependency\", \"Version\": \"1.0.0\" } ]",
+                "    }",
+                "  ]",
+                "}"
+            );
+            FileUtils.writeStringToFile(new File(outputDirectory, projectName + "_inspection.json"), inspection, StandardCharsets.UTF_8);
+            return new ExecutableOutput(0, "", "");
+        }
+    }
+}
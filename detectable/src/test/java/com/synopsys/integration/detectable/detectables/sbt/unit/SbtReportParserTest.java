@@ -0,0 +1,108 @@
+package com.synopsys.integration.detectable.detectables.sbt.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.sbt.parse.SbtReportParser;
+import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtCaller;
+import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtModule;
+import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtReport;
+import com.synopsys.integration.detectable.detectables.sbt.parse.model.SbtRevision;
+
+public class SbtReportParserTest {
+    private final SbtReportParser parser = new SbtReportParser();
+
+    @Test
+    public void parsesReport() throws XMLStreamException {
+        SbtReport report = parser.parseReport(toInputStream(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+            "<?xml-stylesheet type=\"text/xsl\" href=\"ivy-report.xsl\"?>",
+            "<ivy-report version=\"1.0\">",
+            "  <info organisation=\"com.example\" module=\"app_2.12\" revision=\"1.0\" conf=\"compile\" confs=\"compile, runtime\" date=\"20210101000000\"/>",
+            "  <configurations>",
+            "    <configuration name=\"compile\"/>",
+            "  </configurations>",
+            "  <dependencies>",
+            "    <module organisation=\"org.scala-lang\" name=\"scala-library\">",
+            "      <revision name=\"2.12.10\" status=\"release\" pubdate=\"20190910000000\" resolver=\"sbt-chain\">",
+            "        <license name=\"Apache-2.0\" url=\"https://www.apache.org/licenses/LICENSE-2.0\"/>",
+            "        <caller organisation=\"com.example\" name=\"app_2.12\" conf=\"compile\" rev=\"2.12.10\" rev-constraint-default=\"2.12.10\" callerrev=\"1.0\"/>",
+            "        <caller organisation=\"com.typesafe\" name=\"config\" conf=\"compile\" rev=\"2.12.0\" callerrev=\"1.3.4\"/>",
+            "        <artifacts>",
+            "          <artifact name=\"scala-library\" type=\"jar\" ext=\"jar\" status=\"successful\" size=\"5276900\"/>",
+            "        </artifacts>",
+            "      </revision>",
+            "      <revision name=\"2.12.0\" evicted=\"latest-revision\">",
+            "        <caller organisation=\"com.typesafe\" name=\"config\" conf=\"compile\" rev=\"2.12.0\" callerrev=\"1.3.4\"/>",
+            "      </revision>",
+            "    </module>",
+            "    <module organisation=\"com.typesafe\" name=\"config\">",
+            "      <revision name=\"1.3.4\">",
+            "        <caller organisation=\"com.example\" name=\"app_2.12\" conf=\"compile\" rev=\"1.3.4\" callerrev=\"1.0\"/>",
+            "      </revision>",
+            "    </module>",
+            "  </dependencies>",
+            "</ivy-report>"
+        ));
+
+        assertEquals("com.example", report.getOrganisation());
+        assertEquals("app_2.12", report.getModule());
+        assertEquals("1.0", report.getRevision());
+        assertEquals("compile", report.getConfiguration());
+        assertEquals(2, report.getDependencies().size());
+
+        SbtModule scalaLibrary = report.getDependencies().get(0);
+        assertEquals("org.scala-lang", scalaLibrary.getOrganisation());
+        assertEquals("scala-library", scalaLibrary.getName());
+        assertEquals(2, scalaLibrary.getRevisions().size());
+
+        SbtRevision revision = scalaLibrary.getRevisions().get(0);
+        assertEquals("2.12.10", revision.getName());
+        assertEquals(2, revision.getCallers().size());
+        SbtCaller caller = revision.getCallers().get(1);
+        assertEquals("com.typesafe", caller.getOrganisation());
+        assertEquals("config", caller.getName());
+        assertEquals("1.3.4", caller.getRevision());
+
+        assertEquals(1, report.getDependencies().get(1).getRevisions().get(0).getCallers().size());
+    }
+
+    @Test
+    public void ignoresElementsOutsideTheReportStructure() throws XMLStreamException {
+        SbtReport report = parser.parseReport(toInputStream(
+            "<ivy-report>",
+            "  <info organisation=\"com.example\" module=\"app\" revision=\"1.0\" conf=\"test\"/>",
+            "  <configurations>",
+            "    <module organisation=\"ignored\" name=\"ignored\"/>",
+            "  </configurations>",
+            "  <dependencies>",
+            "    <module organisation=\"com.example\" name=\"lib\">",
+            "      <info organisation=\"ignored\" module=\"ignored\" revision=\"ignored\" conf=\"ignored\"/>",
+            "    </module>",
+            "  </dependencies>",
+            "</ivy-report>"
+        ));
+
+        assertEquals("test", report.getConfiguration());
+        assertEquals(1, report.getDependencies().size());
+        assertEquals("lib", report.getDependencies().get(0).getName());
+        assertEquals(0, report.getDependencies().get(0).getRevisions().size());
+    }
+
+    @Test
+    public void failsWithoutInfo() {
+        assertThrows(XMLStreamException.class, () -> parser.parseReport(toInputStream("<ivy-report><dependencies/></ivy-report>")));
+    }
+
+    private InputStream toInputStream(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
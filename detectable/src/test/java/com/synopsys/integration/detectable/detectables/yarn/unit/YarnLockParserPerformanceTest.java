@@ -0,0 +1,52 @@
+package com.synopsys.integration.detectable.detectables.yarn.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.StringReader;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLock;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockLineAnalyzer;
+import com.synopsys.integration.detectable.detectables.yarn.parse.YarnLockParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntry;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.YarnLockEntryParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockDependencySpecParser;
+import com.synopsys.integration.detectable.detectables.yarn.parse.entry.section.YarnLockEntrySectionParserSet;
+
+@Tag("performance")
+public class YarnLockParserPerformanceTest {
+    @Test
+    public void scalesToLargeYarnLock() {
+        int entryCount = 50000;
+        StringBuilder yarnLockText = new StringBuilder("# yarn lockfile v1\n");
+        for (int entry = 0; entry < entryCount; entry++) {
+            yarnLockText.append(String.format("%nmodule%d@^1.0.%d:%n  version \"1.0.%d\"%n  resolved \"https://registry.yarnpkg.com/module%d/-/module%d-1.0.%d.tgz\"%n", entry, entry, entry, entry, entry, entry));
+            yarnLockText.append("  dependencies:\n");
+            for (int child = 1; child <= 3; child++) {
+                int childEntry = (entry + child) % entryCount;
+                yarnLockText.append(String.format("    module%d \"^1.0.%d\"%n", childEntry, childEntry));
+            }
+        }
+        YarnLockParser yarnLockParser = createYarnLockParser();
+
+        YarnLock yarnLock = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> yarnLockParser.parseYarnLock(new StringReader(yarnLockText.toString())));
+
+        assertEquals(entryCount, yarnLock.getEntries().size());
+        assertEquals(entryCount, yarnLock.getIndexedIdCount());
+        YarnLockEntry entry = yarnLock.findEntry("module42", "^1.0.42").get();
+        assertEquals("1.0.42", entry.getVersion());
+        assertEquals(3, entry.getDependencies().size());
+    }
+
+    private YarnLockParser createYarnLockParser() {
+        YarnLockLineAnalyzer lineAnalyzer = new YarnLockLineAnalyzer();
+        YarnLockDependencySpecParser yarnLockDependencySpecParser = new YarnLockDependencySpecParser(lineAnalyzer);
+        YarnLockEntrySectionParserSet yarnLockEntrySectionParserSet = new YarnLockEntrySectionParserSet(lineAnalyzer, yarnLockDependencySpecParser);
+        YarnLockEntryParser entryParser = new YarnLockEntryParser(lineAnalyzer, yarnLockEntrySectionParserSet);
+        return new YarnLockParser(entryParser);
+    }
+}
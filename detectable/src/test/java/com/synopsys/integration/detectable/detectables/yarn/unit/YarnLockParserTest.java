@@ -25,6 +25,8 @@ package com.synopsys.integration.detectable.detectables.yarn.unit;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -267,6 +269,38 @@ public class YarnLockParserTest {
         Assertions.assertFalse(dep.isOptional());
     }
 
+    @Test
+    void testReaderMatchesLines() throws IOException {
+        List<String> yarnLockText = Arrays.asList(
+            "# yarn lockfile v1",
+            "",
+            "__metadata:",
+            "  version: 4",
+            "",
+            "\"any-root-dep@1\", any-root-dep@^1.0.0:",
+            "  version: 1.0.0",
+            "  dependencies:",
+            "    some-peer: ^10.0.0",
+            "# a comment between entries",
+            "some-peer@^10.0.0:",
+            "  version: 10.1.0"
+        );
+        YarnLockParser yarnLockParser = createYarnLockParser();
+
+        YarnLock fromLines = yarnLockParser.parseYarnLock(yarnLockText);
+        YarnLock fromReader = yarnLockParser.parseYarnLock(new StringReader(String.join("\n", yarnLockText)));
+
+        assertEquals("4", fromReader.getFileFormatVersion().get());
+        Assertions.assertFalse(fromReader.isYarn1Project());
+        assertEquals(2, fromReader.getEntries().size());
+        assertEquals(fromLines.getEntries().size(), fromReader.getEntries().size());
+        assertEquals(3, fromReader.getIndexedIdCount());
+        assertEntry(fromReader, "any-root-dep", "^1.0.0", "1.0.0", new YarnLockDependency("some-peer", "^10.0.0", false));
+        assertEquals("10.1.0", fromReader.findEntry("some-peer", "^10.0.0").get().getVersion());
+        assertTrue(fromReader.findEntry("any-root-dep", "1").isPresent());
+        Assertions.assertFalse(fromReader.findEntry("some-peer", "^11.0.0").isPresent());
+    }
+
     void assertEntry(YarnLock yarnLock, String idName, String idVersion, String resolvedVersion, YarnLockDependency... dependencies) {
         boolean found = false;
         for (YarnLockEntry entry : yarnLock.getEntries()) {
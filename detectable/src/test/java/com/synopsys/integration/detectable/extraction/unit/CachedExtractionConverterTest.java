@@ -0,0 +1,84 @@
+package com.synopsys.integration.detectable.extraction.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.cache.CachedExtractionConverter;
+import com.synopsys.integration.detectable.extraction.cache.model.CachedExtraction;
+
+public class CachedExtractionConverterTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final CachedExtractionConverter converter = new CachedExtractionConverter();
+    private final Gson gson = new Gson();
+
+    @Test
+    public void mavenIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createMavenExternalId("com.example", "name", "1.0"));
+    }
+
+    @Test
+    public void nameVersionIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "name", "1.0"));
+    }
+
+    @Test
+    public void nameOnlyIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createNameVersionExternalId(Forge.NPMJS, "name"));
+    }
+
+    @Test
+    public void pathIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createPathExternalId(Forge.GOLANG, "github.com/example/name"));
+    }
+
+    @Test
+    public void yoctoIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createYoctoExternalId("meta-layer", "name", "1.0"));
+    }
+
+    @Test
+    public void architectureIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createArchitectureExternalId(Forge.CENTOS, "name", "1.0", "x86_64"));
+    }
+
+    @Test
+    public void moduleNamesIdRoundTrips() {
+        assertRoundTrips(externalIdFactory.createModuleNamesExternalId(Forge.CPAN, "Module", "Name"));
+    }
+
+    @Test
+    public void unknownForgeRoundTrips() {
+        assertRoundTrips(externalIdFactory.createNameVersionExternalId(new Forge("~", "custom"), "name", "1.0"));
+    }
+
+    private void assertRoundTrips(ExternalId externalId) {
+        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        dependencyGraph.addChildToRoot(new Dependency(externalId.getName(), externalId.getVersion(), externalId));
+        Extraction extraction = new Extraction.Builder().success(new CodeLocation(dependencyGraph, externalId, new File("source"))).build();
+
+        CachedExtraction cachedExtraction = gson.fromJson(gson.toJson(converter.toCachedExtraction(extraction)), CachedExtraction.class);
+        CodeLocation codeLocation = converter.toExtraction(cachedExtraction).getCodeLocations().get(0);
+
+        assertEquals(externalId, codeLocation.getExternalId().orElse(null));
+        assertEquals(externalId.createExternalId(), codeLocation.getExternalId().map(ExternalId::createExternalId).orElse(null));
+        DependencyGraph cachedGraph = codeLocation.getDependencyGraph();
+        List<ExternalId> rootIds = cachedGraph.getRootDependencies().stream().map(dependency -> dependency.getExternalId()).collect(Collectors.toList());
+        assertEquals(1, rootIds.size());
+        assertEquals(externalId, rootIds.get(0));
+    }
+}
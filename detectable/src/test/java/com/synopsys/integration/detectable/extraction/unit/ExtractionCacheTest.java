@@ -0,0 +1,171 @@
+package com.synopsys.integration.detectable.extraction.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectable.result.DetectableResult;
+import com.synopsys.integration.detectable.detectable.result.PassedDetectableResult;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.extraction.ExtractionInputs;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheMode;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheOptions;
+import com.synopsys.integration.detectable.util.graph.MavenGraphAssert;
+
+public class ExtractionCacheTest {
+    private static final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    private File sourceDirectory;
+    private File cacheDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        sourceDirectory = Files.createTempDirectory("ExtractionCacheTest-source").toFile();
+        cacheDirectory = Files.createTempDirectory("ExtractionCacheTest-cache").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(sourceDirectory);
+        FileUtils.deleteDirectory(cacheDirectory);
+    }
+
+    @Test
+    public void unchangedInputsAreServedFromTheCache() throws Exception {
+        ExtractionCache extractionCache = new ExtractionCache(createOptions(ExtractionCacheMode.ENABLED, Long.MAX_VALUE));
+        CountingDetectable detectable = new CountingDetectable(writeInput("input.lock", "1.0"));
+
+        extractionCache.extract(detectable, null);
+        Extraction cachedExtraction = extractionCache.extract(detectable, null);
+
+        assertEquals(1, detectable.extractions);
+        assertTrue(cachedExtraction.isSuccess());
+        assertEquals("project", cachedExtraction.getProjectName());
+        assertEquals("1.0", cachedExtraction.getProjectVersion());
+
+        MavenGraphAssert graphAssert = new MavenGraphAssert(cachedExtraction.getCodeLocations().get(0).getDependencyGraph());
+        graphAssert.hasRootSize(1);
+        ExternalId parentId = graphAssert.hasRootDependency("com.example:parent:1.0");
+        graphAssert.hasParentChildRelationship(parentId, externalIdFactory.createMavenExternalId("com.example", "child", "1.0"));
+    }
+
+    @Test
+    public void changedInputsAreExtractedAgain() throws Exception {
+        ExtractionCache extractionCache = new ExtractionCache(createOptions(ExtractionCacheMode.ENABLED, Long.MAX_VALUE));
+        File input = writeInput("input.lock", "1.0");
+        CountingDetectable detectable = new CountingDetectable(input);
+
+        extractionCache.extract(detectable, null);
+        FileUtils.writeStringToFile(input, "2.0", StandardCharsets.UTF_8);
+        Extraction extraction = extractionCache.extract(detectable, null);
+
+        assertEquals(2, detectable.extractions);
+        assertEquals("2.0", extraction.getProjectVersion());
+    }
+
+    @Test
+    public void verifyModeAlwaysExtracts() throws Exception {
+        ExtractionCache extractionCache = new ExtractionCache(createOptions(ExtractionCacheMode.VERIFY, Long.MAX_VALUE));
+        CountingDetectable detectable = new CountingDetectable(writeInput("input.lock", "1.0"));
+
+        extractionCache.extract(detectable, null);
+        extractionCache.extract(detectable, null);
+
+        assertEquals(2, detectable.extractions);
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws Exception {
+        CountingDetectable first = new CountingDetectable(writeInput("first.lock", "1.0"));
+        CountingDetectable second = new CountingDetectable(writeInput("second.lock", "1.0"));
+
+        new ExtractionCache(createOptions(ExtractionCacheMode.ENABLED, Long.MAX_VALUE)).extract(first, null);
+        File[] firstEntries = cacheDirectory.listFiles();
+        assertEquals(1, firstEntries.length);
+        assertTrue(firstEntries[0].setLastModified(System.currentTimeMillis() - 60000));
+
+        ExtractionCache extractionCache = new ExtractionCache(createOptions(ExtractionCacheMode.ENABLED, firstEntries[0].length()));
+        extractionCache.extract(second, null);
+        extractionCache.extract(second, null);
+
+        assertEquals(1, second.extractions);
+        assertEquals(1, cacheDirectory.listFiles().length);
+        assertFalse(firstEntries[0].exists());
+    }
+
+    private ExtractionCacheOptions createOptions(ExtractionCacheMode mode, long maximumSizeInBytes) {
+        return new ExtractionCacheOptions(mode, cacheDirectory.toPath(), maximumSizeInBytes, "test");
+    }
+
+    private File writeInput(String fileName, String version) throws IOException {
+        File input = new File(sourceDirectory, fileName);
+        FileUtils.writeStringToFile(input, version, StandardCharsets.UTF_8);
+        return input;
+    }
+
+    private static class CountingDetectable extends Detectable {
+        private final File input;
+        private int extractions = 0;
+
+        public CountingDetectable(File input) {
+            super(new DetectableEnvironment(input.getParentFile()));
+            this.input = input;
+        }
+
+        @Override
+        public DetectableResult applicable() {
+            return new PassedDetectableResult();
+        }
+
+        @Override
+        public DetectableResult extractable() {
+            return new PassedDetectableResult();
+        }
+
+        @Override
+        public Optional<ExtractionInputs> getExtractionInputs() {
+            return Optional.of(new ExtractionInputs.Builder().file("input", input).build());
+        }
+
+        @Override
+        public Extraction extract(ExtractionEnvironment extractionEnvironment) {
+            extractions++;
+            String version;
+            try {
+                version = FileUtils.readFileToString(input, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                return new Extraction.Builder().exception(e).build();
+            }
+            ExternalId parentId = externalIdFactory.createMavenExternalId("com.example", "parent", "1.0");
+            ExternalId childId = externalIdFactory.createMavenExternalId("com.example", "child", "1.0");
+            Dependency parent = new Dependency("parent", "1.0", parentId);
+            MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+            dependencyGraph.addChildToRoot(parent);
+            dependencyGraph.addChildWithParent(new Dependency("child", "1.0", childId), parent);
+            CodeLocation codeLocation = new CodeLocation(dependencyGraph, externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "project", version));
+            return new Extraction.Builder().success(codeLocation).projectName("project").projectVersion(version).build();
+        }
+    }
+}
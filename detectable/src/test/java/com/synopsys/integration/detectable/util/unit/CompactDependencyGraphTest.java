@@ -0,0 +1,74 @@
+package com.synopsys.integration.detectable.util.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.util.CompactDependencyGraph;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
+import com.synopsys.integration.detectable.util.GraphCompare;
+
+public class CompactDependencyGraphTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void matchesOriginalGraph() {
+        Dependency parent = createDependency("parent");
+        Dependency sibling = createDependency("sibling");
+        Dependency child = createDependency("child");
+        Dependency grandchild = createDependency("grandchild");
+
+        MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildrenToRoot(parent, sibling);
+        graph.addChildWithParent(child, parent);
+        graph.addChildWithParent(child, sibling);
+        graph.addChildWithParent(grandchild, child);
+
+        CompactDependencyGraph compactGraph = CompactDependencyGraph.fromGraph(graph, new ExternalIdInterner());
+
+        GraphCompare.assertEquals(graph, compactGraph);
+        assertEquals(4, compactGraph.getNodeCount());
+        assertEquals(3, compactGraph.getEdgeCount());
+        assertEquals(graph.getParentExternalIdsForChild(child), compactGraph.getParentExternalIdsForChild(child));
+        assertEquals(Collections.singleton(grandchild.getExternalId()), compactGraph.getChildrenExternalIdsForParent(child));
+        assertTrue(compactGraph.getChildrenForParent(grandchild).isEmpty());
+        assertFalse(compactGraph.hasDependency(createDependency("missing")));
+    }
+
+    @Test
+    public void sharesComponentsAcrossGraphs() {
+        ExternalIdInterner externalIdInterner = new ExternalIdInterner();
+        Dependency first = createDependency("shared");
+        Dependency second = createDependency("shared");
+        assertNotSame(first.getExternalId(), second.getExternalId());
+
+        MutableDependencyGraph firstGraph = new MutableMapDependencyGraph();
+        firstGraph.addChildToRoot(first);
+        MutableDependencyGraph secondGraph = new MutableMapDependencyGraph();
+        secondGraph.addChildToRoot(second);
+
+        CompactDependencyGraph firstCompactGraph = CompactDependencyGraph.fromGraph(firstGraph, externalIdInterner);
+        CompactDependencyGraph secondCompactGraph = CompactDependencyGraph.fromGraph(secondGraph, externalIdInterner);
+
+        ExternalId sharedId = first.getExternalId();
+        assertSame(firstCompactGraph.getDependency(sharedId), secondCompactGraph.getDependency(sharedId));
+        assertEquals(1, externalIdInterner.getExternalIdCount());
+        assertEquals(1, externalIdInterner.getDependencyCount());
+    }
+
+    private Dependency createDependency(String name) {
+        return new Dependency(name, "1.0.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0.0"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.synopsys.integration.detectable.util.unit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detectable.util.DependencyGraphMerger;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
+import com.synopsys.integration.detectable.util.GraphCompare;
+
+public class DependencyGraphMergerTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void mergesAsChildrenToRoot() throws InterruptedException {
+        List<DependencyGraph> graphs = createGraphs(5);
+        MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        graphs.forEach(expected::addGraphAsChildrenToRoot);
+
+        DependencyGraphMerger dependencyGraphMerger = new DependencyGraphMerger(new ExternalIdInterner());
+        GraphCompare.assertEquals(expected, dependencyGraphMerger.mergeAsChildrenToRoot(graphs, 1));
+        GraphCompare.assertEquals(expected, dependencyGraphMerger.mergeAsChildrenToRoot(graphs, 3));
+    }
+
+    @Test
+    public void mergesAsChildrenToParents() throws InterruptedException {
+        List<DependencyGraph> graphs = createGraphs(5);
+        List<Dependency> parents = new ArrayList<>();
+        MutableDependencyGraph expected = new MutableMapDependencyGraph();
+        for (int index = 0; index < graphs.size(); index++) {
+            Dependency parent = createDependency("code-location-" + index);
+            parents.add(parent);
+            expected.addChildToRoot(parent);
+            expected.addGraphAsChildrenToParent(parent, graphs.get(index));
+        }
+
+        DependencyGraphMerger dependencyGraphMerger = new DependencyGraphMerger(new ExternalIdInterner());
+        GraphCompare.assertEquals(expected, dependencyGraphMerger.mergeAsChildrenToParents(parents, graphs, 1));
+        GraphCompare.assertEquals(expected, dependencyGraphMerger.mergeAsChildrenToParents(parents, graphs, 3));
+    }
+
+    @Test
+    public void requiresParentForEachGraph() {
+        DependencyGraphMerger dependencyGraphMerger = new DependencyGraphMerger(new ExternalIdInterner());
+        assertThrows(IllegalArgumentException.class, () -> dependencyGraphMerger.mergeAsChildrenToParents(Collections.emptyList(), createGraphs(1), 1));
+    }
+
+    // Every graph shares a diamond beneath "shared" and adds a chain of its own beneath it.
+    private List<DependencyGraph> createGraphs(int count) {
+        List<DependencyGraph> graphs = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            Dependency shared = createDependency("shared");
+            Dependency left = createDependency("left");
+            Dependency right = createDependency("right");
+            Dependency bottom = createDependency("bottom");
+            Dependency own = createDependency("own-" + index);
+            Dependency ownChild = createDependency("own-child-" + index);
+
+            MutableDependencyGraph graph = new MutableMapDependencyGraph();
+            graph.addChildrenToRoot(shared, own);
+            graph.addChildWithParent(left, shared);
+            graph.addChildWithParent(right, shared);
+            graph.addChildWithParent(bottom, left);
+            graph.addChildWithParent(bottom, right);
+            graph.addChildWithParent(ownChild, own);
+            graph.addChildWithParent(ownChild, bottom);
+            graphs.add(graph);
+        }
+        return graphs;
+    }
+
+    private Dependency createDependency(String name) {
+        return new Dependency(name, "1.0.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0.0"));
+    }
+}
@@ -7,17 +7,36 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheOptions;
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.rule.DetectorRule;
 
 public class DetectorEvaluationOptions {
     private final boolean forceNested;
     private final Predicate<DetectorRule> detectorFilter;
+    private final int extractionThreads;
+    private final Map<DetectorType, Integer> extractionConcurrencyLimits;
+    private final ExtractionCacheOptions extractionCacheOptions;
 
     public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter) {
+        this(forceNested, detectorFilter, 1, Collections.emptyMap(), ExtractionCacheOptions.disabled());
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionThreads, final Map<DetectorType, Integer> extractionConcurrencyLimits) {
+        this(forceNested, detectorFilter, extractionThreads, extractionConcurrencyLimits, ExtractionCacheOptions.disabled());
+    }
+
+    public DetectorEvaluationOptions(final boolean forceNested, final Predicate<DetectorRule> detectorFilter, final int extractionThreads, final Map<DetectorType, Integer> extractionConcurrencyLimits,
+        final ExtractionCacheOptions extractionCacheOptions) {
         this.forceNested = forceNested;
         this.detectorFilter = detectorFilter;
+        this.extractionThreads = extractionThreads;
+        this.extractionConcurrencyLimits = extractionConcurrencyLimits;
+        this.extractionCacheOptions = extractionCacheOptions;
     }
 
     public boolean isForceNested() {
@@ -27,4 +46,16 @@ public class DetectorEvaluationOptions {
     public Predicate<DetectorRule> getDetectorFilter() {
         return detectorFilter;
     }
+
+    public int getExtractionThreads() {
+        return extractionThreads;
+    }
+
+    public Map<DetectorType, Integer> getExtractionConcurrencyLimits() {
+        return extractionConcurrencyLimits;
+    }
+
+    public ExtractionCacheOptions getExtractionCacheOptions() {
+        return extractionCacheOptions;
+    }
 }
@@ -55,6 +55,10 @@ public class DetectorEvaluator {
         extractionEvaluator.registerEvaluatorResultCallback(callBack);
     }
 
+    public void setExtractionPostProcessor(ExtractionPostProcessor extractionPostProcessor) {
+        extractionEvaluator.setExtractionPostProcessor(extractionPostProcessor);
+    }
+
     public Optional<DetectorEvaluatorListener> getDetectorEvaluatorListener() {
         return Optional.ofNullable(detectorEvaluatorListener);
     }
@@ -7,53 +7,78 @@
  */
 package com.synopsys.integration.detector.evaluation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import com.synopsys.integration.detectable.Detectable;
 import com.synopsys.integration.detectable.Discovery;
 import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCache;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheOptions;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
 
 public class ExtractionEvaluator extends Evaluator {
+    public static final String EXTRACTION_MDC_KEY = "extraction";
+
     private Logger logger = LoggerFactory.getLogger(ExtractionEvaluator.class);
+    private final ExtractionCache extractionCache;
+    private ExtractionPostProcessor extractionPostProcessor = extraction -> extraction;
 
     public ExtractionEvaluator(DetectorEvaluationOptions evaluationOptions) {
         super(evaluationOptions);
+        this.extractionCache = new ExtractionCache(Optional.ofNullable(evaluationOptions.getExtractionCacheOptions()).orElse(ExtractionCacheOptions.disabled()));
+    }
+
+    public void setExtractionPostProcessor(ExtractionPostProcessor extractionPostProcessor) {
+        this.extractionPostProcessor = extractionPostProcessor;
     }
 
     @Override
     protected DetectorEvaluationTree performEvaluation(DetectorEvaluationTree rootEvaluation) {
         logger.debug("Starting detector extraction.");
-        extractionEvaluation(rootEvaluation);
+        int extractionThreads = getEvaluationOptions().getExtractionThreads();
+        if (extractionThreads > 1) {
+            scheduledExtractionEvaluation(rootEvaluation, extractionThreads);
+        } else {
+            extractionEvaluation(rootEvaluation);
+        }
         return rootEvaluation;
     }
 
     public void extractionEvaluation(DetectorEvaluationTree detectorEvaluationTree) {
         logger.trace("Extracting detectors in the directory: {}", detectorEvaluationTree.getDirectory());
         for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
-            if (detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null) {
+            if (shouldExtract(detectorEvaluation)) {
 
                 logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
-                Detectable detectable = detectorEvaluation.getDetectable();
-
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
-
-                Discovery discovery = detectorEvaluation.getDiscovery();
-                if (discovery != null && discovery.getExtraction() != null) {
-                    logger.debug("Extraction already completed during project discovery.");
-                    detectorEvaluation.setExtraction(discovery.getExtraction());
-                } else {
-                    try {
-                        Extraction extraction = detectable.extract(detectorEvaluation.getExtractionEnvironment());
-                        detectorEvaluation.setExtraction(extraction);
-                    } catch (Exception e) {
-                        detectorEvaluation.setExtraction(new Extraction.Builder().exception(e).build());
+
+                try (MDC.MDCCloseable ignored = putExtractionContext(detectorEvaluation)) {
+                    getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+
+                    Extraction discoveredExtraction = findDiscoveredExtraction(detectorEvaluation);
+                    if (discoveredExtraction != null) {
+                        logger.debug("Extraction already completed during project discovery.");
+                        detectorEvaluation.setExtraction(postProcessDiscoveredExtraction(detectorEvaluation, discoveredExtraction));
+                    } else {
+                        detectorEvaluation.setExtraction(extract(detectorEvaluation));
                     }
-                }
 
-                getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+                    getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+                }
 
                 logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
 
@@ -64,4 +89,113 @@ public class ExtractionEvaluator extends Evaluator {
             extractionEvaluation(childDetectorEvaluationTree);
         }
     }
+
+    // Extractions run concurrently but the listener is only notified on this thread, in the same tree order as a sequential run.
+    // Each extraction is reported started when this thread begins waiting on it and ended once its result is collected.
+    private void scheduledExtractionEvaluation(DetectorEvaluationTree rootEvaluation, int extractionThreads) {
+        List<DetectorEvaluation> extractableEvaluations = new ArrayList<>();
+        collectExtractableEvaluations(rootEvaluation, extractableEvaluations);
+
+        List<DetectorEvaluation> evaluationsToSchedule = extractableEvaluations.stream()
+                                                             .filter(detectorEvaluation -> findDiscoveredExtraction(detectorEvaluation) == null)
+                                                             .collect(Collectors.toList());
+
+        Map<DetectorType, Integer> concurrencyLimits = Optional.ofNullable(getEvaluationOptions().getExtractionConcurrencyLimits()).orElse(Collections.emptyMap());
+        logger.debug("Scheduling {} extractions on {} threads with detector limits: {}", evaluationsToSchedule.size(), extractionThreads, concurrencyLimits);
+        ExtractionScheduler extractionScheduler = new ExtractionScheduler(extractionThreads, concurrencyLimits);
+        try {
+            List<CompletableFuture<Extraction>> scheduledExtractions = extractionScheduler.schedule(evaluationsToSchedule, this::extractInContext);
+            Map<DetectorEvaluation, CompletableFuture<Extraction>> extractionLookup = new HashMap<>();
+            for (int i = 0; i < evaluationsToSchedule.size(); i++) {
+                extractionLookup.put(evaluationsToSchedule.get(i), scheduledExtractions.get(i));
+            }
+
+            for (DetectorEvaluation detectorEvaluation : extractableEvaluations) {
+                logger.trace("Detector was searchable, applicable and extractable, will perform extraction: {}", detectorEvaluation.getDetectorRule().getDescriptiveName());
+                try (MDC.MDCCloseable ignored = putExtractionContext(detectorEvaluation)) {
+                    getDetectorEvaluatorListener().ifPresent(it -> it.extractionStarted(detectorEvaluation));
+
+                    CompletableFuture<Extraction> scheduledExtraction = extractionLookup.get(detectorEvaluation);
+                    if (scheduledExtraction == null) {
+                        logger.debug("Extraction already completed during project discovery.");
+                        detectorEvaluation.setExtraction(postProcessDiscoveredExtraction(detectorEvaluation, findDiscoveredExtraction(detectorEvaluation)));
+                    } else {
+                        detectorEvaluation.setExtraction(awaitExtraction(scheduledExtraction));
+                    }
+
+                    getDetectorEvaluatorListener().ifPresent(it -> it.extractionEnded(detectorEvaluation));
+                }
+                logger.trace("Extraction result: {}", detectorEvaluation.wasExtractionSuccessful());
+            }
+        } finally {
+            extractionScheduler.shutdown();
+        }
+    }
+
+    private Extraction extractInContext(DetectorEvaluation detectorEvaluation) {
+        try (MDC.MDCCloseable ignored = putExtractionContext(detectorEvaluation)) {
+            return extract(detectorEvaluation);
+        }
+    }
+
+    // Everything logged for an extraction, on whichever thread, carries the name of its output directory so it can be told apart from concurrent extractions.
+    private MDC.MDCCloseable putExtractionContext(DetectorEvaluation detectorEvaluation) {
+        return MDC.putCloseable(EXTRACTION_MDC_KEY, detectorEvaluation.getExtractionEnvironment().getOutputDirectory().getName());
+    }
+
+    private void collectExtractableEvaluations(DetectorEvaluationTree detectorEvaluationTree, List<DetectorEvaluation> extractableEvaluations) {
+        for (DetectorEvaluation detectorEvaluation : detectorEvaluationTree.getOrderedEvaluations()) {
+            if (shouldExtract(detectorEvaluation)) {
+                extractableEvaluations.add(detectorEvaluation);
+            }
+        }
+
+        for (DetectorEvaluationTree childDetectorEvaluationTree : detectorEvaluationTree.getChildren()) {
+            collectExtractableEvaluations(childDetectorEvaluationTree, extractableEvaluations);
+        }
+    }
+
+    private boolean shouldExtract(DetectorEvaluation detectorEvaluation) {
+        return detectorEvaluation.isExtractable() && detectorEvaluation.getExtractionEnvironment() != null;
+    }
+
+    @Nullable
+    private Extraction findDiscoveredExtraction(DetectorEvaluation detectorEvaluation) {
+        Discovery discovery = detectorEvaluation.getDiscovery();
+        if (discovery != null) {
+            return discovery.getExtraction();
+        }
+        return null;
+    }
+
+    // The discovery is rebuilt around the post processed extraction so it does not keep the original alive.
+    private Extraction postProcessDiscoveredExtraction(DetectorEvaluation detectorEvaluation, Extraction discoveredExtraction) {
+        Extraction extraction = extractionPostProcessor.postProcess(discoveredExtraction);
+        if (extraction != discoveredExtraction) {
+            detectorEvaluation.setDiscovery(new Discovery.Builder().success(extraction).build());
+        }
+        return extraction;
+    }
+
+    private Extraction extract(DetectorEvaluation detectorEvaluation) {
+        Detectable detectable = detectorEvaluation.getDetectable();
+        try {
+            return extractionPostProcessor.postProcess(extractionCache.extract(detectable, detectorEvaluation.getExtractionEnvironment()));
+        } catch (Exception e) {
+            return new Extraction.Builder().exception(e).build();
+        }
+    }
+
+    private Extraction awaitExtraction(CompletableFuture<Extraction> scheduledExtraction) {
+        try {
+            return scheduledExtraction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Extraction.Builder().exception(e).build();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            Exception exception = cause instanceof Exception ? (Exception) cause : e;
+            return new Extraction.Builder().exception(exception).build();
+        }
+    }
 }
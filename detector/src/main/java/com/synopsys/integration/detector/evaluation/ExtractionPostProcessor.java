@@ -0,0 +1,15 @@
+/*
+ * detector
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import com.synopsys.integration.detectable.extraction.Extraction;
+
+// Applied to each extraction on the thread that completed it, before listeners are told it ended. The returned extraction replaces the original everywhere the evaluation holds it.
+public interface ExtractionPostProcessor {
+    Extraction postProcess(Extraction extraction);
+}
@@ -0,0 +1,119 @@
+/*
+ * detector
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detector.evaluation;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+
+// Runs extractions on a bounded work stealing pool. Evaluations are dispatched in the order they were given, skipping (but not dropping) any whose detector type is at its concurrency limit.
+public class ExtractionScheduler {
+    private final Logger logger = LoggerFactory.getLogger(ExtractionScheduler.class);
+    private final int threadCount;
+    private final Map<DetectorType, Integer> concurrencyLimits;
+
+    private final LinkedList<ScheduledExtraction> pending = new LinkedList<>();
+    private final Map<DetectorType, Integer> runningByType = new EnumMap<>(DetectorType.class);
+    private int running = 0;
+    private ExecutorService executorService;
+
+    public ExtractionScheduler(int threadCount, Map<DetectorType, Integer> concurrencyLimits) {
+        this.threadCount = Math.max(1, threadCount);
+        this.concurrencyLimits = concurrencyLimits;
+    }
+
+    // The returned futures are in the same order as the given evaluations.
+    public List<CompletableFuture<Extraction>> schedule(List<DetectorEvaluation> detectorEvaluations, Function<DetectorEvaluation, Extraction> extractor) {
+        List<CompletableFuture<Extraction>> futures = new ArrayList<>(detectorEvaluations.size());
+        synchronized (this) {
+            if (executorService == null) {
+                executorService = Executors.newWorkStealingPool(threadCount);
+            }
+            for (DetectorEvaluation detectorEvaluation : detectorEvaluations) {
+                ScheduledExtraction scheduledExtraction = new ScheduledExtraction(detectorEvaluation, extractor);
+                pending.add(scheduledExtraction);
+                futures.add(scheduledExtraction.future);
+            }
+            dispatch();
+        }
+        return futures;
+    }
+
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService = null;
+        }
+    }
+
+    private synchronized void dispatch() {
+        Iterator<ScheduledExtraction> iterator = pending.iterator();
+        while (running < threadCount && iterator.hasNext()) {
+            ScheduledExtraction scheduledExtraction = iterator.next();
+            DetectorType detectorType = scheduledExtraction.detectorEvaluation.getDetectorType();
+            if (hasCapacity(detectorType)) {
+                iterator.remove();
+                running++;
+                runningByType.merge(detectorType, 1, Integer::sum);
+                executorService.execute(() -> run(scheduledExtraction));
+            }
+        }
+    }
+
+    private boolean hasCapacity(DetectorType detectorType) {
+        Integer limit = concurrencyLimits.get(detectorType);
+        if (limit == null || limit <= 0) {
+            return true;
+        }
+        return runningByType.getOrDefault(detectorType, 0) < limit;
+    }
+
+    private void run(ScheduledExtraction scheduledExtraction) {
+        try {
+            scheduledExtraction.future.complete(scheduledExtraction.extractor.apply(scheduledExtraction.detectorEvaluation));
+        } catch (Throwable e) {
+            logger.debug("Scheduled extraction failed unexpectedly.", e);
+            scheduledExtraction.future.completeExceptionally(e);
+        } finally {
+            completed(scheduledExtraction.detectorEvaluation.getDetectorType());
+        }
+    }
+
+    private synchronized void completed(DetectorType detectorType) {
+        running--;
+        runningByType.merge(detectorType, -1, Integer::sum);
+        if (executorService != null) {
+            dispatch();
+        }
+    }
+
+    private static class ScheduledExtraction {
+        private final DetectorEvaluation detectorEvaluation;
+        private final Function<DetectorEvaluation, Extraction> extractor;
+        private final CompletableFuture<Extraction> future = new CompletableFuture<>();
+
+        private ScheduledExtraction(DetectorEvaluation detectorEvaluation, Function<DetectorEvaluation, Extraction> extractor) {
+            this.detectorEvaluation = detectorEvaluation;
+            this.extractor = extractor;
+        }
+    }
+}
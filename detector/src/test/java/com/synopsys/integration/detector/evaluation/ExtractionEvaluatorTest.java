@@ -1,11 +1,14 @@
 package com.synopsys.integration.detector.evaluation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import com.synopsys.integration.detectable.extraction.Extraction;
 import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.rule.DetectorRule;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
@@ -90,9 +94,80 @@ public class ExtractionEvaluatorTest {
         Mockito.verify(detectorEvaluatorListener).extractionEnded(detectorEvaluation);
     }
 
+    @Test
+    public void scheduledExtractionNotifiesListenerInTreeOrderOnCallingThread() throws DetectableException, ExecutableFailedException {
+        int extractionCount = 4;
+        long extractionMillis = 200;
+        DetectorEvaluationOptions evaluationOptions = new DetectorEvaluationOptions(true, rule -> true, extractionCount, Collections.emptyMap());
+        ExtractionEvaluator evaluator = new ExtractionEvaluator(evaluationOptions);
+
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> listenerThreads = Collections.synchronizedList(new ArrayList<>());
+        List<String> completionOrder = Collections.synchronizedList(new ArrayList<>());
+        DetectorEvaluatorListener detectorEvaluatorListener = Mockito.mock(DetectorEvaluatorListener.class);
+        Mockito.doAnswer(invocation -> record(events, listenerThreads, "started", invocation.getArgument(0))).when(detectorEvaluatorListener).extractionStarted(Mockito.any());
+        Mockito.doAnswer(invocation -> record(events, listenerThreads, "ended", invocation.getArgument(0))).when(detectorEvaluatorListener).extractionEnded(Mockito.any());
+        evaluator.setDetectorEvaluatorListener(detectorEvaluatorListener);
+
+        List<DetectorEvaluation> detectorEvaluations = new ArrayList<>();
+        for (int i = 0; i < extractionCount; i++) {
+            DetectorEvaluation detectorEvaluation = createSchedulableEvaluationMock(i);
+            String name = detectorEvaluation.getDetectorRule().getDescriptiveName();
+            // Later evaluations finish first so completion order is the reverse of tree order.
+            long sleepMillis = extractionMillis * (extractionCount - i) / extractionCount;
+            Detectable detectable = detectorEvaluation.getDetectable();
+            Mockito.when(detectable.extract(Mockito.any())).thenAnswer(invocation -> {
+                Thread.sleep(sleepMillis);
+                completionOrder.add(name);
+                return new Extraction.Builder().success().build();
+            });
+            detectorEvaluations.add(detectorEvaluation);
+        }
+        DetectorEvaluationTree detectorEvaluationTree = Mockito.mock(DetectorEvaluationTree.class);
+        Mockito.when(detectorEvaluationTree.getOrderedEvaluations()).thenReturn(detectorEvaluations);
+
+        long evaluationStarted = System.nanoTime();
+        evaluator.evaluate(detectorEvaluationTree);
+        long evaluationNanos = System.nanoTime() - evaluationStarted;
+
+        List<String> expectedEvents = new ArrayList<>();
+        for (int i = 0; i < extractionCount; i++) {
+            expectedEvents.add("started rule " + i);
+            expectedEvents.add("ended rule " + i);
+        }
+        assertEquals(expectedEvents, events);
+        assertEquals("rule " + (extractionCount - 1), completionOrder.get(0), "Extractions should have completed out of tree order.");
+        for (Thread listenerThread : listenerThreads) {
+            assertEquals(Thread.currentThread(), listenerThread);
+        }
+        for (int i = 0; i < extractionCount; i++) {
+            Mockito.verify(detectorEvaluations.get(i)).setExtraction(Mockito.any(Extraction.class));
+        }
+        assertTrue(evaluationNanos < TimeUnit.MILLISECONDS.toNanos(extractionMillis * extractionCount), "Extractions should have overlapped.");
+    }
+
+    private Void record(List<String> events, List<Thread> listenerThreads, String event, DetectorEvaluation detectorEvaluation) {
+        events.add(event + " " + detectorEvaluation.getDetectorRule().getDescriptiveName());
+        listenerThreads.add(Thread.currentThread());
+        return null;
+    }
+
+    private DetectorEvaluation createSchedulableEvaluationMock(int index) {
+        DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        DetectorRule detectorRule = Mockito.mock(DetectorRule.class);
+        Mockito.when(detectorRule.getDescriptiveName()).thenReturn("rule " + index);
+        Mockito.when(detectorEvaluation.getDetectorRule()).thenReturn(detectorRule);
+        Mockito.when(detectorEvaluation.getDetectorType()).thenReturn(DetectorType.MAVEN);
+        Mockito.when(detectorEvaluation.getDetectable()).thenReturn(Mockito.mock(Detectable.class));
+        Mockito.when(detectorEvaluation.getExtractionEnvironment()).thenReturn(new ExtractionEnvironment(new File("extraction-" + index)));
+        Mockito.when(detectorEvaluation.isExtractable()).thenReturn(true);
+        return detectorEvaluation;
+    }
+
     private DetectorEvaluation createEvaluationMocks(DetectorEvaluationOptions evaluationOptions, DetectorEvaluationTree detectorEvaluationTree, boolean extractionExists, boolean throwException)
         throws DetectableException, ExecutableFailedException {
         ExtractionEnvironment extractionEnvironment = Mockito.mock(ExtractionEnvironment.class);
+        Mockito.when(extractionEnvironment.getOutputDirectory()).thenReturn(new File("extraction"));
         DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
         Discovery discovery = Mockito.mock(Discovery.class);
         if (extractionExists) {
@@ -0,0 +1,94 @@
+package com.synopsys.integration.detector.evaluation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorType;
+
+public class ExtractionSchedulerTest {
+    @Test
+    public void testResultsInScheduledOrder() throws ExecutionException, InterruptedException {
+        List<DetectorEvaluation> evaluations = new ArrayList<>();
+        List<Extraction> extractions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            DetectorEvaluation evaluation = createEvaluation(i % 2 == 0 ? DetectorType.NPM : DetectorType.MAVEN);
+            evaluations.add(evaluation);
+            extractions.add(new Extraction.Builder().success().build());
+        }
+
+        ExtractionScheduler scheduler = new ExtractionScheduler(4, Collections.emptyMap());
+        List<CompletableFuture<Extraction>> futures = scheduler.schedule(evaluations, evaluation -> {
+            int index = evaluations.indexOf(evaluation);
+            sleep((20 - index) * 2L);
+            return extractions.get(index);
+        });
+
+        for (int i = 0; i < evaluations.size(); i++) {
+            assertEquals(extractions.get(i), futures.get(i).get());
+        }
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testDetectorTypeLimitIsRespected() throws ExecutionException, InterruptedException {
+        List<DetectorEvaluation> evaluations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            evaluations.add(createEvaluation(DetectorType.GRADLE));
+            evaluations.add(createEvaluation(DetectorType.NPM));
+        }
+
+        AtomicInteger runningGradle = new AtomicInteger();
+        AtomicInteger maxRunningGradle = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+
+        ExtractionScheduler scheduler = new ExtractionScheduler(4, Collections.singletonMap(DetectorType.GRADLE, 1));
+        List<CompletableFuture<Extraction>> futures = scheduler.schedule(evaluations, evaluation -> {
+            boolean gradle = evaluation.getDetectorType() == DetectorType.GRADLE;
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            if (gradle) {
+                maxRunningGradle.accumulateAndGet(runningGradle.incrementAndGet(), Math::max);
+            }
+            sleep(5);
+            if (gradle) {
+                runningGradle.decrementAndGet();
+            }
+            running.decrementAndGet();
+            return new Extraction.Builder().success().build();
+        });
+
+        for (CompletableFuture<Extraction> future : futures) {
+            assertTrue(future.get().isSuccess());
+        }
+        scheduler.shutdown();
+
+        assertEquals(1, maxRunningGradle.get());
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    private DetectorEvaluation createEvaluation(DetectorType detectorType) {
+        DetectorEvaluation evaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(evaluation.getDetectorType()).thenReturn(detectorType);
+        return evaluation;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.blackduck.service.BlackDuckServicesFactory;
 import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.IndexedFileFinder;
 import com.synopsys.integration.common.util.finder.SimpleFileFinder;
 import com.synopsys.integration.configuration.source.PropertySource;
 import com.synopsys.integration.configuration.source.SpringConfigurationPropertySource;
@@ -105,7 +106,7 @@ public class Application implements ApplicationRunner {
 
         Gson gson = BlackDuckServicesFactory.createDefaultGsonBuilder().setPrettyPrinting().create();
         DetectInfo detectInfo = DetectInfoUtility.createDefaultDetectInfo();
-        FileFinder fileFinder = new SimpleFileFinder();
+        FileFinder fileFinder = new IndexedFileFinder(new SimpleFileFinder());
 
         boolean shouldForceSuccess = false;
 
@@ -116,6 +117,7 @@ public class Application implements ApplicationRunner {
             shouldForceSuccess = detectBootResult.shouldForceSuccess();
 
             runApplication(eventSystem, exitCodeManager, detectBootResult);
+            eventSystem.flush();
 
             //Create status output file.
             logger.info("");
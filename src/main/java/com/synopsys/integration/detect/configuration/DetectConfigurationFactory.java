@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.jetbrains.annotations.Nullable;
@@ -70,6 +72,8 @@ import com.synopsys.integration.detect.workflow.blackduck.DetectProjectServiceOp
 import com.synopsys.integration.detect.workflow.file.DirectoryOptions;
 import com.synopsys.integration.detect.workflow.phonehome.PhoneHomeOptions;
 import com.synopsys.integration.detect.workflow.project.ProjectNameVersionOptions;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheMode;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheOptions;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.finder.DetectorFinderOptions;
@@ -286,7 +290,7 @@ public class DetectConfigurationFactory {
         return new DetectorFinderOptions(fileFilter, maxDepth);
     }
 
-    public DetectorEvaluationOptions createDetectorEvaluationOptions() {
+    public DetectorEvaluationOptions createDetectorEvaluationOptions(ExtractionCacheOptions extractionCacheOptions) throws DetectUserFriendlyException {
         Boolean forceNestedSearch = getValue(DetectProperties.DETECT_DETECTOR_SEARCH_CONTINUE);
 
         //Detector Filter
@@ -294,7 +298,32 @@ public class DetectConfigurationFactory {
         List<FilterableEnumValue<DetectorType>> included = getValue(DetectProperties.DETECT_INCLUDED_DETECTOR_TYPES);
         ExcludeIncludeEnumFilter detectorFilter = new ExcludeIncludeEnumFilter(excluded, included);
 
-        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())));
+        Integer extractionThreads = getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_THREADS);
+        Map<DetectorType, Integer> extractionLimits = parseDetectorExtractionLimits(getValue(DetectProperties.DETECT_DETECTOR_EXTRACTION_LIMITS));
+
+        return new DetectorEvaluationOptions(forceNestedSearch, (rule -> detectorFilter.shouldInclude(rule.getDetectorType())), extractionThreads, extractionLimits, extractionCacheOptions);
+    }
+
+    public ExtractionCacheOptions createExtractionCacheOptions(Path defaultCachePath, String detectVersion) {
+        ExtractionCacheMode mode = getValue(DetectProperties.DETECT_EXTRACTION_CACHE_MODE);
+        Path cachePath = Optional.ofNullable(getPathOrNull(DetectProperties.DETECT_EXTRACTION_CACHE_PATH.getProperty())).orElse(defaultCachePath);
+        Long maximumSizeInMegabytes = getValue(DetectProperties.DETECT_EXTRACTION_CACHE_MAX_SIZE);
+        return new ExtractionCacheOptions(mode, cachePath, maximumSizeInMegabytes * 1024 * 1024, detectVersion);
+    }
+
+    private Map<DetectorType, Integer> parseDetectorExtractionLimits(List<String> limits) throws DetectUserFriendlyException {
+        Map<DetectorType, Integer> extractionLimits = new EnumMap<>(DetectorType.class);
+        for (String limit : limits) {
+            String[] pieces = limit.split(":");
+            if (pieces.length != 2 || !EnumUtils.isValidEnumIgnoreCase(DetectorType.class, pieces[0].trim()) || !NumberUtils.isDigits(pieces[1].trim())) {
+                throw new DetectUserFriendlyException(
+                    String.format("The detector extraction limit '%s' is not valid. Limits must be of the form DETECTOR_TYPE:LIMIT, for example GRADLE:1.", limit),
+                    ExitCodeType.FAILURE_CONFIGURATION
+                );
+            }
+            extractionLimits.put(EnumUtils.getEnumIgnoreCase(DetectorType.class, pieces[0].trim()), Integer.parseInt(pieces[1].trim()));
+        }
+        return extractionLimits;
     }
 
     public BdioOptions createBdioOptions() {
@@ -302,7 +331,10 @@ public class DetectConfigurationFactory {
         String suffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         Boolean useBdio2 = getValue(DetectProperties.DETECT_BDIO2_ENABLED);
         Boolean useLegacyUpload = getValue(DetectProperties.BLACKDUCK_LEGACY_UPLOAD_ENABLED);
-        return new BdioOptions(useBdio2, prefix, suffix, useLegacyUpload);
+        Boolean useStreaming = getValue(DetectProperties.DETECT_BDIO_STREAMING_ENABLED);
+        Integer writeThreads = getValue(DetectProperties.DETECT_BDIO_WRITE_THREADS);
+        Integer aggregateThreads = getValue(DetectProperties.DETECT_BDIO_AGGREGATE_THREADS);
+        return new BdioOptions(useBdio2, prefix, suffix, useLegacyUpload, useStreaming, writeThreads, aggregateThreads);
     }
 
     public ProjectNameVersionOptions createProjectNameVersionOptions(String sourceDirectoryName) {
@@ -362,6 +394,7 @@ public class DetectConfigurationFactory {
         Boolean uploadSource = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_UPLOAD_SOURCE_MODE);
         Boolean licenseSearch = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_LICENSE_SEARCH);
         Boolean copyrightSearch = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_COPYRIGHT_SEARCH);
+        Integer parallelTargets = getValue(DetectProperties.DETECT_BLACKDUCK_SIGNATURE_SCANNER_PARALLEL_TARGETS);
         String codeLocationPrefix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_PREFIX);
         String codeLocationSuffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         String additionalArguments = PropertyConfigUtils
@@ -398,7 +431,8 @@ public class DetectConfigurationFactory {
             maxDepth,
             findIndividualFileMatching(),
             licenseSearch,
-            copyrightSearch
+            copyrightSearch,
+            parallelTargets
         );
     }
 
@@ -420,7 +454,9 @@ public class DetectConfigurationFactory {
         String codeLocationPrefix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_PREFIX);
         String codeLocationSuffix = getNullableValue(DetectProperties.DETECT_PROJECT_CODELOCATION_SUFFIX);
         Integer searchDepth = getValue(DetectProperties.DETECT_BINARY_SCAN_SEARCH_DEPTH);
-        return new BinaryScanOptions(singleTarget, multipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth);
+        Integer compressionThreads = getValue(DetectProperties.DETECT_BINARY_SCAN_COMPRESSION_THREADS);
+        Long maxArchiveSizeInMegabytes = getValue(DetectProperties.DETECT_BINARY_SCAN_ARCHIVE_MAX_SIZE);
+        return new BinaryScanOptions(singleTarget, multipleTargets, codeLocationPrefix, codeLocationSuffix, searchDepth, compressionThreads, maxArchiveSizeInMegabytes);
     }
 
     public ImpactAnalysisOptions createImpactAnalysisOptions() {
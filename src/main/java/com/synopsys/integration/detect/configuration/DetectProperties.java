@@ -55,6 +55,7 @@ import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedIndiv
 import com.synopsys.integration.detect.tool.signaturescanner.enums.ExtendedSnippetMode;
 import com.synopsys.integration.detect.workflow.bdio.AggregateMode;
 import com.synopsys.integration.detectable.detectables.bazel.WorkspaceRule;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheMode;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.log.LogLevel;
 
@@ -182,6 +183,16 @@ public class DetectProperties {
             .setHelp("The Bazel workspace rule(s) used to pull in external dependencies. If not set, Detect will attempt to determine the rule(s) from the contents of the WORKSPACE file.")
             .setGroups(DetectGroup.BAZEL, DetectGroup.SOURCE_SCAN);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BAZEL_QUERY_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.bazel.query.threads", 1))
+            .setInfo("Bazel Query Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "The number of bazel queries to run concurrently when a workspace rule requires one query per dependency.",
+                "Defaults to 1, which runs the queries one at a time. When greater than 1, the per dependency queries are also combined into union queries so fewer bazel commands are run."
+            )
+            .setGroups(DetectGroup.BAZEL, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_CONAN_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.conan.path"))
             .setInfo("Conan Executable", DetectPropertyFromVersion.VERSION_6_8_0)
@@ -221,6 +232,29 @@ public class DetectProperties {
             .setHelp("The path to the output directory for all BDIO files.", "If not set, the BDIO files are placed in a 'BDIO' subdirectory of the output directory.")
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BDIO_AGGREGATE_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.bdio.aggregate.threads", 1))
+            .setInfo("BDIO Aggregate Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of threads used to merge code locations into the aggregate BDIO graph.",
+                "Code locations are split into one group per thread, each group is merged on its own thread and the groups are then merged together. Defaults to 1, which merges them one after another.")
+            .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<BooleanProperty> DETECT_BDIO_STREAMING_ENABLED =
+        new DetectProperty<>(new BooleanProperty("detect.bdio.streaming.enabled", false))
+            .setInfo("BDIO Streaming Enabled", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("If set to true, BDIO is written while the dependency graphs are walked instead of being built in memory first.",
+                "BDIO 1 components are written to the file one at a time, and the aggregate BDIO is read from the code location graphs rather than from a merged copy of them.")
+            .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_BDIO_WRITE_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.bdio.write.threads", 1))
+            .setInfo("BDIO Write Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of code location BDIO files to write at the same time.", "Defaults to 1, which writes them one at a time. The aggregate BDIO is a single file and is not affected.")
+            .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_BINARY_SCAN_FILE =
         new DetectProperty<>(new NullablePathProperty("detect.binary.scan.file.path"))
             .setInfo("Binary Scan Target", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -236,6 +270,22 @@ public class DetectProperties {
             .setGroups(DetectGroup.BINARY_SCANNER, DetectGroup.SOURCE_PATH)
             .setExample("*.jar");
 
+    public static final DetectProperty<LongProperty> DETECT_BINARY_SCAN_ARCHIVE_MAX_SIZE =
+        new DetectProperty<>(new LongProperty("detect.binary.scan.archive.max.size", 0L))
+            .setInfo("Binary Scan Archive Maximum Size", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The maximum size in megabytes of the files zipped into one binary scan archive when detect.binary.scan.file.name.patterns is used.",
+                "When the matching files are larger, they are split across several archives and each archive is uploaded as its own binary scan. A single file larger than the maximum gets an archive of its own. Defaults to 0, which never splits.")
+            .setGroups(DetectGroup.BINARY_SCANNER, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_BINARY_SCAN_COMPRESSION_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.binary.scan.compression.threads", 1))
+            .setInfo("Binary Scan Compression Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of files to compress at the same time when zipping binary scan targets found by detect.binary.scan.file.name.patterns.",
+                "Defaults to 1, which compresses them one at a time. Files that are already archives (.jar, .zip, .war, .ear) are stored without being compressed again.")
+            .setGroups(DetectGroup.BINARY_SCANNER, DetectGroup.SOURCE_SCAN)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<IntegerProperty> DETECT_BINARY_SCAN_SEARCH_DEPTH =
         new DetectProperty<>(new IntegerProperty("detect.binary.scan.search.depth", 0))
             .setInfo("Binary Scan Search Depth", DetectPropertyFromVersion.VERSION_6_9_0)
@@ -312,6 +362,14 @@ public class DetectProperties {
             .setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_PARALLEL_TARGETS =
+        new DetectProperty<>(new IntegerProperty("detect.blackduck.signature.scanner.parallel.targets", 1))
+            .setInfo("Signature Scanner Parallel Targets", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of signature scan targets to scan at the same time, each with its own scan CLI invocation.",
+                "Defaults to 1, which scans every target in a single batch. Above 1, the number of concurrent scans is also limited to the free memory divided by detect.blackduck.signature.scanner.memory, and the start, end and duration of each target are reported.")
+            .setGroups(DetectGroup.SIGNATURE_SCANNER, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<PathListProperty> DETECT_BLACKDUCK_SIGNATURE_SCANNER_PATHS =
         new DetectProperty<>(new PathListProperty("detect.blackduck.signature.scanner.paths", emptyList()))
             .setInfo("Signature Scanner Target Paths", DetectPropertyFromVersion.VERSION_4_2_0)
@@ -423,6 +481,27 @@ public class DetectProperties {
             .setGroups(DetectGroup.PATHS, DetectGroup.DETECTOR, DetectGroup.GLOBAL, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_DETECTOR_EXTRACTION_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.detector.extraction.threads", 1))
+            .setInfo("Detector Extraction Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "The number of detector extractions to run concurrently.",
+                "Defaults to 1, which runs extractions one at a time. With more than one thread, extractions still report their start, end and results in the same order as a sequential run, each once its result is collected, so the extraction timings in the profiling report can include time spent waiting on earlier extractions."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<StringListProperty> DETECT_DETECTOR_EXTRACTION_LIMITS =
+        new DetectProperty<>(new StringListProperty("detect.detector.extraction.limits", emptyList()))
+            .setInfo("Detector Extraction Limits", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "A comma-separated list of DETECTOR_TYPE:LIMIT pairs capping how many extractions of a detector type may run concurrently when detect.detector.extraction.threads is greater than 1.",
+                "For example, GRADLE:1 allows only one Gradle extraction to run at a time while other detectors continue to run in parallel. Detector types without a limit are only bounded by the thread count."
+            )
+            .setExample("GRADLE:1,MAVEN:2")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_DIAGNOSTIC =
         new DetectProperty<>(new BooleanProperty("detect.diagnostic", false))
             .setInfo("Diagnostic Mode", DetectPropertyFromVersion.VERSION_6_5_0)
@@ -435,6 +514,14 @@ public class DetectProperties {
             .setHelp("When enabled, Synopsys Detect performs the actions of --detect.diagnostic, but also includes relevant files such as lock files and build artifacts.")
             .setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<LongProperty> DETECT_DIAGNOSTIC_ZIP_MAX_SIZE =
+        new DetectProperty<>(new LongProperty("detect.diagnostic.zip.max.size", 0L))
+            .setInfo("Diagnostic Zip Maximum Size", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The approximate maximum size in megabytes of the files in the diagnostics zip.",
+                "When the files would be larger, the earliest captured files over one megabyte are left out and listed in EVICTED-MAP.txt in the zip. Defaults to 0, which includes every file.")
+            .setGroups(DetectGroup.DEBUG, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_IGNORE_CONNECTION_FAILURES =
         new DetectProperty<>(new BooleanProperty("detect.ignore.connection.failures", false))
             .setInfo("Detect Ignore Connection Failures", DetectPropertyFromVersion.VERSION_5_3_0)
@@ -542,6 +629,30 @@ public class DetectProperties {
             .setExample("NPM,LERNA")
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<EnumProperty<ExtractionCacheMode>> DETECT_EXTRACTION_CACHE_MODE =
+        new DetectProperty<>(new EnumProperty<>("detect.extraction.cache.mode", ExtractionCacheMode.DISABLED, ExtractionCacheMode.class))
+            .setInfo("Extraction Cache Mode", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "Whether detector extractions are cached between runs.",
+                "When ENABLED, detectors that only read files (such as package-lock.json, Gemfile.lock, Podfile.lock and Cargo.lock) reuse the result of a previous run if the contents of those files and the relevant properties have not changed. VERIFY extracts anyway and logs any differences from the cached result. Detectors that run executables are never cached."
+            )
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<NullablePathProperty> DETECT_EXTRACTION_CACHE_PATH =
+        new DetectProperty<>(new NullablePathProperty("detect.extraction.cache.path"))
+            .setInfo("Extraction Cache Path", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The directory extraction results are cached in when detect.extraction.cache.mode is not DISABLED.", "If not set, Detect uses the extraction-cache directory inside the tools directory (detect.tools.output.path, which defaults to the tools directory in detect.output.path), so the cache is shared by every run that uses the same tools directory.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<LongProperty> DETECT_EXTRACTION_CACHE_MAX_SIZE =
+        new DetectProperty<>(new LongProperty("detect.extraction.cache.max.size", 512L))
+            .setInfo("Extraction Cache Maximum Size", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The maximum size of the extraction cache in megabytes.", "When the cache grows larger, the least recently used results are removed.")
+            .setGroups(DetectGroup.DETECTOR, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<BooleanProperty> DETECT_FORCE_SUCCESS =
         new DetectProperty<>(new BooleanProperty("detect.force.success", false))
             .setInfo("Force Success", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -555,6 +666,22 @@ public class DetectProperties {
             .setHelp("Path of the git executable")
             .setGroups(DetectGroup.PATHS, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<BooleanProperty> DETECT_GO_MOD_CHECK_UPDATES =
+        new DetectProperty<>(new BooleanProperty("detect.go.mod.check.updates", true))
+            .setInfo("Go Mod Check For Updates", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("Set this to false to list modules with go list -m -json all instead of go list -m -u -json all.",
+                "The -u flag makes go look up available upgrades for every module, which needs the module proxy and is often the slowest go command Detect runs. Detect only reads module replacements from this output, which go lists either way.")
+            .setGroups(DetectGroup.GO, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
+    public static final DetectProperty<IntegerProperty> DETECT_GO_MOD_COMMAND_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.go.mod.command.threads", 1))
+            .setInfo("Go Mod Command Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of go commands to run at the same time.",
+                "The go list, go mod graph and go mod why commands Detect runs do not depend on each other, so they can run concurrently. Defaults to 1, which runs them one at a time.")
+            .setGroups(DetectGroup.GO, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_GO_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.go.path"))
             .setInfo("Go Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -608,6 +735,14 @@ public class DetectProperties {
             .setHelp("The path to the Gradle executable (gradle or gradlew).", "If set, Detect will use the given Gradle executable instead of searching for one.")
             .setGroups(DetectGroup.GRADLE, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_GRADLE_REPORT_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.gradle.report.threads", 1))
+            .setInfo("Gradle Report Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of threads used to parse the dependency reports written by the Gradle inspector.",
+                "When greater than 1, Detect parses each sub-project's report as soon as Gradle finishes writing it, while Gradle continues with the remaining sub-projects. Defaults to 1, which parses the reports one at a time after Gradle has finished.")
+            .setGroups(DetectGroup.GRADLE, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullablePathProperty> DETECT_HEX_REBAR3_PATH =
         new DetectProperty<>(new NullablePathProperty("detect.hex.rebar3.path"))
             .setInfo("Rebar3 Executable", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -699,6 +834,14 @@ public class DetectProperties {
             .setHelp("Lerna allows for private packages that do not get published. Set this to true to include all packages including private packages.")
             .setGroups(DetectGroup.LERNA, DetectGroup.GLOBAL);
 
+    public static final DetectProperty<IntegerProperty> DETECT_LERNA_PACKAGE_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.lerna.package.threads", 1))
+            .setInfo("Lerna Package Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp("The number of Lerna packages to resolve at the same time.",
+                "The root lock file is parsed once and every package is resolved against it, so packages can be resolved concurrently. Defaults to 1, which resolves packages one at a time.")
+            .setGroups(DetectGroup.LERNA, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_MAVEN_BUILD_COMMAND =
         new DetectProperty<>(new NullableStringProperty("detect.maven.build.command"))
             .setInfo("Maven Build Command", DetectPropertyFromVersion.VERSION_3_0_0)
@@ -807,6 +950,16 @@ public class DetectProperties {
             .setGroups(DetectGroup.NUGET, DetectGroup.SOURCE_SCAN)
             .setCategory(DetectCategory.Advanced);
 
+    public static final DetectProperty<IntegerProperty> DETECT_NUGET_INSPECTOR_THREADS =
+        new DetectProperty<>(new IntegerProperty("detect.nuget.inspector.threads", 1))
+            .setInfo("Nuget Inspector Threads", DetectPropertyFromVersion.VERSION_7_1_0)
+            .setHelp(
+                "The number of solutions or projects the Nuget Inspector inspects concurrently.",
+                "Defaults to 1, which inspects one target at a time. Each target is inspected into its own output directory."
+            )
+            .setGroups(DetectGroup.NUGET, DetectGroup.GLOBAL)
+            .setCategory(DetectCategory.Advanced);
+
     public static final DetectProperty<NullableStringProperty> DETECT_NUGET_INSPECTOR_VERSION =
         new DetectProperty<>(new NullableStringProperty("detect.nuget.inspector.version"))
             .setInfo("Nuget Inspector Version", DetectPropertyFromVersion.VERSION_3_0_0)
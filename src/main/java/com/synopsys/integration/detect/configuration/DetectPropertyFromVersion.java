@@ -29,7 +29,8 @@ public enum DetectPropertyFromVersion {
     VERSION_6_5_0("6.5.0"),
     VERSION_6_8_0("6.8.0"),
     VERSION_6_9_0("6.9.0"),
-    VERSION_7_0_0("7.0.0");
+    VERSION_7_0_0("7.0.0"),
+    VERSION_7_1_0("7.1.0");
 
     private final String version;
 
@@ -37,6 +37,7 @@ import com.synopsys.integration.detectable.detectables.conan.cli.ConanCliExtract
 import com.synopsys.integration.detectable.detectables.conan.lockfile.ConanLockfileExtractorOptions;
 import com.synopsys.integration.detectable.detectables.conda.CondaCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.docker.DockerDetectableOptions;
+import com.synopsys.integration.detectable.detectables.go.gomod.GoModCliDetectableOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.GradleInspectorOptions;
 import com.synopsys.integration.detectable.detectables.gradle.inspection.inspector.GradleInspectorScriptOptions;
 import com.synopsys.integration.detectable.detectables.lerna.LernaOptions;
@@ -78,7 +79,8 @@ public class DetectableOptionFactory {
 
         List<FilterableEnumValue<WorkspaceRule>> bazelDependencyRulesPropertyValues = getValue(DetectProperties.DETECT_BAZEL_DEPENDENCY_RULE);
         Set<WorkspaceRule> bazelDependencyRules = deriveBazelDependencyRules(bazelDependencyRulesPropertyValues);
-        return new BazelDetectableOptions(targetName, bazelDependencyRules, bazelCqueryAdditionalOptions);
+        Integer queryThreads = getValue(DetectProperties.DETECT_BAZEL_QUERY_THREADS);
+        return new BazelDetectableOptions(targetName, bazelDependencyRules, bazelCqueryAdditionalOptions, queryThreads);
     }
 
     public BitbakeDetectableOptions createBitbakeDetectableOptions() {
@@ -132,6 +134,12 @@ public class DetectableOptionFactory {
             dockerPlatformTopLayerId);
     }
 
+    public GoModCliDetectableOptions createGoModCliDetectableOptions() {
+        Boolean checkForUpdates = getValue(DetectProperties.DETECT_GO_MOD_CHECK_UPDATES);
+        Integer commandThreads = getValue(DetectProperties.DETECT_GO_MOD_COMMAND_THREADS);
+        return new GoModCliDetectableOptions(checkForUpdates, commandThreads);
+    }
+
     public GradleInspectorOptions createGradleInspectorOptions() {
         List<String> excludedProjectNames = getValue(DetectProperties.DETECT_GRADLE_EXCLUDED_PROJECTS);
         List<String> includedProjectNames = getValue(DetectProperties.DETECT_GRADLE_INCLUDED_PROJECTS);
@@ -142,14 +150,16 @@ public class DetectableOptionFactory {
         String onlineInspectorVersion = getNullableValue(DetectProperties.DETECT_GRADLE_INSPECTOR_VERSION);
         GradleInspectorScriptOptions scriptOptions = new GradleInspectorScriptOptions(excludedProjectNames, includedProjectNames, excludedConfigurationNames, includedConfigurationNames, customRepository, onlineInspectorVersion);
         String gradleBuildCommand = getNullableValue(DetectProperties.DETECT_GRADLE_BUILD_COMMAND);
-        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo);
+        Integer reportThreads = getValue(DetectProperties.DETECT_GRADLE_REPORT_THREADS);
+        return new GradleInspectorOptions(gradleBuildCommand, scriptOptions, proxyInfo, reportThreads);
     }
 
     public LernaOptions createLernaOptions() {
         Boolean includePrivate = getValue(DetectProperties.DETECT_LERNA_INCLUDE_PRIVATE);
         List<String> excludedPackages = getValue(DetectProperties.DETECT_LERNA_EXCLUDED_PACKAGES);
         List<String> includedPackages = getValue(DetectProperties.DETECT_LERNA_INCLUDED_PACKAGES);
-        return new LernaOptions(includePrivate, excludedPackages, includedPackages);
+        Integer packageThreads = getValue(DetectProperties.DETECT_LERNA_PACKAGE_THREADS);
+        return new LernaOptions(includePrivate, excludedPackages, includedPackages, packageThreads);
     }
 
     public MavenCliExtractorOptions createMavenCliOptions() {
@@ -222,7 +232,9 @@ public class DetectableOptionFactory {
         List<String> includedConfigurations = getValue(DetectProperties.DETECT_SBT_INCLUDED_CONFIGURATIONS);
         List<String> excludedConfigurations = getValue(DetectProperties.DETECT_SBT_EXCLUDED_CONFIGURATIONS);
         Integer reportDepth = getValue(DetectProperties.DETECT_SBT_REPORT_DEPTH);
-        return new SbtResolutionCacheOptions(includedConfigurations, excludedConfigurations, reportDepth);
+        Integer parallelProcessors = getValue(DetectProperties.DETECT_PARALLEL_PROCESSORS);
+        int reportParseThreads = parallelProcessors > 0 ? parallelProcessors : Runtime.getRuntime().availableProcessors();
+        return new SbtResolutionCacheOptions(includedConfigurations, excludedConfigurations, reportDepth, reportParseThreads);
     }
 
     public YarnLockOptions createYarnLockOptions() {
@@ -238,7 +250,8 @@ public class DetectableOptionFactory {
         List<String> includedModules = getValue(DetectProperties.DETECT_NUGET_INCLUDED_MODULES);
         List<String> packagesRepoUrl = getValue(DetectProperties.DETECT_NUGET_PACKAGES_REPO_URL);
         Path nugetConfigPath = detectConfiguration.getValue(DetectProperties.DETECT_NUGET_CONFIG_PATH.getProperty()).map(path -> path.resolvePath(pathResolver)).orElse(null);
-        return new NugetInspectorOptions(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath);
+        Integer inspectorThreads = getValue(DetectProperties.DETECT_NUGET_INSPECTOR_THREADS);
+        return new NugetInspectorOptions(ignoreFailures, excludedModules, includedModules, packagesRepoUrl, nugetConfigPath, inspectorThreads);
     }
 
     public NugetLocatorOptions createNugetInstallerOptions() {
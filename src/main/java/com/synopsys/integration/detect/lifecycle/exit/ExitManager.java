@@ -7,6 +7,8 @@
  */
 package com.synopsys.integration.detect.lifecycle.exit;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,7 +17,9 @@ import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeManager;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
 import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventDispatchStatistics;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.event.EventType;
 import com.synopsys.integration.detect.workflow.status.DetectStatusManager;
 import com.synopsys.integration.log.Slf4jIntLogger;
 
@@ -35,6 +39,7 @@ public class ExitManager {
         long startTime = exitOptions.getStartTime();
         boolean forceSuccessExit = exitOptions.shouldForceSuccessExit();
         boolean shouldExit = exitOptions.shouldExit();
+        eventSystem.flush();
 
         //Generally, when requesting a failure status, an exit code is also requested, but if it is not, we default to an unknown error.
         if (statusManager.hasAnyFailure()) {
@@ -51,6 +56,7 @@ public class ExitManager {
         long endTime = System.currentTimeMillis();
         String duration = DurationFormatUtils.formatPeriod(startTime, endTime, "HH'h' mm'm' ss's' SSS'ms'");
         logger.info("Detect duration: {}", duration);
+        eventSystem.getDispatchStatistics().forEach((eventType, statistics) -> logger.debug(describeDispatch(eventType, statistics)));
 
         //Exit with formal exit code
         if (finalExitCode != ExitCodeType.SUCCESS && forceSuccessExit) {
@@ -65,4 +71,10 @@ public class ExitManager {
 
         return new ExitResult(finalExitCode, forceSuccessExit, shouldExit);
     }
+
+    private String describeDispatch(EventType<?> eventType, EventDispatchStatistics statistics) {
+        return String.format("Event %s was published %d times taking %d ms (longest %d ms), with %d asynchronous deliveries taking %d ms and %d dropped.",
+            eventType.getName(), statistics.getPublishCount(), TimeUnit.NANOSECONDS.toMillis(statistics.getTotalPublishNanos()), TimeUnit.NANOSECONDS.toMillis(statistics.getMaxPublishNanos()),
+            statistics.getDeliveryCount(), TimeUnit.NANOSECONDS.toMillis(statistics.getTotalDeliveryNanos()), statistics.getDropCount());
+    }
 }
@@ -7,13 +7,20 @@
  */
 package com.synopsys.integration.detect.lifecycle.run.operation;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.IndexedFileFinder;
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.detect.configuration.DetectConfigurationFactory;
+import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectProperties;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
@@ -29,6 +36,7 @@ import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
+import com.synopsys.integration.detectable.extraction.cache.ExtractionCacheOptions;
 import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
 import com.synopsys.integration.detector.finder.DetectorFinder;
@@ -36,6 +44,11 @@ import com.synopsys.integration.detector.finder.DetectorFinderOptions;
 import com.synopsys.integration.detector.rule.DetectorRuleSet;
 
 public class DetectorOperation {
+    // Detectables search a little below the directories the detector search visits, so index those levels too.
+    private static final int INDEX_DEPTH_BEYOND_DETECTOR_SEARCH = 2;
+    private static final String EXTRACTION_CACHE_DIRECTORY = "extraction-cache";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final PropertyConfiguration detectConfiguration;
     private final DetectConfigurationFactory detectConfigurationFactory;
     private final DirectoryManager directoryManager;
@@ -46,12 +59,13 @@ public class DetectorOperation {
     private final StatusEventPublisher statusEventPublisher;
     private final ExitCodePublisher exitCodePublisher;
     private final DetectorEventPublisher detectorEventPublisher;
+    private final DetectInfo detectInfo;
     private FileFinder fileFinder;
 
     public DetectorOperation(PropertyConfiguration detectConfiguration, DetectConfigurationFactory detectConfigurationFactory, DirectoryManager directoryManager, EventSystem eventSystem,
         DetectDetectableFactory detectDetectableFactory, ExtractionEnvironmentProvider extractionEnvironmentProvider, CodeLocationConverter codeLocationConverter, StatusEventPublisher statusEventPublisher,
         ExitCodePublisher exitCodePublisher,
-        DetectorEventPublisher detectorEventPublisher, FileFinder fileFinder) {
+        DetectorEventPublisher detectorEventPublisher, DetectInfo detectInfo, FileFinder fileFinder) {
         this.detectConfiguration = detectConfiguration;
         this.detectConfigurationFactory = detectConfigurationFactory;
         this.directoryManager = directoryManager;
@@ -62,10 +76,11 @@ public class DetectorOperation {
         this.statusEventPublisher = statusEventPublisher;
         this.exitCodePublisher = exitCodePublisher;
         this.detectorEventPublisher = detectorEventPublisher;
+        this.detectInfo = detectInfo;
         this.fileFinder = fileFinder;
     }
 
-    public DetectorToolResult execute() {
+    public DetectorToolResult execute() throws DetectUserFriendlyException {
         String projectBomTool = detectConfiguration.getValueOrEmpty(DetectProperties.DETECT_PROJECT_DETECTOR.getProperty()).orElse(null); //TODO: BAD! Should access through the DetectConfigurationFactory... -jp
         List<DetectorType> requiredDetectors = detectConfiguration.getValueOrDefault(DetectProperties.DETECT_REQUIRED_DETECTOR_TYPES.getProperty());
         boolean buildless = detectConfiguration.getValueOrDefault(DetectProperties.DETECT_BUILDLESS.getProperty());
@@ -75,15 +90,38 @@ public class DetectorOperation {
 
         Path sourcePath = directoryManager.getSourceDirectory().toPath();
         DetectorFinderOptions finderOptions = detectConfigurationFactory.createDetectorFinderOptions(sourcePath);
-        DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions();
+        ExtractionCacheOptions extractionCacheOptions = detectConfigurationFactory.createExtractionCacheOptions(directoryManager.getPermanentDirectory(EXTRACTION_CACHE_DIRECTORY).toPath(), detectInfo.getDetectVersion());
+        DetectorEvaluationOptions detectorEvaluationOptions = detectConfigurationFactory.createDetectorEvaluationOptions(extractionCacheOptions);
 
         DetectorIssuePublisher detectorIssuePublisher = new DetectorIssuePublisher();
         DetectorTool detectorTool = new DetectorTool(new DetectorFinder(), extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, statusEventPublisher, exitCodePublisher, detectorEventPublisher);
-        DetectorToolResult detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors, fileFinder);
+        indexSourceDirectory(finderOptions);
+        DetectorToolResult detectorToolResult;
+        try {
+            detectorToolResult = detectorTool.performDetectors(directoryManager.getSourceDirectory(), detectRuleSet, finderOptions, detectorEvaluationOptions, projectBomTool, requiredDetectors, fileFinder);
+        } finally {
+            if (fileFinder instanceof IndexedFileFinder) {
+                ((IndexedFileFinder) fileFinder).clear();
+            }
+        }
 
         if (detectorToolResult.anyDetectorsFailed()) {
             eventSystem.publishEvent(Event.ExitCode, new ExitCodeRequest(ExitCodeType.FAILURE_DETECTOR, "A detector failed."));
         }
         return detectorToolResult;
     }
+
+    private void indexSourceDirectory(DetectorFinderOptions finderOptions) {
+        if (!(fileFinder instanceof IndexedFileFinder)) {
+            return;
+        }
+        IndexedFileFinder indexedFileFinder = (IndexedFileFinder) fileFinder;
+        try {
+            indexedFileFinder.index(directoryManager.getSourceDirectory(), finderOptions.getMaximumDepth() + INDEX_DEPTH_BEYOND_DETECTOR_SEARCH, finderOptions.getFileFilter());
+            logger.debug("Indexed {} directories for the detector search.", indexedFileFinder.getIndexedDirectoryCount());
+        } catch (IOException e) {
+            logger.debug("Unable to index the source directory, detectors will search the file system directly.", e);
+            indexedFileFinder.clear();
+        }
+    }
 }
@@ -139,7 +139,7 @@ public class OperationFactory {
         return new DetectorOperation(detectConfiguration, detectConfigurationFactory, directoryManager, eventSystem,
             detectDetectableFactory,
             extractionEnvironmentProvider, codeLocationConverter, statusEventPublisher, exitCodePublisher, detectorEventPublisher,
-            fileFinder);
+            detectInfo, fileFinder);
     }
 
     public final RapidScanOperation createRapidScanOperation() {
@@ -225,7 +225,7 @@ public class OperationFactory {
         DetectExcludedDirectoryFilter fileFilter = detectConfigurationFactory.createDetectDirectoryFileFilter(sourcePath);
         Predicate<File> collectExcludedDirectoriesPredicate = file -> fileFilter.isExcluded(file);
         BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, collectExcludedDirectoriesPredicate, connectionFactory, directoryManager,
-            codeLocationNameManager, detectInfo, fileFinder, operationSystem, exitCodePublisher, statusEventPublisher);
+            codeLocationNameManager, detectInfo, operationSystem, exitCodePublisher, statusEventPublisher);
 
         return new SignatureScanOperation(blackDuckRunData, blackDuckSignatureScannerTool, statusEventPublisher, exitCodePublisher);
     }
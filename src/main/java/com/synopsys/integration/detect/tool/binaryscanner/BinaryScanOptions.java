@@ -20,13 +20,22 @@ public class BinaryScanOptions {
     private final String codeLocationPrefix;
     private final String codeLocationSuffix;
     private final int searchDepth;
+    private final int compressionThreads;
+    private final long maxArchiveSizeInMegabytes;
 
     public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth) {
+        this(singleTargetFilePath, multipleTargetFileNamePatterns, codeLocationPrefix, codeLocationSuffix, searchDepth, 1, 0L);
+    }
+
+    public BinaryScanOptions(@Nullable Path singleTargetFilePath, List<String> multipleTargetFileNamePatterns, String codeLocationPrefix, String codeLocationSuffix, int searchDepth, int compressionThreads,
+        long maxArchiveSizeInMegabytes) {
         this.singleTargetFilePath = singleTargetFilePath;
         this.multipleTargetFileNamePatterns = multipleTargetFileNamePatterns;
         this.codeLocationPrefix = codeLocationPrefix;
         this.codeLocationSuffix = codeLocationSuffix;
         this.searchDepth = searchDepth;
+        this.compressionThreads = compressionThreads;
+        this.maxArchiveSizeInMegabytes = maxArchiveSizeInMegabytes;
     }
 
     public List<String> getMultipleTargetFileNamePatterns() {
@@ -48,4 +57,12 @@ public class BinaryScanOptions {
     public int getSearchDepth() {
         return searchDepth;
     }
+
+    public int getCompressionThreads() {
+        return compressionThreads;
+    }
+
+    public long getMaxArchiveSizeInMegabytes() {
+        return maxArchiveSizeInMegabytes;
+    }
 }
@@ -10,6 +10,8 @@ package com.synopsys.integration.detect.tool.binaryscanner;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,7 +35,7 @@ import com.synopsys.integration.detect.configuration.DetectUserFriendlyException
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.data.DockerTargetData;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodePublisher;
-import com.synopsys.integration.detect.util.DetectZipUtil;
+import com.synopsys.integration.detect.util.StreamingZipWriter;
 import com.synopsys.integration.detect.workflow.codelocation.CodeLocationNameManager;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.detect.workflow.status.OperationSystem;
@@ -48,6 +50,7 @@ public class BlackDuckBinaryScannerTool {
     private final Logger logger = LoggerFactory.getLogger(BlackDuckBinaryScannerTool.class);
     private static final String STATUS_KEY = "BINARY_SCAN";
     private static final String OPERATION_NAME = "Black Duck Binary Scan";
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
 
     private final CodeLocationNameManager codeLocationNameManager;
     private final DirectoryManager directoryManager;
@@ -71,31 +74,43 @@ public class BlackDuckBinaryScannerTool {
         this.operationSystem = operationSystem;
     }
 
-    private File zipFilesForUpload(List<File> multipleTargets) throws DetectUserFriendlyException {
+    private List<File> zipFilesForUpload(List<File> multipleTargets) throws DetectUserFriendlyException {
         try {
-            final String zipPath = "binary-upload.zip";
-            File zip = new File(directoryManager.getBinaryOutputDirectory(), zipPath);
             Map<String, Path> uploadTargets = multipleTargets.stream().collect(Collectors.toMap(File::getName, File::toPath));
-            DetectZipUtil.zip(zip, uploadTargets);
-            logger.info("Binary scan created the following zip for upload: " + zip.toPath());
-            return zip;
+            long maxArchiveBytes = binaryScanOptions.getMaxArchiveSizeInMegabytes() * BYTES_PER_MEGABYTE;
+            List<Map<String, Path>> archiveParts = StreamingZipWriter.splitEntries(uploadTargets, maxArchiveBytes);
+            StreamingZipWriter zipWriter = new StreamingZipWriter(binaryScanOptions.getCompressionThreads());
+
+            List<File> zips = new ArrayList<>();
+            for (int part = 0; part < archiveParts.size(); part++) {
+                String zipPath = archiveParts.size() == 1 ? "binary-upload.zip" : String.format("binary-upload-%d.zip", part + 1);
+                File zip = new File(directoryManager.getBinaryOutputDirectory(), zipPath);
+                zipWriter.zip(zip, archiveParts.get(part));
+                logger.info("Binary scan created the following zip for upload: " + zip.toPath());
+                zips.add(zip);
+            }
+            return zips;
         } catch (IOException e) {
             operationSystem.completeWithFailure(OPERATION_NAME);
             throw new DetectUserFriendlyException("Unable to create binary scan archive for upload.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            operationSystem.completeWithFailure(OPERATION_NAME);
+            throw new DetectUserFriendlyException("Interrupted while creating binary scan archive for upload.", e, ExitCodeType.FAILURE_UNKNOWN_ERROR);
         }
     }
 
     public BinaryScanToolResult performBinaryScanActions(@Nullable DockerTargetData dockerTargetData, NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        File binaryUpload = null;
+        List<File> binaryUploads = new ArrayList<>();
         Optional<Path> singleTargetFilePath = binaryScanOptions.getSingleTargetFilePath();
         if (singleTargetFilePath.isPresent()) {
             logger.info("Binary upload will upload single file.");
-            binaryUpload = singleTargetFilePath.get().toFile();
+            binaryUploads.add(singleTargetFilePath.get().toFile());
         } else if (binaryScanOptions.getMultipleTargetFileNamePatterns().stream().anyMatch(StringUtils::isNotBlank)) {
             List<File> multipleTargets = fileFinder.findFiles(directoryManager.getSourceDirectory(), binaryScanOptions.getMultipleTargetFileNamePatterns(), binaryScanOptions.getSearchDepth());
             if (multipleTargets.size() > 0) {
                 logger.info("Binary scan found {} files to archive for binary scan upload.", multipleTargets.size());
-                binaryUpload = zipFilesForUpload(multipleTargets);
+                binaryUploads.addAll(zipFilesForUpload(multipleTargets));
             } else {
                 logger.warn("Binary scanner did not find any files matching pattern.");
                 statusEventPublisher.publishStatusSummary(new Status(STATUS_KEY, StatusType.FAILURE));
@@ -105,20 +120,20 @@ public class BlackDuckBinaryScannerTool {
             }
         } else if (dockerTargetData != null && dockerTargetData.getContainerFilesystem().isPresent()) {
             logger.info("Binary Scanner will upload docker container file system.");
-            binaryUpload = dockerTargetData.getContainerFilesystem().get();
+            binaryUploads.add(dockerTargetData.getContainerFilesystem().get());
         }
         // Very important not to binary scan the same Docker output that we sig scanned (=codelocation name collision)
 
-        if (binaryUpload == null) {
+        if (binaryUploads.isEmpty()) {
             logger.info("Binary scanner found nothing to upload.");
             return BinaryScanToolResult.SKIPPED();
         }
 
         operationSystem.beginOperation(OPERATION_NAME);
-        if (binaryUpload.isFile() && binaryUpload.canRead()) {
+        if (binaryUploads.stream().allMatch(binaryUpload -> binaryUpload.isFile() && binaryUpload.canRead())) {
             String name = projectNameVersion.getName();
             String version = projectNameVersion.getVersion();
-            CodeLocationCreationData<BinaryScanBatchOutput> codeLocationCreationData = uploadBinaryScanFile(uploadService, binaryUpload, name, version);
+            CodeLocationCreationData<BinaryScanBatchOutput> codeLocationCreationData = uploadBinaryScanFiles(uploadService, binaryUploads, name, version);
             return BinaryScanToolResult.SUCCESS(codeLocationCreationData);
         } else {
             logger.warn(BINARY_SCAN_FILE_UNREADABLE_MSG);
@@ -130,21 +145,32 @@ public class BlackDuckBinaryScannerTool {
     }
 
     public CodeLocationCreationData<BinaryScanBatchOutput> uploadBinaryScanFile(BinaryScanUploadService binaryScanUploadService, File binaryScanFile, String projectName, String projectVersionName)
+        throws DetectUserFriendlyException {
+        return uploadBinaryScanFiles(binaryScanUploadService, Collections.singletonList(binaryScanFile), projectName, projectVersionName);
+    }
+
+    // Each file is uploaded as its own binary scan, all in one batch.
+    public CodeLocationCreationData<BinaryScanBatchOutput> uploadBinaryScanFiles(BinaryScanUploadService binaryScanUploadService, List<File> binaryScanFiles, String projectName, String projectVersionName)
         throws DetectUserFriendlyException {
         String prefix = binaryScanOptions.getCodeLocationPrefix();
         String suffix = binaryScanOptions.getCodeLocationSuffix();
-        String codeLocationName = codeLocationNameManager.createBinaryScanCodeLocationName(binaryScanFile, projectName, projectVersionName, prefix, suffix);
-        try {
+        List<BinaryScan> binaryScans = new ArrayList<>();
+        for (File binaryScanFile : binaryScanFiles) {
+            String codeLocationName = codeLocationNameManager.createBinaryScanCodeLocationName(binaryScanFile, projectName, projectVersionName, prefix, suffix);
             logger.info("Preparing to upload binary scan file: " + binaryScanFile.getAbsolutePath());
-            BinaryScan binaryScan = new BinaryScan(binaryScanFile, projectName, projectVersionName, codeLocationName);
-            BinaryScanBatch binaryScanBatch = new BinaryScanBatch(binaryScan);
+            binaryScans.add(new BinaryScan(binaryScanFile, projectName, projectVersionName, codeLocationName));
+        }
+        try {
+            BinaryScanBatch binaryScanBatch = new BinaryScanBatch(binaryScans);
             CodeLocationCreationData<BinaryScanBatchOutput> codeLocationCreationData = binaryScanUploadService.uploadBinaryScan(binaryScanBatch);
 
             BinaryScanBatchOutput binaryScanBatchOutput = codeLocationCreationData.getOutput();
             // The throwExceptionForError() in BinaryScanBatchOutput has a bug, so doing that work here
             throwExceptionForError(binaryScanBatchOutput);
 
-            logger.info("Successfully uploaded binary scan file: " + binaryScanFile.getAbsolutePath());
+            for (File binaryScanFile : binaryScanFiles) {
+                logger.info("Successfully uploaded binary scan file: " + binaryScanFile.getAbsolutePath());
+            }
             operationSystem.completeWithSuccess(OPERATION_NAME);
             statusEventPublisher.publishStatusSummary(new Status(STATUS_KEY, StatusType.SUCCESS));
             return codeLocationCreationData;
@@ -8,8 +8,10 @@
 package com.synopsys.integration.detect.tool.detector;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -17,6 +19,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
@@ -25,14 +28,22 @@ import com.synopsys.integration.detect.workflow.codelocation.FileNameUtils;
 import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
 import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
 import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.util.CompactDependencyGraph;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
 import com.synopsys.integration.detector.base.DetectorEvaluation;
 
 public class CodeLocationConverter {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ExternalIdFactory externalIdFactory;
+    private final ExternalIdInterner externalIdInterner;
 
     public CodeLocationConverter(ExternalIdFactory externalIdFactory) {
+        this(externalIdFactory, new ExternalIdInterner());
+    }
+
+    public CodeLocationConverter(ExternalIdFactory externalIdFactory, ExternalIdInterner externalIdInterner) {
         this.externalIdFactory = externalIdFactory;
+        this.externalIdInterner = externalIdInterner;
     }
 
     public Map<CodeLocation, DetectCodeLocation> toDetectCodeLocation(File detectSourcePath, DetectorEvaluation evaluation) {
@@ -67,12 +78,37 @@ public class CodeLocationConverter {
             }
             Optional<String> dockerImageName = extraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA);
 
-            DetectCodeLocation detectCodeLocation = dockerImageName.map(s -> DetectCodeLocation.forDocker(codeLocation.getDependencyGraph(), sourcePath, externalId, s))
-                                                        .orElseGet(() -> DetectCodeLocation.forCreator(codeLocation.getDependencyGraph(), sourcePath, externalId, overrideName));
+            DependencyGraph dependencyGraph = toCompactGraph(codeLocation.getDependencyGraph());
+            DetectCodeLocation detectCodeLocation = dockerImageName.map(s -> DetectCodeLocation.forDocker(dependencyGraph, sourcePath, externalId, s))
+                                                        .orElseGet(() -> DetectCodeLocation.forCreator(dependencyGraph, sourcePath, externalId, overrideName));
 
             detectCodeLocations.put(codeLocation, detectCodeLocation);
         }
 
         return detectCodeLocations;
     }
+
+    // Replaces the graphs of a successful extraction as soon as it completes, so the graphs the detectable built can be collected while other extractions still run.
+    public Extraction compactDependencyGraphs(Extraction extraction) {
+        if (!extraction.isSuccess() || extraction.getCodeLocations().isEmpty()) {
+            return extraction;
+        }
+        List<CodeLocation> compactCodeLocations = new ArrayList<>(extraction.getCodeLocations().size());
+        for (CodeLocation codeLocation : extraction.getCodeLocations()) {
+            DependencyGraph dependencyGraph = toCompactGraph(codeLocation.getDependencyGraph());
+            compactCodeLocations.add(new CodeLocation(dependencyGraph, codeLocation.getExternalId().orElse(null), codeLocation.getSourcePath().orElse(null)));
+        }
+        return new Extraction.Builder()
+                   .allButCodeLocations(extraction)
+                   .codeLocations(compactCodeLocations)
+                   .build();
+    }
+
+    // Every code location shares the interner, so components found by several extractions are only held once.
+    private DependencyGraph toCompactGraph(DependencyGraph dependencyGraph) {
+        if (dependencyGraph instanceof CompactDependencyGraph) {
+            return dependencyGraph;
+        }
+        return CompactDependencyGraph.fromGraph(dependencyGraph, externalIdInterner);
+    }
 }
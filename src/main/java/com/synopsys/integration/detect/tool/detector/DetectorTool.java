@@ -98,6 +98,7 @@ public class DetectorTool {
 
         DetectorEvaluator detectorEvaluator = new DetectorEvaluator(evaluationOptions, extractionEnvironmentProvider::createExtractionEnvironment, discoveryFilter);
         detectorEvaluator.setDetectorEvaluatorListener(eventBroadcaster);
+        detectorEvaluator.setExtractionPostProcessor(codeLocationConverter::compactDependencyGraphs);
 
         detectorEvaluator.registerPostApplicableCallback(detectorAggregateEvaluationResult -> {
             detectorEventPublisher.publishApplicableCompleted(detectorAggregateEvaluationResult.getApplicableDetectorTypes());
@@ -7,21 +7,32 @@
  */
 package com.synopsys.integration.detect.tool.detector.executable;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detectable.detectable.executable.DetectableExecutableRunner;
 import com.synopsys.integration.detectable.detectable.executable.ExecutableFailedException;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
+import com.synopsys.integration.detectable.detectable.executable.TailLineCapture;
 import com.synopsys.integration.executable.Executable;
 import com.synopsys.integration.executable.ExecutableOutput;
 import com.synopsys.integration.executable.ExecutableRunner;
@@ -33,11 +44,15 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
     private final Logger logger;
     private final EventSystem eventSystem;
     private final boolean shouldLogOutput;
+    private final Consumer<String> outputConsumer;
+    private final Consumer<String> traceConsumer;
     private ProcessBuilderRunner runner;
     private ProcessBuilderRunner secretRunner;
 
     private DetectExecutableRunner(Logger logger, final Consumer<String> outputConsumer, final Consumer<String> traceConsumer, EventSystem eventSystem, boolean shouldLogOutput) {
         this.logger = logger;
+        this.outputConsumer = outputConsumer;
+        this.traceConsumer = traceConsumer;
         runner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), outputConsumer, traceConsumer);
         secretRunner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), (line) -> {}, line -> {});
         this.eventSystem = eventSystem;
@@ -87,13 +102,22 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
     @NotNull
     public ExecutableOutput execute(final Executable executable, boolean outputContainsSecret) throws ExecutableRunnerException {
         ExecutableRunner targetRunner = runner;
+        Map<String, String> loggingContext = MDC.getCopyOfContextMap();
         if (outputContainsSecret) {
             targetRunner = secretRunner;
+        } else if (loggingContext != null && !loggingContext.isEmpty()) {
+            // The output is logged from the runner's stream threads, which need the caller's logging context to reach the same extraction log.
+            targetRunner = new ProcessBuilderRunner(new Slf4jIntLogger(logger), inLoggingContext(loggingContext, outputConsumer), inLoggingContext(loggingContext, traceConsumer));
         }
         ExecutableOutput output = targetRunner.execute(executable);
+        executableFinished(executable, output, !outputContainsSecret);
+        return output;
+    }
+
+    private void executableFinished(Executable executable, ExecutableOutput output, boolean canLogOutput) {
         eventSystem.publishEvent(Event.Executable, new ExecutedExecutable(output, executable));
         boolean normallyLogOutput = output.getReturnCode() != 0 && shouldLogOutput && !logger.isDebugEnabled() && !logger.isTraceEnabled();
-        if (normallyLogOutput && !outputContainsSecret) {
+        if (normallyLogOutput && canLogOutput) {
             if (StringUtils.isNotBlank(output.getStandardOutput())) {
                 logger.info("Standard Output: ");
                 logger.info(output.getStandardOutput());
@@ -104,7 +128,6 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
                 logger.info(output.getErrorOutput());
             }
         }
-        return output;
     }
 
     @NotNull
@@ -131,4 +154,107 @@ public class DetectExecutableRunner implements DetectableExecutableRunner {
             throw new ExecutableFailedException(executable, e);
         }
     }
+
+    @NotNull
+    @Override
+    public StreamingExecutableOutput executeStreaming(final Executable executable, final LineConsumer standardOutputConsumer, final LineConsumer errorOutputConsumer, final int tailLineLimit)
+        throws ExecutableRunnerException {
+        return executeStreaming(executable, standardOutputConsumer, errorOutputConsumer, tailLineLimit, false);
+    }
+
+    @NotNull
+    @Override
+    public StreamingExecutableOutput executeStreamingSecretly(final Executable executable, final LineConsumer standardOutputConsumer, final LineConsumer errorOutputConsumer, final int tailLineLimit)
+        throws ExecutableRunnerException {
+        return executeStreaming(executable, standardOutputConsumer, errorOutputConsumer, tailLineLimit, true);
+    }
+
+    // The output is never held in full. Each stream is pumped on its own thread so a child blocked writing to one stream can not deadlock the other.
+    @NotNull
+    public StreamingExecutableOutput executeStreaming(final Executable executable, final LineConsumer standardOutputConsumer, final LineConsumer errorOutputConsumer, final int tailLineLimit,
+        boolean outputContainsSecret) throws ExecutableRunnerException {
+        logger.info(String.format("Running executable >%s", executable.getExecutableDescription()));
+        ProcessBuilder processBuilder = new ProcessBuilder(executable.getCommandWithArguments())
+                                            .directory(executable.getWorkingDirectory());
+        processBuilder.environment().putAll(executable.getEnvironmentVariables());
+
+        Consumer<String> targetOutputConsumer = outputContainsSecret ? line -> {} : outputConsumer;
+        Consumer<String> targetTraceConsumer = outputContainsSecret ? line -> {} : traceConsumer;
+        TailLineCapture standardOutputTail = new TailLineCapture(tailLineLimit);
+        TailLineCapture errorOutputTail = new TailLineCapture(tailLineLimit);
+        AtomicReference<Exception> pumpException = new AtomicReference<>();
+        int returnCode;
+        try {
+            Process process = processBuilder.start();
+            Thread standardOutputPump = startPump("stdout", process.getInputStream(), line -> {
+                targetOutputConsumer.accept(line);
+                standardOutputTail.consumeLine(line);
+                standardOutputConsumer.consumeLine(line);
+            }, pumpException);
+            Thread errorOutputPump = startPump("stderr", process.getErrorStream(), line -> {
+                targetTraceConsumer.accept(line);
+                errorOutputTail.consumeLine(line);
+                errorOutputConsumer.consumeLine(line);
+            }, pumpException);
+            try {
+                returnCode = process.waitFor();
+                standardOutputPump.join();
+                errorOutputPump.join();
+            } catch (InterruptedException e) {
+                process.destroy();
+                Thread.currentThread().interrupt();
+                throw new ExecutableRunnerException(e);
+            }
+        } catch (IOException e) {
+            throw new ExecutableRunnerException(e);
+        }
+        if (pumpException.get() != null) {
+            throw new ExecutableRunnerException(pumpException.get());
+        }
+
+        StreamingExecutableOutput output = new StreamingExecutableOutput(returnCode, standardOutputTail.getLines(), errorOutputTail.getLines());
+        executableFinished(executable, output.toExecutableOutput(), !outputContainsSecret);
+        return output;
+    }
+
+    private Consumer<String> inLoggingContext(Map<String, String> loggingContext, Consumer<String> consumer) {
+        return line -> {
+            MDC.setContextMap(loggingContext);
+            try {
+                consumer.accept(line);
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+
+    private Thread startPump(String streamName, InputStream inputStream, LineConsumer lineConsumer, AtomicReference<Exception> pumpException) {
+        Map<String, String> loggingContext = MDC.getCopyOfContextMap();
+        Thread pump = new Thread(() -> {
+            if (loggingContext != null) {
+                MDC.setContextMap(loggingContext);
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, Charset.defaultCharset()))) {
+                String line;
+                boolean consuming = true;
+                while ((line = reader.readLine()) != null) {
+                    if (!consuming) {
+                        // Keep draining so the process can finish.
+                        continue;
+                    }
+                    try {
+                        lineConsumer.consumeLine(line);
+                    } catch (RuntimeException e) {
+                        pumpException.compareAndSet(null, e);
+                        consuming = false;
+                    }
+                }
+            } catch (IOException e) {
+                pumpException.compareAndSet(null, e);
+            }
+        }, "detect-executable-" + streamName);
+        pump.setDaemon(true);
+        pump.start();
+        return pump;
+    }
 }
@@ -11,10 +11,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -30,7 +31,7 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatc
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanCommandOutput;
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanTarget;
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfig;
-import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.MultiRootFileFinder;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.lifecycle.run.data.DockerTargetData;
@@ -59,7 +60,6 @@ public class BlackDuckSignatureScanner {
     private final StatusEventPublisher statusEventPublisher;
     private final ExitCodePublisher exitCodePublisher;
     private final OperationSystem operationSystem;
-    private final FileFinder fileFinder;
     private final Predicate<File> fileFilter;
 
     //When OFFLINE, this should be NULL. No other changes required for offline (in this class).
@@ -67,7 +67,7 @@ public class BlackDuckSignatureScanner {
 
     public BlackDuckSignatureScanner(DirectoryManager directoryManager, CodeLocationNameManager codeLocationNameManager,
         BlackDuckSignatureScannerOptions signatureScannerOptions, ScanBatchRunner scanJobManager, BlackDuckServerConfig blackDuckServerConfig, StatusEventPublisher statusEventPublisher,
-        ExitCodePublisher exitCodePublisher, OperationSystem operationSystem, FileFinder fileFinder, Predicate<File> fileFilter) {
+        ExitCodePublisher exitCodePublisher, OperationSystem operationSystem, Predicate<File> fileFilter) {
         this.directoryManager = directoryManager;
         this.codeLocationNameManager = codeLocationNameManager;
         this.signatureScannerOptions = signatureScannerOptions;
@@ -77,7 +77,6 @@ public class BlackDuckSignatureScanner {
         this.exitCodePublisher = exitCodePublisher;
         this.operationSystem = operationSystem;
 
-        this.fileFinder = fileFinder;
         this.fileFilter = fileFilter;
     }
 
@@ -85,18 +84,14 @@ public class BlackDuckSignatureScanner {
         operationSystem.beginOperation(OPERATION_NAME);
         List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTargetData);
 
-        ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
-        scanJobBuilder.fromBlackDuckServerConfig(blackDuckServerConfig);//when offline, we must still call this with 'null' as a workaround for library issues, so offline scanner must be created with this set to null.
-        ScanBatch scanJob;
-        try {
-            scanJob = scanJobBuilder.build();
-        } catch (IllegalArgumentException e) {
-            operationSystem.completeWithFailure(OPERATION_NAME);
-            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_CONFIGURATION);
-        }
-
         List<ScanCommandOutput> scanCommandOutputs = new ArrayList<>();
-        ScanBatchOutput scanJobOutput = scanJobManager.executeScans(scanJob);
+        ScanBatchOutput scanJobOutput;
+        if (signatureScannerOptions.getParallelTargets() > 1 && signatureScanPaths.size() > 1) {
+            scanJobOutput = scheduleTargetScans(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
+        } else {
+            ScanBatch scanJob = createScanBatch(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
+            scanJobOutput = scanJobManager.executeScans(scanJob);
+        }
         if (scanJobOutput.getOutputs() != null) {
             scanCommandOutputs.addAll(scanJobOutput.getOutputs());
         }
@@ -106,14 +101,48 @@ public class BlackDuckSignatureScanner {
         return scanJobOutput;
     }
 
+    private ScanBatchOutput scheduleTargetScans(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, @Nullable DockerTargetData dockerTargetData)
+        throws IntegrationException, DetectUserFriendlyException {
+        List<SignatureScanScheduler.SignatureScanTargetBatch> targetBatches = new ArrayList<>();
+        for (SignatureScanPath signatureScanPath : signatureScanPaths) {
+            ScanBatch scanBatch = createScanBatch(projectNameVersion, installDirectory, Collections.singletonList(signatureScanPath), dockerTargetData);
+            targetBatches.add(new SignatureScanScheduler.SignatureScanTargetBatch(signatureScanPath.getTargetCanonicalPath(), scanBatch));
+        }
+
+        int concurrentScans = SignatureScanScheduler.determineConcurrentScans(signatureScannerOptions.getParallelTargets(), signatureScannerOptions.getScanMemory(),
+            SignatureScanScheduler.findFreeMemoryInMegabytes().orElse(null));
+        SignatureScanScheduler signatureScanScheduler = new SignatureScanScheduler(scanJobManager, statusEventPublisher);
+        try {
+            return signatureScanScheduler.executeScans(targetBatches, concurrentScans);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            operationSystem.completeWithFailure(OPERATION_NAME);
+            throw new DetectUserFriendlyException("Interrupted while running signature scans.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
+    }
+
+    private ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, @Nullable DockerTargetData dockerTargetData) throws DetectUserFriendlyException {
+        ScanBatchBuilder scanJobBuilder = createDefaultScanBatchBuilder(projectNameVersion, installDirectory, signatureScanPaths, dockerTargetData);
+        scanJobBuilder.fromBlackDuckServerConfig(blackDuckServerConfig);//when offline, we must still call this with 'null' as a workaround for library issues, so offline scanner must be created with this set to null.
+        try {
+            return scanJobBuilder.build();
+        } catch (IllegalArgumentException e) {
+            operationSystem.completeWithFailure(OPERATION_NAME);
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_CONFIGURATION);
+        }
+    }
+
     //TODO: Possibly promote this to the Tool. Ideally it would return some object describing these results and the Tool translates that into detect nonsense -jp.
     private void reportResults(List<SignatureScanPath> signatureScanPaths, List<ScanCommandOutput> scanCommandOutputList) {
+        Map<String, ScanCommandOutput> scanCommandOutputsByTarget = new HashMap<>();
+        for (ScanCommandOutput scanCommandOutput : scanCommandOutputList) {
+            scanCommandOutputsByTarget.putIfAbsent(scanCommandOutput.getScanTarget(), scanCommandOutput);
+        }
+
         List<SignatureScannerReport> signatureScannerReports = new ArrayList<>();
         for (SignatureScanPath signatureScanPath : signatureScanPaths) {
-            Optional<ScanCommandOutput> scanCommandOutput = scanCommandOutputList.stream()
-                                                                .filter(output -> output.getScanTarget().equals(signatureScanPath.getTargetCanonicalPath()))
-                                                                .findFirst();
-            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, scanCommandOutput.orElse(null));
+            ScanCommandOutput scanCommandOutput = scanCommandOutputsByTarget.get(signatureScanPath.getTargetCanonicalPath());
+            SignatureScannerReport signatureScannerReport = SignatureScannerReport.create(signatureScanPath, scanCommandOutput);
             signatureScannerReports.add(signatureScannerReport);
         }
 
@@ -159,19 +188,16 @@ public class BlackDuckSignatureScanner {
         boolean userProvidedScanTargets = null != providedSignatureScanPaths && !providedSignatureScanPaths.isEmpty();
         List<String> exclusionPatterns = signatureScannerOptions.getExclusionPatterns();
 
-        List<SignatureScanPath> signatureScanPaths = new ArrayList<>();
+        List<File> scanTargets = new ArrayList<>();
         if (null != projectNameVersion.getName() && null != projectNameVersion.getVersion() && userProvidedScanTargets) {
             for (Path path : providedSignatureScanPaths) {
                 logger.info(String.format("Registering explicit scan path %s", path));
-                SignatureScanPath scanPath = createScanPath(path, maxDepth, exclusionPatterns);
-                signatureScanPaths.add(scanPath);
+                scanTargets.add(path.toFile());
             }
         } else if (dockerTargetData != null && dockerTargetData.getSquashedImage().isPresent()) {
-            SignatureScanPath scanPath = createScanPath(dockerTargetData.getSquashedImage().get().getCanonicalFile().toPath(), maxDepth, exclusionPatterns);
-            signatureScanPaths.add(scanPath);
+            scanTargets.add(dockerTargetData.getSquashedImage().get().getCanonicalFile());
         } else if (dockerTargetData != null && dockerTargetData.getProvidedImageTar().isPresent()) {
-            SignatureScanPath scanPath = createScanPath(dockerTargetData.getProvidedImageTar().get().getCanonicalFile().toPath(), maxDepth, exclusionPatterns);
-            signatureScanPaths.add(scanPath);
+            scanTargets.add(dockerTargetData.getProvidedImageTar().get().getCanonicalFile());
         } else {
             Path sourcePath = directoryManager.getSourceDirectory().getAbsoluteFile().toPath();
             if (userProvidedScanTargets) {
@@ -179,29 +205,29 @@ public class BlackDuckSignatureScanner {
             } else {
                 logger.info(String.format("No scan targets provided - registering the source path %s to scan", sourcePath));
             }
-            SignatureScanPath scanPath = createScanPath(sourcePath, maxDepth, exclusionPatterns);
-            signatureScanPaths.add(scanPath);
+            scanTargets.add(sourcePath.toFile());
         }
-        return signatureScanPaths;
+        return createScanPaths(scanTargets, maxDepth, exclusionPatterns);
     }
 
-    private SignatureScanPath createScanPath(Path path, Integer maxDepth, List<String> exclusionPatterns) {
-        File target = path.toFile();
-        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(fileFinder, fileFilter, target);
-
-        Set<String> scanExclusionPatterns = new HashSet<>();
+    private List<SignatureScanPath> createScanPaths(List<File> scanTargets, Integer maxDepth, List<String> exclusionPatterns) {
+        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(new MultiRootFileFinder(), fileFilter);
+        Map<File, Set<String>> discoveredExclusionPatterns = exclusionPatternCreator.determineExclusionPatterns(scanTargets, maxDepth, exclusionPatterns);
 
         // First add explicit exclusions that are correctly formatted
-        scanExclusionPatterns.addAll(exclusionPatterns.stream()
-                                         .filter(this::isCorrectlyFormattedExclusion)
-                                         .collect(Collectors.toSet()));
+        Set<String> explicitExclusionPatterns = exclusionPatterns.stream()
+                                                    .filter(this::isCorrectlyFormattedExclusion)
+                                                    .collect(Collectors.toSet());
 
-        scanExclusionPatterns.addAll(exclusionPatternCreator.determineExclusionPatterns(maxDepth, exclusionPatterns));
-
-        SignatureScanPath signatureScanPath = new SignatureScanPath();
-        signatureScanPath.setTargetPath(target);
-        signatureScanPath.getExclusions().addAll(scanExclusionPatterns);
-        return signatureScanPath;
+        List<SignatureScanPath> signatureScanPaths = new ArrayList<>();
+        for (File target : scanTargets) {
+            SignatureScanPath signatureScanPath = new SignatureScanPath();
+            signatureScanPath.setTargetPath(target);
+            signatureScanPath.getExclusions().addAll(explicitExclusionPatterns);
+            signatureScanPath.getExclusions().addAll(discoveredExclusionPatterns.get(target));
+            signatureScanPaths.add(signatureScanPath);
+        }
+        return signatureScanPaths;
     }
 
     private boolean isCorrectlyFormattedExclusion(String exclusion) {
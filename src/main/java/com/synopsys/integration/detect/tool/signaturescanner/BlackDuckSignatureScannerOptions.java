@@ -45,6 +45,7 @@ public class BlackDuckSignatureScannerOptions {
     private final IndividualFileMatching individualFileMatching;
     private final Boolean licenseSearch;
     private final Boolean copyrightSearch;
+    private final int parallelTargets;
 
     public BlackDuckSignatureScannerOptions(
         List<Path> signatureScannerPaths,
@@ -64,6 +65,29 @@ public class BlackDuckSignatureScannerOptions {
         @Nullable IndividualFileMatching individualFileMatching,
         Boolean licenseSearch,
         Boolean copyrightSearch) {
+        this(signatureScannerPaths, exclusionPatterns, offlineLocalScannerInstallPath, onlineLocalScannerInstallPath, userProvidedScannerInstallUrl, scanMemory, parallelProcessors, dryRun, snippetMatching, uploadSource,
+            codeLocationPrefix, codeLocationSuffix, additionalArguments, maxDepth, individualFileMatching, licenseSearch, copyrightSearch, 1);
+    }
+
+    public BlackDuckSignatureScannerOptions(
+        List<Path> signatureScannerPaths,
+        List<String> exclusionPatterns,
+        @Nullable Path offlineLocalScannerInstallPath,
+        @Nullable Path onlineLocalScannerInstallPath,
+        @Nullable String userProvidedScannerInstallUrl,
+        Integer scanMemory,
+        Integer parallelProcessors,
+        Boolean dryRun,
+        @Nullable SnippetMatching snippetMatching,
+        @Nullable Boolean uploadSource,
+        @Nullable String codeLocationPrefix,
+        @Nullable String codeLocationSuffix,
+        @Nullable String additionalArguments,
+        Integer maxDepth,
+        @Nullable IndividualFileMatching individualFileMatching,
+        Boolean licenseSearch,
+        Boolean copyrightSearch,
+        int parallelTargets) {
 
         this.signatureScannerPaths = signatureScannerPaths;
         this.exclusionPatterns = exclusionPatterns;
@@ -82,6 +106,7 @@ public class BlackDuckSignatureScannerOptions {
         this.individualFileMatching = individualFileMatching;
         this.licenseSearch = licenseSearch;
         this.copyrightSearch = copyrightSearch;
+        this.parallelTargets = parallelTargets;
     }
 
     public List<Path> getSignatureScannerPaths() {
@@ -151,4 +176,8 @@ public class BlackDuckSignatureScannerOptions {
     public Boolean getCopyrightSearch() {
         return copyrightSearch;
     }
+
+    public int getParallelTargets() {
+        return parallelTargets;
+    }
 }
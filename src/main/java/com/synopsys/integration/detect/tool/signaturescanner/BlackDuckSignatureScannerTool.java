@@ -26,7 +26,6 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatc
 import com.synopsys.integration.blackduck.configuration.BlackDuckServerConfig;
 import com.synopsys.integration.blackduck.service.model.NotificationTaskRange;
 import com.synopsys.integration.blackduck.useragent.UserAgentItem;
-import com.synopsys.integration.common.util.finder.FileFinder;
 import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.connection.ConnectionFactory;
@@ -52,21 +51,19 @@ public class BlackDuckSignatureScannerTool {
     private final DirectoryManager directoryManager;
     private final CodeLocationNameManager codeLocationNameManager;
     private final DetectInfo detectInfo;
-    private final FileFinder fileFinder;
     private final OperationSystem operationSystem;
     private final ExitCodePublisher exitCodePublisher;
     private final StatusEventPublisher statusEventPublisher;
 
     public BlackDuckSignatureScannerTool(BlackDuckSignatureScannerOptions signatureScannerOptions, Predicate<File> fileFilter, final ConnectionFactory connectionFactory,
         final DirectoryManager directoryManager, final CodeLocationNameManager codeLocationNameManager, final DetectInfo detectInfo,
-        final FileFinder fileFinder, final OperationSystem operationSystem, final ExitCodePublisher exitCodePublisher, final StatusEventPublisher statusEventPublisher) {
+        final OperationSystem operationSystem, final ExitCodePublisher exitCodePublisher, final StatusEventPublisher statusEventPublisher) {
         this.signatureScannerOptions = signatureScannerOptions;
         this.fileFilter = fileFilter;
         this.connectionFactory = connectionFactory;
         this.directoryManager = directoryManager;
         this.codeLocationNameManager = codeLocationNameManager;
         this.detectInfo = detectInfo;
-        this.fileFinder = fileFinder;
         this.operationSystem = operationSystem;
         this.exitCodePublisher = exitCodePublisher;
         this.statusEventPublisher = statusEventPublisher;
@@ -76,7 +73,8 @@ public class BlackDuckSignatureScannerTool {
         throws DetectUserFriendlyException {
         Optional<Path> localScannerInstallPath = determineLocalScannerInstallPath();
 
-        ExecutorService executorService = Executors.newFixedThreadPool(signatureScannerOptions.getParallelProcessors());
+        // Targets scanned in parallel each hand their scan command to this executor, so it needs a thread for every one of them.
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(signatureScannerOptions.getParallelProcessors(), signatureScannerOptions.getParallelTargets()));
         IntEnvironmentVariables intEnvironmentVariables = IntEnvironmentVariables.includeSystemEnv();
         ScanBatchRunnerFactory scanBatchRunnerFactory = new ScanBatchRunnerFactory(intEnvironmentVariables, executorService);
 
@@ -85,7 +83,7 @@ public class BlackDuckSignatureScannerTool {
 
         try {
             BlackDuckSignatureScanner blackDuckSignatureScanner = new BlackDuckSignatureScanner(directoryManager, codeLocationNameManager, signatureScannerOptions, scanBatchRunner, blackDuckServerConfig, statusEventPublisher,
-                exitCodePublisher, operationSystem, fileFinder, fileFilter);
+                exitCodePublisher, operationSystem, fileFilter);
             return runScanner(blackDuckSignatureScanner, codeLocationCreationService, blackDuckServerConfig, projectNameVersion, installDirectory, dockerTargetData);
         } catch (IOException | IntegrationException e) {
             logger.error(String.format("Signature scan failed: %s", e.getMessage()));
@@ -0,0 +1,132 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanCommandOutput;
+import com.synopsys.integration.common.util.FutureTasks;
+import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
+import com.synopsys.integration.exception.IntegrationException;
+
+/*
+  Runs one scan batch per target, several at a time. Each scan CLI invocation is its own JVM using scanMemory megabytes,
+  so no more scans run at once than fit in the free physical memory. The first target is scanned alone so that a scanner install or update finishes before the others start.
+ */
+public class SignatureScanScheduler {
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ScanBatchRunner scanBatchRunner;
+    private final StatusEventPublisher statusEventPublisher;
+
+    public SignatureScanScheduler(ScanBatchRunner scanBatchRunner, StatusEventPublisher statusEventPublisher) {
+        this.scanBatchRunner = scanBatchRunner;
+        this.statusEventPublisher = statusEventPublisher;
+    }
+
+    public static int determineConcurrentScans(int parallelTargets, int scanMemory, @Nullable Long freeMemoryInMegabytes) {
+        int concurrentScans = Math.max(1, parallelTargets);
+        if (freeMemoryInMegabytes != null && scanMemory > 0) {
+            concurrentScans = (int) Math.min(concurrentScans, Math.max(1, freeMemoryInMegabytes / scanMemory));
+        }
+        return concurrentScans;
+    }
+
+    public static Optional<Long> findFreeMemoryInMegabytes() {
+        OperatingSystemMXBean operatingSystemMXBean = ManagementFactory.getOperatingSystemMXBean();
+        if (operatingSystemMXBean instanceof com.sun.management.OperatingSystemMXBean) {
+            long freeBytes = ((com.sun.management.OperatingSystemMXBean) operatingSystemMXBean).getFreePhysicalMemorySize();
+            return Optional.of(freeBytes / BYTES_PER_MEGABYTE);
+        }
+        return Optional.empty();
+    }
+
+    public ScanBatchOutput executeScans(List<SignatureScanTargetBatch> targetBatches, int concurrentScans) throws IntegrationException, InterruptedException {
+        List<ScanCommandOutput> scanCommandOutputs = new ArrayList<>();
+        if (targetBatches.isEmpty()) {
+            return new ScanBatchOutput(scanCommandOutputs);
+        }
+
+        scanCommandOutputs.addAll(executeScan(targetBatches.get(0)));
+        List<SignatureScanTargetBatch> remainingBatches = targetBatches.subList(1, targetBatches.size());
+        if (concurrentScans <= 1 || remainingBatches.isEmpty()) {
+            for (SignatureScanTargetBatch targetBatch : remainingBatches) {
+                scanCommandOutputs.addAll(executeScan(targetBatch));
+            }
+            return new ScanBatchOutput(scanCommandOutputs);
+        }
+
+        logger.info(String.format("Scanning %d targets, %d at a time.", remainingBatches.size(), concurrentScans));
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(concurrentScans, remainingBatches.size()));
+        try {
+            List<Future<List<ScanCommandOutput>>> pendingOutputs = new ArrayList<>();
+            for (SignatureScanTargetBatch targetBatch : remainingBatches) {
+                pendingOutputs.add(FutureTasks.run(executorService, () -> executeScan(targetBatch)));
+            }
+            List<List<ScanCommandOutput>> targetOutputs = FutureTasks.awaitAll(pendingOutputs, failure -> {
+                if (failure instanceof IntegrationException) {
+                    return (IntegrationException) failure;
+                }
+                return new IntegrationException(String.format("Signature scan failed: %s", failure.getMessage()), failure);
+            });
+            targetOutputs.forEach(scanCommandOutputs::addAll);
+        } finally {
+            executorService.shutdownNow();
+        }
+        return new ScanBatchOutput(scanCommandOutputs);
+    }
+
+    private List<ScanCommandOutput> executeScan(SignatureScanTargetBatch targetBatch) throws IntegrationException {
+        SignatureScanTargetProgress progress = SignatureScanTargetProgress.started(targetBatch.getTargetPath(), System.currentTimeMillis());
+        statusEventPublisher.publishSignatureScanTargetStarted(progress);
+        try {
+            ScanBatchOutput scanBatchOutput = scanBatchRunner.executeScans(targetBatch.getScanBatch());
+            if (scanBatchOutput.getOutputs() == null) {
+                return new ArrayList<>();
+            }
+            return scanBatchOutput.getOutputs();
+        } finally {
+            SignatureScanTargetProgress endedProgress = progress.ended(System.currentTimeMillis());
+            endedProgress.getDuration().ifPresent(duration -> logger.info(String.format("Scanning target %s took %d ms.", targetBatch.getTargetPath(), duration)));
+            statusEventPublisher.publishSignatureScanTargetEnded(endedProgress);
+        }
+    }
+
+    public static class SignatureScanTargetBatch {
+        private final String targetPath;
+        private final ScanBatch scanBatch;
+
+        public SignatureScanTargetBatch(String targetPath, ScanBatch scanBatch) {
+            this.targetPath = targetPath;
+            this.scanBatch = scanBatch;
+        }
+
+        public String getTargetPath() {
+            return targetPath;
+        }
+
+        public ScanBatch getScanBatch() {
+            return scanBatch;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+public class SignatureScanTargetProgress {
+    private final String targetPath;
+    private final long startTime;
+    @Nullable
+    private final Long endTime;
+
+    private SignatureScanTargetProgress(String targetPath, long startTime, @Nullable Long endTime) {
+        this.targetPath = targetPath;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static SignatureScanTargetProgress started(String targetPath, long startTime) {
+        return new SignatureScanTargetProgress(targetPath, startTime, null);
+    }
+
+    public SignatureScanTargetProgress ended(long endTime) {
+        return new SignatureScanTargetProgress(targetPath, startTime, endTime);
+    }
+
+    public String getTargetPath() {
+        return targetPath;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public Optional<Long> getEndTime() {
+        return Optional.ofNullable(endTime);
+    }
+
+    public Optional<Long> getDuration() {
+        return getEndTime().map(end -> end - startTime);
+    }
+}
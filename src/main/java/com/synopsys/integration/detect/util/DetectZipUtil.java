@@ -38,8 +38,7 @@ public class DetectZipUtil {
                 for (final Map.Entry<String, Path> entry : entries.entrySet()) {
                     logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue().toString(), entry.getKey());
                     outputStream.putNextEntry(new ZipEntry(entry.getKey()));
-                    final byte[] bytes = Files.readAllBytes(entry.getValue());
-                    outputStream.write(bytes, 0, bytes.length);
+                    Files.copy(entry.getValue(), outputStream);
                     outputStream.closeEntry();
                 }
             }
@@ -0,0 +1,139 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  Zips files without holding any of them in memory, each entry is copied through a fixed buffer.
+  Entries that are already compressed archives are stored as they are, deflating them again costs time and saves almost nothing.
+  With more than one compression thread, entries are deflated independently into temporary files and then copied into the zip in order.
+ */
+public class StreamingZipWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Set<String> STORED_EXTENSIONS = new HashSet<>(Arrays.asList("jar", "zip", "war", "ear"));
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final int compressionThreads;
+
+    public StreamingZipWriter(int compressionThreads) {
+        this.compressionThreads = compressionThreads;
+    }
+
+    // Groups the entries, in order, so the files in each group add up to no more than maxPartBytes. A file larger than that is given a group of its own. A maxPartBytes of 0 or less never splits.
+    public static List<Map<String, Path>> splitEntries(Map<String, Path> entries, long maxPartBytes) throws IOException {
+        List<Map<String, Path>> parts = new ArrayList<>();
+        Map<String, Path> currentPart = new LinkedHashMap<>();
+        long currentPartBytes = 0;
+        for (Map.Entry<String, Path> entry : entries.entrySet()) {
+            long entryBytes = Files.size(entry.getValue());
+            if (maxPartBytes > 0 && !currentPart.isEmpty() && currentPartBytes + entryBytes > maxPartBytes) {
+                parts.add(currentPart);
+                currentPart = new LinkedHashMap<>();
+                currentPartBytes = 0;
+            }
+            currentPart.put(entry.getKey(), entry.getValue());
+            currentPartBytes += entryBytes;
+        }
+        if (!currentPart.isEmpty() || parts.isEmpty()) {
+            parts.add(currentPart);
+        }
+        return parts;
+    }
+
+    public void zip(File zip, Map<String, Path> entries) throws IOException, InterruptedException {
+        try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zip)) {
+            if (compressionThreads > 1 && entries.size() > 1) {
+                zipInParallel(outputStream, entries);
+            } else {
+                zipSequentially(outputStream, entries);
+            }
+        }
+    }
+
+    private void zipSequentially(ZipArchiveOutputStream outputStream, Map<String, Path> entries) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        for (Map.Entry<String, Path> entry : entries.entrySet()) {
+            logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue(), entry.getKey());
+            outputStream.putArchiveEntry(createArchiveEntry(entry.getKey(), entry.getValue()));
+            try (InputStream inputStream = Files.newInputStream(entry.getValue())) {
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            outputStream.closeArchiveEntry();
+        }
+    }
+
+    private void zipInParallel(ZipArchiveOutputStream outputStream, Map<String, Path> entries) throws IOException, InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(compressionThreads, entries.size()));
+        try {
+            ParallelScatterZipCreator scatterZipCreator = new ParallelScatterZipCreator(executorService);
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                logger.info("Adding entry '{}' to zip as '{}'.", entry.getValue(), entry.getKey());
+                Path path = entry.getValue();
+                scatterZipCreator.addArchiveEntry(createArchiveEntry(entry.getKey(), path), () -> openInputStream(path));
+            }
+            scatterZipCreator.writeTo(outputStream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(String.format("Failed to compress zip entry: %s", cause.getMessage()), cause);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private InputStream openInputStream(Path path) {
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ZipArchiveEntry createArchiveEntry(String name, Path path) {
+        ZipArchiveEntry archiveEntry = new ZipArchiveEntry(path.toFile(), name);
+        String extension = StringUtils.substringAfterLast(name, ".").toLowerCase(Locale.ROOT);
+        archiveEntry.setMethod(STORED_EXTENSIONS.contains(extension) ? ZipArchiveEntry.STORED : ZipArchiveEntry.DEFLATED);
+        return archiveEntry;
+    }
+}
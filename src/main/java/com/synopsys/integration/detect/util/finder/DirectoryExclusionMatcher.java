@@ -0,0 +1,190 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.util.finder;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Compiles directory exclusion patterns once into name lookups, a trie of path suffixes and precompiled globs.
+public class DirectoryExclusionMatcher {
+    private static final String PATH_MATCHER_SYNTAX = "glob:%s";
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final Path sourcePath;
+    private final boolean caseSensitive = IOCase.SYSTEM.isCaseSensitive();
+
+    // Tier 1: exact names and exact full paths.
+    private final Set<String> exactNames = new HashSet<>();
+    private final Set<String> exactPaths = new HashSet<>();
+    // Tier 2: path patterns matched against the end of the path relative to the source, stored as a trie of reversed path elements.
+    private final SuffixNode suffixRoot = new SuffixNode();
+    private boolean excludesSourcePath = false;
+    // Tier 3: real wildcards and globs.
+    private final List<String> wildcardNames = new ArrayList<>();
+    private final List<PathMatcher> globMatchers = new ArrayList<>();
+
+    public DirectoryExclusionMatcher(Path sourcePath, List<String> directoryExclusionPatterns) {
+        this.sourcePath = sourcePath;
+        for (String pattern : directoryExclusionPatterns) {
+            compileNamePattern(pattern);
+            compileGlobPattern(pattern);
+            compilePathPattern(pattern);
+        }
+    }
+
+    public boolean isExcluded(File file) {
+        return nameMatches(file.getName()) || pathMatches(file.toPath());
+    }
+
+    private boolean nameMatches(String name) {
+        if (exactNames.contains(toSystemCase(name))) {
+            return true;
+        }
+        for (String wildcardName : wildcardNames) {
+            if (FilenameUtils.wildcardMatchOnSystem(name, wildcardName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean pathMatches(Path path) {
+        if (!exactPaths.isEmpty() && exactPaths.contains(toSystemCase(path.toString()))) {
+            return true;
+        }
+        for (PathMatcher globMatcher : globMatchers) {
+            if (globMatcher.matches(path)) {
+                return true;
+            }
+        }
+        return suffixMatches(path);
+    }
+
+    private boolean suffixMatches(Path path) {
+        int sourceNameCount = sourcePath.getNameCount();
+        int pathNameCount = path.getNameCount();
+        if (pathNameCount <= sourceNameCount || !path.startsWith(sourcePath) || hasRedundantElements(path, sourceNameCount)) {
+            // Not a plain descendant of the source, fall back to the relative path.
+            Path relativePath;
+            try {
+                relativePath = sourcePath.relativize(path);
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+            if (excludesSourcePath && relativePath.toString().isEmpty()) {
+                return true;
+            }
+            return suffixMatches(relativePath, 0);
+        }
+        return suffixMatches(path, sourceNameCount);
+    }
+
+    // Walks the path elements from the end, which only works when the relative path is exactly the elements after the source.
+    private boolean suffixMatches(Path path, int firstElement) {
+        SuffixNode node = suffixRoot;
+        for (int i = path.getNameCount() - 1; i >= firstElement; i--) {
+            node = node.children.get(path.getName(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasRedundantElements(Path path, int firstElement) {
+        for (int i = firstElement; i < path.getNameCount(); i++) {
+            String element = path.getName(i).toString();
+            if (".".equals(element) || "..".equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void compileNamePattern(String pattern) {
+        if (pattern.contains("*") || pattern.contains("?")) {
+            wildcardNames.add(pattern);
+        } else {
+            exactNames.add(toSystemCase(pattern));
+        }
+    }
+
+    private void compileGlobPattern(String pattern) {
+        if (caseSensitive && !containsGlobCharacters(pattern)) {
+            // A glob without special characters only matches a path that is exactly the pattern. Other file systems may normalize separators or case so they still get a matcher.
+            exactPaths.add(toSystemCase(pattern));
+            return;
+        }
+        try {
+            globMatchers.add(FileSystems.getDefault().getPathMatcher(String.format(PATH_MATCHER_SYNTAX, pattern)));
+        } catch (PatternSyntaxException e) {
+            logger.debug(String.format("%s is not a valid glob pattern: %s", pattern, e.getMessage()));
+        }
+    }
+
+    private void compilePathPattern(String pattern) {
+        Path patternPath;
+        try {
+            patternPath = new File(pattern).toPath();
+        } catch (InvalidPathException e) {
+            logger.debug(String.format("%s could not be resolved to a path.", pattern));
+            return;
+        }
+        if (patternPath.getRoot() != null) {
+            // A relative path never ends with a rooted path.
+            return;
+        }
+        if (patternPath.toString().isEmpty()) {
+            excludesSourcePath = true;
+            return;
+        }
+        SuffixNode node = suffixRoot;
+        for (int i = patternPath.getNameCount() - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(patternPath.getName(i), key -> new SuffixNode());
+        }
+        node.terminal = true;
+    }
+
+    private boolean containsGlobCharacters(String pattern) {
+        for (char character : pattern.toCharArray()) {
+            if (GLOB_CHARACTERS.indexOf(character) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String toSystemCase(String value) {
+        return caseSensitive ? value : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static class SuffixNode {
+        private final Map<Path, SuffixNode> children = new HashMap<>();
+        private boolean terminal = false;
+    }
+}
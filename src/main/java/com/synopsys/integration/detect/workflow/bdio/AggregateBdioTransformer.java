@@ -11,15 +11,14 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.bdio.SimpleBdioFactory;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
-import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
@@ -28,34 +27,59 @@ import com.synopsys.integration.detect.configuration.DetectUserFriendlyException
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.codelocation.FileNameUtils;
+import com.synopsys.integration.detectable.util.DependencyGraphMerger;
+import com.synopsys.integration.detectable.util.ExternalIdInterner;
 
 public class AggregateBdioTransformer {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final SimpleBdioFactory simpleBdioFactory;
+    private final int mergeThreads;
 
-    public AggregateBdioTransformer(final SimpleBdioFactory simpleBdioFactory) {
-        this.simpleBdioFactory = simpleBdioFactory;
+    public AggregateBdioTransformer(final int mergeThreads) {
+        this.mergeThreads = mergeThreads;
     }
 
     public DependencyGraph aggregateCodeLocations(final File sourcePath, final List<DetectCodeLocation> codeLocations, final AggregateMode aggregateMode) throws DetectUserFriendlyException {
-        final MutableDependencyGraph aggregateDependencyGraph = simpleBdioFactory.createMutableDependencyGraph();
-
-        for (final DetectCodeLocation detectCodeLocation : codeLocations) {
+        final List<DependencyGraph> graphs = codeLocations.stream()
+                                                 .map(DetectCodeLocation::getDependencyGraph)
+                                                 .collect(Collectors.toList());
+        final DependencyGraphMerger dependencyGraphMerger = new DependencyGraphMerger(new ExternalIdInterner());
+        try {
             if (aggregateMode.equals(AggregateMode.DIRECT)) {
-                aggregateDependencyGraph.addGraphAsChildrenToRoot(detectCodeLocation.getDependencyGraph());
+                return dependencyGraphMerger.mergeAsChildrenToRoot(graphs, mergeThreads);
             } else if (aggregateMode.equals(AggregateMode.TRANSITIVE)) {
-                final Dependency codeLocationDependency = createAggregateDependency(sourcePath, detectCodeLocation);
-                aggregateDependencyGraph.addChildrenToRoot(codeLocationDependency);
-                aggregateDependencyGraph.addGraphAsChildrenToParent(codeLocationDependency, detectCodeLocation.getDependencyGraph());
+                final List<Dependency> codeLocationDependencies = codeLocations.stream()
+                                                                      .map(codeLocation -> createAggregateDependency(sourcePath, codeLocation))
+                                                                      .collect(Collectors.toList());
+                return dependencyGraphMerger.mergeAsChildrenToParents(codeLocationDependencies, graphs, mergeThreads);
             } else {
                 throw new DetectUserFriendlyException(
                     String.format("The %s property was set to an unsupported aggregation mode, will not aggregate at this time.", DetectProperties.DETECT_BOM_AGGREGATE_REMEDIATION_MODE.getProperty().getKey()),
                     ExitCodeType.FAILURE_GENERAL_ERROR);
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DetectUserFriendlyException("Interrupted while aggregating code locations.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
+    }
 
-        return aggregateDependencyGraph;
+    // Streams the aggregate from the code location graphs instead of copying every graph into a new one.
+    public DependencyGraph aggregateCodeLocationsAsView(final File sourcePath, final List<DetectCodeLocation> codeLocations, final AggregateMode aggregateMode) throws DetectUserFriendlyException {
+        final List<DependencyGraph> graphs = codeLocations.stream()
+                                                 .map(DetectCodeLocation::getDependencyGraph)
+                                                 .collect(Collectors.toList());
+        if (aggregateMode.equals(AggregateMode.DIRECT)) {
+            return AggregateDependencyGraph.direct(graphs);
+        } else if (aggregateMode.equals(AggregateMode.TRANSITIVE)) {
+            final List<Dependency> codeLocationDependencies = codeLocations.stream()
+                                                                  .map(codeLocation -> createAggregateDependency(sourcePath, codeLocation))
+                                                                  .collect(Collectors.toList());
+            return AggregateDependencyGraph.transitive(codeLocationDependencies, graphs);
+        } else {
+            throw new DetectUserFriendlyException(
+                String.format("The %s property was set to an unsupported aggregation mode, will not aggregate at this time.", DetectProperties.DETECT_BOM_AGGREGATE_REMEDIATION_MODE.getProperty().getKey()),
+                ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
     }
 
     private Dependency createAggregateDependency(final File sourcePath, final DetectCodeLocation codeLocation) {
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detect.workflow.bdio;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -36,17 +37,26 @@ public class AggregateBdioWriter {
     private final Bdio2Factory bdio2Factory;
     private final SimpleBdioFactory simpleBdioFactory;
     private final DetectBdioWriter detectBdioWriter;
+    private final StreamingBdioWriter streamingBdioWriter;
 
-    public AggregateBdioWriter(Bdio2Factory bdio2Factory, SimpleBdioFactory simpleBdioFactory, DetectBdioWriter detectBdioWriter) {
+    public AggregateBdioWriter(Bdio2Factory bdio2Factory, SimpleBdioFactory simpleBdioFactory, DetectBdioWriter detectBdioWriter, StreamingBdioWriter streamingBdioWriter) {
         this.bdio2Factory = bdio2Factory;
         this.simpleBdioFactory = simpleBdioFactory;
         this.detectBdioWriter = detectBdioWriter;
+        this.streamingBdioWriter = streamingBdioWriter;
     }
 
     public void writeAggregateBdioFile(File aggregateFile, String codeLocationName, NameVersion projectNameVersion, ExternalId projectExternalId, DependencyGraph aggregateDependencyGraph, boolean useBdio2)
         throws DetectUserFriendlyException {
+        writeAggregateBdioFile(aggregateFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph, useBdio2, false);
+    }
+
+    public void writeAggregateBdioFile(File aggregateFile, String codeLocationName, NameVersion projectNameVersion, ExternalId projectExternalId, DependencyGraph aggregateDependencyGraph, boolean useBdio2,
+        boolean streaming) throws DetectUserFriendlyException {
         if (useBdio2) {
             writeAggregateBdio2File(aggregateFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph);
+        } else if (streaming) {
+            streamingBdioWriter.writeBdioFile(aggregateFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph);
         } else {
             writeAggregateBdio1File(aggregateFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph);
         }
@@ -67,8 +77,7 @@ public class AggregateBdioWriter {
         Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, project, aggregateDependencyGraph);
 
         Bdio2Writer bdio2Writer = new Bdio2Writer();
-        try {
-            OutputStream outputStream = new FileOutputStream(aggregateFile);
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(aggregateFile))) {
             bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
             logger.debug(String.format("BDIO Generated: %s", aggregateFile.getAbsolutePath()));
         } catch (IOException e) {
@@ -0,0 +1,162 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+/*
+  Presents the code location graphs as the single graph AggregateBdioTransformer would build, without copying them into it.
+  A dependency's children are the union of its children in every code location graph, and the first graph that has a dependency provides it.
+  In transitive mode each code location is wrapped by a root dependency whose children are that code location's roots.
+ */
+public class AggregateDependencyGraph implements DependencyGraph {
+    private final List<DependencyGraph> graphs;
+    private final Map<ExternalId, Dependency> wrapperDependencies;
+    private final Map<ExternalId, List<DependencyGraph>> wrappedGraphs;
+
+    private AggregateDependencyGraph(List<DependencyGraph> graphs, Map<ExternalId, Dependency> wrapperDependencies, Map<ExternalId, List<DependencyGraph>> wrappedGraphs) {
+        this.graphs = graphs;
+        this.wrapperDependencies = wrapperDependencies;
+        this.wrappedGraphs = wrappedGraphs;
+    }
+
+    public static AggregateDependencyGraph direct(List<DependencyGraph> graphs) {
+        return new AggregateDependencyGraph(graphs, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    public static AggregateDependencyGraph transitive(List<Dependency> wrapperDependencies, List<DependencyGraph> graphs) {
+        Map<ExternalId, Dependency> wrappers = new LinkedHashMap<>();
+        Map<ExternalId, List<DependencyGraph>> wrapped = new LinkedHashMap<>();
+        for (int i = 0; i < wrapperDependencies.size(); i++) {
+            Dependency wrapperDependency = wrapperDependencies.get(i);
+            wrappers.putIfAbsent(wrapperDependency.getExternalId(), wrapperDependency);
+            wrapped.computeIfAbsent(wrapperDependency.getExternalId(), missing -> new ArrayList<>()).add(graphs.get(i));
+        }
+        return new AggregateDependencyGraph(graphs, wrappers, wrapped);
+    }
+
+    @Override
+    public Set<ExternalId> getRootDependencyExternalIds() {
+        if (!wrapperDependencies.isEmpty()) {
+            return new HashSet<>(wrapperDependencies.keySet());
+        }
+        Set<ExternalId> rootIds = new HashSet<>();
+        for (DependencyGraph graph : graphs) {
+            rootIds.addAll(graph.getRootDependencyExternalIds());
+        }
+        return rootIds;
+    }
+
+    @Override
+    public Set<Dependency> getRootDependencies() {
+        return toDependencies(getRootDependencyExternalIds());
+    }
+
+    @Override
+    public boolean hasDependency(ExternalId dependency) {
+        return wrapperDependencies.containsKey(dependency) || graphs.stream().anyMatch(graph -> graph.hasDependency(dependency));
+    }
+
+    @Override
+    public boolean hasDependency(Dependency dependency) {
+        return hasDependency(dependency.getExternalId());
+    }
+
+    @Override
+    public Dependency getDependency(ExternalId dependency) {
+        Dependency wrapperDependency = wrapperDependencies.get(dependency);
+        if (wrapperDependency != null) {
+            return wrapperDependency;
+        }
+        for (DependencyGraph graph : graphs) {
+            if (graph.hasDependency(dependency)) {
+                return graph.getDependency(dependency);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(ExternalId parent) {
+        return toDependencies(getChildrenExternalIdsForParent(parent));
+    }
+
+    @Override
+    public Set<Dependency> getChildrenForParent(Dependency parent) {
+        return getChildrenForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(ExternalId parent) {
+        Set<ExternalId> childIds = new HashSet<>();
+        List<DependencyGraph> wrapped = wrappedGraphs.get(parent);
+        if (wrapped != null) {
+            wrapped.forEach(graph -> childIds.addAll(graph.getRootDependencyExternalIds()));
+            return childIds;
+        }
+        for (DependencyGraph graph : graphs) {
+            if (graph.hasDependency(parent)) {
+                childIds.addAll(graph.getChildrenExternalIdsForParent(parent));
+            }
+        }
+        return childIds;
+    }
+
+    @Override
+    public Set<ExternalId> getChildrenExternalIdsForParent(Dependency parent) {
+        return getChildrenExternalIdsForParent(parent.getExternalId());
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(ExternalId child) {
+        return toDependencies(getParentExternalIdsForChild(child));
+    }
+
+    @Override
+    public Set<Dependency> getParentsForChild(Dependency child) {
+        return getParentsForChild(child.getExternalId());
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(ExternalId child) {
+        Set<ExternalId> parentIds = new HashSet<>();
+        for (DependencyGraph graph : graphs) {
+            if (graph.hasDependency(child)) {
+                parentIds.addAll(graph.getParentExternalIdsForChild(child));
+            }
+        }
+        wrappedGraphs.forEach((wrapperId, wrapped) -> {
+            if (wrapped.stream().anyMatch(graph -> graph.getRootDependencyExternalIds().contains(child))) {
+                parentIds.add(wrapperId);
+            }
+        });
+        return parentIds;
+    }
+
+    @Override
+    public Set<ExternalId> getParentExternalIdsForChild(Dependency child) {
+        return getParentExternalIdsForChild(child.getExternalId());
+    }
+
+    private Set<Dependency> toDependencies(Set<ExternalId> externalIds) {
+        return externalIds.stream()
+                   .map(this::getDependency)
+                   .collect(Collectors.toSet());
+    }
+}
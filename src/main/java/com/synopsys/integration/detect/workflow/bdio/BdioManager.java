@@ -70,8 +70,13 @@ public class BdioManager {
         if (aggregateDecision.shouldAggregate() && aggregateName.isPresent()) {
             logger.debug("Creating aggregate BDIO file.");
 
-            AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer(simpleBdioFactory);
-            DependencyGraph aggregateDependencyGraph = aggregateBdioTransformer.aggregateCodeLocations(directoryManager.getSourceDirectory(), codeLocations, aggregateDecision.getAggregateMode());
+            AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer(bdioOptions.getAggregateThreads());
+            DependencyGraph aggregateDependencyGraph;
+            if (bdioOptions.isStreamingEnabled()) {
+                aggregateDependencyGraph = aggregateBdioTransformer.aggregateCodeLocationsAsView(directoryManager.getSourceDirectory(), codeLocations, aggregateDecision.getAggregateMode());
+            } else {
+                aggregateDependencyGraph = aggregateBdioTransformer.aggregateCodeLocations(directoryManager.getSourceDirectory(), codeLocations, aggregateDecision.getAggregateMode());
+            }
             boolean aggregateHasDependencies = !aggregateDependencyGraph.getRootDependencies().isEmpty();
 
             ExternalId projectExternalId = externalIdFactory.createNameVersionExternalId(new Forge("/", "DETECT"), projectNameVersion.getName(), projectNameVersion.getVersion());
@@ -81,8 +86,8 @@ public class BdioManager {
             String fileName = integrationEscapeUtil.replaceWithUnderscore(aggregateName.get()) + ext;
             File aggregateBdioFile = new File(directoryManager.getBdioOutputDirectory(), fileName);
 
-            AggregateBdioWriter aggregateBdioWriter = new AggregateBdioWriter(bdio2Factory, simpleBdioFactory, detectBdioWriter);
-            aggregateBdioWriter.writeAggregateBdioFile(aggregateBdioFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph, useBdio2);
+            AggregateBdioWriter aggregateBdioWriter = new AggregateBdioWriter(bdio2Factory, simpleBdioFactory, detectBdioWriter, new StreamingBdioWriter(simpleBdioFactory, detectInfo));
+            aggregateBdioWriter.writeAggregateBdioFile(aggregateBdioFile, codeLocationName, projectNameVersion, projectExternalId, aggregateDependencyGraph, useBdio2, bdioOptions.isStreamingEnabled());
 
             codeLocations.forEach(cl -> codeLocationNamesResult.put(cl, codeLocationName));
             if (aggregateHasDependencies || aggregateDecision.shouldUploadEmptyAggregate()) {
@@ -96,7 +101,8 @@ public class BdioManager {
 
             logger.debug("Creating BDIO files from code locations.");
             CodeLocationBdioCreator codeLocationBdioCreator = new CodeLocationBdioCreator(detectBdioWriter, simpleBdioFactory, bdio2Factory, detectInfo);
-            List<UploadTarget> bdioUploadTargets = codeLocationBdioCreator.createBdioFiles(directoryManager.getBdioOutputDirectory(), codeLocationResult.getBdioCodeLocations(), projectNameVersion, useBdio2);
+            List<UploadTarget> bdioUploadTargets = codeLocationBdioCreator.createBdioFiles(directoryManager.getBdioOutputDirectory(), codeLocationResult.getBdioCodeLocations(), projectNameVersion, useBdio2,
+                bdioOptions.isStreamingEnabled(), bdioOptions.getWriteThreads());
             uploadTargets.addAll(bdioUploadTargets);
             codeLocationNamesResult.putAll(codeLocationResult.getCodeLocationNames());
         }
@@ -12,12 +12,23 @@ public class BdioOptions {
     private final String projectCodeLocationSuffix;
     private final String projectCodeLocationPrefix;
     private final boolean enabledLegacyUpload;
+    private final boolean enabledStreaming;
+    private final int writeThreads;
+    private final int aggregateThreads;
 
     public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload) {
+        this(enabledBdio2, projectCodeLocationPrefix, projectCodeLocationSuffix, enabledLegacyUpload, false, 1, 1);
+    }
+
+    public BdioOptions(boolean enabledBdio2, String projectCodeLocationPrefix, String projectCodeLocationSuffix, boolean enabledLegacyUpload, boolean enabledStreaming, int writeThreads,
+        int aggregateThreads) {
         this.enabledBdio2 = enabledBdio2;
         this.projectCodeLocationSuffix = projectCodeLocationSuffix;
         this.projectCodeLocationPrefix = projectCodeLocationPrefix;
         this.enabledLegacyUpload = enabledLegacyUpload;
+        this.enabledStreaming = enabledStreaming;
+        this.writeThreads = writeThreads;
+        this.aggregateThreads = aggregateThreads;
     }
 
     public String getProjectCodeLocationSuffix() {
@@ -35,4 +46,16 @@ public class BdioOptions {
     public boolean isLegacyUploadEnabled() {
         return enabledLegacyUpload;
     }
+
+    public boolean isStreamingEnabled() {
+        return enabledStreaming;
+    }
+
+    public int getWriteThreads() {
+        return writeThreads;
+    }
+
+    public int getAggregateThreads() {
+        return aggregateThreads;
+    }
 }
@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detect.workflow.bdio;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -14,6 +15,9 @@ import java.io.OutputStream;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +35,7 @@ import com.synopsys.integration.blackduck.bdio2.model.Bdio2Document;
 import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
 import com.synopsys.integration.blackduck.bdio2.util.Bdio2Writer;
 import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+import com.synopsys.integration.common.util.FutureTasks;
 import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
 import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
@@ -44,71 +49,91 @@ public class CodeLocationBdioCreator {
     private final SimpleBdioFactory simpleBdioFactory;
     private final Bdio2Factory bdio2Factory;
     private final DetectInfo detectInfo;
+    private final StreamingBdioWriter streamingBdioWriter;
 
     public CodeLocationBdioCreator(DetectBdioWriter detectBdioWriter, SimpleBdioFactory simpleBdioFactory, Bdio2Factory bdio2Factory, DetectInfo detectInfo) {
         this.detectBdioWriter = detectBdioWriter;
         this.simpleBdioFactory = simpleBdioFactory;
         this.bdio2Factory = bdio2Factory;
         this.detectInfo = detectInfo;
+        this.streamingBdioWriter = new StreamingBdioWriter(simpleBdioFactory, detectInfo);
     }
 
     public List<UploadTarget> createBdioFiles(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion, boolean bdio2) throws DetectUserFriendlyException {
-        if (bdio2) {
-            return createBdio2Files(bdioOutput, bdioCodeLocations, projectNameVersion);
-        } else {
-            return createBdio1Files(bdioOutput, bdioCodeLocations, projectNameVersion);
+        return createBdioFiles(bdioOutput, bdioCodeLocations, projectNameVersion, bdio2, false, 1);
+    }
+
+    // Each code location is its own file, so with more than one write thread the files are written at the same time.
+    public List<UploadTarget> createBdioFiles(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion, boolean bdio2, boolean streaming, int writeThreads)
+        throws DetectUserFriendlyException {
+        ExecutorService executorService = null;
+        if (writeThreads > 1 && bdioCodeLocations.size() > 1) {
+            executorService = Executors.newFixedThreadPool(Math.min(writeThreads, bdioCodeLocations.size()));
+        }
+        try {
+            List<Future<UploadTarget>> bdioWrites = new ArrayList<>();
+            for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
+                if (bdio2) {
+                    bdioWrites.add(FutureTasks.run(executorService, () -> createBdio2File(bdioOutput, bdioCodeLocation, projectNameVersion)));
+                } else {
+                    bdioWrites.add(FutureTasks.run(executorService, () -> createBdio1File(bdioOutput, bdioCodeLocation, projectNameVersion, streaming)));
+                }
+            }
+            return FutureTasks.awaitAll(bdioWrites, failure -> {
+                if (failure instanceof DetectUserFriendlyException) {
+                    return (DetectUserFriendlyException) failure;
+                }
+                return new DetectUserFriendlyException(failure.getMessage(), failure, ExitCodeType.FAILURE_GENERAL_ERROR);
+            });
+        } catch (InterruptedException e) {
+            throw new DetectUserFriendlyException("Interrupted while writing BDIO files.", e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
         }
     }
 
-    private List<UploadTarget> createBdio1Files(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        List<UploadTarget> uploadTargets = new ArrayList<>();
-        for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+    private UploadTarget createBdio1File(File bdioOutput, BdioCodeLocation bdioCodeLocation, NameVersion projectNameVersion, boolean streaming) throws DetectUserFriendlyException {
+        String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
 
-            File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
+        File bdioOutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".jsonld");
+        if (streaming) {
+            streamingBdioWriter.writeBdioFile(bdioOutputFile, codeLocationName, projectNameVersion, externalId, dependencyGraph);
+        } else {
             SimpleBdioDocument simpleBdioDocument = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), externalId, dependencyGraph);
-
             detectBdioWriter.writeBdioFile(bdioOutputFile, simpleBdioDocument);
-            uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile));
         }
-
-        return uploadTargets;
+        return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdioOutputFile);
     }
 
-    private List<UploadTarget> createBdio2Files(File bdioOutput, List<BdioCodeLocation> bdioCodeLocations, NameVersion projectNameVersion) throws DetectUserFriendlyException {
-        List<UploadTarget> uploadTargets = new ArrayList<>();
-        for (BdioCodeLocation bdioCodeLocation : bdioCodeLocations) {
-            String codeLocationName = bdioCodeLocation.getCodeLocationName();
-            ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
-            DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
-
-            // Bdio 2
-            ProductList.Builder productListBuilder = new ProductList.Builder();
-            String detectVersion = detectInfo.getDetectVersion();
-            SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
-            Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
-            productListBuilder.addProduct(product);
-
-            BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
-            Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
-            Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
-
-            Bdio2Writer bdio2Writer = new Bdio2Writer();
-            File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
-
-            try {
-                OutputStream outputStream = new FileOutputStream(bdio2OutputFile);
-                bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
-                logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
-
-                uploadTargets.add(UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile));
-            } catch (IOException e) {
-                throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
-            }
+    private UploadTarget createBdio2File(File bdioOutput, BdioCodeLocation bdioCodeLocation, NameVersion projectNameVersion) throws DetectUserFriendlyException {
+        String codeLocationName = bdioCodeLocation.getCodeLocationName();
+        ExternalId externalId = bdioCodeLocation.getDetectCodeLocation().getExternalId();
+        DependencyGraph dependencyGraph = bdioCodeLocation.getDetectCodeLocation().getDependencyGraph();
+
+        // Bdio 2
+        ProductList.Builder productListBuilder = new ProductList.Builder();
+        String detectVersion = detectInfo.getDetectVersion();
+        SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectVersion);
+        Product product = new Product.Builder().name(detectCreator.getIdentifier()).build();
+        productListBuilder.addProduct(product);
+
+        BdioMetadata bdioMetadata = bdio2Factory.createBdioMetadata(codeLocationName, ZonedDateTime.now(), productListBuilder);
+        Project bdio2Project = bdio2Factory.createProject(externalId, projectNameVersion.getName(), projectNameVersion.getVersion());
+        Bdio2Document bdio2Document = bdio2Factory.createBdio2Document(bdioMetadata, bdio2Project, dependencyGraph);
+
+        Bdio2Writer bdio2Writer = new Bdio2Writer();
+        File bdio2OutputFile = new File(bdioOutput, bdioCodeLocation.getBdioName() + ".bdio");
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(bdio2OutputFile))) {
+            bdio2Writer.writeBdioDocument(outputStream, bdio2Document);
+            logger.debug(String.format("BDIO Generated: %s", bdio2OutputFile.getAbsolutePath()));
+        } catch (IOException e) {
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
         }
-
-        return uploadTargets;
+        return UploadTarget.createDefault(projectNameVersion, codeLocationName, bdio2OutputFile);
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.bdio;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.BdioWriter;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.SpdxCreator;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.configuration.enumeration.ExitCodeType;
+import com.synopsys.integration.detectable.util.DependencyGraphBdioStreamer;
+import com.synopsys.integration.util.NameVersion;
+
+// Writes the same BDIO file as DetectBdioWriter without first creating a SimpleBdioDocument holding every component.
+public class StreamingBdioWriter {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final SimpleBdioFactory simpleBdioFactory;
+    private final DependencyGraphBdioStreamer dependencyGraphBdioStreamer;
+    private final DetectInfo detectInfo;
+
+    public StreamingBdioWriter(SimpleBdioFactory simpleBdioFactory, DetectInfo detectInfo) {
+        this.simpleBdioFactory = simpleBdioFactory;
+        this.dependencyGraphBdioStreamer = new DependencyGraphBdioStreamer(simpleBdioFactory);
+        this.detectInfo = detectInfo;
+    }
+
+    public void writeBdioFile(File outputFile, String codeLocationName, NameVersion projectNameVersion, ExternalId projectExternalId, DependencyGraph dependencyGraph) throws DetectUserFriendlyException {
+        if (outputFile.exists()) {
+            boolean deleteSuccess = outputFile.delete();
+            logger.debug(String.format("%s deleted: %b", outputFile.getAbsolutePath(), deleteSuccess));
+        }
+
+        SimpleBdioDocument document = simpleBdioFactory.createSimpleBdioDocument(codeLocationName, projectNameVersion.getName(), projectNameVersion.getVersion(), projectExternalId);
+        SpdxCreator detectCreator = SpdxCreator.createToolSpdxCreator("Detect", detectInfo.getDetectVersion());
+        document.getBillOfMaterials().creationInfo.setPrimarySpdxCreator(detectCreator);
+
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile)); BdioWriter bdioWriter = simpleBdioFactory.createBdioWriter(outputStream)) {
+            dependencyGraphBdioStreamer.writeDocument(bdioWriter, document, dependencyGraph);
+        } catch (IOException e) {
+            throw new DetectUserFriendlyException(e.getMessage(), e, ExitCodeType.FAILURE_GENERAL_ERROR);
+        }
+        logger.debug(String.format("BDIO Generated: %s", outputFile.getAbsolutePath()));
+    }
+}
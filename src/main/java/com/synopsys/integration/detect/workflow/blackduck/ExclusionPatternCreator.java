@@ -9,9 +9,12 @@ package com.synopsys.integration.detect.workflow.blackduck;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,37 +22,41 @@ import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.common.util.finder.FileFinder;
+import com.synopsys.integration.common.util.finder.MultiRootFileFinder;
 
 public class ExclusionPatternCreator {
     private final Logger logger = LoggerFactory.getLogger(ExclusionPatternCreator.class);
 
-    private final FileFinder fileFinder;
+    private final MultiRootFileFinder multiRootFileFinder;
     private final Predicate<File> fileFilter;
-    private final File scanTarget;
 
-    public ExclusionPatternCreator(final FileFinder fileFinder, final Predicate<File> fileFilter, final File scanTarget) {
-        this.fileFinder = fileFinder;
+    public ExclusionPatternCreator(final MultiRootFileFinder multiRootFileFinder, final Predicate<File> fileFilter) {
+        this.multiRootFileFinder = multiRootFileFinder;
         this.fileFilter = fileFilter;
-        this.scanTarget = scanTarget;
     }
 
-    public Set<String> determineExclusionPatterns(final int maxDepth, final List<String> exclusionPatterns) {
-        if (CollectionUtils.isEmpty(exclusionPatterns) && scanTarget.isDirectory()) {
-            return Collections.emptySet();
+    // Scan targets under the same source root are searched in one walk, and each gets the patterns for the excluded files beneath it.
+    public Map<File, Set<String>> determineExclusionPatterns(final List<File> scanTargets, final int maxDepth, final List<String> exclusionPatterns) {
+        final Map<File, Set<String>> scanExclusionPatterns = new LinkedHashMap<>();
+        for (final File scanTarget : scanTargets) {
+            scanExclusionPatterns.put(scanTarget, new HashSet<>());
+        }
+        if (CollectionUtils.isEmpty(exclusionPatterns)) {
+            return scanExclusionPatterns;
         }
-        final Set<String> scanExclusionPatterns = new HashSet<>();
 
         // Now use patterns to resolve exclusions that we will format and pass on to the signature scanner
+        final Map<File, Path> scanTargetPaths = new LinkedHashMap<>();
+        for (final File scanTarget : scanTargets) {
+            scanTargetPaths.put(scanTarget, scanTarget.toPath().toAbsolutePath().normalize());
+        }
         try {
-            final String scanTargetPath = scanTarget.getCanonicalPath();
-            // TODO should we only collect directories since the scanner can only exclude directories?
-            final List<File> matchingFiles = fileFinder.findFiles(scanTarget, fileFilter, maxDepth); //TODO: re-add the depth hit message creator?
-            for (final File matchingFile : matchingFiles) {
-                final String matchingFilePath = matchingFile.getCanonicalPath();
-                final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
-                scanExclusionPatterns.add(scanExclusionPattern);
-            }
+            final Map<Path, List<Path>> matchingPaths = multiRootFileFinder.findFiles(new ArrayList<>(scanTargetPaths.values()), fileFilter, maxDepth);
+            scanTargetPaths.forEach((scanTarget, scanTargetPath) -> {
+                for (final Path matchingPath : matchingPaths.get(scanTargetPath)) {
+                    scanExclusionPatterns.get(scanTarget).add(createExclusionPattern(scanTargetPath.relativize(matchingPath)));
+                }
+            });
         } catch (final IOException e) {
             logger.warn("Problem encountered finding the exclusion patterns for the scanner. " + e.getMessage());
             logger.debug(e.getMessage(), e);
@@ -57,20 +64,11 @@ public class ExclusionPatternCreator {
         return scanExclusionPatterns;
     }
 
-    private String createExclusionPatternFromPaths(final String rootPath, final String targetPath) {
-        String scanExclusionPattern = targetPath.replace(rootPath, "/");
-        if (scanExclusionPattern.contains("\\\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\\\", "/");
-        }
-        if (scanExclusionPattern.contains("\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\", "/");
-        }
-        if (scanExclusionPattern.contains("//")) {
-            scanExclusionPattern = scanExclusionPattern.replace("//", "/");
-        }
-        if (!scanExclusionPattern.endsWith("/")) {
-            scanExclusionPattern = scanExclusionPattern + "/";
+    private String createExclusionPattern(final Path relativePath) {
+        final StringBuilder scanExclusionPattern = new StringBuilder("/");
+        for (final Path name : relativePath) {
+            scanExclusionPattern.append(name.toString()).append("/");
         }
-        return scanExclusionPattern;
+        return scanExclusionPattern.toString();
     }
 }
@@ -8,43 +8,36 @@
 package com.synopsys.integration.detect.workflow.diagnostic;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.Charset;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.commons.io.FileUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.synopsys.integration.detect.tool.detector.executable.ExecutedExecutable;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 
 public class DiagnosticExecutableCapture {
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private int executables = 0;
+    // Executables finish on worker threads, so each one claims its index atomically to keep its EXE-n entries unique.
+    private final AtomicInteger executables = new AtomicInteger();
     private final File executableDirectory;
-    private final Map<Integer, String> indexToCommand = new HashMap<>();
+    private final DiagnosticZipArchiver diagnosticZipArchiver;
+    private final Map<Integer, String> indexToCommand = new ConcurrentSkipListMap<>();
 
-    public DiagnosticExecutableCapture(final File executableDirectory, final EventSystem eventSystem) {
+    public DiagnosticExecutableCapture(final File executableDirectory, final DiagnosticZipArchiver diagnosticZipArchiver, final EventSystem eventSystem) {
         this.executableDirectory = executableDirectory;
+        this.diagnosticZipArchiver = diagnosticZipArchiver;
         eventSystem.registerListener(Event.Executable, this::executableFinished);
     }
 
     private void executableFinished(final ExecutedExecutable executed) {
-        final File errorOut = new File(executableDirectory, "EXE-" + executables + "-ERR.xout");
-        final File standardOut = new File(executableDirectory, "EXE-" + executables + "-STD.xout");
-        indexToCommand.put(executables, executed.getExecutable().getExecutableDescription());
+        final int index = executables.getAndIncrement();
+        final File errorOut = new File(executableDirectory, "EXE-" + index + "-ERR.xout");
+        final File standardOut = new File(executableDirectory, "EXE-" + index + "-STD.xout");
+        indexToCommand.put(index, executed.getExecutable().getExecutableDescription());
 
-        try {
-            FileUtils.writeStringToFile(errorOut, executed.getOutput().getErrorOutput(), Charset.defaultCharset());
-            FileUtils.writeStringToFile(standardOut, executed.getOutput().getStandardOutput(), Charset.defaultCharset());
-        } catch (final IOException e) {
-            logger.error("Failed to capture executable output.", e);
-        }
-        executables++;
+        diagnosticZipArchiver.appendContent(errorOut, executed.getOutput().getErrorOutput());
+        diagnosticZipArchiver.appendContent(standardOut, executed.getOutput().getStandardOutput());
     }
 
     public void finish() {
@@ -56,10 +49,6 @@ public class DiagnosticExecutableCapture {
         indexToCommand.forEach((key, value) -> executableMap.set(executableMap.get() + key + ": " + value + System.lineSeparator()));
 
         final File mapFile = new File(executableDirectory, "EXE-MAP.txt");
-        try {
-            FileUtils.writeStringToFile(mapFile, executableMap.get(), Charset.defaultCharset());
-        } catch (final IOException e) {
-            logger.error("Failed to write executable map.", e);
-        }
+        diagnosticZipArchiver.appendContent(mapFile, executableMap.get());
     }
 }
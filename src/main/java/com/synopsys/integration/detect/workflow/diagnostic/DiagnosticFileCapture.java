@@ -8,13 +8,10 @@
 package com.synopsys.integration.detect.workflow.diagnostic;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.Charset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,10 +22,12 @@ public class DiagnosticFileCapture {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private int files = 0;
     private final File fileDirectory;
+    private final DiagnosticZipArchiver diagnosticZipArchiver;
     private final Map<Integer, String> fileNames = new HashMap<>();
 
-    public DiagnosticFileCapture(final File fileDirectory, final EventSystem eventSystem) {
+    public DiagnosticFileCapture(final File fileDirectory, final DiagnosticZipArchiver diagnosticZipArchiver, final EventSystem eventSystem) {
         this.fileDirectory = fileDirectory;
+        this.diagnosticZipArchiver = diagnosticZipArchiver;
         eventSystem.registerListener(Event.CustomerFileOfInterest, this::fileFound);
     }
 
@@ -36,12 +35,8 @@ public class DiagnosticFileCapture {
         final File savedFile = new File(fileDirectory, "FILE-" + files + "-" + foundFile.getName());
         fileNames.put(files, foundFile.toString());
 
-        try {
-            FileUtils.copyFile(foundFile, savedFile);
-            logger.info("Saved file to diagnostics zip: " + foundFile.toString());
-        } catch (final IOException e) {
-            logger.error("Failed to copy file of interest.", e);
-        }
+        diagnosticZipArchiver.appendFile(savedFile, foundFile);
+        logger.info("Saved file to diagnostics zip: " + foundFile.toString());
         files++;
     }
 
@@ -54,10 +49,6 @@ public class DiagnosticFileCapture {
         fileNames.forEach((key, value) -> executableMap.set(executableMap.get() + key + ": " + value + System.lineSeparator()));
 
         final File mapFile = new File(fileDirectory, "FILE-MAP.txt");
-        try {
-            FileUtils.writeStringToFile(mapFile, executableMap.get(), Charset.defaultCharset());
-        } catch (final IOException e) {
-            logger.error("Failed to write executable map.", e);
-        }
+        diagnosticZipArchiver.appendContent(mapFile, executableMap.get());
     }
 }
@@ -15,25 +15,32 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.synopsys.integration.detect.tool.detector.DetectExtractionEnvironment;
-import com.synopsys.integration.detect.tool.detector.extraction.ExtractionId;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detector.evaluation.ExtractionEvaluator;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.filter.ThresholdFilter;
+import ch.qos.logback.classic.sift.MDCBasedDiscriminator;
+import ch.qos.logback.classic.sift.SiftingAppender;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
 
 public class DiagnosticLogSystem {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final DiagnosticSysOutCapture diagnosticSysOutCapture;
     private final List<DiagnosticLogger> loggers = new ArrayList<>();
-    private DiagnosticLogger extractionLogger = null;
+    // Extractions can run concurrently, so each extraction log only receives events logged in that extraction's context.
+    private final SiftingAppender extractionAppender;
     private final File logDirectory;
+    private final DiagnosticZipArchiver diagnosticZipArchiver;
 
-    public DiagnosticLogSystem(final File logDirectory, final EventSystem eventSystem) {
+    public DiagnosticLogSystem(final File logDirectory, final DiagnosticZipArchiver diagnosticZipArchiver, final EventSystem eventSystem) {
         //The intent of diagnostics logging is to:
         //Capture whatever is written to Sys Out regardless of actual logging level.
         //Set the our code's CONSOLE output to the level of DEBUG.
@@ -41,6 +48,7 @@ public class DiagnosticLogSystem {
         //Our logs refers to com.synopsys.integration
 
         this.logDirectory = logDirectory;
+        this.diagnosticZipArchiver = diagnosticZipArchiver;
 
         logger.info("Attempting to capture sysout.");
         diagnosticSysOutCapture = new DiagnosticSysOutCapture(logFileNamed("sysout"));
@@ -56,28 +64,50 @@ public class DiagnosticLogSystem {
         restrictConsoleToDebug();
 
         logger.info("Adding additional log listeners to extractions.");
-        eventSystem.registerListener(Event.ExtractionStarted, it -> startLoggingExtraction(((DetectExtractionEnvironment) it.getExtractionEnvironment()).getExtractionId()));
-        eventSystem.registerListener(Event.ExtractionEnded, it -> stopLoggingExtraction(((DetectExtractionEnvironment) it.getExtractionEnvironment()).getExtractionId()));
+        extractionAppender = addExtractionAppender(new File(logDirectory, "extractions"));
+        eventSystem.registerListener(Event.ExtractionEnded, it -> stopLoggingExtraction(it.getExtractionEnvironment()));
 
         logger.info("Diagnostics is now in control of logging!");
     }
 
-    public void startLoggingExtraction(final ExtractionId extractionId) {
-        logger.info("Diagnostics attempting to redirect extraction logs: " + extractionId.toUniqueString());
-        final File logDir = new File(logDirectory, "extractions");
-        logDir.mkdirs();
-        final File logFile = new File(logDir, extractionId.toUniqueString() + ".txt");
-        extractionLogger = new DiagnosticLogger(logFile, Level.ALL);
-        extractionLogger.startLogging();
+    // Events are sorted by the extraction context the extraction evaluator puts in the MDC, which is named after the extraction's output directory.
+    private SiftingAppender addExtractionAppender(final File extractionLogDirectory) {
+        extractionLogDirectory.mkdirs();
+        final LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        final MDCBasedDiscriminator discriminator = new MDCBasedDiscriminator();
+        discriminator.setKey(ExtractionEvaluator.EXTRACTION_MDC_KEY);
+        discriminator.setDefaultValue("none");
+        discriminator.setContext(lc);
+        discriminator.start();
+
+        final SiftingAppender appender = new SiftingAppender();
+        appender.setContext(lc);
+        appender.setDiscriminator(discriminator);
+        appender.setAppenderFactory((context, extractionName) -> DiagnosticLogger.createFileAppender(context, extractionLogFile(extractionName).getPath(), Level.ALL));
+        final ExtractionContextFilter extractionContextFilter = new ExtractionContextFilter();
+        extractionContextFilter.start();
+        appender.addFilter(extractionContextFilter);
+        appender.start();
+
+        DiagnosticLogUtil.getRootLogger().addAppender(appender);
+        return appender;
     }
 
-    public void stopLoggingExtraction(final ExtractionId extractionId) {
-        logger.info("Diagnostics finished redirecting for extraction: " + extractionId.toUniqueString());
-        if (extractionLogger != null) {
-            extractionLogger.stopLogging();
+    public void stopLoggingExtraction(final ExtractionEnvironment extractionEnvironment) {
+        final String extractionName = extractionEnvironment.getOutputDirectory().getName();
+        logger.info("Diagnostics finished redirecting for extraction: " + extractionName);
+        extractionAppender.getAppenderTracker().endOfLife(extractionName);
+        final File extractionLogFile = extractionLogFile(extractionName);
+        if (extractionLogFile.exists()) {
+            diagnosticZipArchiver.appendFile(extractionLogFile);
         }
     }
 
+    private File extractionLogFile(final String extractionName) {
+        return new File(new File(logDirectory, "extractions"), extractionName + ".txt");
+    }
+
     private void restrictConsoleToDebug() {
         for (final Iterator<Appender<ILoggingEvent>> it = DiagnosticLogUtil.getRootLogger().iteratorForAppenders(); it.hasNext(); ) {
             final Appender appender = it.next();
@@ -96,6 +126,8 @@ public class DiagnosticLogSystem {
 
     public void finish() {
         diagnosticSysOutCapture.stopCapture();
+        DiagnosticLogUtil.getRootLogger().detachAppender(extractionAppender);
+        extractionAppender.stop();
         for (final DiagnosticLogger diagnosticLogger : loggers) {
             diagnosticLogger.stopLogging();
         }
@@ -113,4 +145,14 @@ public class DiagnosticLogSystem {
             addLogger(level);
         }
     }
+
+    private static class ExtractionContextFilter extends Filter<ILoggingEvent> {
+        @Override
+        public FilterReply decide(final ILoggingEvent event) {
+            if (event.getMDCPropertyMap().containsKey(ExtractionEvaluator.EXTRACTION_MDC_KEY)) {
+                return FilterReply.NEUTRAL;
+            }
+            return FilterReply.DENY;
+        }
+    }
 }
@@ -18,12 +18,12 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.filter.ThresholdFilter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Context;
 import ch.qos.logback.core.FileAppender;
 
 public class DiagnosticLogger {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private static final String LOGBACK_LOGGER_NAME = "com.synopsys.integration";
     private FileAppender<ILoggingEvent> fileAppender;
     private final File logFile;
     private final Level level;
@@ -51,34 +51,44 @@ public class DiagnosticLogger {
         }
     }
 
+    public File getLogFile() {
+        return logFile;
+    }
+
     private void removeAppender(final FileAppender<ILoggingEvent> appender) {
-        final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LOGBACK_LOGGER_NAME);
+        final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
         logbackLogger.detachAppender(appender);
     }
 
     private FileAppender<ILoggingEvent> addAppender(final String file) {
         final LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final FileAppender<ILoggingEvent> appender = createFileAppender(lc, file, level);
+
+        final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        logbackLogger.addAppender(appender);
+
+        return appender;
+    }
+
+    static FileAppender<ILoggingEvent> createFileAppender(final Context context, final String file, final Level level) {
         final PatternLayoutEncoder ple = new PatternLayoutEncoder();
 
         ple.setPattern("%date %level [%file:%line] %msg%n");
-        ple.setContext(lc);
+        ple.setContext(context);
         ple.start();
 
         final FileAppender<ILoggingEvent> appender;
         appender = new FileAppender<>();
         appender.setFile(file);
         appender.setEncoder(ple);
-        appender.setContext(lc);
+        appender.setContext(context);
         final ThresholdFilter levelFilter = new ThresholdFilter();
-        levelFilter.setLevel(this.level.levelStr);
+        levelFilter.setLevel(level.levelStr);
         levelFilter.start();
         appender.addFilter(levelFilter);
 
         appender.start();
 
-        final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
-        logbackLogger.addAppender(appender);
-
         return appender;
     }
 }
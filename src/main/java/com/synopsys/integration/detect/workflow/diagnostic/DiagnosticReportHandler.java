@@ -8,10 +8,10 @@
 package com.synopsys.integration.detect.workflow.diagnostic;
 
 import java.io.File;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +21,8 @@ import com.synopsys.integration.detect.configuration.DetectInfo;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
 import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventBackpressurePolicy;
+import com.synopsys.integration.detect.workflow.event.EventDispatchLane;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.profiling.DetectorTimings;
 import com.synopsys.integration.detect.workflow.report.CodeLocationReporter;
@@ -37,7 +39,9 @@ import com.synopsys.integration.detector.base.DetectorEvaluationTree;
 public class DiagnosticReportHandler {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final Map<ReportTypes, FileReportWriter> reportWriters = new HashMap<>();
+    private static final int REPORT_LANE_CAPACITY = 64;
+
+    private final Map<ReportTypes, FileReportWriter> reportWriters = new ConcurrentHashMap<>();
 
     public enum ReportTypes {
         SEARCH("search_report", "Search DetectResult Report", "A breakdown of detector searching by directory."),
@@ -79,9 +83,11 @@ public class DiagnosticReportHandler {
         this.runId = runId;
         createReports();
 
-        eventSystem.registerListener(Event.DetectorsComplete, this::completedBomToolEvaluations);
-        eventSystem.registerListener(Event.DetectCodeLocationNamesCalculated, event -> completedCodeLocations(event.getCodeLocationNames()));
-        eventSystem.registerListener(Event.DetectorsProfiled, this::detectorsProfiled);
+        // Reports are written off the publishing thread, on one lane so code locations are reported after the detectors they need.
+        EventDispatchLane reportLane = eventSystem.createLane("diagnostic-reports", REPORT_LANE_CAPACITY, EventBackpressurePolicy.BLOCK);
+        eventSystem.registerListener(Event.DetectorsComplete, this::completedBomToolEvaluations, reportLane);
+        eventSystem.registerListener(Event.DetectCodeLocationNamesCalculated, event -> completedCodeLocations(event.getCodeLocationNames()), reportLane);
+        eventSystem.registerListener(Event.DetectorsProfiled, this::detectorsProfiled, reportLane);
     }
 
     public void finish() {
@@ -8,9 +8,8 @@
 package com.synopsys.integration.detect.workflow.diagnostic;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -20,12 +19,14 @@ import org.slf4j.LoggerFactory;
 
 import com.synopsys.integration.configuration.config.PropertyConfiguration;
 import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectProperties;
 import com.synopsys.integration.detect.workflow.DetectRun;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.file.DirectoryManager;
 
 public class DiagnosticSystem {
     private static final String FAILED_TO_FINISH = "Failed to finish.";
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final PropertyConfiguration propertyConfiguration;
@@ -33,10 +34,12 @@ public class DiagnosticSystem {
     private DiagnosticLogSystem diagnosticLogSystem;
     private DiagnosticExecutableCapture diagnosticExecutableCapture;
     private DiagnosticFileCapture diagnosticFileCapture;
+    private DiagnosticZipArchiver diagnosticZipArchiver;
     private final DetectRun detectRun;
     private final DetectInfo detectInfo;
     private final DirectoryManager directoryManager;
     private final EventSystem eventSystem;
+    private boolean turnedOff = false;
 
     public DiagnosticSystem(boolean isExtendedMode, PropertyConfiguration propertyConfiguration, DetectRun detectRun, DetectInfo detectInfo, DirectoryManager directoryManager, EventSystem eventSystem, SortedMap<String, String> maskedRawPropertyValues, Set<String> propertyKeys) {
         this.propertyConfiguration = propertyConfiguration;
@@ -62,14 +65,17 @@ public class DiagnosticSystem {
 
         logger.info("Initializing diagnostic components.");
         try {
+            diagnosticZipArchiver = createZipArchiver();
             diagnosticReportHandler = new DiagnosticReportHandler(directoryManager.getReportOutputDirectory(), detectRun.getRunId(), eventSystem);
-            diagnosticLogSystem = new DiagnosticLogSystem(directoryManager.getLogOutputDirectory(), eventSystem);
-            diagnosticExecutableCapture = new DiagnosticExecutableCapture(directoryManager.getExecutableOutputDirectory(), eventSystem);
+            diagnosticLogSystem = new DiagnosticLogSystem(directoryManager.getLogOutputDirectory(), diagnosticZipArchiver, eventSystem);
+            diagnosticExecutableCapture = new DiagnosticExecutableCapture(directoryManager.getExecutableOutputDirectory(), diagnosticZipArchiver, eventSystem);
             if (isExtendedMode) {
-                diagnosticFileCapture = new DiagnosticFileCapture(directoryManager.getRelevantOutputDirectory(), eventSystem);
+                diagnosticFileCapture = new DiagnosticFileCapture(directoryManager.getRelevantOutputDirectory(), diagnosticZipArchiver, eventSystem);
             }
         } catch (Exception e) {
-            logger.error("Failed to process.", e);
+            logger.error("Failed to initialize diagnostics, diagnostic mode is off for this run.", e);
+            turnOff();
+            return;
         }
 
         logger.info("Creating configuration diagnostics reports.");
@@ -79,6 +85,26 @@ public class DiagnosticSystem {
         logger.info("Diagnostics is ready.");
     }
 
+    // Stops whatever was started before initialization failed, so no diagnostic logging is left attached and no partial zip is left behind.
+    private void turnOff() {
+        if (diagnosticLogSystem != null) {
+            try {
+                diagnosticLogSystem.finish();
+            } catch (Exception e) {
+                logger.error(FAILED_TO_FINISH, e);
+            }
+        }
+        if (diagnosticZipArchiver != null) {
+            diagnosticZipArchiver.discard();
+        }
+        diagnosticReportHandler = null;
+        diagnosticLogSystem = null;
+        diagnosticExecutableCapture = null;
+        diagnosticFileCapture = null;
+        diagnosticZipArchiver = null;
+        turnedOff = true;
+    }
+
     public Map<String, String> getAdditionalDockerProperties() {
         Map<String, String> properties = new HashMap<>();
         properties.put("logging.level.com.synopsys", "TRACE");
@@ -86,7 +112,12 @@ public class DiagnosticSystem {
     }
 
     public void finish() {
+        if (turnedOff) {
+            logger.info("Diagnostic mode was turned off, there is nothing to finish.");
+            return;
+        }
         logger.info("Finishing diagnostic mode.");
+        eventSystem.flush();
 
         try {
             logger.info("Finishing reports.");
@@ -133,11 +164,13 @@ public class DiagnosticSystem {
         logger.info("Diagnostic mode has completed.");
     }
 
-    private boolean createZip() {
-        List<File> directoriesToCompress = new ArrayList<>();
-        directoriesToCompress.add(directoryManager.getRunHomeDirectory());
+    private DiagnosticZipArchiver createZipArchiver() throws IOException {
+        File zip = new File(directoryManager.getRunsOutputDirectory(), "detect-run-" + detectRun.getRunId() + ".zip");
+        Long maxZipSizeInMegabytes = propertyConfiguration.getValueOrDefault(DetectProperties.DETECT_DIAGNOSTIC_ZIP_MAX_SIZE.getProperty());
+        return new DiagnosticZipArchiver(zip, directoryManager.getRunHomeDirectory(), maxZipSizeInMegabytes * BYTES_PER_MEGABYTE);
+    }
 
-        DiagnosticZipCreator zipper = new DiagnosticZipCreator();
-        return zipper.createDiagnosticZip(detectRun.getRunId(), directoryManager.getRunsOutputDirectory(), directoriesToCompress);
+    private boolean createZip() {
+        return diagnosticZipArchiver.finish();
     }
 }
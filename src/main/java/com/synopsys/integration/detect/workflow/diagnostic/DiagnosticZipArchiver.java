@@ -0,0 +1,259 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  Writes the diagnostics zip while Detect runs instead of all at once when it finishes. Entries are streamed into the zip by a single background thread as they are appended,
+  and files are read where they are rather than being copied into the run directory first. Entries are named by their path relative to the run directory.
+  With a size budget, files larger than LARGE_ARTIFACT_BYTES are held back until finish, and when the budget is exceeded the oldest of them are left out of the zip.
+ */
+public class DiagnosticZipArchiver {
+    private static final long LARGE_ARTIFACT_BYTES = 1024L * 1024L;
+    private static final String EVICTED_MAP_NAME = "EVICTED-MAP.txt";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final File zip;
+    private final Path runDirectory;
+    private final long maxSizeInBytes;
+    private final ZipArchiveOutputStream outputStream;
+    // A daemon thread, so a run that never reaches finish can still exit.
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "diagnostic-zip");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<String> entryNames = new HashSet<>();
+    private final Deque<LargeArtifact> largeArtifacts = new ArrayDeque<>();
+    private final List<String> evictedEntryNames = new ArrayList<>();
+    private long archivedBytes = 0;
+    private long largeArtifactBytes = 0;
+    private boolean finished = false;
+    private volatile boolean failed = false;
+
+    // A maxSizeInBytes of 0 or less has no budget, every entry is written as soon as it is appended.
+    public DiagnosticZipArchiver(File zip, File runDirectory, long maxSizeInBytes) throws IOException {
+        this.zip = zip;
+        this.runDirectory = runDirectory.toPath().toAbsolutePath().normalize();
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.outputStream = new ZipArchiveOutputStream(zip);
+        logger.info("Diagnostics zip location: " + zip.toPath());
+    }
+
+    public void appendFile(File file) {
+        appendFile(file, file);
+    }
+
+    // Adds sourceFile to the zip as though it were entryFile in the run directory.
+    public synchronized void appendFile(File entryFile, File sourceFile) {
+        String entryName = toEntryName(entryFile);
+        if (finished || !entryNames.add(entryName)) {
+            return;
+        }
+
+        long size = sourceFile.length();
+        if (maxSizeInBytes > 0 && size > LARGE_ARTIFACT_BYTES) {
+            largeArtifacts.addLast(new LargeArtifact(entryName, sourceFile, size));
+            largeArtifactBytes += size;
+        } else {
+            archivedBytes += size;
+            executorService.execute(() -> writeFile(entryName, sourceFile));
+        }
+        evictOverBudget();
+    }
+
+    // Adds content to the zip as though it had been written to entryFile in the run directory.
+    public synchronized void appendContent(File entryFile, String content) {
+        String entryName = toEntryName(entryFile);
+        if (finished || !entryNames.add(entryName)) {
+            return;
+        }
+
+        byte[] bytes = content.getBytes(Charset.defaultCharset());
+        archivedBytes += bytes.length;
+        executorService.execute(() -> writeEntry(entryName, new ByteArrayInputStream(bytes)));
+        evictOverBudget();
+    }
+
+    // Appends every file in the run directory that has not been appended yet, then the large artifacts that were not evicted, and closes the zip.
+    public boolean finish() {
+        synchronized (this) {
+            if (finished) {
+                return !failed;
+            }
+            appendRunDirectory();
+            finished = true;
+
+            for (LargeArtifact largeArtifact : largeArtifacts) {
+                executorService.execute(() -> writeFile(largeArtifact.getEntryName(), largeArtifact.getFile()));
+            }
+            if (!evictedEntryNames.isEmpty()) {
+                logger.info(String.format("%d large files were left out of the diagnostics zip to keep it within %d bytes.", evictedEntryNames.size(), maxSizeInBytes));
+                String evictedMap = String.join(System.lineSeparator(), evictedEntryNames) + System.lineSeparator();
+                executorService.execute(() -> writeEntry(EVICTED_MAP_NAME, new ByteArrayInputStream(evictedMap.getBytes(Charset.defaultCharset()))));
+            }
+            executorService.execute(this::closeZip);
+            executorService.shutdown();
+        }
+
+        return awaitBackgroundThread() && !failed;
+    }
+
+    // Closes the zip without adding anything else and deletes it, for when diagnostics are turned off after the zip was opened.
+    public void discard() {
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            executorService.execute(() -> IOUtils.closeQuietly(outputStream));
+            executorService.shutdown();
+        }
+
+        if (awaitBackgroundThread() && !zip.delete()) {
+            logger.debug("Failed to delete the discarded diagnostics zip: " + zip);
+        }
+    }
+
+    private boolean awaitBackgroundThread() {
+        try {
+            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while finishing the diagnostics zip.");
+            return false;
+        }
+    }
+
+    private void appendRunDirectory() {
+        if (!Files.isDirectory(runDirectory)) {
+            return;
+        }
+        try {
+            Files.walkFileTree(runDirectory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    appendFile(file.toFile());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                    logger.error("Failed to add file to diagnostics zip: " + file, exception);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.error("Failed to add run directory to diagnostics zip.", e);
+        }
+    }
+
+    // Small entries are never evicted, they are already in the zip.
+    private void evictOverBudget() {
+        while (maxSizeInBytes > 0 && archivedBytes + largeArtifactBytes > maxSizeInBytes && !largeArtifacts.isEmpty()) {
+            LargeArtifact evicted = largeArtifacts.removeFirst();
+            largeArtifactBytes -= evicted.getSize();
+            evictedEntryNames.add(evicted.getEntryName());
+            logger.debug("Evicted file from diagnostics zip: " + evicted.getFile());
+        }
+    }
+
+    private String toEntryName(File entryFile) {
+        Path entryPath = entryFile.toPath().toAbsolutePath().normalize();
+        if (!entryPath.startsWith(runDirectory) || entryPath.equals(runDirectory)) {
+            return entryFile.getName();
+        }
+        List<String> pieces = new ArrayList<>();
+        for (Path piece : runDirectory.relativize(entryPath)) {
+            pieces.add(piece.toString());
+        }
+        return String.join("/", pieces);
+    }
+
+    private void writeFile(String entryName, File file) {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            writeEntry(entryName, inputStream);
+        } catch (IOException e) {
+            logger.error("Failed to add file to diagnostics zip: " + file, e);
+        }
+    }
+
+    // Only called on the background thread, the only thread that touches the zip.
+    private void writeEntry(String entryName, InputStream inputStream) {
+        try {
+            logger.debug("Adding file to zip: " + entryName);
+            outputStream.putArchiveEntry(new ZipArchiveEntry(entryName));
+            IOUtils.copy(inputStream, outputStream);
+            outputStream.closeArchiveEntry();
+        } catch (IOException e) {
+            failed = true;
+            logger.error("Failed to write to zip.", e);
+        }
+    }
+
+    private void closeZip() {
+        try {
+            outputStream.close();
+            logger.info("Diagnostics file created at: " + zip.getCanonicalPath());
+        } catch (IOException e) {
+            failed = true;
+            logger.error("Failed to create zip.", e);
+        }
+    }
+
+    private static class LargeArtifact {
+        private final String entryName;
+        private final File file;
+        private final long size;
+
+        private LargeArtifact(String entryName, File file, long size) {
+            this.entryName = entryName;
+            this.file = file;
+            this.size = size;
+        }
+
+        public String getEntryName() {
+            return entryName;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.SortedMap;
 import com.synopsys.integration.detect.lifecycle.shutdown.ExitCodeRequest;
 import com.synopsys.integration.detect.tool.detector.DetectorToolResult;
 import com.synopsys.integration.detect.tool.detector.executable.ExecutedExecutable;
+import com.synopsys.integration.detect.tool.signaturescanner.SignatureScanTargetProgress;
 import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocationNamesResult;
 import com.synopsys.integration.detect.workflow.profiling.DetectorTimings;
 import com.synopsys.integration.detect.workflow.result.DetectResult;
@@ -28,33 +29,35 @@ import com.synopsys.integration.detector.base.DetectorType;
 import com.synopsys.integration.util.NameVersion;
 
 public class Event {
-    public static final EventType<DetectorEvaluationTree> SearchCompleted = new EventType<>(DetectorEvaluationTree.class);
-    public static final EventType<Set<DetectorType>> ApplicableCompleted = new EventType(Set.class);
-    public static final EventType<DetectorEvaluationTree> PreparationsCompleted = new EventType<>(DetectorEvaluationTree.class);
-    public static final EventType<DetectorEvaluationTree> DiscoveriesCompleted = new EventType<>(DetectorEvaluationTree.class);
-    public static final EventType<DetectorEvaluationTree> ExtractionsCompleted = new EventType<>(DetectorEvaluationTree.class);
-    public static final EventType<DetectorToolResult> DetectorsComplete = new EventType<>(DetectorToolResult.class);
-    public static final EventType<DetectorTimings> DetectorsProfiled = new EventType<>(DetectorTimings.class);
-    public static final EventType<DetectorEvaluation> ApplicableStarted = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectorEvaluation> ApplicableEnded = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectorEvaluation> ExtractableStarted = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectorEvaluation> ExtractableEnded = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<Integer> ExtractionCount = new EventType<>(Integer.class);
-    public static final EventType<DetectorEvaluation> ExtractionStarted = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectorEvaluation> ExtractionEnded = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<Integer> DiscoveryCount = new EventType<>(Integer.class);
-    public static final EventType<DetectorEvaluation> DiscoveryStarted = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectorEvaluation> DiscoveryEnded = new EventType<>(DetectorEvaluation.class);
-    public static final EventType<DetectCodeLocationNamesResult> DetectCodeLocationNamesCalculated = new EventType<>(DetectCodeLocationNamesResult.class);
-    public static final EventType<Collection<String>> CodeLocationsCompleted = new EventType(Collection.class);
-    public static final EventType<ExitCodeRequest> ExitCode = new EventType<>(ExitCodeRequest.class);
-    public static final EventType<Status> StatusSummary = new EventType<>(Status.class);
-    public static final EventType<DetectIssue> Issue = new EventType<>(DetectIssue.class);
-    public static final EventType<DetectResult> ResultProduced = new EventType<>(DetectResult.class);
-    public static final EventType<File> CustomerFileOfInterest = new EventType<>(File.class);
-    public static final EventType<NameVersion> ProjectNameVersionChosen = new EventType<>(NameVersion.class);
-    public static final EventType<ExecutedExecutable> Executable = new EventType<>(ExecutedExecutable.class);
-    public static final EventType<UnrecognizedPaths> UnrecognizedPaths = new EventType<>(UnrecognizedPaths.class);
-    public static final EventType<SortedMap<String, String>> RawMaskedPropertyValuesCollected = new EventType(SortedMap.class);
-    public static final EventType<Operation> DetectOperation = new EventType(Operation.class);
+    public static final EventType<DetectorEvaluationTree> SearchCompleted = new EventType<>("SearchCompleted", DetectorEvaluationTree.class);
+    public static final EventType<Set<DetectorType>> ApplicableCompleted = new EventType("ApplicableCompleted", Set.class);
+    public static final EventType<DetectorEvaluationTree> PreparationsCompleted = new EventType<>("PreparationsCompleted", DetectorEvaluationTree.class);
+    public static final EventType<DetectorEvaluationTree> DiscoveriesCompleted = new EventType<>("DiscoveriesCompleted", DetectorEvaluationTree.class);
+    public static final EventType<DetectorEvaluationTree> ExtractionsCompleted = new EventType<>("ExtractionsCompleted", DetectorEvaluationTree.class);
+    public static final EventType<DetectorToolResult> DetectorsComplete = new EventType<>("DetectorsComplete", DetectorToolResult.class);
+    public static final EventType<DetectorTimings> DetectorsProfiled = new EventType<>("DetectorsProfiled", DetectorTimings.class);
+    public static final EventType<DetectorEvaluation> ApplicableStarted = new EventType<>("ApplicableStarted", DetectorEvaluation.class);
+    public static final EventType<DetectorEvaluation> ApplicableEnded = new EventType<>("ApplicableEnded", DetectorEvaluation.class);
+    public static final EventType<DetectorEvaluation> ExtractableStarted = new EventType<>("ExtractableStarted", DetectorEvaluation.class);
+    public static final EventType<DetectorEvaluation> ExtractableEnded = new EventType<>("ExtractableEnded", DetectorEvaluation.class);
+    public static final EventType<Integer> ExtractionCount = new EventType<>("ExtractionCount", Integer.class);
+    public static final EventType<DetectorEvaluation> ExtractionStarted = new EventType<>("ExtractionStarted", DetectorEvaluation.class);
+    public static final EventType<DetectorEvaluation> ExtractionEnded = new EventType<>("ExtractionEnded", DetectorEvaluation.class);
+    public static final EventType<Integer> DiscoveryCount = new EventType<>("DiscoveryCount", Integer.class);
+    public static final EventType<DetectorEvaluation> DiscoveryStarted = new EventType<>("DiscoveryStarted", DetectorEvaluation.class);
+    public static final EventType<DetectorEvaluation> DiscoveryEnded = new EventType<>("DiscoveryEnded", DetectorEvaluation.class);
+    public static final EventType<DetectCodeLocationNamesResult> DetectCodeLocationNamesCalculated = new EventType<>("DetectCodeLocationNamesCalculated", DetectCodeLocationNamesResult.class);
+    public static final EventType<Collection<String>> CodeLocationsCompleted = new EventType("CodeLocationsCompleted", Collection.class);
+    public static final EventType<ExitCodeRequest> ExitCode = new EventType<>("ExitCode", ExitCodeRequest.class);
+    public static final EventType<Status> StatusSummary = new EventType<>("StatusSummary", Status.class);
+    public static final EventType<DetectIssue> Issue = new EventType<>("Issue", DetectIssue.class);
+    public static final EventType<DetectResult> ResultProduced = new EventType<>("ResultProduced", DetectResult.class);
+    public static final EventType<File> CustomerFileOfInterest = new EventType<>("CustomerFileOfInterest", File.class);
+    public static final EventType<NameVersion> ProjectNameVersionChosen = new EventType<>("ProjectNameVersionChosen", NameVersion.class);
+    public static final EventType<ExecutedExecutable> Executable = new EventType<>("Executable", ExecutedExecutable.class);
+    public static final EventType<UnrecognizedPaths> UnrecognizedPaths = new EventType<>("UnrecognizedPaths", UnrecognizedPaths.class);
+    public static final EventType<SortedMap<String, String>> RawMaskedPropertyValuesCollected = new EventType("RawMaskedPropertyValuesCollected", SortedMap.class);
+    public static final EventType<Operation> DetectOperation = new EventType("DetectOperation", Operation.class);
+    public static final EventType<SignatureScanTargetProgress> SignatureScanTargetStarted = new EventType<>("SignatureScanTargetStarted", SignatureScanTargetProgress.class);
+    public static final EventType<SignatureScanTargetProgress> SignatureScanTargetEnded = new EventType<>("SignatureScanTargetEnded", SignatureScanTargetProgress.class);
 }
@@ -0,0 +1,18 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+// What a publisher does when a dispatch lane's queue is full.
+public enum EventBackpressurePolicy {
+    // Wait for the lane to make room, no event is lost.
+    BLOCK,
+    // Discard the event for that lane's listener and count it as dropped.
+    DROP,
+    // Call the listener on the publishing thread, which may deliver it ahead of events still queued.
+    RUN_ON_PUBLISHER
+}
@@ -0,0 +1,95 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+  A bounded queue of events drained by a single daemon thread, so its listeners see events in publish order without holding up the publisher.
+  A listener that throws is logged and the lane carries on, the publisher has already moved on and cannot be told.
+ */
+public class EventDispatchLane {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final String name;
+    private final BlockingQueue<Runnable> queue;
+    private final EventBackpressurePolicy backpressurePolicy;
+    private final Thread thread;
+
+    EventDispatchLane(String name, int capacity, EventBackpressurePolicy backpressurePolicy) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.backpressurePolicy = backpressurePolicy;
+        this.thread = new Thread(this::drain, "event-lane-" + name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    void submit(Runnable dispatch, EventDispatchStatistics statistics) {
+        // A listener on this lane publishing to the same lane would wait on itself if the queue were full.
+        if (Thread.currentThread() == thread) {
+            dispatch.run();
+            return;
+        }
+        switch (backpressurePolicy) {
+            case BLOCK:
+                try {
+                    queue.put(dispatch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dispatch.run();
+                }
+                break;
+            case DROP:
+                if (!queue.offer(dispatch)) {
+                    statistics.recordDrop();
+                }
+                break;
+            case RUN_ON_PUBLISHER:
+            default:
+                if (!queue.offer(dispatch)) {
+                    dispatch.run();
+                }
+                break;
+        }
+    }
+
+    // Waits until everything queued before the call has been dispatched.
+    void flush() throws InterruptedException {
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        CountDownLatch flushed = new CountDownLatch(1);
+        queue.put(flushed::countDown);
+        flushed.await();
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable dispatch;
+            try {
+                dispatch = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                dispatch.run();
+            } catch (RuntimeException e) {
+                logger.error(String.format("An event listener on lane %s failed.", name), e);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Publish latency is the time a publisher spends in publishEvent, delivery latency is the time from publish until an asynchronous listener has handled the event.
+public class EventDispatchStatistics {
+    private final LongAdder publishCount = new LongAdder();
+    private final LongAdder publishNanos = new LongAdder();
+    private final AtomicLong maxPublishNanos = new AtomicLong();
+    private final LongAdder deliveryCount = new LongAdder();
+    private final LongAdder deliveryNanos = new LongAdder();
+    private final AtomicLong maxDeliveryNanos = new AtomicLong();
+    private final LongAdder dropCount = new LongAdder();
+
+    void recordPublish(long nanos) {
+        publishCount.increment();
+        publishNanos.add(nanos);
+        maxPublishNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    void recordDelivery(long nanos) {
+        deliveryCount.increment();
+        deliveryNanos.add(nanos);
+        maxDeliveryNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    void recordDrop() {
+        dropCount.increment();
+    }
+
+    public long getPublishCount() {
+        return publishCount.sum();
+    }
+
+    public long getTotalPublishNanos() {
+        return publishNanos.sum();
+    }
+
+    public long getMaxPublishNanos() {
+        return maxPublishNanos.get();
+    }
+
+    public long getDeliveryCount() {
+        return deliveryCount.sum();
+    }
+
+    public long getTotalDeliveryNanos() {
+        return deliveryNanos.sum();
+    }
+
+    public long getMaxDeliveryNanos() {
+        return maxDeliveryNanos.get();
+    }
+
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+}
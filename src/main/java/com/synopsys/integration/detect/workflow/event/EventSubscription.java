@@ -0,0 +1,48 @@
+/*
+ * synopsys-detect
+ *
+ * Copyright (c) 2021 Synopsys, Inc.
+ *
+ * Use subject to the terms and conditions of the Synopsys End User Software License and Maintenance Agreement. All rights reserved worldwide.
+ */
+package com.synopsys.integration.detect.workflow.event;
+
+import java.util.Optional;
+
+import org.jetbrains.annotations.Nullable;
+
+public class EventSubscription<T> {
+    private final EventType<T> eventType;
+    private final EventListener<T> listener;
+    @Nullable
+    private final EventDispatchLane lane;
+
+    EventSubscription(EventType<T> eventType, EventListener<T> listener, @Nullable EventDispatchLane lane) {
+        this.eventType = eventType;
+        this.listener = listener;
+        this.lane = lane;
+    }
+
+    void dispatch(T payload, long publishedNanos, EventDispatchStatistics statistics) {
+        if (lane == null) {
+            listener.eventOccurred(payload);
+            return;
+        }
+        lane.submit(() -> {
+            listener.eventOccurred(payload);
+            statistics.recordDelivery(System.nanoTime() - publishedNanos);
+        }, statistics);
+    }
+
+    public EventType<T> getEventType() {
+        return eventType;
+    }
+
+    public EventListener<T> getListener() {
+        return listener;
+    }
+
+    public Optional<EventDispatchLane> getLane() {
+        return Optional.ofNullable(lane);
+    }
+}
@@ -7,36 +7,78 @@
  */
 package com.synopsys.integration.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/*
+  Events may be published and listeners registered from any thread. Listeners are called on the publishing thread unless they were registered with a dispatch lane,
+  in which case they are called in publish order on the lane's thread. Call flush before reading anything an asynchronous listener produces.
+ */
 public class EventSystem {
-    private final Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    private final Map<EventType<?>, List<EventSubscription<?>>> subscriptionMap = new ConcurrentHashMap<>();
+    private final Map<EventType<?>, EventDispatchStatistics> statisticsMap = new ConcurrentHashMap<>();
+    private final List<EventDispatchLane> lanes = new CopyOnWriteArrayList<>();
 
     public <T> void publishEvent(final EventType<T> event, final T payload) {
-        for (final EventListener listener : safelyGetListeners(event)) {
-            listener.eventOccurred(payload);
+        final EventDispatchStatistics statistics = safelyGetStatistics(event);
+        final long publishedNanos = System.nanoTime();
+        for (final EventSubscription<?> subscription : safelyGetSubscriptions(event)) {
+            ((EventSubscription<T>) subscription).dispatch(payload, publishedNanos, statistics);
         }
+        statistics.recordPublish(System.nanoTime() - publishedNanos);
+    }
+
+    public <T> EventSubscription<T> registerListener(final EventType<T> event, final EventListener<T> listener) {
+        return register(new EventSubscription<>(event, listener, null));
     }
 
-    public <T> void registerListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).add(listener);
+    public <T> EventSubscription<T> registerListener(final EventType<T> event, final EventListener<T> listener, final EventDispatchLane lane) {
+        return register(new EventSubscription<>(event, listener, lane));
     }
 
     public <T> void unregisterListener(final EventType<T> event, final EventListener<T> listener) {
-        safelyGetListeners(event).remove(listener);
+        safelyGetSubscriptions(event).removeIf(subscription -> subscription.getListener().equals(listener));
+    }
+
+    public void unregister(final EventSubscription<?> subscription) {
+        safelyGetSubscriptions(subscription.getEventType()).remove(subscription);
+    }
+
+    // Lanes may be shared by listeners that depend on seeing events in the order they were published.
+    public EventDispatchLane createLane(final String name, final int capacity, final EventBackpressurePolicy backpressurePolicy) {
+        final EventDispatchLane lane = new EventDispatchLane(name, capacity, backpressurePolicy);
+        lanes.add(lane);
+        return lane;
     }
 
-    private List<EventListener> safelyGetListeners(final EventType event) {
-        final List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
+    // Waits until every event published before the call has been handled by its asynchronous listeners.
+    public void flush() {
+        try {
+            for (final EventDispatchLane lane : lanes) {
+                lane.flush();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return listeners;
+    }
+
+    public Map<EventType<?>, EventDispatchStatistics> getDispatchStatistics() {
+        return Collections.unmodifiableMap(statisticsMap);
+    }
+
+    private <T> EventSubscription<T> register(final EventSubscription<T> subscription) {
+        safelyGetSubscriptions(subscription.getEventType()).add(subscription);
+        return subscription;
+    }
+
+    private List<EventSubscription<?>> safelyGetSubscriptions(final EventType<?> event) {
+        return subscriptionMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>());
+    }
+
+    private EventDispatchStatistics safelyGetStatistics(final EventType<?> event) {
+        return statisticsMap.computeIfAbsent(event, key -> new EventDispatchStatistics());
     }
 }
@@ -8,9 +8,18 @@
 package com.synopsys.integration.detect.workflow.event;
 
 public class EventType<T> {
+    private final String name;
 
-    public EventType(Class<T> clazz) {
+    public EventType(String name, Class<T> clazz) {
+        this.name = name;
+    }
 
+    public String getName() {
+        return name;
     }
 
+    @Override
+    public String toString() {
+        return name;
+    }
 }
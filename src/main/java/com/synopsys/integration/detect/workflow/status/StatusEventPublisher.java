@@ -7,6 +7,7 @@
  */
 package com.synopsys.integration.detect.workflow.status;
 
+import com.synopsys.integration.detect.tool.signaturescanner.SignatureScanTargetProgress;
 import com.synopsys.integration.detect.workflow.event.Event;
 import com.synopsys.integration.detect.workflow.event.EventSystem;
 import com.synopsys.integration.detect.workflow.result.DetectResult;
@@ -33,4 +34,12 @@ public class StatusEventPublisher {
     public void publishOperation(Operation detectOperation) {
         eventSystem.publishEvent(Event.DetectOperation, detectOperation);
     }
+
+    public void publishSignatureScanTargetStarted(SignatureScanTargetProgress progress) {
+        eventSystem.publishEvent(Event.SignatureScanTargetStarted, progress);
+    }
+
+    public void publishSignatureScanTargetEnded(SignatureScanTargetProgress progress) {
+        eventSystem.publishEvent(Event.SignatureScanTargetEnded, progress);
+    }
 }
@@ -0,0 +1,159 @@
+package com.synopsys.integration.detect.tool.detector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.detectable.Detectable;
+import com.synopsys.integration.detectable.DetectableEnvironment;
+import com.synopsys.integration.detectable.Discovery;
+import com.synopsys.integration.detectable.detectable.codelocation.CodeLocation;
+import com.synopsys.integration.detectable.detectables.docker.DockerExtractor;
+import com.synopsys.integration.detectable.extraction.Extraction;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detectable.util.CompactDependencyGraph;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.base.DetectorEvaluationTree;
+import com.synopsys.integration.detector.base.DetectorType;
+import com.synopsys.integration.detector.evaluation.DetectorEvaluationOptions;
+import com.synopsys.integration.detector.evaluation.ExtractionEvaluator;
+import com.synopsys.integration.detector.result.DetectorResult;
+import com.synopsys.integration.detector.rule.DetectorRule;
+import com.synopsys.integration.detector.rule.DetectorRuleBuilder;
+import com.synopsys.integration.detector.rule.DetectorRuleSet;
+
+public class CodeLocationConverterTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final CodeLocationConverter codeLocationConverter = new CodeLocationConverter(externalIdFactory);
+    private final File sourceDirectory = new File("source");
+
+    @Test
+    public void compactingKeepsEverythingButTheGraph() {
+        Extraction extraction = createExtraction(new ArrayList<>());
+        DependencyGraph originalGraph = extraction.getCodeLocations().get(0).getDependencyGraph();
+
+        Extraction compactExtraction = codeLocationConverter.compactDependencyGraphs(extraction);
+
+        assertEquals(Extraction.ExtractionResultType.SUCCESS, compactExtraction.getResult());
+        assertEquals("project", compactExtraction.getProjectName());
+        assertEquals("1.0.0", compactExtraction.getProjectVersion());
+        assertEquals(Optional.of("image:latest"), compactExtraction.getMetaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA));
+        assertEquals(extraction.getRelevantFiles(), compactExtraction.getRelevantFiles());
+        assertEquals(1, compactExtraction.getCodeLocations().size());
+
+        CodeLocation codeLocation = extraction.getCodeLocations().get(0);
+        CodeLocation compactCodeLocation = compactExtraction.getCodeLocations().get(0);
+        assertTrue(compactCodeLocation.getDependencyGraph() instanceof CompactDependencyGraph);
+        assertEquals(originalGraph.getRootDependencies(), compactCodeLocation.getDependencyGraph().getRootDependencies());
+        assertEquals(codeLocation.getSourcePath(), compactCodeLocation.getSourcePath());
+        assertEquals(codeLocation.getExternalId(), compactCodeLocation.getExternalId());
+    }
+
+    @Test
+    public void failedExtractionIsNotRebuilt() {
+        Extraction extraction = new Extraction.Builder().failure("Failed.").build();
+
+        assertSame(extraction, codeLocationConverter.compactDependencyGraphs(extraction));
+    }
+
+    @Test
+    public void discoveredGraphIsReleasedWhenExtractionCompletes() throws Exception {
+        assertOriginalGraphReleased(1, true);
+    }
+
+    @Test
+    public void scheduledGraphIsReleasedWhenExtractionCompletes() throws Exception {
+        assertOriginalGraphReleased(2, false);
+    }
+
+    private void assertOriginalGraphReleased(int extractionThreads, boolean discovered) throws Exception {
+        List<WeakReference<DependencyGraph>> originalGraphs = Collections.synchronizedList(new ArrayList<>());
+        Detectable detectable = Mockito.mock(Detectable.class);
+        Mockito.when(detectable.extract(Mockito.any())).thenAnswer(invocation -> createExtraction(originalGraphs));
+        DetectorEvaluation detectorEvaluation = createExtractableEvaluation(detectable);
+        if (discovered) {
+            detectorEvaluation.setDiscovery(new Discovery.Builder().success(createExtraction(originalGraphs)).build());
+        }
+        DetectorEvaluationTree evaluationTree = new DetectorEvaluationTree(sourceDirectory, 0, Mockito.mock(DetectorRuleSet.class), Collections.singletonList(detectorEvaluation), new HashSet<>());
+
+        ExtractionEvaluator extractionEvaluator = new ExtractionEvaluator(new DetectorEvaluationOptions(false, rule -> true, extractionThreads, Collections.emptyMap()));
+        extractionEvaluator.setExtractionPostProcessor(codeLocationConverter::compactDependencyGraphs);
+        extractionEvaluator.evaluate(evaluationTree);
+        // DetectorTool keeps both the evaluation tree and this map once the detectors have run.
+        Map<CodeLocation, DetectCodeLocation> codeLocationMap = codeLocationConverter.toDetectCodeLocation(sourceDirectory, detectorEvaluation);
+
+        assertEquals(1, codeLocationMap.size());
+        CodeLocation codeLocation = codeLocationMap.keySet().iterator().next();
+        assertSame(detectorEvaluation.getExtraction().getCodeLocations().get(0), codeLocation);
+        assertTrue(codeLocation.getDependencyGraph() instanceof CompactDependencyGraph);
+        assertSame(codeLocation.getDependencyGraph(), codeLocationMap.get(codeLocation).getDependencyGraph());
+        if (discovered) {
+            assertSame(detectorEvaluation.getExtraction(), detectorEvaluation.getDiscovery().getExtraction());
+        }
+
+        assertEquals(1, originalGraphs.size());
+        assertTrue(isCollected(originalGraphs.get(0)), "The graph the detectable built is still reachable.");
+    }
+
+    private boolean isCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int attempt = 0; attempt < 20 && reference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return reference.get() == null;
+    }
+
+    private DetectorEvaluation createExtractableEvaluation(Detectable detectable) {
+        DetectorRule<Detectable> rule = new DetectorRuleBuilder<>("Test", DetectorType.GO_MOD, Detectable.class, environment -> detectable).build();
+        DetectorEvaluation detectorEvaluation = new DetectorEvaluation(rule);
+        DetectorResult passed = new DetectorResult(true, "", Collections.emptyList(), Collections.emptyList());
+        detectorEvaluation.setSearchable(passed);
+        detectorEvaluation.setApplicable(passed);
+        detectorEvaluation.setExtractable(passed);
+        detectorEvaluation.setDetectable(detectable);
+        detectorEvaluation.setDetectableEnvironment(new DetectableEnvironment(sourceDirectory));
+        detectorEvaluation.setExtractionEnvironment(new ExtractionEnvironment(new File("output")));
+        return detectorEvaluation;
+    }
+
+    private Extraction createExtraction(List<WeakReference<DependencyGraph>> originalGraphs) {
+        MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
+        Dependency parent = createDependency("parent");
+        dependencyGraph.addChildToRoot(parent);
+        dependencyGraph.addChildWithParent(createDependency("child"), parent);
+        originalGraphs.add(new WeakReference<>(dependencyGraph));
+
+        ExternalId projectExternalId = externalIdFactory.createNameVersionExternalId(Forge.GOLANG, "project", "1.0.0");
+        return new Extraction.Builder()
+                   .success(new CodeLocation(dependencyGraph, projectExternalId, sourceDirectory))
+                   .projectName("project")
+                   .projectVersion("1.0.0")
+                   .relevantFiles(new File(sourceDirectory, "go.mod"))
+                   .metaData(DockerExtractor.DOCKER_IMAGE_NAME_META_DATA, "image:latest")
+                   .build();
+    }
+
+    private Dependency createDependency(String name) {
+        return new Dependency(name, "1.0.0", externalIdFactory.createNameVersionExternalId(Forge.GOLANG, name, "1.0.0"));
+    }
+}
@@ -176,6 +176,7 @@ public class DetectorToolTest {
         StatusEventPublisher statusEventPublisher = Mockito.mock(StatusEventPublisher.class);
         ExitCodePublisher exitCodePublisher = Mockito.mock(ExitCodePublisher.class);
         DetectorEventPublisher detectorEventPublisher = Mockito.mock(DetectorEventPublisher.class);
+        Mockito.when(codeLocationConverter.compactDependencyGraphs(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         DetectorTool tool = new DetectorTool(detectorFinder, extractionEnvironmentProvider, eventSystem, codeLocationConverter, detectorIssuePublisher, statusEventPublisher, exitCodePublisher, detectorEventPublisher);
         File directory = new File(".");
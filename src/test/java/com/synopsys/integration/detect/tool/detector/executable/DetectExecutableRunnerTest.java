@@ -0,0 +1,163 @@
+package com.synopsys.integration.detect.tool.detector.executable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.detectable.executable.LineConsumer;
+import com.synopsys.integration.detectable.detectable.executable.StreamingExecutableOutput;
+import com.synopsys.integration.executable.Executable;
+import com.synopsys.integration.executable.ExecutableOutput;
+import com.synopsys.integration.executable.ExecutableRunnerException;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@DisabledOnOs(WINDOWS)
+public class DetectExecutableRunnerTest {
+    private final Logger runnerLogger = (Logger) LoggerFactory.getLogger(DetectExecutableRunner.class);
+    private final ListAppender<ILoggingEvent> loggedEvents = new ListAppender<>();
+    private Level originalLevel;
+
+    @BeforeEach
+    public void captureLogging() {
+        originalLevel = runnerLogger.getLevel();
+        // Failed output is only logged when debug logging is off.
+        runnerLogger.setLevel(Level.INFO);
+        loggedEvents.start();
+        runnerLogger.addAppender(loggedEvents);
+    }
+
+    @AfterEach
+    public void restoreLogging() {
+        runnerLogger.detachAppender(loggedEvents);
+        runnerLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    public void streamedLinesMatchBufferedOutput() throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem());
+        Executable executable = shell("printf 'one\\ntwo\\n\\nthree\\n'; printf 'error one\\nerror two\\n' 1>&2");
+
+        ExecutableOutput bufferedOutput = executableRunner.execute(executable);
+        List<String> standardOutputLines = new ArrayList<>();
+        List<String> errorOutputLines = new ArrayList<>();
+        StreamingExecutableOutput streamedOutput = executableRunner.executeStreaming(executable, standardOutputLines::add, errorOutputLines::add);
+
+        assertEquals(bufferedOutput.getReturnCode(), streamedOutput.getReturnCode());
+        assertEquals(bufferedOutput.getStandardOutputAsList(), standardOutputLines);
+        assertEquals(bufferedOutput.getErrorOutputAsList(), errorOutputLines);
+        assertEquals(Arrays.asList("one", "two", "", "three"), standardOutputLines);
+    }
+
+    @Test
+    public void onlyTheTailIsKept() throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem());
+        List<String> standardOutputLines = new ArrayList<>();
+
+        StreamingExecutableOutput output = executableRunner.executeStreaming(shell("for i in 1 2 3 4 5; do echo line$i; done; exit 3"), standardOutputLines::add, LineConsumer.discard(), 2);
+
+        assertEquals(3, output.getReturnCode());
+        assertEquals(Arrays.asList("line1", "line2", "line3", "line4", "line5"), standardOutputLines);
+        assertEquals(Arrays.asList("line4", "line5"), output.getStandardOutputTail());
+        assertTrue(output.getErrorOutputTail().isEmpty());
+    }
+
+    @Test
+    public void publishesTheTailAsTheExecutedOutput() throws ExecutableRunnerException {
+        EventSystem eventSystem = new EventSystem();
+        List<ExecutedExecutable> executed = new ArrayList<>();
+        eventSystem.registerListener(Event.Executable, executed::add);
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(eventSystem);
+
+        executableRunner.executeStreaming(shell("echo first; echo second; echo third"), LineConsumer.discard(), LineConsumer.discard(), 1);
+
+        assertEquals(1, executed.size());
+        assertEquals("third", executed.get(0).getOutput().getStandardOutput());
+    }
+
+    @Test
+    public void failedOutputIsLogged() throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem());
+
+        executableRunner.executeStreaming(shell("echo visible-$((40 + 2)); exit 1"), LineConsumer.discard(), LineConsumer.discard());
+
+        assertTrue(wasLogged("visible-42"));
+    }
+
+    @Test
+    public void secretOutputIsNeverLogged() throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newInfo(new EventSystem());
+        List<String> standardOutputLines = new ArrayList<>();
+
+        // The secret is computed so it only appears in the output and never in the logged command.
+        StreamingExecutableOutput output = executableRunner.executeStreamingSecretly(shell("echo secret-$((40 + 2)); echo secret-$((40 + 3)) 1>&2; exit 1"), standardOutputLines::add, LineConsumer.discard(),
+            StreamingExecutableOutput.DEFAULT_TAIL_LINE_LIMIT);
+
+        assertEquals(Collections.singletonList("secret-42"), standardOutputLines);
+        assertEquals(1, output.getReturnCode());
+        assertFalse(wasLogged("secret-42"));
+        assertFalse(wasLogged("secret-43"));
+    }
+
+    @Test
+    public void outputIsLoggedInTheCallersContext() throws ExecutableRunnerException {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newInfo(new EventSystem());
+
+        try (MDC.MDCCloseable ignored = MDC.putCloseable("extraction", "extraction-0")) {
+            executableRunner.execute(shell("echo buffered-$((40 + 2))"));
+            executableRunner.executeStreaming(shell("echo streamed-$((40 + 2))"), LineConsumer.discard(), LineConsumer.discard());
+        }
+
+        assertEquals("extraction-0", loggedContext("buffered-42"));
+        assertEquals("extraction-0", loggedContext("streamed-42"));
+    }
+
+    @Test
+    public void consumerFailureStillDrainsTheProcess() {
+        DetectExecutableRunner executableRunner = DetectExecutableRunner.newDebug(new EventSystem());
+        LineConsumer failingConsumer = line -> {
+            throw new IllegalStateException("Unparseable line: " + line);
+        };
+
+        ExecutableRunnerException exception = assertThrows(ExecutableRunnerException.class,
+            () -> executableRunner.executeStreaming(shell("for i in $(seq 1 10000); do echo line$i; done"), failingConsumer, LineConsumer.discard()));
+
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    private boolean wasLogged(String text) {
+        return loggedEvents.list.stream().anyMatch(event -> event.getFormattedMessage().contains(text));
+    }
+
+    private String loggedContext(String text) {
+        return loggedEvents.list.stream()
+                   .filter(event -> event.getFormattedMessage().contains(text))
+                   .map(event -> event.getMDCPropertyMap().get("extraction"))
+                   .findFirst()
+                   .orElse(null);
+    }
+
+    private Executable shell(String script) {
+        return Executable.create(new File("."), Arrays.asList("sh", "-c", script));
+    }
+}
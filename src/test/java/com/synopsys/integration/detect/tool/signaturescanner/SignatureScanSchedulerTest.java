@@ -0,0 +1,93 @@
+package com.synopsys.integration.detect.tool.signaturescanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchOutput;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchRunner;
+import com.synopsys.integration.blackduck.codelocation.signaturescanner.command.ScanCommandOutput;
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detect.workflow.status.StatusEventPublisher;
+import com.synopsys.integration.exception.IntegrationException;
+
+public class SignatureScanSchedulerTest {
+    private static final int TARGET_COUNT = 6;
+
+    @Test
+    public void concurrentScansAreBoundedByMemory() {
+        assertEquals(4, SignatureScanScheduler.determineConcurrentScans(4, 1024, null));
+        assertEquals(2, SignatureScanScheduler.determineConcurrentScans(4, 1024, 2048L));
+        assertEquals(1, SignatureScanScheduler.determineConcurrentScans(4, 4096, 1024L));
+        assertEquals(1, SignatureScanScheduler.determineConcurrentScans(0, 1024, null));
+    }
+
+    @Test
+    public void scansTargetsConcurrently() throws IntegrationException, InterruptedException {
+        AtomicInteger runningScans = new AtomicInteger();
+        AtomicInteger mostRunningScans = new AtomicInteger();
+        ScanBatchRunner scanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        List<SignatureScanScheduler.SignatureScanTargetBatch> targetBatches = new ArrayList<>();
+        for (int target = 0; target < TARGET_COUNT; target++) {
+            ScanBatch scanBatch = Mockito.mock(ScanBatch.class);
+            ScanCommandOutput scanCommandOutput = Mockito.mock(ScanCommandOutput.class);
+            Mockito.when(scanCommandOutput.getScanTarget()).thenReturn("target" + target);
+            Mockito.when(scanBatchRunner.executeScans(scanBatch)).thenAnswer(invocation -> {
+                mostRunningScans.accumulateAndGet(runningScans.incrementAndGet(), Math::max);
+                Thread.sleep(200);
+                runningScans.decrementAndGet();
+                return new ScanBatchOutput(Collections.singletonList(scanCommandOutput));
+            });
+            targetBatches.add(new SignatureScanScheduler.SignatureScanTargetBatch("target" + target, scanBatch));
+        }
+
+        EventSystem eventSystem = new EventSystem();
+        List<SignatureScanTargetProgress> started = Collections.synchronizedList(new ArrayList<>());
+        List<SignatureScanTargetProgress> ended = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerListener(Event.SignatureScanTargetStarted, started::add);
+        eventSystem.registerListener(Event.SignatureScanTargetEnded, ended::add);
+
+        SignatureScanScheduler signatureScanScheduler = new SignatureScanScheduler(scanBatchRunner, new StatusEventPublisher(eventSystem));
+        ScanBatchOutput scanBatchOutput = signatureScanScheduler.executeScans(targetBatches, 3);
+
+        assertEquals(3, mostRunningScans.get());
+        assertEquals(TARGET_COUNT, scanBatchOutput.getOutputs().size());
+        for (int target = 0; target < TARGET_COUNT; target++) {
+            assertEquals("target" + target, scanBatchOutput.getOutputs().get(target).getScanTarget());
+        }
+        assertEquals(TARGET_COUNT, started.size());
+        assertEquals(TARGET_COUNT, ended.size());
+        assertTrue(ended.stream().allMatch(progress -> progress.getDuration().isPresent() && progress.getDuration().get() >= 200));
+    }
+
+    @Test
+    public void firstTargetScansAlone() throws IntegrationException, InterruptedException {
+        AtomicInteger completedScans = new AtomicInteger();
+        List<Integer> completedBeforeStart = Collections.synchronizedList(new ArrayList<>());
+        ScanBatchRunner scanBatchRunner = Mockito.mock(ScanBatchRunner.class);
+        Mockito.when(scanBatchRunner.executeScans(Mockito.any())).thenAnswer(invocation -> {
+            completedBeforeStart.add(completedScans.get());
+            Thread.sleep(50);
+            completedScans.incrementAndGet();
+            return new ScanBatchOutput(Collections.emptyList());
+        });
+        List<SignatureScanScheduler.SignatureScanTargetBatch> targetBatches = new ArrayList<>();
+        for (int target = 0; target < TARGET_COUNT; target++) {
+            targetBatches.add(new SignatureScanScheduler.SignatureScanTargetBatch("target" + target, Mockito.mock(ScanBatch.class)));
+        }
+
+        new SignatureScanScheduler(scanBatchRunner, new StatusEventPublisher(new EventSystem())).executeScans(targetBatches, TARGET_COUNT);
+
+        assertEquals(0, completedBeforeStart.get(0));
+        assertTrue(completedBeforeStart.subList(1, TARGET_COUNT).stream().allMatch(completed -> completed >= 1));
+    }
+}
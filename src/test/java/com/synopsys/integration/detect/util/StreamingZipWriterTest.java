@@ -0,0 +1,90 @@
+package com.synopsys.integration.detect.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StreamingZipWriterTest {
+    private Path tempDirectory;
+    private Map<String, Path> entries;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tempDirectory = Files.createTempDirectory("StreamingZipWriterTest");
+        entries = new LinkedHashMap<>();
+        for (String name : Arrays.asList("first.jar", "second.txt", "third.WAR", "fourth.so")) {
+            Path file = tempDirectory.resolve(name);
+            FileUtils.write(file.toFile(), String.join("", Collections.nCopies(1000, name)), StandardCharsets.UTF_8);
+            entries.put(name, file);
+        }
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(tempDirectory.toFile());
+    }
+
+    @Test
+    public void testZipsSequentially() throws IOException, InterruptedException {
+        File zip = tempDirectory.resolve("sequential.zip").toFile();
+        new StreamingZipWriter(1).zip(zip, entries);
+        assertZipContainsEntries(zip);
+    }
+
+    @Test
+    public void testZipsInParallel() throws IOException, InterruptedException {
+        File zip = tempDirectory.resolve("parallel.zip").toFile();
+        new StreamingZipWriter(3).zip(zip, entries);
+        assertZipContainsEntries(zip);
+    }
+
+    @Test
+    public void testSplitEntries() throws IOException {
+        long entryBytes = Files.size(entries.get("first.jar"));
+
+        assertEquals(Collections.singletonList(entries), StreamingZipWriter.splitEntries(entries, 0));
+
+        List<Map<String, Path>> parts = StreamingZipWriter.splitEntries(entries, entryBytes * 2);
+        assertEquals(2, parts.size());
+        assertEquals(Arrays.asList("first.jar", "second.txt"), new ArrayList<>(parts.get(0).keySet()));
+        assertEquals(Arrays.asList("third.WAR", "fourth.so"), new ArrayList<>(parts.get(1).keySet()));
+
+        assertEquals(4, StreamingZipWriter.splitEntries(entries, 1).size());
+    }
+
+    private void assertZipContainsEntries(File zip) throws IOException {
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            List<String> names = new ArrayList<>();
+            zipFile.stream().forEach(zipEntry -> names.add(zipEntry.getName()));
+            assertEquals(new ArrayList<>(entries.keySet()), names);
+
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                ZipEntry zipEntry = zipFile.getEntry(entry.getKey());
+                boolean archive = entry.getKey().toLowerCase().endsWith(".jar") || entry.getKey().toLowerCase().endsWith(".war");
+                assertEquals(archive ? ZipEntry.STORED : ZipEntry.DEFLATED, zipEntry.getMethod(), entry.getKey());
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    assertEquals(FileUtils.readFileToString(entry.getValue().toFile(), StandardCharsets.UTF_8), IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+                }
+            }
+        }
+    }
+}
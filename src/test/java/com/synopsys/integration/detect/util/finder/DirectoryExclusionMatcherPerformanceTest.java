@@ -0,0 +1,48 @@
+package com.synopsys.integration.detect.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+// Measures the per file cost of matching many paths against many patterns. The paths, patterns and previous per file algorithm are shared with DirectoryExclusionMatcherTest.
+@Tag("performance")
+public class DirectoryExclusionMatcherPerformanceTest {
+    private static final int PATH_COUNT = 100000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void perFileCostOnManyPathsAndPatterns() {
+        Path sourcePath = new File("/home/user/source").toPath();
+        List<String> patterns = DirectoryExclusionMatcherTest.createPatterns();
+        List<File> files = DirectoryExclusionMatcherTest.createFiles(sourcePath, PATH_COUNT);
+
+        DirectoryExclusionMatcher matcher = new DirectoryExclusionMatcher(sourcePath, patterns);
+
+        long legacyExcluded = 0;
+        long compiledExcluded = 0;
+        long legacyNanos = Long.MAX_VALUE;
+        long compiledNanos = Long.MAX_VALUE;
+        // The fastest of several rounds is kept so the comparison is not skewed by warm up.
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            legacyExcluded = files.stream().filter(file -> DirectoryExclusionMatcherTest.legacyIsExcluded(sourcePath, patterns, file)).count();
+            legacyNanos = Math.min(legacyNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            compiledExcluded = files.stream().filter(matcher::isExcluded).count();
+            compiledNanos = Math.min(compiledNanos, System.nanoTime() - start);
+        }
+
+        System.out.println(String.format("Legacy exclusion filter: %d ns per file over %d paths and %d patterns", legacyNanos / PATH_COUNT, PATH_COUNT, patterns.size()));
+        System.out.println(String.format("Compiled exclusion matcher: %d ns per file over %d paths and %d patterns", compiledNanos / PATH_COUNT, PATH_COUNT, patterns.size()));
+
+        assertEquals(legacyExcluded, compiledExcluded);
+        assertTrue(compiledNanos < legacyNanos, "The compiled matcher should be cheaper per file than the legacy filter.");
+    }
+}
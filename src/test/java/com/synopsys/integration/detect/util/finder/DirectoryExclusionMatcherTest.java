@@ -0,0 +1,105 @@
+package com.synopsys.integration.detect.util.finder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FilenameUtils;
+import org.junit.jupiter.api.Test;
+
+public class DirectoryExclusionMatcherTest {
+    private static final int PATH_COUNT = 2000;
+    static final int PATTERN_COUNT = 50;
+
+    @Test
+    public void matchesLegacyFilterOnManyPathsAndPatterns() {
+        Path sourcePath = new File("/home/user/source").toPath();
+        List<String> patterns = createPatterns();
+        List<File> files = createFiles(sourcePath, PATH_COUNT);
+
+        DirectoryExclusionMatcher matcher = new DirectoryExclusionMatcher(sourcePath, patterns);
+
+        long excluded = 0;
+        for (File file : files) {
+            boolean legacyExcluded = legacyIsExcluded(sourcePath, patterns, file);
+            assertEquals(legacyExcluded, matcher.isExcluded(file), file.toString());
+            if (legacyExcluded) {
+                excluded++;
+            }
+        }
+        assertTrue(excluded > 0);
+        assertTrue(excluded < PATH_COUNT);
+    }
+
+    static List<String> createPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < PATTERN_COUNT; i++) {
+            switch (i % 5) {
+                case 0:
+                    patterns.add("excluded" + i);
+                    break;
+                case 1:
+                    patterns.add("module" + i + "/build");
+                    break;
+                case 2:
+                    patterns.add("generated" + i + "*");
+                    break;
+                case 3:
+                    patterns.add("**/cache" + i + "/*");
+                    break;
+                default:
+                    patterns.add("tmp" + i + "?");
+                    break;
+            }
+        }
+        return patterns;
+    }
+
+    static List<File> createFiles(Path sourcePath, int pathCount) {
+        Random random = new Random(12345);
+        String[] names = { "src", "main", "build", "node_modules", "lib", "test", "excluded0", "module1", "generated22x", "cache3", "tmp44a", "docs" };
+        List<File> files = new ArrayList<>(pathCount);
+        for (int i = 0; i < pathCount; i++) {
+            File file = sourcePath.toFile();
+            int depth = 1 + random.nextInt(6);
+            for (int d = 0; d < depth; d++) {
+                file = new File(file, names[random.nextInt(names.length)]);
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    // The per file matching that DetectExcludedDirectoryFilter performed before patterns were compiled.
+    static boolean legacyIsExcluded(Path sourcePath, List<String> patterns, File file) {
+        for (String excludedDirectory : patterns) {
+            if (FilenameUtils.wildcardMatchOnSystem(file.getName(), excludedDirectory)) {
+                return true;
+            }
+        }
+        for (String excludedDirectory : patterns) {
+            PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher(String.format("glob:%s", excludedDirectory));
+            if (pathMatcher.matches(file.toPath())) {
+                return true;
+            }
+            Path excludedDirectoryPath;
+            try {
+                excludedDirectoryPath = new File(excludedDirectory).toPath();
+            } catch (InvalidPathException e) {
+                continue;
+            }
+            if (sourcePath.relativize(file.toPath()).endsWith(excludedDirectoryPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+
+public class AggregateDependencyGraphTest {
+    private final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final File sourceDirectory = new File("src/test/resources");
+
+    @Test
+    public void directViewMatchesAggregate() throws DetectUserFriendlyException {
+        assertViewMatchesAggregate(AggregateMode.DIRECT);
+    }
+
+    @Test
+    public void transitiveViewMatchesAggregate() throws DetectUserFriendlyException {
+        assertViewMatchesAggregate(AggregateMode.TRANSITIVE);
+    }
+
+    private void assertViewMatchesAggregate(AggregateMode aggregateMode) throws DetectUserFriendlyException {
+        Dependency shared = createDependency("shared");
+        Dependency first = createDependency("first");
+        Dependency second = createDependency("second");
+        Dependency firstChild = createDependency("first-child");
+        Dependency secondChild = createDependency("second-child");
+
+        MutableDependencyGraph firstGraph = simpleBdioFactory.createMutableDependencyGraph();
+        firstGraph.addChildrenToRoot(shared, first);
+        firstGraph.addChildWithParent(firstChild, shared);
+
+        MutableDependencyGraph secondGraph = simpleBdioFactory.createMutableDependencyGraph();
+        secondGraph.addChildrenToRoot(shared, second);
+        secondGraph.addChildWithParent(secondChild, shared);
+
+        List<DetectCodeLocation> codeLocations = Arrays.asList(
+            DetectCodeLocation.forCreator(firstGraph, new File(sourceDirectory, "first"), createProjectId("first-project"), "NPM"),
+            DetectCodeLocation.forCreator(secondGraph, new File(sourceDirectory, "second"), createProjectId("second-project"), "NPM")
+        );
+
+        AggregateBdioTransformer aggregateBdioTransformer = new AggregateBdioTransformer(1);
+        DependencyGraph aggregate = aggregateBdioTransformer.aggregateCodeLocations(sourceDirectory, codeLocations, aggregateMode);
+        DependencyGraph view = aggregateBdioTransformer.aggregateCodeLocationsAsView(sourceDirectory, codeLocations, aggregateMode);
+
+        assertEquals(aggregate.getRootDependencyExternalIds(), view.getRootDependencyExternalIds());
+        assertSameChildren(aggregate, view, aggregate.getRootDependencyExternalIds());
+        assertEquals(aggregate.getParentExternalIdsForChild(shared), view.getParentExternalIdsForChild(shared));
+    }
+
+    private void assertSameChildren(DependencyGraph expected, DependencyGraph actual, Iterable<ExternalId> parents) {
+        for (ExternalId parent : parents) {
+            assertEquals(expected.getDependency(parent), actual.getDependency(parent));
+            assertEquals(expected.getChildrenExternalIdsForParent(parent), actual.getChildrenExternalIdsForParent(parent));
+            assertSameChildren(expected, actual, expected.getChildrenExternalIdsForParent(parent));
+        }
+    }
+
+    private ExternalId createProjectId(String name) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, "1.0.0");
+    }
+
+    private Dependency createDependency(String name) {
+        return new Dependency(name, "1.0.0", externalIdFactory.createNameVersionExternalId(Forge.NPMJS, name, "1.0.0"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.blackduck.bdio2.util.Bdio2Factory;
+import com.synopsys.integration.blackduck.codelocation.upload.UploadTarget;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.detect.workflow.codelocation.BdioCodeLocation;
+import com.synopsys.integration.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.util.NameVersion;
+
+public class CodeLocationBdioCreatorTest {
+    private static final int CODE_LOCATION_COUNT = 8;
+    private static final int WRITE_THREADS = 4;
+
+    private final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final DetectInfo detectInfo = new DetectInfo("", 0, null);
+    private final NameVersion projectNameVersion = new NameVersion("project", "1.0.0");
+    private final CodeLocationBdioCreator codeLocationBdioCreator = new CodeLocationBdioCreator(new DetectBdioWriter(simpleBdioFactory, detectInfo), simpleBdioFactory, new Bdio2Factory(),
+        detectInfo);
+    private File outputDirectory;
+
+    @BeforeEach
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("code-location-bdio").toFile();
+    }
+
+    @AfterEach
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Test
+    public void parallelWritesKeepCodeLocationOrder() throws DetectUserFriendlyException {
+        List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations();
+
+        List<UploadTarget> documentTargets = codeLocationBdioCreator.createBdioFiles(outputDirectory, bdioCodeLocations, projectNameVersion, false, false, WRITE_THREADS);
+        assertUploadTargetsMatch(bdioCodeLocations, documentTargets, ".jsonld");
+
+        List<UploadTarget> streamedTargets = codeLocationBdioCreator.createBdioFiles(outputDirectory, bdioCodeLocations, projectNameVersion, false, true, WRITE_THREADS);
+        assertUploadTargetsMatch(bdioCodeLocations, streamedTargets, ".jsonld");
+
+        List<UploadTarget> bdio2Targets = codeLocationBdioCreator.createBdioFiles(outputDirectory, bdioCodeLocations, projectNameVersion, true, false, WRITE_THREADS);
+        assertUploadTargetsMatch(bdioCodeLocations, bdio2Targets, ".bdio");
+    }
+
+    @Test
+    public void failedParallelWriteIsReported() throws IOException {
+        List<BdioCodeLocation> bdioCodeLocations = createBdioCodeLocations();
+        // A directory that cannot be deleted where one BDIO file belongs makes only that write fail.
+        File blockedBdioFile = new File(outputDirectory, bdioCodeLocations.get(CODE_LOCATION_COUNT / 2).getBdioName() + ".jsonld");
+        assertTrue(new File(blockedBdioFile, "blocker").mkdirs());
+
+        assertThrows(DetectUserFriendlyException.class, () -> codeLocationBdioCreator.createBdioFiles(outputDirectory, bdioCodeLocations, projectNameVersion, false, false, WRITE_THREADS));
+        assertThrows(DetectUserFriendlyException.class, () -> codeLocationBdioCreator.createBdioFiles(outputDirectory, bdioCodeLocations, projectNameVersion, false, true, WRITE_THREADS));
+    }
+
+    private void assertUploadTargetsMatch(List<BdioCodeLocation> bdioCodeLocations, List<UploadTarget> uploadTargets, String extension) {
+        assertEquals(bdioCodeLocations.size(), uploadTargets.size());
+        for (int index = 0; index < bdioCodeLocations.size(); index++) {
+            BdioCodeLocation bdioCodeLocation = bdioCodeLocations.get(index);
+            UploadTarget uploadTarget = uploadTargets.get(index);
+            assertEquals(bdioCodeLocation.getCodeLocationName(), uploadTarget.getCodeLocationName());
+            assertEquals(new File(outputDirectory, bdioCodeLocation.getBdioName() + extension), uploadTarget.getUploadFile());
+            assertTrue(uploadTarget.getUploadFile().isFile());
+        }
+    }
+
+    // Earlier code locations have larger graphs so they tend to finish after later ones.
+    private List<BdioCodeLocation> createBdioCodeLocations() {
+        List<BdioCodeLocation> bdioCodeLocations = new ArrayList<>();
+        for (int codeLocation = 0; codeLocation < CODE_LOCATION_COUNT; codeLocation++) {
+            MutableDependencyGraph graph = simpleBdioFactory.createMutableDependencyGraph();
+            int dependencyCount = (CODE_LOCATION_COUNT - codeLocation) * 200;
+            Dependency parent = null;
+            for (int dependency = 0; dependency < dependencyCount; dependency++) {
+                String name = String.format("component-%d-%d", codeLocation, dependency);
+                Dependency child = new Dependency(name, "1.0.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0.0"));
+                if (parent == null || dependency % 10 == 0) {
+                    graph.addChildToRoot(child);
+                } else {
+                    graph.addChildWithParent(child, parent);
+                }
+                parent = child;
+            }
+            DetectCodeLocation detectCodeLocation = DetectCodeLocation.forCreator(graph, outputDirectory, externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "project", "1.0.0"), "test");
+            bdioCodeLocations.add(new BdioCodeLocation(detectCodeLocation, "code location " + codeLocation, "code_location_" + codeLocation));
+        }
+        return bdioCodeLocations;
+    }
+}
@@ -0,0 +1,103 @@
+package com.synopsys.integration.detect.workflow.bdio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.synopsys.integration.bdio.SimpleBdioFactory;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.SimpleBdioDocument;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+import com.synopsys.integration.detect.configuration.DetectInfo;
+import com.synopsys.integration.detect.configuration.DetectUserFriendlyException;
+import com.synopsys.integration.util.NameVersion;
+
+public class StreamingBdioWriterTest {
+    private final SimpleBdioFactory simpleBdioFactory = new SimpleBdioFactory();
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+    private final DetectInfo detectInfo = new DetectInfo("", 0, null);
+    private final Gson gson = new Gson();
+    private File outputDirectory;
+
+    @BeforeEach
+    public void createOutputDirectory() throws IOException {
+        outputDirectory = Files.createTempDirectory("streaming-bdio").toFile();
+    }
+
+    @AfterEach
+    public void deleteOutputDirectory() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Test
+    public void matchesDocumentWriter() throws DetectUserFriendlyException, IOException {
+        Dependency parent = createDependency("parent");
+        Dependency sibling = createDependency("sibling");
+        Dependency child = createDependency("child");
+        Dependency grandchild = createDependency("grandchild");
+
+        MutableDependencyGraph graph = simpleBdioFactory.createMutableDependencyGraph();
+        graph.addChildrenToRoot(parent, sibling);
+        graph.addChildWithParent(child, parent);
+        graph.addChildWithParent(child, sibling);
+        graph.addChildWithParent(grandchild, child);
+
+        NameVersion projectNameVersion = new NameVersion("project", "1.0.0");
+        ExternalId projectExternalId = externalIdFactory.createNameVersionExternalId(Forge.MAVEN, "project", "1.0.0");
+
+        File documentFile = new File(outputDirectory, "document.jsonld");
+        SimpleBdioDocument document = simpleBdioFactory.createSimpleBdioDocument("code location", projectNameVersion.getName(), projectNameVersion.getVersion(), projectExternalId, graph);
+        new DetectBdioWriter(simpleBdioFactory, detectInfo).writeBdioFile(documentFile, document);
+
+        File streamedFile = new File(outputDirectory, "streamed.jsonld");
+        new StreamingBdioWriter(simpleBdioFactory, detectInfo).writeBdioFile(streamedFile, "code location", projectNameVersion, projectExternalId, graph);
+
+        assertEquals(readNodes(documentFile), readNodes(streamedFile));
+    }
+
+    // The bill of materials holds the creation time, so only the project and components are compared. Relationships are sets, so they are sorted before comparing.
+    private Map<String, String> readNodes(File bdioFile) throws IOException {
+        JsonArray nodes = gson.fromJson(new String(Files.readAllBytes(bdioFile.toPath()), StandardCharsets.UTF_8), JsonArray.class);
+        Map<String, String> nodesById = new HashMap<>();
+        for (JsonElement node : nodes) {
+            JsonObject nodeObject = node.getAsJsonObject();
+            if ("BillOfMaterials".equals(nodeObject.get("@type").getAsString())) {
+                continue;
+            }
+            if (nodeObject.has("relationship")) {
+                List<JsonElement> relationships = new ArrayList<>();
+                nodeObject.getAsJsonArray("relationship").forEach(relationships::add);
+                relationships.sort(Comparator.comparing(JsonElement::toString));
+                JsonArray sortedRelationships = new JsonArray();
+                relationships.forEach(sortedRelationships::add);
+                nodeObject.add("relationship", sortedRelationships);
+            }
+            nodesById.put(nodeObject.get("@id").getAsString(), nodeObject.toString());
+        }
+        return nodesById;
+    }
+
+    private Dependency createDependency(String name) {
+        return new Dependency(name, "1.0.0", externalIdFactory.createMavenExternalId("com.example", name, "1.0.0"));
+    }
+}
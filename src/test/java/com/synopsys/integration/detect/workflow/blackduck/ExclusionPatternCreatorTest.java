@@ -14,7 +14,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import com.synopsys.integration.common.util.finder.SimpleFileFinder;
+import com.synopsys.integration.common.util.finder.MultiRootFileFinder;
 import com.synopsys.integration.detect.util.finder.DetectExcludedDirectoryFilter;
 
 public class ExclusionPatternCreatorTest {
@@ -35,8 +35,8 @@ public class ExclusionPatternCreatorTest {
         sub2Sub1.mkdir();
 
         DetectExcludedDirectoryFilter filter = new DetectExcludedDirectoryFilter(root.toPath(), providedPatterns);
-        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(new SimpleFileFinder(), file -> filter.isExcluded(file), root);
-        assertEqualCollections(resultingExclusions, exclusionPatternCreator.determineExclusionPatterns(3, providedPatterns));
+        ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(new MultiRootFileFinder(), file -> filter.isExcluded(file));
+        assertEqualCollections(resultingExclusions, exclusionPatternCreator.determineExclusionPatterns(Collections.singletonList(root), 3, providedPatterns).get(root));
     }
 
     static Stream<Arguments> inputPatternsToExclusionsProvider() {
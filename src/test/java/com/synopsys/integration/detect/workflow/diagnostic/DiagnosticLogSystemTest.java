@@ -0,0 +1,99 @@
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import com.synopsys.integration.detect.workflow.event.Event;
+import com.synopsys.integration.detect.workflow.event.EventSystem;
+import com.synopsys.integration.detectable.extraction.ExtractionEnvironment;
+import com.synopsys.integration.detector.base.DetectorEvaluation;
+import com.synopsys.integration.detector.evaluation.ExtractionEvaluator;
+
+public class DiagnosticLogSystemTest {
+    private final Logger logger = LoggerFactory.getLogger(DiagnosticLogSystemTest.class);
+
+    private File logDirectory;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        logDirectory = Files.createTempDirectory("DiagnosticLogSystemTest").toFile();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(logDirectory);
+    }
+
+    @Test
+    public void concurrentExtractionsOnlyLogTheirOwnEvents() throws Exception {
+        DiagnosticZipArchiver diagnosticZipArchiver = Mockito.mock(DiagnosticZipArchiver.class);
+        EventSystem eventSystem = new EventSystem();
+        DiagnosticLogSystem diagnosticLogSystem = new DiagnosticLogSystem(logDirectory, diagnosticZipArchiver, eventSystem);
+
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch firstLogged = new CountDownLatch(1);
+        Thread first = new Thread(() -> logInExtraction("first-0", bothStarted, null, firstLogged));
+        Thread second = new Thread(() -> logInExtraction("second-1", bothStarted, firstLogged, null));
+        first.start();
+        second.start();
+        first.join();
+        second.join();
+        logger.info("Logged outside of any extraction.");
+
+        eventSystem.publishEvent(Event.ExtractionEnded, createEvaluation("first-0"));
+        eventSystem.publishEvent(Event.ExtractionEnded, createEvaluation("second-1"));
+        diagnosticLogSystem.finish();
+
+        String firstLog = readExtractionLog("first-0");
+        String secondLog = readExtractionLog("second-1");
+        assertTrue(firstLog.contains("Logged in first-0."));
+        assertFalse(firstLog.contains("Logged in second-1."));
+        assertTrue(secondLog.contains("Logged in second-1."));
+        assertFalse(secondLog.contains("Logged in first-0."));
+        assertFalse(firstLog.contains("outside of any extraction") || secondLog.contains("outside of any extraction"));
+        assertFalse(new File(logDirectory, "extractions/none.txt").exists());
+        Mockito.verify(diagnosticZipArchiver).appendFile(new File(logDirectory, "extractions/first-0.txt"));
+        Mockito.verify(diagnosticZipArchiver).appendFile(new File(logDirectory, "extractions/second-1.txt"));
+    }
+
+    private void logInExtraction(String extractionName, CountDownLatch bothStarted, CountDownLatch waitFor, CountDownLatch signal) {
+        try (MDC.MDCCloseable ignored = MDC.putCloseable(ExtractionEvaluator.EXTRACTION_MDC_KEY, extractionName)) {
+            bothStarted.countDown();
+            bothStarted.await();
+            if (waitFor != null) {
+                waitFor.await();
+            }
+            logger.info("Logged in " + extractionName + ".");
+            if (signal != null) {
+                signal.countDown();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DetectorEvaluation createEvaluation(String extractionName) {
+        DetectorEvaluation detectorEvaluation = Mockito.mock(DetectorEvaluation.class);
+        Mockito.when(detectorEvaluation.getExtractionEnvironment()).thenReturn(new ExtractionEnvironment(new File(logDirectory, extractionName)));
+        return detectorEvaluation;
+    }
+
+    private String readExtractionLog(String extractionName) throws IOException {
+        return FileUtils.readFileToString(new File(logDirectory, "extractions/" + extractionName + ".txt"), StandardCharsets.UTF_8);
+    }
+}
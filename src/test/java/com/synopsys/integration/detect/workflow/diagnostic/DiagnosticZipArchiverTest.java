@@ -0,0 +1,116 @@
+package com.synopsys.integration.detect.workflow.diagnostic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DiagnosticZipArchiverTest {
+    private static final int LARGE_FILE_BYTES = 2 * 1024 * 1024;
+
+    private File tempDirectory;
+    private File runDirectory;
+    private File zip;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        tempDirectory = Files.createTempDirectory("DiagnosticZipArchiverTest").toFile();
+        runDirectory = new File(tempDirectory, "run");
+        zip = new File(tempDirectory, "detect-run.zip");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(tempDirectory);
+    }
+
+    @Test
+    public void testArchivesAppendedEntriesAndRunDirectory() throws IOException {
+        File report = new File(runDirectory, "reports/report.txt");
+        FileUtils.writeStringToFile(report, "report", Charset.defaultCharset());
+        File fileOfInterest = new File(tempDirectory, "source/package-lock.json");
+        FileUtils.writeStringToFile(fileOfInterest, "lock", Charset.defaultCharset());
+
+        DiagnosticZipArchiver archiver = new DiagnosticZipArchiver(zip, runDirectory, 0);
+        archiver.appendContent(new File(runDirectory, "executables/EXE-0-STD.xout"), "standard out");
+        archiver.appendFile(new File(runDirectory, "relevant/FILE-0-package-lock.json"), fileOfInterest);
+        assertTrue(archiver.finish());
+
+        Map<String, String> entries = readZip();
+        assertEquals(3, entries.size());
+        assertEquals("standard out", entries.get("executables/EXE-0-STD.xout"));
+        assertEquals("lock", entries.get("relevant/FILE-0-package-lock.json"));
+        assertEquals("report", entries.get("reports/report.txt"));
+        assertTrue(fileOfInterest.exists());
+        assertFalse(new File(runDirectory, "relevant").exists());
+    }
+
+    @Test
+    public void testEvictsOldestLargeFilesOverBudget() throws IOException {
+        File oldest = writeLargeFile("oldest.bin");
+        File middle = writeLargeFile("middle.bin");
+        File newest = writeLargeFile("newest.bin");
+
+        DiagnosticZipArchiver archiver = new DiagnosticZipArchiver(zip, runDirectory, LARGE_FILE_BYTES * 2 + 1024);
+        archiver.appendContent(new File(runDirectory, "small.txt"), "small");
+        for (File largeFile : Arrays.asList(oldest, middle, newest)) {
+            archiver.appendFile(new File(runDirectory, "relevant/" + largeFile.getName()), largeFile);
+        }
+        assertTrue(archiver.finish());
+
+        Map<String, String> entries = readZip();
+        assertTrue(entries.containsKey("small.txt"));
+        assertTrue(entries.containsKey("relevant/middle.bin"));
+        assertTrue(entries.containsKey("relevant/newest.bin"));
+        assertEquals("relevant/oldest.bin", entries.get("EVICTED-MAP.txt").trim());
+        assertEquals(4, entries.size());
+    }
+
+    @Test
+    public void testDiscardDeletesTheZip() throws IOException {
+        DiagnosticZipArchiver archiver = new DiagnosticZipArchiver(zip, runDirectory, 0);
+        archiver.appendContent(new File(runDirectory, "executables/EXE-0-STD.xout"), "standard out");
+
+        archiver.discard();
+        archiver.appendContent(new File(runDirectory, "executables/EXE-1-STD.xout"), "after discard");
+
+        assertFalse(zip.exists());
+        assertTrue(archiver.finish());
+        assertFalse(zip.exists());
+    }
+
+    private File writeLargeFile(String name) throws IOException {
+        File file = new File(tempDirectory, name);
+        FileUtils.writeByteArrayToFile(file, new byte[LARGE_FILE_BYTES]);
+        return file;
+    }
+
+    private Map<String, String> readZip() throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipFile zipFile = new ZipFile(zip)) {
+            for (ZipEntry zipEntry : Collections.list(zipFile.entries())) {
+                try (InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+                    entries.put(zipEntry.getName(), IOUtils.toString(inputStream, Charset.defaultCharset()));
+                }
+            }
+        }
+        return entries;
+    }
+}
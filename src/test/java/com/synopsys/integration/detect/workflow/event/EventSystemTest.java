@@ -0,0 +1,170 @@
+package com.synopsys.integration.detect.workflow.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class EventSystemTest {
+    private static final EventType<Integer> NUMBER = new EventType<>("Number", Integer.class);
+    private static final int PUBLISHERS = 16;
+    private static final int EVENTS_PER_PUBLISHER = 5000;
+
+    @Test
+    public void synchronousListenersReceiveEveryEventFromManyPublishers() throws Exception {
+        EventSystem eventSystem = new EventSystem();
+        AtomicInteger received = new AtomicInteger();
+        eventSystem.registerListener(NUMBER, number -> received.incrementAndGet());
+
+        // Listeners come and go while events are published, which used to fail with a ConcurrentModificationException.
+        runConcurrently(publisher -> {
+            for (int event = 0; event < EVENTS_PER_PUBLISHER; event++) {
+                EventSubscription<Integer> subscription = eventSystem.registerListener(NUMBER, number -> {});
+                eventSystem.publishEvent(NUMBER, event);
+                eventSystem.unregister(subscription);
+            }
+        });
+
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, received.get());
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, eventSystem.getDispatchStatistics().get(NUMBER).getPublishCount());
+    }
+
+    @Test
+    public void blockingLaneDeliversEveryEventInPublishOrderAfterFlush() throws Exception {
+        EventSystem eventSystem = new EventSystem();
+        EventDispatchLane lane = eventSystem.createLane("test", 8, EventBackpressurePolicy.BLOCK);
+        List<Integer> received = new ArrayList<>();
+        eventSystem.registerListener(NUMBER, received::add, lane);
+
+        runConcurrently(publisher -> {
+            for (int event = 0; event < EVENTS_PER_PUBLISHER; event++) {
+                eventSystem.publishEvent(NUMBER, publisher * EVENTS_PER_PUBLISHER + event);
+            }
+        });
+        eventSystem.flush();
+
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, received.size());
+        int[] lastByPublisher = new int[PUBLISHERS];
+        for (int publisher = 0; publisher < PUBLISHERS; publisher++) {
+            lastByPublisher[publisher] = -1;
+        }
+        for (Integer number : received) {
+            int publisher = number / EVENTS_PER_PUBLISHER;
+            assertTrue(number > lastByPublisher[publisher]);
+            lastByPublisher[publisher] = number;
+        }
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, eventSystem.getDispatchStatistics().get(NUMBER).getDeliveryCount());
+    }
+
+    @Test
+    public void droppingLaneCountsWhatItDrops() throws Exception {
+        EventSystem eventSystem = new EventSystem();
+        EventDispatchLane lane = eventSystem.createLane("test", 1, EventBackpressurePolicy.DROP);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        eventSystem.registerListener(NUMBER, number -> {
+            awaitQuietly(release);
+            received.incrementAndGet();
+        }, lane);
+
+        runConcurrently(publisher -> {
+            for (int event = 0; event < EVENTS_PER_PUBLISHER; event++) {
+                eventSystem.publishEvent(NUMBER, event);
+            }
+        });
+        release.countDown();
+        eventSystem.flush();
+
+        EventDispatchStatistics statistics = eventSystem.getDispatchStatistics().get(NUMBER);
+        assertTrue(statistics.getDropCount() > 0);
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, received.get() + statistics.getDropCount());
+        assertEquals(received.get(), statistics.getDeliveryCount());
+    }
+
+    @Test
+    public void fullLaneRunsOnPublisher() {
+        EventSystem eventSystem = new EventSystem();
+        EventDispatchLane lane = eventSystem.createLane("test", 1, EventBackpressurePolicy.RUN_ON_PUBLISHER);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerListener(NUMBER, number -> {
+            if (number == 0) {
+                awaitQuietly(release);
+            }
+            threadNames.add(Thread.currentThread().getName());
+        }, lane);
+
+        for (int event = 0; event < 10; event++) {
+            eventSystem.publishEvent(NUMBER, event);
+        }
+        release.countDown();
+        eventSystem.flush();
+
+        assertEquals(10, threadNames.size());
+        assertTrue(threadNames.contains(Thread.currentThread().getName()));
+        assertTrue(threadNames.contains("event-lane-test"));
+    }
+
+    @Test
+    public void failingListenerDoesNotStopLane() {
+        EventSystem eventSystem = new EventSystem();
+        EventDispatchLane lane = eventSystem.createLane("test", 16, EventBackpressurePolicy.BLOCK);
+        AtomicInteger received = new AtomicInteger();
+        eventSystem.registerListener(NUMBER, number -> {
+            if (number % 2 == 0) {
+                throw new IllegalStateException("Listener failure.");
+            }
+            received.incrementAndGet();
+        }, lane);
+
+        for (int event = 0; event < 10; event++) {
+            eventSystem.publishEvent(NUMBER, event);
+        }
+        eventSystem.flush();
+
+        assertEquals(5, received.get());
+    }
+
+    private void runConcurrently(PublisherTask publisherTask) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(PUBLISHERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> publishers = new ArrayList<>();
+            for (int publisher = 0; publisher < PUBLISHERS; publisher++) {
+                int publisherIndex = publisher;
+                publishers.add(executorService.submit(() -> {
+                    awaitQuietly(start);
+                    publisherTask.publish(publisherIndex);
+                }));
+            }
+            start.countDown();
+            for (Future<?> publisher : publishers) {
+                publisher.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface PublisherTask {
+        void publish(int publisher);
+    }
+}